@@ -1,6 +1,8 @@
 package com.rpg;
 
 import com.rpg.controller.MainMenuController;
+import com.rpg.dungeon.controller.RoomExplorationController;
+import com.rpg.utils.AssetPreloader;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -15,6 +17,10 @@ public class RPGApplication extends Application {
         // Setează titlul ferestrei
         primaryStage.setTitle("RPG Românesc: Legenda din Bucale");
 
+        // Atlasul dungeon-ului se construiește în fundal, împreună cu restul resurselor
+        AssetPreloader.register(AssetPreloader.Screen.DUNGEON_ROOM, "dungeon/atlas",
+                RoomExplorationController::preloadDungeonAtlas);
+
         // Creează și afișează meniul principal
         MainMenuController mainMenu = new MainMenuController(primaryStage);
         primaryStage.setScene(mainMenu.createScene());
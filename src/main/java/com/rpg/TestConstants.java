@@ -59,14 +59,14 @@ public class TestConstants {
 
         // Test randomInt
         for (int i = 0; i < 5; i++) {
-            int result = com.rpg.utils.RandomUtils.randomInt(1, 10);
+            int result = com.rpg.utils.RandomUtils.randomInt(com.rpg.utils.GameRandom.cosmetic(), 1, 10);
             System.out.println("RandomInt(1,10): " + result);
         }
 
         // Test randomElement cu array simplu
         String[] testArray = {"Test1", "Test2", "Test3"};
         for (int i = 0; i < 3; i++) {
-            String result = com.rpg.utils.RandomUtils.randomElement(testArray);
+            String result = com.rpg.utils.RandomUtils.randomElement(com.rpg.utils.GameRandom.cosmetic(), testArray);
             System.out.println("RandomElement: " + result);
         }
 
@@ -78,7 +78,7 @@ public class TestConstants {
         };
 
         for (int i = 0; i < 3; i++) {
-            String[] result = com.rpg.utils.RandomUtils.randomElement(testArray2D);
+            String[] result = com.rpg.utils.RandomUtils.randomElement(com.rpg.utils.GameRandom.cosmetic(), testArray2D);
             System.out.println("RandomElement 2D: " + java.util.Arrays.toString(result));
         }
     }
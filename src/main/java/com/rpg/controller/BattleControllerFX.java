@@ -6,9 +6,11 @@ import com.rpg.model.characters.Inamic;
 import com.rpg.model.effects.DebuffStack;
 import com.rpg.service.BattleServiceFX;
 import com.rpg.service.EnemyGeneratorRomanesc;
+import com.rpg.service.battle.BattleReplay;
 import com.rpg.service.dto.AbilityDTO;
 import com.rpg.service.dto.BattleInitDTO;
 import com.rpg.utils.DialogHelper;
+import com.rpg.utils.GameRandom;
 import javafx.animation.FadeTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -55,6 +57,9 @@ public class BattleControllerFX {
     // 🆕 CALLBACK pentru dungeon system
     private BattleEndCallback onBattleEndCallback;
 
+    // 🎞️ Modul replay: scena la care se revine după vizionare
+    private Scene replayReturnScene;
+
     // UI Components - Hero
     private Label heroNameLabel;
     private Label heroHPLabel;
@@ -120,6 +125,30 @@ public class BattleControllerFX {
         }
     }
 
+    // 🎞️ CONSTRUCTOR pentru replay-ul unei lupte înregistrate (pas cu pas)
+    public BattleControllerFX(Stage stage, BattleReplay replay, Scene returnScene) {
+        this.stage = stage;
+        this.hero = replay.getHero();
+        this.inDungeon = false;
+        this.battleService = new BattleServiceFX(replay);
+        this.replayReturnScene = returnScene;
+        this.multiBattleState = replay.getMultiBattleState();
+        this.isMultiBattle = multiBattleState != null;
+
+        if (isMultiBattle) {
+            if (!multiBattleState.getActiveEnemies().isEmpty()) {
+                this.currentTarget = multiBattleState.getActiveEnemies().get(0);
+                this.enemy = this.currentTarget;
+            }
+        } else {
+            this.enemy = replay.getEnemy();
+        }
+    }
+
+    private boolean isReplay() {
+        return battleService.getReplay() != null;
+    }
+
     public Scene createScene() {
         battleRoot = new BorderPane();
 
@@ -195,11 +224,11 @@ public class BattleControllerFX {
         // Add some atmospheric elements (adjusted for 1900x1080 window)
         for (int i = 0; i < 40; i++) {
             javafx.scene.shape.Circle particle = new javafx.scene.shape.Circle(
-                Math.random() * 1900,
-                Math.random() * 1080,
-                1 + Math.random() * 2
+                GameRandom.cosmetic().nextDouble() * 1900,
+                GameRandom.cosmetic().nextDouble() * 1080,
+                1 + GameRandom.cosmetic().nextDouble() * 2
             );
-            particle.setFill(javafx.scene.paint.Color.rgb(255, 255, 255, 0.1 + Math.random() * 0.2));
+            particle.setFill(javafx.scene.paint.Color.rgb(255, 255, 255, 0.1 + GameRandom.cosmetic().nextDouble() * 0.2));
             background.getChildren().add(particle);
         }
 
@@ -677,6 +706,10 @@ public class BattleControllerFX {
      * Create cinematic actions section (bottom-right)
      */
     private VBox createCinematicActionsSection() {
+        if (isReplay()) {
+            return createReplayActionsSection();
+        }
+
         VBox actionsContainer = new VBox(10);
         actionsContainer.setAlignment(Pos.BOTTOM_RIGHT);
         actionsContainer.setPadding(new Insets(20));
@@ -734,6 +767,52 @@ public class BattleControllerFX {
         return actionsContainer;
     }
 
+    /**
+     * Controalele replay-ului: pas cu pas, până la final, înapoi.
+     * Abilitățile și poțiunile nu se afișează - acțiunile vin din înregistrare.
+     */
+    private VBox createReplayActionsSection() {
+        VBox actionsContainer = new VBox(10);
+        actionsContainer.setAlignment(Pos.BOTTOM_RIGHT);
+        actionsContainer.setPadding(new Insets(20));
+        actionsContainer.setPrefWidth(450);
+        actionsContainer.setStyle(
+            "-fx-background-color: rgba(30, 30, 40, 0.9); " +
+            "-fx-background-radius: 15; " +
+            "-fx-border-color: #3498db; " +
+            "-fx-border-width: 2; " +
+            "-fx-border-radius: 15;"
+        );
+
+        Label replayLabel = new Label("🎞️ REPLAY");
+        replayLabel.setStyle(
+            "-fx-font-size: 16px; " +
+            "-fx-font-weight: bold; " +
+            "-fx-text-fill: #3498db;"
+        );
+
+        HBox mainActions = new HBox(10);
+        mainActions.setAlignment(Pos.CENTER);
+
+        // attackButton/fleeButton sunt refolosite ca disable/enableAllButtons să meargă și aici
+        attackButton = createCinematicActionButton("⏭️ PAS", "#27ae60");
+        attackButton.setOnAction(e -> handleReplayStep());
+
+        fleeButton = createCinematicActionButton("⏩ FINAL", "#e67e22");
+        fleeButton.setOnAction(e -> handleReplayToEnd());
+
+        mainActions.getChildren().addAll(attackButton, fleeButton);
+
+        Button backButton = createCinematicActionButton("🔙 ÎNAPOI", "#e74c3c");
+        backButton.setOnAction(e -> stage.setScene(replayReturnScene));
+
+        abilityButtonsPanel = new VBox(5);
+        potionButtonsPanel = new VBox(5);
+
+        actionsContainer.getChildren().addAll(replayLabel, mainActions, backButton);
+        return actionsContainer;
+    }
+
     /**
      * Create compact battle log section
      */
@@ -1490,6 +1569,11 @@ public class BattleControllerFX {
     // ==================== BATTLE LOGIC ====================
 
     private void initializeBattle() {
+        if (isReplay()) {
+            initializeReplay();
+            return;
+        }
+
         // Check if multi-battle or single battle
         if (isMultiBattle && multiBattleState != null) {
             // Multi-enemy battle initialization
@@ -1558,6 +1642,75 @@ public class BattleControllerFX {
         addToLog("━━━━━━━━━━━━━━━━━━━━━━━");
     }
 
+    private void initializeReplay() {
+        BattleInitDTO initData = battleService.initializeReplay();
+        updateUI(new AbilityDTO.BattleStateDTO(
+                initData.getHeroHP(),
+                initData.getHeroMaxHP(),
+                initData.getHeroResource(),
+                initData.getHeroMaxResource(),
+                initData.getEnemyHP(),
+                initData.getEnemyMaxHP(),
+                initData.getAbilities()
+        ));
+
+        BattleReplay replay = battleService.getReplay();
+        addToLog("🎞️ REPLAY: " + hero.getNume() + " vs " + initData.getEnemyName());
+        addToLog("Seed " + replay.getRecording().getSeed() + ", "
+                + replay.getRecording().getEntries().size() + " acțiuni înregistrate");
+        addToLog("━━━━━━━━━━━━━━━━━━━━━━━");
+
+        if (isMultiBattle) {
+            autoSelectNextEnemy();
+        }
+        if (!battleService.hasNextReplayStep()) {
+            finishReplay();
+        }
+    }
+
+    private void handleReplayStep() {
+        if (!battleService.hasNextReplayStep()) {
+            finishReplay();
+            return;
+        }
+
+        AbilityDTO.BattleTurnResultDTO result = battleService.nextReplayStep();
+        Inamic target = battleService.getReplay().getLastTarget();
+        addToLog(result.getLog());
+
+        if (target != null) {
+            showCombatVisualFeedback(result, target);
+        }
+        if (result.getCurrentState() != null) {
+            updateUI(result.getCurrentState());
+        }
+        if (isMultiBattle && target != null && !target.esteViu()) {
+            autoSelectNextEnemy();
+        }
+
+        if (!battleService.hasNextReplayStep()) {
+            finishReplay();
+        }
+    }
+
+    private void handleReplayToEnd() {
+        AbilityDTO.BattleTurnResultDTO last = null;
+        while (battleService.hasNextReplayStep()) {
+            last = battleService.nextReplayStep();
+            addToLog(last.getLog());
+        }
+
+        if (last != null && last.getCurrentState() != null) {
+            updateUI(last.getCurrentState());
+        }
+        finishReplay();
+    }
+
+    private void finishReplay() {
+        addToLog("🎞️ Sfârșitul replay-ului (" + battleService.getReplay().getPosition() + " acțiuni)");
+        disableAllButtons();
+    }
+
     /**
      * Refresh battle display after revival (restore abilities and update stats)
      */
@@ -1686,12 +1839,6 @@ public class BattleControllerFX {
         // Sound effect for potion use
         com.rpg.utils.SoundManager.play(com.rpg.utils.SoundManager.SoundEffect.POTION_USE);
 
-        // 🔄 MIGRARE AUTOMATĂ (păstrează din fix-ul anterior)
-        if (hero.getInventar().getHealthPotions().isEmpty() && hero.getHealthPotions() > 0) {
-            hero.getInventar().getHealthPotions().put(healAmount, hero.getHealthPotions());
-            System.out.printf("🔄 AUTO-MIGRATED: %d poțiuni HP → Map\\n", hero.getHealthPotions());
-        }
-
         // 🆕 DIALOG PENTRU ALEGEREA TIPULUI DE POȚIUNE
         if (hero.getHealthPotions() > 0 && hero.getManaPotions() > 0) {
             // Dacă ai și HP și resource potions, întreabă care vrea
@@ -1795,7 +1942,7 @@ public class BattleControllerFX {
             victoryMsg.append(" \n💎 JEWEL DROP! \n");
             victoryMsg.append("  • ").append(result.getJewelDrop().getName()).append(" \n");
             victoryMsg.append("    ").append(result.getJewelDrop().getRarity().getDisplayName());
-            victoryMsg.append(" | ").append(result.getJewelDrop().getModifiers().size()).append(" mods \n");
+            victoryMsg.append(" | ").append(result.getJewelDrop().getModifierCount()).append(" mods \n");
         }
 
         DialogHelper.showSuccess("Victorie!", victoryMsg.toString());
@@ -1,12 +1,14 @@
 package com.rpg.controller;
 
 import com.rpg.model.characters.Erou;
+import com.rpg.model.inventory.InventoryStore;
 import com.rpg.model.items.BuffPotion;
 import com.rpg.model.items.ObiectEchipament;
 import com.rpg.service.InventoryServiceFX;
 import com.rpg.service.InventoryServiceFX.InventoryCategory;
 import com.rpg.service.dto.*;
 import com.rpg.utils.DialogHelper;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -36,6 +38,27 @@ public class InventoryControllerFX {
     private TextArea itemDetailsArea;
     private VBox actionButtonsPanel;
 
+    private Scene scene;
+    // Schimbările din inventar actualizează doar rândurile afectate
+    private final InventoryStore.Listener inventoryListener = new InventoryStore.Listener() {
+        @Override
+        public void itemAdded(ObiectEchipament item) {
+            onFxThread(() -> handleItemAdded(item));
+        }
+
+        @Override
+        public void itemRemoved(ObiectEchipament item) {
+            onFxThread(() -> handleItemRemoved(item));
+        }
+
+        @Override
+        public void inventoryReset() {
+            onFxThread(() -> {
+                if (isShowing()) refreshInventory();
+            });
+        }
+    };
+
     public InventoryControllerFX(Stage stage, Erou hero) {
         this.stage = stage;
         this.hero = hero;
@@ -50,7 +73,9 @@ public class InventoryControllerFX {
 
         root.setStyle("-fx-background-color: #1a1a2e;");
 
-        return new Scene(root, 1900, 1080);
+        scene = new Scene(root, 1900, 1080);
+        hero.getInventoryStore().addListener(inventoryListener);
+        return scene;
     }
 
     /**
@@ -202,6 +227,7 @@ public class InventoryControllerFX {
         Button backButton = new Button("🔙 Înapoi");
         styleButton(backButton, "#e74c3c");
         backButton.setOnAction(e -> {
+            hero.getInventoryStore().removeListener(inventoryListener);
             TownMenuController townController = new TownMenuController(stage, hero);
             stage.setScene(townController.createScene());
         });
@@ -321,7 +347,7 @@ public class InventoryControllerFX {
                         "Itemul anterior a fost deechipat și pus în inventar.");
             }
 
-            refreshInventory();
+            refreshInventory(); // Rândurile echipate nu sunt în inventar - se reîncarcă
         } else {
             DialogHelper.showError("Eroare", result.getMessage());
         }
@@ -386,19 +412,83 @@ public class InventoryControllerFX {
             DropItemResult result = inventoryService.dropItem(hero, equipment);
 
             if (result.isSuccess()) {
-                DialogHelper.showInfo("Aruncat", result.getMessage());
-                refreshInventory();
+                DialogHelper.showInfo("Aruncat", result.getMessage()); // Lista s-a actualizat prin listener
             } else {
                 DialogHelper.showError("Eroare", result.getMessage());
             }
         }
     }
 
+    // ==================== ACTUALIZĂRI INCREMENTALE ====================
+
+    private void handleItemAdded(ObiectEchipament item) {
+        if (!isShowing()) return;
+        refreshStats();
+
+        InventoryCategory category = categoryComboBox.getValue();
+        if (category == null || !inventoryService.belongsTo(category, item)) return;
+
+        // Echipamentul din inventar e primul în listă, în ordinea din inventar - noul item vine ultimul
+        List<InventoryItemDTO> rows = itemListView.getItems();
+        int position = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).getType() == InventoryItemDTO.ItemType.EQUIPMENT) {
+                position = i + 1;
+            }
+        }
+        rows.add(position, inventoryService.toDTO(item));
+    }
+
+    private void handleItemRemoved(ObiectEchipament item) {
+        if (!isShowing()) return;
+        refreshStats();
+
+        List<InventoryItemDTO> rows = itemListView.getItems();
+        for (int i = 0; i < rows.size(); i++) {
+            InventoryItemDTO row = rows.get(i);
+            if (row.getType() == InventoryItemDTO.ItemType.EQUIPMENT && row.getEquipment() == item) {
+                rows.remove(i);
+                break;
+            }
+        }
+        if (!hero.getInventoryStore().contains(item)) {
+            inventoryService.forget(item);
+        }
+    }
+
+    /**
+     * Scena nu mai e afișată (s-a ieșit fără butonul Înapoi) - nu mai ascultă
+     */
+    private boolean isShowing() {
+        if (stage.getScene() != scene) {
+            hero.getInventoryStore().removeListener(inventoryListener);
+            return false;
+        }
+        return true;
+    }
+
+    private static void onFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
     /**
      * Reîmprospătează inventarul
      */
     private void refreshInventory() {
-        // Update statistici
+        refreshStats();
+
+        // Reload items
+        loadItemsForCategory();
+    }
+
+    /**
+     * Actualizează statisticile din header
+     */
+    private void refreshStats() {
         InventoryStatsDTO stats = inventoryService.getInventoryStats(hero);
         statsLabel.setText(String.format(
                 "📦 Echipament: %d/%d | 🧪 Poțiuni: %d | 💪 Buff-uri: %d | ✨ Speciale: %d",
@@ -407,9 +497,6 @@ public class InventoryControllerFX {
                 stats.getSpecialItemCount()
         ));
         capacityBar.setProgress(stats.getUsagePercentage() / 100.0);
-
-        // Reload items
-        loadItemsForCategory();
     }
 
     /**
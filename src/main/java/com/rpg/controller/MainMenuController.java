@@ -1,13 +1,16 @@
 package com.rpg.controller;
 
 import com.rpg.service.SaveLoadServiceFX;
+import com.rpg.utils.AssetPreloader;
 import com.rpg.utils.DialogHelper;
 import com.rpg.utils.SpriteManager;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
@@ -24,12 +27,18 @@ import javafx.stage.Stage;
  * - button_hover.png - Hover button texture
  * - title_banner.png - Optional title decoration
  * - frame.png - Optional menu frame/border
+ *
+ * ⏳ PRELOAD:
+ * Cât timp meniul e afișat, resursele pentru oraș, magazin, dungeon și luptă
+ * se încarcă în fundal (AssetPreloader), cu progresul afișat sub butoane.
  */
 public class MainMenuController {
 
     private Stage stage;
     private SaveLoadServiceFX saveLoadService;
 
+    private Scene scene;
+
     // 🎨 UI Textures
     private Image backgroundTexture;
     private Image buttonNormalTexture;
@@ -47,6 +56,24 @@ public class MainMenuController {
      * 🎨 Load all UI textures
      */
     private void loadTextures() {
+        if (!AssetPreloader.isPreloaded(AssetPreloader.Screen.MAIN_MENU)) {
+            // Not decoded yet: the scene starts with the plain placeholders and is
+            // rebuilt with textures once the preloader is done (never blocks the FX thread)
+            AssetPreloader.preload(null, AssetPreloader.Screen.MAIN_MENU)
+                    .thenRunAsync(this::showTextures, Platform::runLater);
+            return;
+        }
+        readTextures();
+    }
+
+    private void showTextures() {
+        readTextures();
+        if (scene != null && stage.getScene() == scene) {
+            stage.setScene(createScene());
+        }
+    }
+
+    private void readTextures() {
         backgroundTexture = SpriteManager.getSprite("ui/main_menu", "background");
         buttonNormalTexture = SpriteManager.getSprite("ui/main_menu", "button_normal");
         buttonHoverTexture = SpriteManager.getSprite("ui/main_menu", "button_hover");
@@ -101,10 +128,11 @@ public class MainMenuController {
         optionsBtn.setOnAction(e -> openOptions());
         exitBtn.setOnAction(e -> exitGame());
 
-        layout.getChildren().addAll(title, subtitle, newGameBtn, loadGameBtn, optionsBtn, exitBtn);
+        layout.getChildren().addAll(title, subtitle, newGameBtn, loadGameBtn, optionsBtn, exitBtn,
+                createPreloadProgress());
         root.getChildren().addAll(backgroundImageView, layout);
 
-        Scene scene = new Scene(root, 1900, 1080);
+        scene = new Scene(root, 1900, 1080);
 
         // BIND THE IMAGE SIZE TO SCENE SIZE - This is the key part!
         backgroundImageView.fitWidthProperty().bind(scene.widthProperty());
@@ -114,6 +142,34 @@ public class MainMenuController {
     }
 
 
+    /**
+     * ⏳ Progress bar for the background asset preload (hidden once done)
+     */
+    private VBox createPreloadProgress() {
+        ProgressBar progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(250);
+
+        Label progressLabel = new Label("⏳ Se încarcă resursele...");
+        progressLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: white; -fx-effect: dropshadow(gaussian, black, 2, 0, 1, 1);");
+
+        VBox box = new VBox(5, progressBar, progressLabel);
+        box.setAlignment(Pos.CENTER);
+
+        AssetPreloader.preload((loaded, total, asset) -> Platform.runLater(() -> {
+                    // Callbacks from different loader threads can arrive out of order
+                    progressBar.setProgress(Math.max(progressBar.getProgress(), (double) loaded / total));
+                    progressLabel.setText(String.format("⏳ Se încarcă resursele... %d/%d", loaded, total));
+                }),
+                AssetPreloader.Screen.TOWN, AssetPreloader.Screen.SHOP,
+                AssetPreloader.Screen.DUNGEON_ROOM, AssetPreloader.Screen.BATTLE)
+            .thenRun(() -> Platform.runLater(() -> {
+                box.setVisible(false);
+                box.setManaged(false);
+            }));
+
+        return box;
+    }
+
     /**
      * 🎨 Create styled button with texture support
      */
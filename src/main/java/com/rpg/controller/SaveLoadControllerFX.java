@@ -2,6 +2,7 @@ package com.rpg.controller;
 
 import com.rpg.model.characters.Erou;
 import com.rpg.service.SaveLoadServiceFX;
+import com.rpg.service.battle.BattleReplay;
 import com.rpg.service.dto.SaveFileDTO;
 import com.rpg.utils.DialogHelper;
 import javafx.geometry.Insets;
@@ -14,6 +15,7 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -202,7 +204,12 @@ public class SaveLoadControllerFX {
             deleteButton.setMaxWidth(Double.MAX_VALUE);
             deleteButton.setOnAction(e -> handleDelete());
 
-            actionsBox.getChildren().addAll(loadButton, deleteButton);
+            Button replayButton = new Button("🎞️ REPLAY ULTIMA LUPTĂ");
+            styleButton(replayButton, "#3498db");
+            replayButton.setMaxWidth(Double.MAX_VALUE);
+            replayButton.setOnAction(e -> handleReplay());
+
+            actionsBox.getChildren().addAll(loadButton, replayButton, deleteButton);
         } else {
             Button saveButton = new Button("💾 SALVEAZĂ");
             styleButton(saveButton, "#27ae60");
@@ -253,6 +260,9 @@ public class SaveLoadControllerFX {
         details.append("🏷️  Tip: ").append(save.isAutoSave() ? "Auto-Save" : "Manual Save").append("\n\n");
 
         details.append("👤 Erou: ").append(save.getHeroName()).append("\n");
+        if (save.getHeroClass() != null) {
+            details.append("🎭 Clasă: ").append(save.getHeroClass()).append("\n");
+        }
         details.append("⭐ Nivel: ").append(save.getHeroLevel()).append("\n");
         details.append("💰 Gold: ").append(save.getHeroGold()).append("\n\n");
 
@@ -289,6 +299,37 @@ public class SaveLoadControllerFX {
         }
     }
 
+    /**
+     * Rejoacă ultima luptă înregistrată în salvare, pe o copie a eroului
+     */
+    private void handleReplay() {
+        SaveFileDTO selectedSave = savesListView.getSelectionModel().getSelectedItem();
+
+        if (selectedSave == null) {
+            DialogHelper.showWarning("Atenție", "Selectează o salvare pentru replay!");
+            return;
+        }
+
+        Erou loadedHero = saveLoadService.loadGame(selectedSave.getFileName());
+        if (loadedHero == null) {
+            DialogHelper.showError("Eroare", "Nu s-a putut încărca salvarea!");
+            return;
+        }
+        if (loadedHero.getLastBattleReplay() == null) {
+            DialogHelper.showInfo("Replay", "Salvarea nu conține nicio luptă înregistrată.");
+            return;
+        }
+
+        try {
+            BattleReplay replay = BattleReplay.of(loadedHero.getLastBattleReplay());
+            BattleControllerFX battleController = new BattleControllerFX(stage, replay, stage.getScene());
+            stage.setScene(battleController.createScene());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Replay-ul nu poate fi citit: " + e.getMessage());
+            DialogHelper.showError("Eroare", "Replay-ul nu poate fi citit!");
+        }
+    }
+
     private void handleDelete() {
         SaveFileDTO selectedSave = savesListView.getSelectionModel().getSelectedItem();
 
@@ -6,6 +6,7 @@ import com.rpg.model.items.ObiectEchipament;
 import com.rpg.service.ShopServiceFX;
 import com.rpg.service.dto.ShopItemDTO;
 import com.rpg.utils.DialogHelper;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,6 +16,7 @@ import javafx.scene.layout.*;
 import javafx.stage.Stage;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 🛍️ ADVANCED SHOP cu Trade Table, Buyback și Drag & Drop
@@ -220,9 +222,16 @@ public class ShopAdvancedController {
         Button refreshBtn = new Button("🔄 Refresh Shop");
         styleButton(refreshBtn, "#3498db");
         refreshBtn.setOnAction(e -> {
-            forceRestock();
-            loadVendorInventory();
-            loadPlayerInventory();
+            // The new stock is generated on the loot workers; the UI refreshes when it is ready
+            refreshBtn.setDisable(true);
+            forceRestock().whenComplete((ignored, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    System.err.println("⚠️ Shop restock failed: " + error.getMessage());
+                }
+                loadVendorInventory();
+                loadPlayerInventory();
+                refreshBtn.setDisable(false);
+            }));
         });
 
         Button backBtn = new Button("🔙 Înapoi");
@@ -703,11 +712,11 @@ public class ShopAdvancedController {
         return tooltip;
     }
 
-    private void forceRestock() {
+    private CompletableFuture<Void> forceRestock() {
         dungeonEntriesCount += 3; // Force restock
         buybackItems.removeIf(item ->
                 item.getDungeonEntriesWhenSold() + 3 <= dungeonEntriesCount);
-        shopService.forceRestock();
+        return shopService.restockAsync(hero.getNivel());
     }
 
     private void loadBuybackItems() {
@@ -6,8 +6,10 @@ import com.rpg.service.ShopServiceFX;
 import com.rpg.service.ShopServiceFX.ShopCategory;
 import com.rpg.service.dto.PurchaseResult;
 import com.rpg.service.dto.ShopItemDTO;
+import com.rpg.utils.AssetPreloader;
 import com.rpg.utils.DialogHelper;
 import com.rpg.utils.SpriteManager;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -46,6 +48,8 @@ public class ShopController {
     private Button buyButton;
     private ComboBox<ShopCategory> categoryComboBox;
 
+    private Scene scene;
+
     // 🎨 UI Textures
     private Image backgroundTexture;
     private Image headerBgTexture;
@@ -66,6 +70,24 @@ public class ShopController {
      * 🎨 Load all UI textures
      */
     private void loadTextures() {
+        if (!AssetPreloader.isPreloaded(AssetPreloader.Screen.SHOP)) {
+            // Not decoded yet: the scene starts with the plain placeholders and is
+            // rebuilt with textures once the preloader is done (never blocks the FX thread)
+            AssetPreloader.preload(null, AssetPreloader.Screen.SHOP)
+                    .thenRunAsync(this::showTextures, Platform::runLater);
+            return;
+        }
+        readTextures();
+    }
+
+    private void showTextures() {
+        readTextures();
+        if (scene != null && stage.getScene() == scene) {
+            stage.setScene(createScene());
+        }
+    }
+
+    private void readTextures() {
         backgroundTexture = SpriteManager.getSprite("ui/shop", "background");
         headerBgTexture = SpriteManager.getSprite("ui/shop", "header_bg");
         panelBgTexture = SpriteManager.getSprite("ui/shop", "panel_bg");
@@ -105,7 +127,7 @@ public class ShopController {
 
         mainContainer.getChildren().add(root);
 
-        Scene scene = new Scene(mainContainer, 1900, 1080);
+        scene = new Scene(mainContainer, 1900, 1080);
         return scene;
     }
 
@@ -505,7 +505,7 @@ public class SmithControllerFX {
         int levelBonus = item.getNivelNecesar() * 2; // +2 scraps per level
 
         // Bonus bazat pe numărul de bonusuri
-        int bonusCount = item.getBonuses().size();
+        int bonusCount = item.getBonusCount();
         int bonusMultiplier = Math.max(1, bonusCount);
 
         // Bonus pentru enhancement level - significant bonus for upgraded items
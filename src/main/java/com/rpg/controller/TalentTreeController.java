@@ -1332,7 +1332,7 @@ public class TalentTreeController {
                     Label detailsLabel = new Label(String.format("%s | Lv%d | %d mods",
                             jewel.getRarity().getDisplayName(),
                             jewel.getRequiredLevel(),
-                            jewel.getModifiers().size()));
+                            jewel.getModifierCount()));
                     detailsLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: #888888;");
 
                     // Modifiers
@@ -10,8 +10,11 @@ import com.rpg.service.DungeonServiceFX;
 import com.rpg.service.EnemyGeneratorRomanesc;
 import com.rpg.service.JewelTestUtility;
 import com.rpg.service.SaveLoadServiceFX;
+import com.rpg.service.dto.SaveResult;
+import com.rpg.utils.AssetPreloader;
 import com.rpg.utils.DialogHelper;
 import com.rpg.utils.SpriteManager;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -52,6 +55,9 @@ public class TownMenuController {
     private DungeonServiceFX dungeonService;
     private EnemyGeneratorRomanesc enemyGenerator;
     private SaveLoadServiceFX saveLoadService;
+    private Label autoSaveLabel;
+
+    private Scene scene;
 
     // 🎨 UI Textures
     private Image backgroundTexture;
@@ -74,6 +80,24 @@ public class TownMenuController {
      * 🎨 Load all UI textures
      */
     private void loadTextures() {
+        if (!AssetPreloader.isPreloaded(AssetPreloader.Screen.TOWN)) {
+            // Not decoded yet: the scene starts with the plain placeholders and is
+            // rebuilt with textures once the preloader is done (never blocks the FX thread)
+            AssetPreloader.preload(null, AssetPreloader.Screen.TOWN)
+                    .thenRunAsync(this::showTextures, Platform::runLater);
+            return;
+        }
+        readTextures();
+    }
+
+    private void showTextures() {
+        readTextures();
+        if (scene != null && stage.getScene() == scene) {
+            stage.setScene(createScene());
+        }
+    }
+
+    private void readTextures() {
         backgroundTexture = SpriteManager.getSprite("ui/town_menu", "background");
         headerBgTexture = SpriteManager.getSprite("ui/town_menu", "header_bg");
         menuBgTexture = SpriteManager.getSprite("ui/town_menu", "menu_bg");
@@ -123,7 +147,7 @@ public class TownMenuController {
 
         mainContainer.getChildren().add(root);
 
-        Scene scene = new Scene(mainContainer, 1900, 1080);
+        scene = new Scene(mainContainer, 1900, 1080);
         return scene;
     }
 
@@ -160,7 +184,10 @@ public class TownMenuController {
 
         heroInfo.getChildren().addAll(heroLabel, levelLabel, hpLabel, goldLabel, tokensLabel);
 
-        box.getChildren().addAll(titleLabel, heroInfo);
+        autoSaveLabel = new Label(saveLoadService.isSaveInProgress() ? "💾 Auto-save..." : "");
+        autoSaveLabel.setStyle("-fx-text-fill: #95a5a6; -fx-font-size: 13px;");
+
+        box.getChildren().addAll(titleLabel, heroInfo, autoSaveLabel);
         return box;
     }
 
@@ -459,6 +486,27 @@ public class TownMenuController {
         });
     }
 
+    /**
+     * Pornește un auto-save în fundal și afișează rezultatul în header
+     */
+    public void requestAutoSave() {
+        if (autoSaveLabel != null) {
+            autoSaveLabel.setText("💾 Auto-save...");
+        }
+        saveLoadService.autoSaveAsync(hero, this::showAutoSaveResult);
+    }
+
+    private void showAutoSaveResult(SaveResult result) {
+        if (autoSaveLabel == null) {
+            return;
+        }
+        if (result.isSuccess()) {
+            autoSaveLabel.setText("💾 " + result.getMessage());
+        } else {
+            autoSaveLabel.setText("⚠️ " + result.getMessage());
+        }
+    }
+
     private void handleSave() {
         SaveLoadControllerFX saveController = new SaveLoadControllerFX(stage, hero);
         stage.setScene(saveController.createScene());
@@ -679,6 +727,9 @@ public class TownMenuController {
                 "Vrei să te întorci la meniul principal?\n\n" +
                         "Asigură-te că ai salvat progresul!")) {
 
+            // Nu lăsa un auto-save pe jumătate scris în urmă
+            saveLoadService.awaitPendingSaves(2000);
+
             MainMenuController mainMenu = new MainMenuController(stage);
             stage.setScene(mainMenu.createScene());
         }
@@ -8,8 +8,10 @@ import com.rpg.dungeon.model.*;
 import com.rpg.dungeon.service.RoomContentService;
 import com.rpg.dungeon.service.RunItemModifierService;
 import com.rpg.model.characters.Erou;
+import com.rpg.service.SaveLoadServiceFX;
 import com.rpg.service.dto.AbilityDTO;
 import com.rpg.utils.DialogHelper;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.RandomUtils;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -30,6 +32,7 @@ public class DungeonController {
     private DungeonRun currentRun;
     private Erou hero;
     private Runnable onExitCallback; // Callback to return to town
+    private final SaveLoadServiceFX saveLoadService = new SaveLoadServiceFX();
 
     // Statistics tracking for meta-progression
     private int enemiesKilledThisRun;
@@ -63,6 +66,10 @@ public class DungeonController {
             System.out.println("🔧 Initializing DungeonController...");
             System.out.println("Hero: " + hero.getNume() + ", Level: " + hero.getNivel());
 
+            // Random-ul etajului, ca harta, inamicii și luptele să se poată reface din seed
+            long runSeed = existingRun != null ? existingRun.getSeed() : GameRandom.newRunSeed();
+            bindFloorRandom(runSeed, depth);
+
             // Generează dungeonul - folosește procedural pentru depth > 1
             DungeonMap map;
             if (depth == 1) {
@@ -91,8 +98,8 @@ public class DungeonController {
                 System.out.println("📈 Continuing run to depth " + depth);
             } else {
                 // Create new run
-                this.currentRun = new DungeonRun(map, hero);
-                System.out.println("🆕 Starting new run at depth " + depth);
+                this.currentRun = new DungeonRun(map, hero, runSeed);
+                System.out.println("🆕 Starting new run at depth " + depth + " (seed " + runSeed + ")");
             }
 
             // Initialize statistics tracking (local to this floor)
@@ -589,7 +596,7 @@ public class DungeonController {
         log("You chose: " + choice.getText());
 
         // Determine outcome
-        boolean success = RandomUtils.chancePercent(choice.getSuccessChance());
+        boolean success = RandomUtils.chancePercent(GameRandom.map(), choice.getSuccessChance());
         DungeonEvent.EventOutcome outcome = success ?
             choice.getSuccessOutcome() : choice.getFailureOutcome();
 
@@ -686,7 +693,7 @@ public class DungeonController {
         java.util.List<RunItem> inventory = new java.util.ArrayList<>();
         RoomContentService contentService = new RoomContentService();
 
-        int itemCount = 3 + (int)(Math.random() * 3); // 3-5 items
+        int itemCount = 3 + GameRandom.loot().nextInt(3); // 3-5 items
 
         for (int i = 0; i < itemCount; i++) {
             RunItem item = contentService.createRandomRunItem(currentRun.getMap().getDepth());
@@ -767,7 +774,7 @@ public class DungeonController {
 
                 // Give a rare or legendary item
                 RoomContentService contentService = new RoomContentService();
-                boolean isLegendary = Math.random() < 0.3; // 30% chance for legendary
+                boolean isLegendary = GameRandom.loot().nextDouble() < 0.3; // 30% chance for legendary
                 RunItem item = isLegendary ?
                     contentService.createRandomRunItemOfRarity(RunItem.RunItemRarity.LEGENDARY, currentRun.getMap().getDepth()) :
                     contentService.createRandomRunItemOfRarity(RunItem.RunItemRarity.RARE, currentRun.getMap().getDepth());
@@ -834,6 +841,7 @@ public class DungeonController {
         System.out.println("🏠 Exiting dungeon - returning to town");
         TownMenuController townController = new TownMenuController(stage, hero);
         stage.setScene(townController.createScene());
+        townController.requestAutoSave();
     }
 
     /**
@@ -934,6 +942,9 @@ public class DungeonController {
         RunItemModifierService.clearRunItemModifiers(hero);
         log("✨ Run item modifiers cleared");
 
+        // Orașul nu face parte din run, revine la random fără seed
+        GameRandom.bind(null);
+
         // Return to town using callback
         if (onExitCallback != null) {
             onExitCallback.run();
@@ -942,6 +953,14 @@ public class DungeonController {
         }
     }
 
+    /**
+     * Fiecare etaj primește random-ul lui, derivat din seed-ul run-ului și
+     * adâncime, ca un etaj să se poată reface fără să rejucăm etajele de dinainte
+     */
+    private static void bindFloorRandom(long runSeed, int depth) {
+        GameRandom.bind(GameRandom.seeded(runSeed * 31 + depth));
+    }
+
     /**
      * Aplică bonusurile permanente din meta-progression pe erou
      */
@@ -1013,6 +1032,7 @@ public class DungeonController {
         bossKilledThisRun = false;
 
         // Generate new map for next depth
+        bindFloorRandom(currentRun.getSeed(), nextDepth);
         DungeonMap newMap;
         if (nextDepth == 1) {
             SimpleMapGenerator generator = new SimpleMapGenerator();
@@ -1033,6 +1053,9 @@ public class DungeonController {
         log("💪 Your run items carry over!");
         log("🗺️ New dungeon layout generated...");
 
+        saveLoadService.autoSaveAsync(hero, result ->
+            log(result.isSuccess() ? "💾 Progress auto-saved" : "⚠️ " + result.getMessage()));
+
         // Refresh the UI with new map
         stage.setScene(createScene());
     }
@@ -6,26 +6,34 @@ import com.rpg.dungeon.service.RoomContentService;
 import com.rpg.model.characters.Erou;
 import com.rpg.model.characters.Inamic;
 import com.rpg.utils.AnimatedSprite;
+import com.rpg.utils.AssetPreloader;
 import com.rpg.utils.DialogHelper;
+import com.rpg.utils.FrameProfiler;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.SpriteManager;
+import com.rpg.utils.SpriteAtlas;
 import javafx.animation.AnimationTimer;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.control.Separator;
-import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
+import javafx.scene.transform.Transform;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -60,18 +68,71 @@ public class RoomExplorationController {
     private Canvas canvas;
     private GraphicsContext gc;
     private AnimationTimer gameLoop;
+    private boolean gameLoopRunning = false;
+
+    // Fixed-step simulation: gameplay advances in 60 Hz ticks whatever the display
+    // refresh rate; rendering interpolates between the last two ticks
+    private static final int TICK_RATE = 60;
+    private static final long TICK_NANOS = 1_000_000_000L / TICK_RATE;
+    private static final double TICK_SECONDS = 1.0 / TICK_RATE;
+    // Under load at most this many ticks run before a frame is drawn; the rest
+    // of the backlog is dropped (the game slows down instead of spiralling)
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    private long tickAccumulator = 0;
+    private double simulationTime = 0; // Seconds, advanced only by ticks
+    private double renderAlpha = 1.0;  // Interpolation factor for the frame being drawn
+
+    // Static room layer (floor, walls, doors, objects), painted once into an image and
+    // blitted each frame; repainted only when doors or object states change (F4 toggles it)
+    private WritableImage staticLayer;
+    private long staticLayerSignature;
+    private double staticLayerScale;
+    private boolean staticLayerCacheEnabled = true;
+    private int staticLayerDrawCalls;   // Draw calls needed to paint the layer directly
+    private int staticLayerRebuilds;
+    private int frameStaticDrawCalls;   // Draw calls spent on the static layer in the last frame
+
+    // Frame time readout (F3)
+    private Label frameStatsLabel;
+    private boolean frameStatsVisible = false;
+    private double avgFrameMs, avgSimMs, avgRenderMs;
+    private int lastTicksPerFrame;
+    private long droppedTicks;
+    private long lastFrameStatsUpdate;
+
+    // Per-subsystem profiler (shown with F3, F5 records the session to a CSV);
+    // shared by every room so one recording spans room transitions
+    private static final int PROFILE_PLAYER = 0;
+    private static final int PROFILE_PROJECTILES = 1;
+    private static final int PROFILE_HAZARDS = 2;
+    private static final int PROFILE_AI = 3;
+    private static final int PROFILE_CHECKS = 4;
+    private static final int PROFILE_HUD = 5;
+    private static final int PROFILE_DRAW_STATIC = 6;
+    private static final int PROFILE_DRAW_HAZARDS = 7;
+    private static final int PROFILE_DRAW_ENEMIES = 8;
+    private static final int PROFILE_DRAW_PLAYER = 9;
+    private static final int PROFILE_DRAW_EFFECTS = 10;
+    private static final int PROFILE_DRAW_MINIMAP = 11;
+    private static final FrameProfiler profiler = new FrameProfiler(
+        "player", "projectiles", "hazards", "ai", "checks", "hud",
+        "draw static", "draw hazards", "draw enemies", "draw player", "draw fx", "draw minimap");
+    private static final String PROFILE_DIR = "profiles";
+    private static String lastProfileFile;
 
     // Player
     private PlayerSprite player;
     private Map<Direction, AnimatedSprite> playerAnimations;
     private AnimatedSprite currentPlayerAnimation;
 
-    // Sprites
-    private Image floorTile;
-    private Image wallTile;
-    private Image doorTile;
-    private Image enemySprite;
-    private Map<InteractiveObject.ObjectType, Image> objectSprites;
+    // Sprites (regions of the shared dungeon atlas)
+    private static final int PLAYER_WALK_FRAMES = 8;
+    private static volatile SpriteAtlas dungeonAtlas; // Packed once (usually by the preloader), shared by every room
+    private SpriteAtlas.Region floorTile;
+    private SpriteAtlas.Region wallTile;
+    private SpriteAtlas.Region doorTile;
+    private SpriteAtlas.Region enemySprite;
+    private Map<InteractiveObject.ObjectType, SpriteAtlas.Region> objectSprites;
 
     // Input state
     private Set<KeyCode> pressedKeys = new HashSet<>();
@@ -90,8 +151,46 @@ public class RoomExplorationController {
 
     // Multi-enemy support
     private List<EnemySprite> activeEnemies = new ArrayList<>();
-    private List<Projectile> activeProjectiles = new ArrayList<>();
+    private ProjectilePool projectiles;  // Enemy shots, preallocated per room
+    private ParticlePool particles;      // Hazard and push wave particles
     private List<Hazard> activeHazards = new ArrayList<>();
+    private RoomSpatialIndex spatialIndex;  // Room-owned grid for collision and proximity queries
+    private final List<Hazard> nearbyHazards = new ArrayList<>();
+    private final List<EnemySprite> nearbyEnemies = new ArrayList<>();
+    private final List<InteractiveObject> nearbyObjects = new ArrayList<>();
+
+    // Flow field toward the player, shared by every chasing enemy
+    private static final double NAV_CELL_SIZE = 20;
+    private static final double ENEMY_SIZE = 32;
+    private NavigationField navigation;
+    private long navigationSignature;
+
+    // Projectiles and particles
+    private static final double PROJECTILE_RADIUS = 6;
+    private static final int PROJECTILE_TTL_TICKS = 6 * TICK_RATE; // Longer than it takes to cross the room
+    private static final int PARTICLE_FLAME = 0;
+    private static final int PARTICLE_POISON = 1;
+    private static final int PARTICLE_PUSH = 2;
+    private static final Color[] PARTICLE_COLORS = {
+        Color.rgb(255, 150, 0), Color.rgb(100, 200, 50), Color.rgb(255, 220, 100)
+    };
+    private static final double FLAME_PARTICLES_PER_SECOND = 8;
+    private static final double POISON_PARTICLES_PER_SECOND = 10;
+    private static final Font HAZARD_ICON_FONT = new Font("Arial", 16);
+    private static final Color SPIKE_BASE = Color.rgb(60, 60, 60);
+    private static final Color SPIKE_TIP = Color.rgb(100, 100, 100);
+    private static final Color SPIKE_BORDER = Color.rgb(80, 80, 80);
+    private static final Color FIRE_OUTER = Color.rgb(255, 100, 0);
+    private static final Color FIRE_INNER = Color.rgb(255, 200, 0);
+    private static final Color POISON_OUTER = Color.rgb(100, 200, 50);
+    private static final Color POISON_MIDDLE = Color.rgb(80, 180, 40);
+    private static final Color POISON_INNER = Color.rgb(120, 220, 60);
+    private static final Color PROJECTILE_GLOW = Color.rgb(255, 100, 100, 0.3);
+    private static final Color PROJECTILE_CORE = Color.rgb(255, 50, 50);
+    private static final Color PROJECTILE_HIGHLIGHT = Color.rgb(255, 200, 200, 0.8);
+    private static final Color PUSH_WAVE_STROKE = Color.rgb(255, 165, 0);
+    private final double[] spikeXs = new double[3];  // Scratch polygon for drawing spikes
+    private final double[] spikeYs = new double[3];
     private boolean hasLoggedEnemyDraw = false; // Debug flag
 
     // Legacy single enemy support (for backwards compatibility)
@@ -106,6 +205,16 @@ public class RoomExplorationController {
     private static final double MINIMAP_SIZE = 200;
     private static final double MINIMAP_MARGIN = 10;
     private static final double MINIMAP_ROOM_SIZE = 16;
+    private static final Color MINIMAP_PLAYER = Color.WHITE;
+    // Rooms, doors and icons, painted into an image only when a room is discovered or
+    // cleared (minimapDirty); each frame just blits it and draws the player marker
+    private WritableImage minimapImage;
+    private boolean minimapDirty = true;
+    private double minimapScale;
+    private int minimapRebuilds;
+    private double minimapCurrentRoomX;   // Where the current room landed in the image
+    private double minimapCurrentRoomY;
+    private double minimapRoomSize;
 
     // Effects HUD toggle
     private boolean effectsHUDVisible = true;
@@ -174,8 +283,8 @@ public class RoomExplorationController {
                     spawnX = room.getEnemySpawnX();
                     spawnY = room.getEnemySpawnY();
                 } else {
-                    spawnX = WALL_THICKNESS + 100 + Math.random() * (ROOM_WIDTH - WALL_THICKNESS * 2 - 200);
-                    spawnY = WALL_THICKNESS + 100 + Math.random() * (ROOM_HEIGHT - WALL_THICKNESS * 2 - 200);
+                    spawnX = WALL_THICKNESS + 100 + GameRandom.map().nextDouble() * (ROOM_WIDTH - WALL_THICKNESS * 2 - 200);
+                    spawnY = WALL_THICKNESS + 100 + GameRandom.map().nextDouble() * (ROOM_HEIGHT - WALL_THICKNESS * 2 - 200);
                     room.setEnemySpawnX(spawnX);
                     room.setEnemySpawnY(spawnY);
                 }
@@ -204,11 +313,38 @@ public class RoomExplorationController {
             initializeRoomObjects(room);
         }
 
+        // Enemies are indexed where the last visit left them
+        spatialIndex = room.getSpatialIndex();
+        for (EnemySprite enemy : activeEnemies) {
+            spatialIndex.update(enemy);
+        }
+        navigation = new NavigationField(ROOM_WIDTH, ROOM_HEIGHT, NAV_CELL_SIZE, ENEMY_SIZE, ENEMY_SIZE);
+        rebuildNavigationObstacles();
+
+        projectiles = new ProjectilePool(room.getProjectileCap());
+        particles = new ParticlePool(room.getParticleCap());
+
         // Mark current room and adjacent rooms as discovered
         discoverRoom(room);
 
         // Load sprites
         loadSprites();
+        prefetchAdjacentRooms();
+    }
+
+    /**
+     * Start decoding what the rooms next door will need (e.g. battle sounds before
+     * walking into a combat room), so the transition doesn't hitch on first use
+     */
+    private void prefetchAdjacentRooms() {
+        // Every room shares the dungeon atlas, so only battles differ between neighbours
+        boolean battleAhead = currentRoom.hasAliveEnemies();
+        for (Room neighbor : dungeonRun.getMap().getAdjacentRooms(currentRoom)) {
+            battleAhead |= neighbor.getType() == RoomType.COMBAT || neighbor.getType() == RoomType.BOSS;
+        }
+        if (battleAhead) {
+            AssetPreloader.prefetch(AssetPreloader.Screen.BATTLE);
+        }
     }
 
     /**
@@ -225,39 +361,70 @@ public class RoomExplorationController {
 //        playerAnimations.put(Direction.EAST, new AnimatedSprite("player", "walk_right", 8, 0.1));
 //        playerAnimations.put(Direction.WEST, new AnimatedSprite("player", "walk_left", 8, 0.1));
 
-        // METHOD 2: Spritesheet (alternative - uncomment to use)
+        // METHOD 2: Spritesheets packed into the dungeon atlas (current method)
         // Requires: Single spritesheet file per direction (e.g., walk_up_sheet.png)
         // Each spritesheet should have 8 frames of 64x64 pixels arranged in a single row (512x64)
+        SpriteAtlas atlas = getDungeonAtlas();
 
         playerAnimations.put(Direction.NORTH,
-            AnimatedSprite.fromSpritesheet("player", "walk_up_sheet", 8, 0.1, 64, 64, 8, 1));
+            AnimatedSprite.fromAtlas(atlas, "player/walk_up", PLAYER_WALK_FRAMES, 0.1));
         playerAnimations.put(Direction.SOUTH,
-            AnimatedSprite.fromSpritesheet("player", "walk_down_sheet", 8, 0.1, 64, 64, 8, 1));
+            AnimatedSprite.fromAtlas(atlas, "player/walk_down", PLAYER_WALK_FRAMES, 0.1));
         playerAnimations.put(Direction.EAST,
-            AnimatedSprite.fromSpritesheet("player", "walk_right_sheet", 8, 0.1, 64, 64, 8, 1));
+            AnimatedSprite.fromAtlas(atlas, "player/walk_right", PLAYER_WALK_FRAMES, 0.1));
         playerAnimations.put(Direction.WEST,
-            AnimatedSprite.fromSpritesheet("player", "walk_left_sheet", 8, 0.1, 64, 64, 8, 1));
-
+            AnimatedSprite.fromAtlas(atlas, "player/walk_left", PLAYER_WALK_FRAMES, 0.1));
 
         currentPlayerAnimation = playerAnimations.get(Direction.SOUTH); // Default facing down
 
         // Load tile sprites
-        floorTile = SpriteManager.getSprite("tiles", "floor");
-        wallTile = SpriteManager.getSprite("tiles", "wall");
-        doorTile = SpriteManager.getSprite("tiles", "door");
+        floorTile = atlas.get("tiles/floor");
+        wallTile = atlas.get("tiles/wall");
+        doorTile = atlas.get("tiles/door");
 
         // Load enemy sprite
-        enemySprite = SpriteManager.getSprite("enemies", "enemy_basic");
+        enemySprite = atlas.get("enemies/enemy_basic");
 
         // Load object sprites
         objectSprites = new HashMap<>();
         for (InteractiveObject.ObjectType type : InteractiveObject.ObjectType.values()) {
-            String spriteName = type.name().toLowerCase();
-            Image sprite = SpriteManager.getSprite("objects", spriteName);
-            objectSprites.put(type, sprite);
+            objectSprites.put(type, atlas.get("objects/" + type.name().toLowerCase()));
         }
+    }
+
+    /**
+     * Build the dungeon atlas ahead of time (registered with AssetPreloader as
+     * part of the DUNGEON_ROOM screen, runs on a loader thread)
+     */
+    public static void preloadDungeonAtlas() {
+        getDungeonAtlas();
+    }
+
+    /**
+     * Pack every dungeon sprite into the shared atlas the first time a room is shown.
+     * Source images are loaded uncached: once copied into the atlas they aren't needed.
+     * Synchronized so a room opening mid-preload waits for it instead of packing twice.
+     */
+    private static synchronized SpriteAtlas getDungeonAtlas() {
+        if (dungeonAtlas == null) {
+            SpriteAtlas.Builder builder = new SpriteAtlas.Builder();
+            for (String animation : new String[]{"walk_up", "walk_down", "walk_left", "walk_right"}) {
+                builder.addFrames("player/" + animation, SpriteManager.loadUncached("player", animation + "_sheet"),
+                    64, 64, PLAYER_WALK_FRAMES);
+            }
+            for (String tile : new String[]{"floor", "wall", "door"}) {
+                builder.add("tiles/" + tile, SpriteManager.loadUncached("tiles", tile));
+            }
+            builder.add("enemies/enemy_basic", SpriteManager.loadUncached("enemies", "enemy_basic"));
+            for (InteractiveObject.ObjectType type : InteractiveObject.ObjectType.values()) {
+                String spriteName = type.name().toLowerCase();
+                builder.add("objects/" + spriteName, SpriteManager.loadUncached("objects", spriteName));
+            }
 
-        System.out.println("📊 " + SpriteManager.getCacheStats());
+            dungeonAtlas = builder.build();
+            System.out.println("🧩 " + dungeonAtlas.getStats());
+        }
+        return dungeonAtlas;
     }
 
     /**
@@ -331,6 +498,20 @@ public class RoomExplorationController {
         StackPane.setAlignment(minimapCanvas, Pos.TOP_RIGHT);
         StackPane.setMargin(minimapCanvas, new Insets(MINIMAP_MARGIN));
 
+        // Frame time readout (F3), hidden by default
+        frameStatsLabel = new Label();
+        frameStatsLabel.setStyle(
+            "-fx-font-family: monospace;" +
+            "-fx-font-size: 12px;" +
+            "-fx-text-fill: #2ecc71;" +
+            "-fx-background-color: rgba(0, 0, 0, 0.6);" +
+            "-fx-padding: 4;"
+        );
+        frameStatsLabel.setMouseTransparent(true);
+        frameStatsLabel.setVisible(frameStatsVisible);
+        canvasContainer.getChildren().add(frameStatsLabel);
+        StackPane.setAlignment(frameStatsLabel, Pos.BOTTOM_LEFT);
+
         canvasContainer.setStyle("-fx-background-color: #0f0f1e; -fx-padding: 20;");
         root.setCenter(canvasContainer);
 
@@ -520,7 +701,7 @@ public class RoomExplorationController {
         interactionPrompt.setMinHeight(40);
         interactionPrompt.setMaxWidth(600);
 
-        Label controls = new Label("⌨️ WASD - Move | SPACE - Dash | Q - Push | E - Interact | M - Map");
+        Label controls = new Label("⌨️ WASD - Move | SPACE - Dash | Q - Push | E - Interact | M - Map | F3 - Frame stats | F4 - Layer cache | F5 - Record profile");
         controls.setStyle("-fx-font-size: 14px; -fx-text-fill: #95a5a6;");
 
         bottom.getChildren().addAll(interactionPrompt, controls);
@@ -539,6 +720,9 @@ public class RoomExplorationController {
                 case ESCAPE -> exitRoom();
                 case SPACE -> handleDash();
                 case Q -> handlePush();
+                case F3 -> toggleFrameStats();
+                case F4 -> staticLayerCacheEnabled = !staticLayerCacheEnabled;
+                case F5 -> toggleProfileRecording();
             }
         });
 
@@ -554,24 +738,138 @@ public class RoomExplorationController {
     }
 
     private void startGameLoop() {
-        lastFrameTime = System.nanoTime();
+        if (simulationTime == 0) {
+            // Anchored once per controller, so timers set before a battle keep counting after it
+            simulationTime = System.currentTimeMillis() / 1000.0;
+        }
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                update(now);
-                render();
+                runFrame(now);
+            }
+
+            @Override
+            public void start() {
+                // Restarting after a battle or dialog must not replay the paused time
+                lastFrameTime = System.nanoTime();
+                tickAccumulator = 0;
+                gameLoopRunning = true;
+                super.start();
+            }
+
+            @Override
+            public void stop() {
+                gameLoopRunning = false;
+                super.stop();
             }
         };
         gameLoop.start();
     }
 
     /**
-     * Update game state every frame
+     * One display frame: run the simulation ticks that are due, then draw once
      */
-    private void update(long now) {
-        // Calculate delta time
-        double deltaTime = (now - lastFrameTime) / 1_000_000_000.0; // Convert to seconds
+    private void runFrame(long now) {
+        long frameNanos = now - lastFrameTime;
         lastFrameTime = now;
+        tickAccumulator += Math.max(0, frameNanos);
+
+        long simStart = System.nanoTime();
+        int ticks = 0;
+        while (tickAccumulator >= TICK_NANOS && ticks < MAX_TICKS_PER_FRAME && gameLoopRunning) {
+            update();
+            tickAccumulator -= TICK_NANOS;
+            ticks++;
+        }
+        if (tickAccumulator >= TICK_NANOS) {
+            droppedTicks += tickAccumulator / TICK_NANOS;
+            tickAccumulator %= TICK_NANOS;
+        }
+        long simEnd = System.nanoTime();
+
+        // A tick may have started a battle or left the room
+        if (!gameLoopRunning) {
+            profiler.endFrame(frameNanos, simEnd - simStart);
+            return;
+        }
+
+        renderAlpha = (double) tickAccumulator / TICK_NANOS;
+        render();
+        long renderEnd = System.nanoTime();
+        profiler.endFrame(frameNanos, renderEnd - simStart);
+        recordFrameStats(frameNanos, ticks, simEnd - simStart, renderEnd - simEnd);
+    }
+
+    /**
+     * F5: start recording every frame, or stop and write the session to profiles/*.csv
+     */
+    private void toggleProfileRecording() {
+        if (!profiler.isRecording()) {
+            profiler.startRecording();
+            System.out.println("⏱️ Profiling started (F5 to stop)");
+            return;
+        }
+        try {
+            lastProfileFile = profiler.stopRecording(Path.of(PROFILE_DIR), "exploration").toString();
+            System.out.println("⏱️ Profile written to " + lastProfileFile);
+        } catch (IOException e) {
+            lastProfileFile = null;
+            System.err.println("❌ Could not write profile: " + e.getMessage());
+        }
+    }
+
+    private void toggleFrameStats() {
+        frameStatsVisible = !frameStatsVisible;
+        frameStatsLabel.setVisible(frameStatsVisible);
+    }
+
+    /**
+     * Smoothed frame timings against the tick budget; the label is refreshed 4 times a second
+     */
+    private void recordFrameStats(long frameNanos, int ticks, long simNanos, long renderNanos) {
+        final double smoothing = 0.1;
+        avgFrameMs += (frameNanos / 1e6 - avgFrameMs) * smoothing;
+        avgSimMs += (simNanos / 1e6 - avgSimMs) * smoothing;
+        avgRenderMs += (renderNanos / 1e6 - avgRenderMs) * smoothing;
+        lastTicksPerFrame = ticks;
+
+        long now = System.nanoTime();
+        if (!frameStatsVisible || now - lastFrameStatsUpdate < 250_000_000L) {
+            return;
+        }
+        lastFrameStatsUpdate = now;
+
+        double budgetMs = TICK_NANOS / 1e6;
+        frameStatsLabel.setText(String.format(
+                "%.0f FPS | frame %.1f ms%nsim %.2f ms (%d ticks) | render %.2f ms%nbudget %.1f ms: %.0f%% used | dropped %d ticks"
+                        + "%nstatic layer: %d draw calls/frame (%d uncached) | %s, %d rebuilds | minimap %d rebuilds"
+                        + "%nnav field: %d cells, %d refreshes (last %.2f ms)"
+                        + "%npools: projectiles %d/%d (%d dropped) | particles %d/%d",
+                avgFrameMs > 0 ? 1000.0 / avgFrameMs : 0, avgFrameMs,
+                avgSimMs, lastTicksPerFrame, avgRenderMs,
+                budgetMs, (avgSimMs + avgRenderMs) / budgetMs * 100, droppedTicks,
+                frameStaticDrawCalls, staticLayerDrawCalls,
+                staticLayerCacheEnabled ? "cached" : "cache off (F4)", staticLayerRebuilds, minimapRebuilds,
+                navigation.getCellCount(), navigation.getRefreshCount(), navigation.getLastRefreshNanos() / 1e6,
+                projectiles.size(), projectiles.getCapacity(), projectiles.getDroppedSpawns(),
+                particles.size(), particles.getCapacity())
+                + "\n" + profiler.getSummary()
+                + (lastProfileFile != null && !profiler.isRecording() ? "\nlast profile: " + lastProfileFile : ""));
+    }
+
+    /**
+     * Advance the game state by one fixed tick
+     */
+    private void update() {
+        long t = System.nanoTime();
+        double deltaTime = TICK_SECONDS;
+        simulationTime += TICK_SECONDS;
+
+        // Positions at the start of the tick, for render interpolation
+        player.savePreviousPosition();
+        for (EnemySprite enemy : activeEnemies) {
+            enemy.savePreviousPosition();
+        }
 
         // Update cooldowns
         if (dashCooldownRemaining > 0) {
@@ -599,15 +897,20 @@ public class RoomExplorationController {
             }
         }
 
+        t = profiler.lap(PROFILE_PLAYER, t); // Cooldowns and push wave
+
         // Update projectiles
         updateProjectiles();
+        t = profiler.lap(PROFILE_PROJECTILES, t);
 
         // Update hazards
         updateHazards(deltaTime);
+        t = profiler.lap(PROFILE_HAZARDS, t);
 
         // Handle dash movement
         if (isDashing) {
             handleDashMovement();
+            profiler.lap(PROFILE_PLAYER, t);
             return; // Skip normal movement during dash
         }
 
@@ -627,7 +930,7 @@ public class RoomExplorationController {
         // Update player animation
         if (player.isMoving()) {
             currentPlayerAnimation = playerAnimations.get(player.getFacing());
-            currentPlayerAnimation.update(0.0167); // ~60 FPS
+            currentPlayerAnimation.update(TICK_SECONDS);
         } else {
             currentPlayerAnimation.reset(); // Stop animation when not moving
         }
@@ -639,34 +942,40 @@ public class RoomExplorationController {
         }
 
         // Check object collisions
-        for (InteractiveObject obj : currentRoom.getObjects()) {
-            if (!obj.isInteracted() && obj.collidesWith(player.getX(), player.getY(), player.getWidth(), player.getHeight())) {
-                player.setX(oldX);
-                player.setY(oldY);
-                break;
-            }
+        if (spatialIndex.getObjects().anyOverlapping(player.getX(), player.getY(), player.getWidth(), player.getHeight(),
+                obj -> !obj.isInteracted())) {
+            player.setX(oldX);
+            player.setY(oldY);
         }
+        t = profiler.lap(PROFILE_PLAYER, t);
 
         // Check hazard collisions and damage
         checkHazardCollisions();
 
         // Check enemy hazard collisions
         checkEnemyHazardCollisions();
+        t = profiler.lap(PROFILE_HAZARDS, t);
 
         // Check door transitions
         checkDoorTransitions();
 
         // Update interaction prompt
         updateInteractionPrompt();
+        t = profiler.lap(PROFILE_CHECKS, t);
 
         // Update enemy AI (vision, chasing)
+        refreshNavigation();
         updateEnemyAI();
+        syncEnemyIndex();
+        t = profiler.lap(PROFILE_AI, t);
 
         // Check combat trigger
         checkCombatTrigger();
+        t = profiler.lap(PROFILE_CHECKS, t);
 
         // Update HUD
         updateHUD();
+        profiler.lap(PROFILE_HUD, t);
     }
 
     /**
@@ -782,7 +1091,9 @@ public class RoomExplorationController {
      * Find the nearest interactable object within range
      */
     private InteractiveObject findNearestInteractableObject() {
-        for (InteractiveObject obj : currentRoom.getObjects()) {
+        nearbyObjects.clear();
+        spatialIndex.getObjects().queryRange(player.getCenterX(), player.getCenterY(), INTERACTION_RANGE, nearbyObjects);
+        for (InteractiveObject obj : nearbyObjects) {
             if (obj.isInRange(player.getCenterX(), player.getCenterY(), INTERACTION_RANGE)) {
                 return obj;
             }
@@ -878,8 +1189,7 @@ public class RoomExplorationController {
      * Handle altar interaction - simple random effects
      */
     private void handleAltarInteraction() {
-        java.util.Random rand = new java.util.Random();
-        int eventType = rand.nextInt(3);
+        int eventType = GameRandom.map().nextInt(3);
 
         String title;
         String message;
@@ -917,6 +1227,7 @@ public class RoomExplorationController {
 
         DialogHelper.showSuccess(title, message);
         currentRoom.markCleared();
+        minimapDirty = true;
     }
 
     /**
@@ -946,8 +1257,7 @@ public class RoomExplorationController {
      * Handle fountain interaction - random effect
      */
     private void handleFountainInteraction() {
-        java.util.Random rand = new java.util.Random();
-        int effect = rand.nextInt(4);
+        int effect = GameRandom.map().nextInt(4);
 
         String message;
         switch (effect) {
@@ -1108,7 +1418,10 @@ public class RoomExplorationController {
         int pushedCount = 0;
 
         // Find and push all enemies in the cone
-        for (EnemySprite enemy : activeEnemies) {
+        syncEnemyIndex();
+        nearbyEnemies.clear();
+        spatialIndex.getEnemies().queryRange(playerCenterX, playerCenterY, PUSH_RANGE, nearbyEnemies);
+        for (EnemySprite enemy : nearbyEnemies) {
             if (enemy.getState() == EnemySprite.EnemyState.DEFEATED) {
                 continue;
             }
@@ -1147,16 +1460,32 @@ public class RoomExplorationController {
 
                 enemy.setX(newX);
                 enemy.setY(newY);
+                spatialIndex.update(enemy);
 
                 pushedCount++;
                 System.out.println("👊 Pushed " + enemy.getEnemy().getNume() + " in direction " + Math.toDegrees(pushAngle) + "°");
             }
         }
 
+        emitPushParticles(playerCenterX, playerCenterY);
+
         System.out.println("💥 Push activated! Pushed " + pushedCount + " enemies toward mouse direction");
         pushCooldownRemaining = PUSH_COOLDOWN;
     }
 
+    /**
+     * Spray particles along the push cone; they travel with the wave front
+     */
+    private void emitPushParticles(double originX, double originY) {
+        double waveSpeed = PUSH_WAVE_LENGTH * 3.0; // The wave takes ~0.33 s to reach full length
+        for (int p = 0; p < 15; p++) {
+            double angle = pushAngle + (GameRandom.cosmetic().nextDouble() - 0.5) * Math.PI / 2;
+            double speed = waveSpeed * (0.8 + GameRandom.cosmetic().nextDouble() * 0.4);
+            particles.emit(originX, originY, Math.cos(angle) * speed, Math.sin(angle) * speed,
+                6, 0.33, PARTICLE_PUSH);
+        }
+    }
+
     /**
      * Update enemy AI (vision detection, chasing behavior, cooldown checks)
      */
@@ -1173,7 +1502,7 @@ public class RoomExplorationController {
 
             // Check if cooldown expired
             if (enemy.getState() == EnemySprite.EnemyState.COOLDOWN) {
-                if (enemy.canChaseAgain()) {
+                if (enemy.canChaseAgain(simulationTime)) {
                     enemy.setState(EnemySprite.EnemyState.IDLE);
                 } else {
                     continue; // Still in cooldown
@@ -1311,8 +1640,8 @@ public class RoomExplorationController {
                     enemy.setY(enemy.getY() + (dy / distance) * chargeSpeed);
                 }
             } else {
-                // Not charging - move toward player normally
-                enemy.moveTowards(playerCenterX, playerCenterY);
+                // Not charging - follow the flow field toward the player
+                moveEnemyWithHazardAvoidance(enemy, playerCenterX, playerCenterY);
 
                 // Initiate charge if cooldown ready and player in range
                 double distance = enemy.getDistanceToPoint(playerCenterX, playerCenterY);
@@ -1346,17 +1675,19 @@ public class RoomExplorationController {
             // Create projectile
             double projectileSpeed = 4.0;
             int projectileDamage = (int)(enemy.getEnemy().getDamage() * 0.5); // Projectiles do half damage
-            Projectile projectile = new Projectile(
+            int slot = projectiles.spawn(
                 enemyCenterX,
                 enemyCenterY,
                 dx * projectileSpeed,
                 dy * projectileSpeed,
+                PROJECTILE_RADIUS,
                 projectileDamage,
-                enemy
+                PROJECTILE_TTL_TICKS
             );
 
-            activeProjectiles.add(projectile);
-            System.out.println("🏹 " + enemy.getEnemy().getNume() + " shoots projectile!");
+            if (slot >= 0) {
+                System.out.println("🏹 " + enemy.getEnemy().getNume() + " shoots projectile!");
+            }
         }
     }
 
@@ -1364,27 +1695,21 @@ public class RoomExplorationController {
      * Update all active projectiles - movement and collision
      */
     private void updateProjectiles() {
-        activeProjectiles.removeIf(projectile -> {
-            if (!projectile.isActive()) {
-                return true; // Remove inactive projectiles
-            }
+        projectiles.update();
 
-            // Update position
-            projectile.update();
-
-            // Check if out of bounds
-            if (projectile.getX() < 0 || projectile.getX() > ROOM_WIDTH ||
-                projectile.getY() < 0 || projectile.getY() > ROOM_HEIGHT) {
-                projectile.setActive(false);
-                return true;
-            }
+        // Walk backwards so kill() only swaps in projectiles already checked
+        for (int i = projectiles.size() - 1; i >= 0; i--) {
+            int slot = projectiles.slotAt(i);
+            double x = projectiles.getX(slot);
+            double y = projectiles.getY(slot);
 
             // Check collision with player
-            if (projectile.hitsRectangle(player.getX(), player.getY(), player.getWidth(), player.getHeight())) {
+            if (projectiles.hitsRectangle(slot, player.getX(), player.getY(), player.getWidth(), player.getHeight())) {
                 // Hit player!
-                hero.primesteDamage(projectile.getDamage());
-                System.out.println("💥 Projectile hit player for " + projectile.getDamage() + " damage!");
-                projectile.setActive(false);
+                int damage = projectiles.getDamage(slot);
+                projectiles.kill(slot);
+                hero.primesteDamage(damage);
+                System.out.println("💥 Projectile hit player for " + damage + " damage!");
 
                 // Update HUD
                 hpLabel.setText(String.format("❤️ HP: %d/%d", hero.getViata(), hero.getViataMaxima()));
@@ -1401,19 +1726,17 @@ public class RoomExplorationController {
                     if (onRoomExit != null) {
                         onRoomExit.run();
                     }
+                    return;
                 }
-                return true;
+                continue;
             }
 
             // Check collision with walls
-            if (projectile.getX() < WALL_THICKNESS || projectile.getX() > ROOM_WIDTH - WALL_THICKNESS ||
-                projectile.getY() < WALL_THICKNESS || projectile.getY() > ROOM_HEIGHT - WALL_THICKNESS) {
-                projectile.setActive(false);
-                return true;
+            if (x < WALL_THICKNESS || x > ROOM_WIDTH - WALL_THICKNESS ||
+                y < WALL_THICKNESS || y > ROOM_HEIGHT - WALL_THICKNESS) {
+                projectiles.kill(slot);
             }
-
-            return false; // Keep projectile active
-        });
+        }
     }
 
     /**
@@ -1423,7 +1746,47 @@ public class RoomExplorationController {
         for (Hazard hazard : activeHazards) {
             if (hazard.isActive()) {
                 hazard.update(deltaTime);
+                emitHazardParticles(hazard, deltaTime);
+            }
+        }
+        particles.update(deltaTime);
+    }
+
+    /**
+     * Flames rise out of fire pits and poison drifts around gas clouds
+     */
+    private void emitHazardParticles(Hazard hazard, double deltaTime) {
+        double x = hazard.getX();
+        double y = hazard.getY();
+        double width = hazard.getWidth();
+        double height = hazard.getHeight();
+
+        switch (hazard.getType()) {
+            case FIRE_PIT -> {
+                if (GameRandom.cosmetic().nextDouble() < FLAME_PARTICLES_PER_SECOND * deltaTime) {
+                    particles.emit(
+                        x + width * 0.3 + GameRandom.cosmetic().nextDouble() * width * 0.4,
+                        y + height * 0.3 + GameRandom.cosmetic().nextDouble() * height * 0.3,
+                        (GameRandom.cosmetic().nextDouble() - 0.5) * 10,
+                        -20 - GameRandom.cosmetic().nextDouble() * 20,
+                        4 + GameRandom.cosmetic().nextDouble() * 6,
+                        0.6,
+                        PARTICLE_FLAME);
+                }
+            }
+            case POISON_GAS -> {
+                if (GameRandom.cosmetic().nextDouble() < POISON_PARTICLES_PER_SECOND * deltaTime) {
+                    particles.emit(
+                        x + GameRandom.cosmetic().nextDouble() * width,
+                        y + GameRandom.cosmetic().nextDouble() * height,
+                        (GameRandom.cosmetic().nextDouble() - 0.5) * 16,
+                        (GameRandom.cosmetic().nextDouble() - 0.5) * 16,
+                        3 + GameRandom.cosmetic().nextDouble() * 5,
+                        0.9,
+                        PARTICLE_POISON);
+                }
             }
+            default -> { }
         }
     }
 
@@ -1435,14 +1798,16 @@ public class RoomExplorationController {
             return; // Don't damage dead players
         }
 
-        double currentTime = System.currentTimeMillis() / 1000.0; // Convert to seconds
+        double currentTime = simulationTime;
 
         // Check if player is still invulnerable
         if (currentTime < playerHazardInvulnerabilityEndTime) {
             return; // Still invulnerable
         }
 
-        for (Hazard hazard : activeHazards) {
+        nearbyHazards.clear();
+        spatialIndex.getHazards().query(player.getX(), player.getY(), player.getWidth(), player.getHeight(), nearbyHazards);
+        for (Hazard hazard : nearbyHazards) {
             if (!hazard.isActive()) {
                 continue;
             }
@@ -1492,31 +1857,16 @@ public class RoomExplorationController {
      * Check if a position would place an enemy in a hazard
      */
     private boolean isPositionInHazard(double x, double y, double width, double height) {
-        for (Hazard hazard : activeHazards) {
-            if (hazard.isActive() && hazard.collidesWith(x, y, width, height)) {
-                return true;
-            }
-        }
-        return false;
+        return spatialIndex.getHazards().anyOverlapping(x, y, width, height, Hazard::isActive);
     }
 
     /**
-     * Check if a path from current position to target will pass through a hazard
-     * Uses lookahead to detect hazards before walking into them
+     * Report this tick's enemy positions to the room's spatial index
      */
-    private boolean isPathThroughHazard(double startX, double startY, double endX, double endY, double width, double height) {
-        // Check multiple points along the path
-        int checkPoints = 5;
-        for (int i = 0; i <= checkPoints; i++) {
-            double t = i / (double) checkPoints;
-            double checkX = startX + (endX - startX) * t;
-            double checkY = startY + (endY - startY) * t;
-
-            if (isPositionInHazard(checkX, checkY, width, height)) {
-                return true; // Path goes through hazard
-            }
+    private void syncEnemyIndex() {
+        for (EnemySprite enemy : activeEnemies) {
+            spatialIndex.update(enemy);
         }
-        return false; // Path is clear
     }
 
     /**
@@ -1540,99 +1890,47 @@ public class RoomExplorationController {
     }
 
     /**
-     * Evaluate how good a path is by simulating multiple steps ahead
-     * Returns a score where higher = better path to target
+     * Re-mark the navigation grid if a hazard was toggled or an object used/added,
+     * then point the flow field at the player (recomputed only when they change cell)
      */
-    private double evaluatePathQuality(double startX, double startY, double dirX, double dirY,
-                                       double targetX, double targetY, double width, double height, double speed) {
-        double score = 0;
-        double currentX = startX;
-        double currentY = startY;
-
-        // Simulate 5 steps ahead
-        int steps = 5;
-        for (int i = 0; i < steps; i++) {
-            currentX += dirX * speed;
-            currentY += dirY * speed;
-
-            // Check if this future position is in a hazard
-            if (isPositionInHazard(currentX, currentY, width, height)) {
-                return -10000; // Very bad - leads into hazard
-            }
-
-            // Check if out of bounds
-            if (currentX < WALL_THICKNESS || currentX > ROOM_WIDTH - WALL_THICKNESS - width ||
-                currentY < WALL_THICKNESS || currentY > ROOM_HEIGHT - WALL_THICKNESS - height) {
-                return -5000; // Bad - leads to wall
-            }
-
-            // Calculate distance to target at this point
-            double dx = targetX - (currentX + width / 2);
-            double dy = targetY - (currentY + height / 2);
-            double distToTarget = Math.sqrt(dx * dx + dy * dy);
-
-            // Reward getting closer to target (exponentially better for later steps)
-            score -= distToTarget * (i + 1); // Later steps weighted more
+    private void refreshNavigation() {
+        if (activeEnemies.isEmpty()) {
+            return;
         }
+        long signature = navigationObstacleSignature();
+        if (signature != navigationSignature) {
+            rebuildNavigationObstacles();
+        }
+        navigation.setTarget(player.getCenterX(), player.getCenterY());
+    }
 
-        return score;
+    private void rebuildNavigationObstacles() {
+        navigation.rebuildObstacles(spatialIndex, WALL_THICKNESS, WALL_THICKNESS,
+            ROOM_WIDTH - WALL_THICKNESS, ROOM_HEIGHT - WALL_THICKNESS);
+        navigationSignature = navigationObstacleSignature();
     }
 
     /**
-     * Find the best direction to move when going around an obstacle
-     * Uses multi-step simulation to pick the path that actually reaches the target
+     * Everything the navigation grid depends on: which hazards are active and
+     * which objects still block
      */
-    private double[] findBestPathAroundObstacle(double startX, double startY, double targetX, double targetY,
-                                                 double width, double height, double speed) {
-        double bestScore = Double.NEGATIVE_INFINITY;
-        double bestDirX = 0;
-        double bestDirY = 0;
-
-        // Try 32 directions for very smooth pathfinding
-        for (int i = 0; i < 32; i++) {
-            double angle = (i / 32.0) * Math.PI * 2;
-            double dirX = Math.cos(angle);
-            double dirY = Math.sin(angle);
-
-            double testX = startX + dirX * speed;
-            double testY = startY + dirY * speed;
-
-            // First check: is immediate position safe?
-            if (isPositionInHazard(testX, testY, width, height)) {
-                continue; // Skip this direction
-            }
-
-            // Evaluate how good this path is over multiple steps
-            double pathScore = evaluatePathQuality(startX, startY, dirX, dirY, targetX, targetY, width, height, speed);
-
-            // Add bonus for being in the general direction of target
-            double dx = targetX - (startX + width / 2);
-            double dy = targetY - (startY + height / 2);
-            double dist = Math.sqrt(dx * dx + dy * dy);
-            if (dist > 0) {
-                dx /= dist;
-                dy /= dist;
-                double dotProduct = dirX * dx + dirY * dy;
-                pathScore += dotProduct * 200; // Bonus for right direction
-            }
-
-            if (pathScore > bestScore) {
-                bestScore = pathScore;
-                bestDirX = dirX;
-                bestDirY = dirY;
-            }
+    private long navigationObstacleSignature() {
+        long signature = 17;
+        for (Hazard hazard : activeHazards) {
+            signature = signature * 31 + (hazard.isActive() ? 1 : 0);
         }
-
-        if (bestScore > Double.NEGATIVE_INFINITY) {
-            return new double[]{bestDirX, bestDirY, bestScore};
+        for (InteractiveObject obj : currentRoom.getObjects()) {
+            signature = signature * 31 + Double.hashCode(obj.getX());
+            signature = signature * 31 + Double.hashCode(obj.getY());
+            signature = signature * 31 + (obj.isInteracted() ? 1 : 0);
         }
-
-        return null; // No path found
+        return signature;
     }
 
     /**
-     * Move enemy towards target while avoiding hazards
-     * Enhanced pathfinding with lookahead that can navigate around obstacles
+     * Move enemy towards the player while avoiding hazards.
+     * Walks straight when the way ahead is clear, otherwise follows the room's
+     * flow field, which already routes around hazards and objects.
      */
     private void moveEnemyWithHazardAvoidance(EnemySprite enemy, double targetX, double targetY) {
         double oldX = enemy.getX();
@@ -1654,16 +1952,17 @@ public class RoomExplorationController {
         double moveSpeed = enemy.getMoveSpeed();
         double lookAhead = 50.0; // How far ahead to check for hazards
 
-        // PRIORITY 1: If currently IN a hazard, ESCAPE IMMEDIATELY
+        // PRIORITY 1: If currently IN a hazard, ESCAPE IMMEDIATELY toward the nearest free cell
         if (isPositionInHazard(oldX, oldY, enemy.getWidth(), enemy.getHeight())) {
-            if (tryEscapeFromHazard(enemy, oldX, oldY)) {
+            if (tryEscapeFromHazard(enemy)) {
                 return; // Successfully escaped
             }
-            // If escape failed, continue trying other movements below
+            // Already in a free cell but still clipping the hazard - the flow field leads out
         }
 
         // PRIORITY 2: Check if direct path leads into hazard (with lookahead)
-        boolean directPathClear = !isMovingTowardHazard(oldX, oldY, targetX, targetY, enemy.getWidth(), enemy.getHeight(), lookAhead);
+        boolean directPathClear = navigation.isInTargetCell(centerX, centerY)
+            || !isMovingTowardHazard(oldX, oldY, targetX, targetY, enemy.getWidth(), enemy.getHeight(), lookAhead);
 
         if (directPathClear) {
             double newX = oldX + dx * moveSpeed;
@@ -1677,102 +1976,54 @@ public class RoomExplorationController {
             }
         }
 
-        // PRIORITY 3: Direct path blocked - use SMART pathfinding to go around
-        // This uses multi-step simulation to find the best route
-        double[] bestPath = findBestPathAroundObstacle(oldX, oldY, targetX, targetY,
-                                                        enemy.getWidth(), enemy.getHeight(), moveSpeed);
-
-        if (bestPath != null) {
-            double bestDirX = bestPath[0];
-            double bestDirY = bestPath[1];
-            double bestScore = bestPath[2];
+        // PRIORITY 3: Direct path blocked - follow the flow field around the obstacle
+        double[] flow = navigation.directionFrom(centerX, centerY);
+        if (flow != null) {
+            double newX = oldX + flow[0] * moveSpeed;
+            double newY = oldY + flow[1] * moveSpeed;
 
-            // Move in the best direction found
-            double newX = oldX + bestDirX * moveSpeed;
-            double newY = oldY + bestDirY * moveSpeed;
-
-            enemy.setX(newX);
-            enemy.setY(newY);
-            return;
-        }
-
-        // PRIORITY 4: Still stuck - try any safe direction (don't be picky)
-        for (int i = 0; i < 16; i++) {
-            double angle = (i / 16.0) * Math.PI * 2;
-            double testX = oldX + Math.cos(angle) * moveSpeed;
-            double testY = oldY + Math.sin(angle) * moveSpeed;
+            if (!isPositionInHazard(newX, newY, enemy.getWidth(), enemy.getHeight())) {
+                enemy.setX(newX);
+                enemy.setY(newY);
+                return;
+            }
 
-            if (!isPositionInHazard(testX, testY, enemy.getWidth(), enemy.getHeight())) {
-                enemy.setX(testX);
-                enemy.setY(testY);
+            // Clipping a hazard corner - slide along one axis
+            if (!isPositionInHazard(newX, oldY, enemy.getWidth(), enemy.getHeight())) {
+                enemy.setX(newX);
+                return;
+            }
+            if (!isPositionInHazard(oldX, newY, enemy.getWidth(), enemy.getHeight())) {
+                enemy.setY(newY);
                 return;
             }
         }
 
-        // Completely stuck - don't move
+        // No route to the player (walled in by hazards) - wait
     }
 
     /**
-     * Try to escape from a hazard by moving in any safe direction
-     * AGGRESSIVE: Tries multiple distances and all angles
+     * Try to escape from a hazard by stepping toward the nearest free navigation cell
      */
-    private boolean tryEscapeFromHazard(EnemySprite enemy, double x, double y) {
-        // Try escaping at increasing distances (try closer first, then further)
-        double[] escapeSpeeds = {
-            enemy.getMoveSpeed() * 2.0,  // Try 2x speed first
-            enemy.getMoveSpeed() * 3.0,  // Then 3x speed
-            enemy.getMoveSpeed() * 4.0   // Then 4x speed (really far!)
-        };
-
-        for (double speed : escapeSpeeds) {
-            // Try 16 directions for better coverage
-            for (int i = 0; i < 16; i++) {
-                double angle = (i / 16.0) * Math.PI * 2;
-                double escapeX = x + Math.cos(angle) * speed;
-                double escapeY = y + Math.sin(angle) * speed;
-
-                // Check if this position is safe
-                if (!isPositionInHazard(escapeX, escapeY, enemy.getWidth(), enemy.getHeight())) {
-                    // Check it's not out of bounds
-                    if (escapeX >= WALL_THICKNESS && escapeX <= ROOM_WIDTH - WALL_THICKNESS - enemy.getWidth() &&
-                        escapeY >= WALL_THICKNESS && escapeY <= ROOM_HEIGHT - WALL_THICKNESS - enemy.getHeight()) {
-                        enemy.setX(escapeX);
-                        enemy.setY(escapeY);
-                        System.out.println("🏃 " + enemy.getEnemy().getNume() + " escaped from hazard!");
-                        return true;
-                    }
-                }
-            }
-        }
-
-        // Last resort: try ANY position nearby that's safe (desperate escape)
-        for (double radius = 10; radius <= 100; radius += 10) {
-            for (int i = 0; i < 32; i++) {
-                double angle = (i / 32.0) * Math.PI * 2;
-                double escapeX = x + Math.cos(angle) * radius;
-                double escapeY = y + Math.sin(angle) * radius;
-
-                if (!isPositionInHazard(escapeX, escapeY, enemy.getWidth(), enemy.getHeight())) {
-                    if (escapeX >= WALL_THICKNESS && escapeX <= ROOM_WIDTH - WALL_THICKNESS - enemy.getWidth() &&
-                        escapeY >= WALL_THICKNESS && escapeY <= ROOM_HEIGHT - WALL_THICKNESS - enemy.getHeight()) {
-                        enemy.setX(escapeX);
-                        enemy.setY(escapeY);
-                        System.out.println("🏃 " + enemy.getEnemy().getNume() + " desperately escaped!");
-                        return true;
-                    }
-                }
-            }
+    private boolean tryEscapeFromHazard(EnemySprite enemy) {
+        double[] escape = navigation.escapeDirectionFrom(enemy.getCenterX(), enemy.getCenterY());
+        if (escape == null) {
+            return false;
         }
 
-        System.out.println("⚠️ " + enemy.getEnemy().getNume() + " completely trapped in hazard!");
-        return false; // No escape found (very rare)
+        double speed = enemy.getMoveSpeed() * 2.0; // Hurry out of the hazard
+        double escapeX = enemy.getX() + escape[0] * speed;
+        double escapeY = enemy.getY() + escape[1] * speed;
+        enemy.setX(Math.max(WALL_THICKNESS, Math.min(ROOM_WIDTH - WALL_THICKNESS - enemy.getWidth(), escapeX)));
+        enemy.setY(Math.max(WALL_THICKNESS, Math.min(ROOM_HEIGHT - WALL_THICKNESS - enemy.getHeight(), escapeY)));
+        return true;
     }
 
     /**
      * Check if enemies are colliding with hazards and apply damage
      */
     private void checkEnemyHazardCollisions() {
-        double currentTime = System.currentTimeMillis() / 1000.0; // Convert to seconds
+        double currentTime = simulationTime;
 
         for (EnemySprite enemy : activeEnemies) {
             // Skip defeated enemies
@@ -1790,7 +2041,9 @@ public class RoomExplorationController {
                 continue; // Still invulnerable
             }
 
-            for (Hazard hazard : activeHazards) {
+            nearbyHazards.clear();
+            spatialIndex.getHazards().query(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight(), nearbyHazards);
+            for (Hazard hazard : nearbyHazards) {
                 if (!hazard.isActive()) {
                     continue;
                 }
@@ -1817,10 +2070,12 @@ public class RoomExplorationController {
                             System.out.println("💀 " + enemy.getEnemy().getNume() + " killed by " + hazard.getType() + "!");
                             enemy.setState(EnemySprite.EnemyState.DEFEATED);
                             activeEnemies.remove(enemy);
+                            spatialIndex.remove(enemy);
 
                             // Check if room is now cleared
                             if (activeEnemies.isEmpty()) {
                                 currentRoom.markCleared();
+                                minimapDirty = true;
                                 System.out.println("🎉 All enemies defeated by hazards! Room cleared!");
 
                                 // If boss room, spawn portal
@@ -1854,8 +2109,10 @@ public class RoomExplorationController {
             return;
         }
 
-        // Multi-enemy support - check all active enemies
-        for (EnemySprite enemy : activeEnemies) {
+        // Multi-enemy support - check active enemies around the player
+        nearbyEnemies.clear();
+        spatialIndex.getEnemies().queryRange(player.getCenterX(), player.getCenterY(), COMBAT_TRIGGER_RANGE, nearbyEnemies);
+        for (EnemySprite enemy : nearbyEnemies) {
             // Don't trigger combat if enemy is defeated or on cooldown
             if (enemy.getState() == EnemySprite.EnemyState.DEFEATED ||
                 enemy.getState() == EnemySprite.EnemyState.COOLDOWN) {
@@ -1915,7 +2172,9 @@ public class RoomExplorationController {
         double battleY = engagedEnemy.getCenterY();
 
         List<EnemySprite> reinforcements = new ArrayList<>();
-        for (EnemySprite other : activeEnemies) {
+        nearbyEnemies.clear();
+        spatialIndex.getEnemies().queryRange(battleX, battleY, REINFORCEMENT_RANGE, nearbyEnemies);
+        for (EnemySprite other : nearbyEnemies) {
             if (other == engagedEnemy || other.getState() == EnemySprite.EnemyState.DEFEATED) {
                 continue;
             }
@@ -1990,6 +2249,7 @@ public class RoomExplorationController {
                 System.out.println("💀 Marking initial enemy as defeated: " + defeatedEnemy.getEnemy().getNume());
                 defeatedEnemy.setState(EnemySprite.EnemyState.DEFEATED);
                 activeEnemies.remove(defeatedEnemy);
+                spatialIndex.remove(defeatedEnemy);
             }
 
             // Also mark all reinforcements that joined the battle as defeated
@@ -1998,12 +2258,14 @@ public class RoomExplorationController {
                     System.out.println("💀 Marking reinforcement as defeated: " + reinforcement.getEnemy().getNume());
                     reinforcement.setState(EnemySprite.EnemyState.DEFEATED);
                     activeEnemies.remove(reinforcement);
+                    spatialIndex.remove(reinforcement);
                 }
             }
 
             // Check if all enemies defeated
             if (activeEnemies.isEmpty()) {
                 currentRoom.markCleared();
+                minimapDirty = true;
                 System.out.println("🎉 All enemies defeated! Room cleared!");
 
                 // If this was a boss room, spawn portal for progression choice
@@ -2052,11 +2314,11 @@ public class RoomExplorationController {
 
             // Player FLED - set cooldowns on all enemies
             defeatedEnemy.returnToBattlePosition();
-            defeatedEnemy.setChaseCooldown(3000); // 3 second cooldown
+            defeatedEnemy.setChaseCooldown(3000, simulationTime); // 3 second cooldown
 
             for (EnemySprite other : reinforcements) {
                 other.returnToBattlePosition();
-                other.setChaseCooldown(3000);
+                other.setChaseCooldown(3000, simulationTime);
             }
 
             // Push player back slightly to create distance
@@ -2115,6 +2377,7 @@ public class RoomExplorationController {
             // Enemy was defeated
             enemyAlive = false;
             currentRoom.markCleared();
+            minimapDirty = true;
 
             // If this was a boss room, spawn portal for progression choice
             if (currentRoom.getType() == RoomType.BOSS) {
@@ -2169,7 +2432,11 @@ public class RoomExplorationController {
      */
     private void spawnBossPortal() {
         // Remove any existing portals
-        currentRoom.getObjects().removeIf(obj -> obj.getType() == InteractiveObject.ObjectType.PORTAL);
+        for (InteractiveObject obj : new ArrayList<>(currentRoom.getObjects())) {
+            if (obj.getType() == InteractiveObject.ObjectType.PORTAL) {
+                currentRoom.removeObject(obj);
+            }
+        }
 
         // Spawn portal in center of room
         InteractiveObject portal = new InteractiveObject(
@@ -2264,66 +2531,140 @@ public class RoomExplorationController {
      * Render the room and all objects
      */
     private void render() {
-        // Clear canvas
-        gc.setFill(Color.rgb(20, 20, 30));
-        gc.fillRect(0, 0, ROOM_WIDTH, ROOM_HEIGHT);
-
-        // Draw floor
-        drawFloor();
+        long t = System.nanoTime();
 
-        // Draw walls
-        drawWalls();
+        // Floor, walls, doors and objects (cached)
+        drawStaticLayer();
+        t = profiler.lap(PROFILE_DRAW_STATIC, t);
 
-        // Draw doors
-        drawDoors();
-
-        // Draw hazards (under objects and entities)
+        // Draw hazards (under entities)
         drawHazards();
-
-        // Draw interactive objects
-        drawObjects();
+        t = profiler.lap(PROFILE_DRAW_HAZARDS, t);
 
         // Draw enemies (both new multi-enemy system and legacy single enemy)
         if (enemyAlive || !activeEnemies.isEmpty()) {
             drawEnemy();
         }
+        t = profiler.lap(PROFILE_DRAW_ENEMIES, t);
 
         // Draw player
         drawPlayer();
+        t = profiler.lap(PROFILE_DRAW_PLAYER, t);
 
         // Draw projectiles
         drawProjectiles();
 
+        // Draw hazard and push particles
+        drawParticles();
+
         // Draw push wave effect
         if (isPushActive) {
             drawPushWave();
         }
+        t = profiler.lap(PROFILE_DRAW_EFFECTS, t);
 
         // Draw minimap
         if (minimapVisible) {
             drawMinimap();
         }
+        profiler.lap(PROFILE_DRAW_MINIMAP, t);
     }
 
-    private void drawFloor() {
+    /**
+     * Draw the cached static layer, repainting it first if the room changed
+     */
+    private void drawStaticLayer() {
+        if (!staticLayerCacheEnabled) {
+            frameStaticDrawCalls = paintStaticLayer(gc);
+            return;
+        }
+
+        double scale = outputScale();
+        long signature = staticLayerSignature();
+        if (staticLayer == null || signature != staticLayerSignature || scale != staticLayerScale) {
+            rebuildStaticLayer(scale);
+            staticLayerSignature = signature;
+        }
+
+        gc.drawImage(staticLayer, 0, 0, ROOM_WIDTH, ROOM_HEIGHT);
+        frameStaticDrawCalls = 1;
+    }
+
+    /**
+     * Paint the static layer into an off-screen canvas and snapshot it at the
+     * window's output scale, so the cached image stays sharp on HiDPI screens
+     */
+    private void rebuildStaticLayer(double scale) {
+        Canvas layerCanvas = new Canvas(ROOM_WIDTH, ROOM_HEIGHT);
+        staticLayerDrawCalls = paintStaticLayer(layerCanvas.getGraphicsContext2D());
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+
+        // Same room at the same scale: the image is reused instead of reallocated
+        boolean reuse = staticLayer != null && scale == staticLayerScale;
+        staticLayer = layerCanvas.snapshot(params, reuse ? staticLayer : null);
+        staticLayerScale = scale;
+        staticLayerRebuilds++;
+    }
+
+    private int paintStaticLayer(GraphicsContext g) {
+        g.setFill(Color.rgb(20, 20, 30));
+        g.fillRect(0, 0, ROOM_WIDTH, ROOM_HEIGHT);
+
+        return 1 + drawFloor(g) + drawWalls(g) + drawDoors(g) + drawObjects(g);
+    }
+
+    /**
+     * Everything the static layer depends on: which doors exist and each
+     * object's type, position and used state
+     */
+    private long staticLayerSignature() {
+        long signature = 17;
+        for (Direction direction : Direction.values()) {
+            signature = signature * 31 + (currentRoom.getRoomInDirection(direction) != null ? 1 : 0);
+        }
+        for (InteractiveObject obj : currentRoom.getObjects()) {
+            signature = signature * 31 + obj.getType().ordinal();
+            signature = signature * 31 + Double.hashCode(obj.getX());
+            signature = signature * 31 + Double.hashCode(obj.getY());
+            signature = signature * 31 + (obj.isInteracted() ? 1 : 0);
+        }
+        return signature;
+    }
+
+    private double outputScale() {
+        if (canvas.getScene() == null || canvas.getScene().getWindow() == null) {
+            return 1.0;
+        }
+        return Math.max(1.0, canvas.getScene().getWindow().getOutputScaleX());
+    }
+
+    private int drawFloor(GraphicsContext g) {
+        int calls = 0;
         if (floorTile != null) {
             // Tile the floor with sprite
             double tileSize = 64; // Standard tile size
             for (double x = WALL_THICKNESS; x < ROOM_WIDTH - WALL_THICKNESS; x += tileSize) {
                 for (double y = WALL_THICKNESS; y < ROOM_HEIGHT - WALL_THICKNESS; y += tileSize) {
-                    gc.drawImage(floorTile, x, y, tileSize, tileSize);
+                    calls++;
+                    floorTile.draw(g, x, y, tileSize, tileSize);
                 }
             }
         } else {
             // Fallback: solid color floor
-            gc.setFill(Color.rgb(40, 40, 50));
-            gc.fillRect(WALL_THICKNESS, WALL_THICKNESS,
+            g.setFill(Color.rgb(40, 40, 50));
+            calls++;
+            g.fillRect(WALL_THICKNESS, WALL_THICKNESS,
                     ROOM_WIDTH - WALL_THICKNESS * 2,
                     ROOM_HEIGHT - WALL_THICKNESS * 2);
         }
+        return calls;
     }
 
-    private void drawWalls() {
+    private int drawWalls(GraphicsContext g) {
+        int calls = 0;
         if (wallTile != null) {
             // Tile the walls with sprite
             double tileSize = 64;
@@ -2331,111 +2672,130 @@ public class RoomExplorationController {
             // Top wall
             for (double x = 0; x < ROOM_WIDTH; x += tileSize) {
                 for (double y = 0; y < WALL_THICKNESS; y += tileSize) {
-                    gc.drawImage(wallTile, x, y, tileSize, tileSize);
+                    calls++;
+                    wallTile.draw(g, x, y, tileSize, tileSize);
                 }
             }
             // Bottom wall
             for (double x = 0; x < ROOM_WIDTH; x += tileSize) {
                 for (double y = ROOM_HEIGHT - WALL_THICKNESS; y < ROOM_HEIGHT; y += tileSize) {
-                    gc.drawImage(wallTile, x, y, tileSize, tileSize);
+                    calls++;
+                    wallTile.draw(g, x, y, tileSize, tileSize);
                 }
             }
             // Left wall
             for (double x = 0; x < WALL_THICKNESS; x += tileSize) {
                 for (double y = 0; y < ROOM_HEIGHT; y += tileSize) {
-                    gc.drawImage(wallTile, x, y, tileSize, tileSize);
+                    calls++;
+                    wallTile.draw(g, x, y, tileSize, tileSize);
                 }
             }
             // Right wall
             for (double x = ROOM_WIDTH - WALL_THICKNESS; x < ROOM_WIDTH; x += tileSize) {
                 for (double y = 0; y < ROOM_HEIGHT; y += tileSize) {
-                    gc.drawImage(wallTile, x, y, tileSize, tileSize);
+                    calls++;
+                    wallTile.draw(g, x, y, tileSize, tileSize);
                 }
             }
         } else {
             // Fallback: solid color walls
-            gc.setFill(Color.rgb(60, 60, 70));
+            g.setFill(Color.rgb(60, 60, 70));
 
             // Top wall
-            gc.fillRect(0, 0, ROOM_WIDTH, WALL_THICKNESS);
+            g.fillRect(0, 0, ROOM_WIDTH, WALL_THICKNESS);
             // Bottom wall
-            gc.fillRect(0, ROOM_HEIGHT - WALL_THICKNESS, ROOM_WIDTH, WALL_THICKNESS);
+            g.fillRect(0, ROOM_HEIGHT - WALL_THICKNESS, ROOM_WIDTH, WALL_THICKNESS);
             // Left wall
-            gc.fillRect(0, 0, WALL_THICKNESS, ROOM_HEIGHT);
+            g.fillRect(0, 0, WALL_THICKNESS, ROOM_HEIGHT);
             // Right wall
-            gc.fillRect(ROOM_WIDTH - WALL_THICKNESS, 0, WALL_THICKNESS, ROOM_HEIGHT);
+            g.fillRect(ROOM_WIDTH - WALL_THICKNESS, 0, WALL_THICKNESS, ROOM_HEIGHT);
+            calls += 4;
         }
+        return calls;
     }
 
-    private void drawDoors() {
+    private int drawDoors(GraphicsContext g) {
+        int calls = 0;
         if (doorTile != null) {
             // Draw doors with sprite
             // North door
             if (currentRoom.getRoomInDirection(Direction.NORTH) != null) {
-                gc.drawImage(doorTile, ROOM_WIDTH / 2 - DOOR_WIDTH / 2, 0, DOOR_WIDTH, WALL_THICKNESS);
+                calls++;
+                doorTile.draw(g, ROOM_WIDTH / 2 - DOOR_WIDTH / 2, 0, DOOR_WIDTH, WALL_THICKNESS);
             }
             // South door
             if (currentRoom.getRoomInDirection(Direction.SOUTH) != null) {
-                gc.drawImage(doorTile, ROOM_WIDTH / 2 - DOOR_WIDTH / 2, ROOM_HEIGHT - WALL_THICKNESS, DOOR_WIDTH, WALL_THICKNESS);
+                calls++;
+                doorTile.draw(g, ROOM_WIDTH / 2 - DOOR_WIDTH / 2, ROOM_HEIGHT - WALL_THICKNESS, DOOR_WIDTH, WALL_THICKNESS);
             }
             // West door (rotated)
             if (currentRoom.getRoomInDirection(Direction.WEST) != null) {
-                gc.save();
-                gc.translate(WALL_THICKNESS / 2, ROOM_HEIGHT / 2);
-                gc.rotate(90);
-                gc.drawImage(doorTile, -DOOR_WIDTH / 2, -WALL_THICKNESS / 2, DOOR_WIDTH, WALL_THICKNESS);
-                gc.restore();
+                g.save();
+                g.translate(WALL_THICKNESS / 2, ROOM_HEIGHT / 2);
+                g.rotate(90);
+                calls++;
+                doorTile.draw(g, -DOOR_WIDTH / 2, -WALL_THICKNESS / 2, DOOR_WIDTH, WALL_THICKNESS);
+                g.restore();
             }
             // East door (rotated)
             if (currentRoom.getRoomInDirection(Direction.EAST) != null) {
-                gc.save();
-                gc.translate(ROOM_WIDTH - WALL_THICKNESS / 2, ROOM_HEIGHT / 2);
-                gc.rotate(90);
-                gc.drawImage(doorTile, -DOOR_WIDTH / 2, -WALL_THICKNESS / 2, DOOR_WIDTH, WALL_THICKNESS);
-                gc.restore();
+                g.save();
+                g.translate(ROOM_WIDTH - WALL_THICKNESS / 2, ROOM_HEIGHT / 2);
+                g.rotate(90);
+                calls++;
+                doorTile.draw(g, -DOOR_WIDTH / 2, -WALL_THICKNESS / 2, DOOR_WIDTH, WALL_THICKNESS);
+                g.restore();
             }
         } else {
             // Fallback: solid color doors
-            gc.setFill(Color.rgb(80, 80, 90));
+            g.setFill(Color.rgb(80, 80, 90));
 
             // North door
             if (currentRoom.getRoomInDirection(Direction.NORTH) != null) {
-                gc.fillRect(ROOM_WIDTH / 2 - DOOR_WIDTH / 2, 0, DOOR_WIDTH, WALL_THICKNESS);
+                calls++;
+                g.fillRect(ROOM_WIDTH / 2 - DOOR_WIDTH / 2, 0, DOOR_WIDTH, WALL_THICKNESS);
             }
             // South door
             if (currentRoom.getRoomInDirection(Direction.SOUTH) != null) {
-                gc.fillRect(ROOM_WIDTH / 2 - DOOR_WIDTH / 2, ROOM_HEIGHT - WALL_THICKNESS, DOOR_WIDTH, WALL_THICKNESS);
+                calls++;
+                g.fillRect(ROOM_WIDTH / 2 - DOOR_WIDTH / 2, ROOM_HEIGHT - WALL_THICKNESS, DOOR_WIDTH, WALL_THICKNESS);
             }
             // West door
             if (currentRoom.getRoomInDirection(Direction.WEST) != null) {
-                gc.fillRect(0, ROOM_HEIGHT / 2 - DOOR_WIDTH / 2, WALL_THICKNESS, DOOR_WIDTH);
+                calls++;
+                g.fillRect(0, ROOM_HEIGHT / 2 - DOOR_WIDTH / 2, WALL_THICKNESS, DOOR_WIDTH);
             }
             // East door
             if (currentRoom.getRoomInDirection(Direction.EAST) != null) {
-                gc.fillRect(ROOM_WIDTH - WALL_THICKNESS, ROOM_HEIGHT / 2 - DOOR_WIDTH / 2, WALL_THICKNESS, DOOR_WIDTH);
+                calls++;
+                g.fillRect(ROOM_WIDTH - WALL_THICKNESS, ROOM_HEIGHT / 2 - DOOR_WIDTH / 2, WALL_THICKNESS, DOOR_WIDTH);
             }
         }
+        return calls;
     }
 
-    private void drawObjects() {
+    private int drawObjects(GraphicsContext g) {
+        int calls = 0;
         for (InteractiveObject obj : currentRoom.getObjects()) {
-            Image sprite = objectSprites.get(obj.getType());
+            SpriteAtlas.Region sprite = objectSprites.get(obj.getType());
 
             if (sprite != null) {
                 // Draw sprite
-                gc.drawImage(sprite, obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
+                calls++;
+                sprite.draw(g, obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
 
                 // Dim if already used
                 if (obj.isInteracted()) {
-                    gc.setFill(Color.color(0, 0, 0, 0.5));
-                    gc.fillRect(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
+                    g.setFill(Color.color(0, 0, 0, 0.5));
+                    calls++;
+                    g.fillRect(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
                 }
             } else {
                 // Fallback: colored rectangle with icon
                 if (obj.isInteracted()) {
-                    gc.setFill(Color.rgb(100, 100, 100));
+                    g.setFill(Color.rgb(100, 100, 100));
                 } else {
-                    gc.setFill(switch (obj.getType()) {
+                    g.setFill(switch (obj.getType()) {
                         case CHEST -> Color.rgb(218, 165, 32);
                         case ALTAR -> Color.rgb(138, 43, 226);
                         case FOUNTAIN -> Color.rgb(64, 224, 208);
@@ -2445,16 +2805,18 @@ public class RoomExplorationController {
                     });
                 }
 
-                gc.fillRect(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
+                g.fillRect(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
 
-                gc.setFill(Color.WHITE);
-                gc.setFont(new Font(24));
-                gc.setTextAlign(TextAlignment.CENTER);
-                gc.fillText(obj.getType().getIcon(),
+                g.setFill(Color.WHITE);
+                g.setFont(new Font(24));
+                g.setTextAlign(TextAlignment.CENTER);
+                g.fillText(obj.getType().getIcon(),
                         obj.getX() + obj.getWidth() / 2,
                         obj.getY() + obj.getHeight() / 2 + 8);
+                calls += 2;
             }
         }
+        return calls;
     }
 
     private void drawEnemy() {
@@ -2473,15 +2835,15 @@ public class RoomExplorationController {
         }
 
         // Draw all active enemies
-        double currentTime = System.currentTimeMillis() / 1000.0;
+        double currentTime = simulationTime;
 
         for (EnemySprite enemy : activeEnemies) {
             if (enemy.getState() == EnemySprite.EnemyState.DEFEATED) {
                 continue; // Don't draw defeated enemies
             }
 
-            double x = enemy.getX();
-            double y = enemy.getY();
+            double x = enemy.getRenderX(renderAlpha);
+            double y = enemy.getRenderY(renderAlpha);
 
             // Check if enemy is invulnerable
             boolean isInvulnerable = enemy.isInvulnerableToHazards(currentTime);
@@ -2527,7 +2889,7 @@ public class RoomExplorationController {
 
             if (enemySprite != null && enemy.getType() == EnemySprite.EnemyType.MELEE) {
                 // Draw enemy sprite (only for melee for now)
-                gc.drawImage(enemySprite, x, y, 32, 32);
+                enemySprite.draw(gc, x, y, 32, 32);
             } else {
                 // Draw colored circle with type-specific emoji
                 gc.setFill(enemyColor);
@@ -2565,7 +2927,7 @@ public class RoomExplorationController {
         // Legacy: draw old single enemy if using old system
         if (enemyAlive && activeEnemies.isEmpty()) {
             if (enemySprite != null) {
-                gc.drawImage(enemySprite, enemyX, enemyY, 32, 32);
+                enemySprite.draw(gc, enemyX, enemyY, 32, 32);
             } else {
                 gc.setFill(Color.rgb(200, 50, 50));
                 gc.fillOval(enemyX, enemyY, 32, 32);
@@ -2579,7 +2941,9 @@ public class RoomExplorationController {
 
     private void drawPlayer() {
         // Check if player is invulnerable
-        double currentTime = System.currentTimeMillis() / 1000.0;
+        double currentTime = simulationTime;
+        double px = player.getRenderX(renderAlpha);
+        double py = player.getRenderY(renderAlpha);
         boolean isInvulnerable = currentTime < playerHazardInvulnerabilityEndTime;
 
         // Flash effect during invulnerability (blink on/off every 0.1 seconds)
@@ -2590,25 +2954,25 @@ public class RoomExplorationController {
                 gc.save();
                 gc.setGlobalAlpha(0.5);
                 gc.setFill(Color.WHITE);
-                gc.fillOval(player.getX() - 2, player.getY() - 2, player.getWidth() + 4, player.getHeight() + 4);
+                gc.fillOval(px - 2, py - 2, player.getWidth() + 4, player.getHeight() + 4);
                 gc.restore();
             }
         }
 
-        Image sprite = currentPlayerAnimation.getCurrentFrame();
+        SpriteAtlas.Region sprite = currentPlayerAnimation.getCurrentRegion();
 
         if (sprite != null) {
             // Draw sprite
-            gc.drawImage(sprite, player.getX(), player.getY(), player.getWidth(), player.getHeight());
+            sprite.draw(gc, px, py, player.getWidth(), player.getHeight());
         } else {
             // Fallback: blue circle with emoji
             gc.setFill(Color.rgb(64, 156, 255));
-            gc.fillOval(player.getX(), player.getY(), player.getWidth(), player.getHeight());
+            gc.fillOval(px, py, player.getWidth(), player.getHeight());
 
             gc.setFill(Color.WHITE);
             gc.setFont(new Font(20));
             gc.setTextAlign(TextAlignment.CENTER);
-            gc.fillText("🧙", player.getX() + player.getWidth() / 2, player.getY() + player.getHeight() / 2 + 6);
+            gc.fillText("🧙", px + player.getWidth() / 2, py + player.getHeight() / 2 + 6);
         }
     }
 
@@ -2633,11 +2997,11 @@ public class RoomExplorationController {
             switch (hazard.getType()) {
                 case SPIKES -> {
                     // Draw spikes - dark gray rectangles with triangular spikes
-                    gc.setFill(Color.rgb(60, 60, 60));
+                    gc.setFill(SPIKE_BASE);
                     gc.fillRect(x, y, width, height);
 
                     // Draw spike pattern
-                    gc.setFill(Color.rgb(100, 100, 100));
+                    gc.setFill(SPIKE_TIP);
                     int spikeCount = (int) (width / 10);
                     for (int i = 0; i < spikeCount; i++) {
                         double spikeX = x + (i * width / spikeCount);
@@ -2645,15 +3009,17 @@ public class RoomExplorationController {
                         double spikeHeight = 8;
 
                         // Triangle spike
-                        gc.fillPolygon(
-                            new double[]{spikeX, spikeX + spikeWidth / 2, spikeX + spikeWidth},
-                            new double[]{y + height, y + height - spikeHeight, y + height},
-                            3
-                        );
+                        spikeXs[0] = spikeX;
+                        spikeXs[1] = spikeX + spikeWidth / 2;
+                        spikeXs[2] = spikeX + spikeWidth;
+                        spikeYs[0] = y + height;
+                        spikeYs[1] = y + height - spikeHeight;
+                        spikeYs[2] = y + height;
+                        gc.fillPolygon(spikeXs, spikeYs, 3);
                     }
 
                     // Border
-                    gc.setStroke(Color.rgb(80, 80, 80));
+                    gc.setStroke(SPIKE_BORDER);
                     gc.setLineWidth(2);
                     gc.strokeRect(x, y, width, height);
                 }
@@ -2663,25 +3029,19 @@ public class RoomExplorationController {
                     double glowIntensity = 0.5 + pulseIntensity * 0.5;
 
                     // Outer glow (pulsing)
-                    gc.setFill(Color.rgb(255, 100, 0, glowIntensity * 0.3));
+                    gc.setFill(FIRE_OUTER);
+                    gc.setGlobalAlpha(glowIntensity * 0.3);
                     gc.fillOval(x - width * 0.2, y - height * 0.2, width * 1.4, height * 1.4);
 
                     // Main fire circle
-                    gc.setFill(Color.rgb(255, 100, 0, 0.8));
+                    gc.setGlobalAlpha(0.8);
                     gc.fillOval(x, y, width, height);
 
                     // Inner fire (brighter, pulsing)
-                    gc.setFill(Color.rgb(255, 200, 0, glowIntensity));
+                    gc.setFill(FIRE_INNER);
+                    gc.setGlobalAlpha(glowIntensity);
                     gc.fillOval(x + width * 0.2, y + height * 0.2, width * 0.6, height * 0.6);
-
-                    // Flame particles (random flickering)
-                    gc.setFill(Color.rgb(255, 150, 0, pulseIntensity * 0.6));
-                    for (int i = 0; i < 5; i++) {
-                        double particleX = x + width * 0.3 + Math.random() * width * 0.4;
-                        double particleY = y + height * 0.2 + Math.random() * height * 0.3;
-                        double particleSize = 4 + Math.random() * 6;
-                        gc.fillOval(particleX, particleY, particleSize, particleSize);
-                    }
+                    gc.setGlobalAlpha(1.0);
                 }
 
                 case POISON_GAS -> {
@@ -2689,60 +3049,71 @@ public class RoomExplorationController {
                     double opacity = 0.3 + pulseIntensity * 0.2;
 
                     // Draw multiple overlapping circles for cloud effect
-                    gc.setFill(Color.rgb(100, 200, 50, opacity * 0.4));
+                    gc.setFill(POISON_OUTER);
+                    gc.setGlobalAlpha(opacity * 0.4);
                     gc.fillOval(x - width * 0.1, y - height * 0.1, width * 1.2, height * 1.2);
 
-                    gc.setFill(Color.rgb(80, 180, 40, opacity * 0.5));
+                    gc.setFill(POISON_MIDDLE);
+                    gc.setGlobalAlpha(opacity * 0.5);
                     gc.fillOval(x, y, width, height);
 
-                    gc.setFill(Color.rgb(120, 220, 60, opacity * 0.6));
+                    gc.setFill(POISON_INNER);
+                    gc.setGlobalAlpha(opacity * 0.6);
                     gc.fillOval(x + width * 0.15, y + height * 0.15, width * 0.7, height * 0.7);
 
-                    // Poison particles drifting
-                    gc.setFill(Color.rgb(100, 200, 50, opacity * 0.8));
-                    for (int i = 0; i < 8; i++) {
-                        double particleX = x + Math.random() * width;
-                        double particleY = y + Math.random() * height;
-                        double particleSize = 3 + Math.random() * 5;
-                        gc.fillOval(particleX, particleY, particleSize, particleSize);
-                    }
-
                     // Warning text for poison
-                    gc.setFill(Color.rgb(120, 220, 60, opacity * 0.9));
-                    gc.setFont(new javafx.scene.text.Font("Arial", 16));
+                    gc.setGlobalAlpha(opacity * 0.9);
+                    gc.setFont(HAZARD_ICON_FONT);
                     gc.fillText("☠", x + width / 2 - 8, y + height / 2 + 6);
+                    gc.setGlobalAlpha(1.0);
                 }
             }
         }
     }
 
     private void drawProjectiles() {
-        for (Projectile projectile : activeProjectiles) {
+        for (int i = 0; i < projectiles.size(); i++) {
+            int slot = projectiles.slotAt(i);
+
             // Draw projectile as a glowing circle
-            double x = projectile.getX();
-            double y = projectile.getY();
-            double radius = projectile.getRadius();
+            double x = projectiles.getRenderX(slot, renderAlpha);
+            double y = projectiles.getRenderY(slot, renderAlpha);
+            double radius = projectiles.getRadius(slot);
 
             // Outer glow
-            gc.setFill(Color.rgb(255, 100, 100, 0.3));
+            gc.setFill(PROJECTILE_GLOW);
             gc.fillOval(x - radius * 2, y - radius * 2, radius * 4, radius * 4);
 
             // Inner projectile
-            gc.setFill(Color.rgb(255, 50, 50));
+            gc.setFill(PROJECTILE_CORE);
             gc.fillOval(x - radius, y - radius, radius * 2, radius * 2);
 
             // Highlight
-            gc.setFill(Color.rgb(255, 200, 200, 0.8));
+            gc.setFill(PROJECTILE_HIGHLIGHT);
             gc.fillOval(x - radius * 0.5, y - radius * 0.5, radius, radius);
         }
     }
 
+    /**
+     * Draw pooled particles, fading out over their lifetime
+     */
+    private void drawParticles() {
+        for (int i = 0; i < particles.size(); i++) {
+            int slot = particles.slotAt(i);
+            double size = particles.getSize(slot);
+            gc.setFill(PARTICLE_COLORS[particles.getColor(slot)]);
+            gc.setGlobalAlpha(0.8 * particles.getFade(slot));
+            gc.fillOval(particles.getX(slot) - size / 2, particles.getY(slot) - size / 2, size, size);
+        }
+        gc.setGlobalAlpha(1.0);
+    }
+
     /**
      * Draw push wave visual effect
      */
     private void drawPushWave() {
-        double playerCenterX = player.getCenterX();
-        double playerCenterY = player.getCenterY();
+        double playerCenterX = player.getRenderX(renderAlpha) + player.getWidth() / 2;
+        double playerCenterY = player.getRenderY(renderAlpha) + player.getHeight() / 2;
 
         // Calculate current wave length based on progress
         double currentLength = PUSH_WAVE_LENGTH * pushWaveProgress;
@@ -2754,10 +3125,8 @@ public class RoomExplorationController {
         // Draw the push wave as a cone/arc
         gc.save();
 
-        // Set color with opacity (orange/yellow for push effect)
-        gc.setStroke(Color.rgb(255, 165, 0, opacity * 0.8));
-        gc.setFill(Color.rgb(255, 200, 0, opacity * 0.3));
-        gc.setLineWidth(3);
+        // Orange/yellow for push effect; opacity goes through the global alpha
+        gc.setStroke(PUSH_WAVE_STROKE);
 
         // Draw multiple wave rings for better visual effect
         int waveRings = 3;
@@ -2769,7 +3138,7 @@ public class RoomExplorationController {
             double ringLength = PUSH_WAVE_LENGTH * ringProgress;
             double ringOpacity = (1.0 - ringProgress) * opacity;
 
-            gc.setStroke(Color.rgb(255, 165, 0, ringOpacity * 0.6));
+            gc.setGlobalAlpha(ringOpacity * 0.6);
             gc.setLineWidth(4 - i);
 
             // Draw arc representing the push cone
@@ -2804,37 +3173,61 @@ public class RoomExplorationController {
                 Math.toDegrees(coneHalfAngle * 2),
                 javafx.scene.shape.ArcType.OPEN
             );
-
-            // Add some particle effects
-            if (i == 0) {
-                int particleCount = 5;
-                for (int p = 0; p < particleCount; p++) {
-                    double particleAngle = pushAngle + (Math.random() - 0.5) * coneHalfAngle * 2;
-                    double particleDistance = ringLength * (0.8 + Math.random() * 0.4);
-                    double px = playerCenterX + Math.cos(particleAngle) * particleDistance;
-                    double py = playerCenterY + Math.sin(particleAngle) * particleDistance;
-
-                    gc.setFill(Color.rgb(255, 220, 100, ringOpacity * 0.8));
-                    gc.fillOval(px - 3, py - 3, 6, 6);
-                }
-            }
         }
 
         gc.restore();
     }
 
     /**
-     * Draw minimap showing dungeon layout
+     * Draw minimap showing dungeon layout: the cached room grid plus the player marker
      */
     private void drawMinimap() {
+        double scale = outputScale();
+        if (minimapDirty || minimapImage == null || scale != minimapScale) {
+            rebuildMinimap(scale);
+            minimapDirty = false;
+        }
+
+        minimapGC.clearRect(0, 0, MINIMAP_SIZE, MINIMAP_SIZE);
+        minimapGC.drawImage(minimapImage, 0, 0, MINIMAP_SIZE, MINIMAP_SIZE);
+
+        // Player position inside the current room's cell
+        double cellSize = minimapRoomSize - 2;
+        double playerCenterX = player.getRenderX(renderAlpha) + player.getWidth() / 2;
+        double playerCenterY = player.getRenderY(renderAlpha) + player.getHeight() / 2;
+        double markerX = minimapCurrentRoomX + playerCenterX / ROOM_WIDTH * cellSize;
+        double markerY = minimapCurrentRoomY + playerCenterY / ROOM_HEIGHT * cellSize;
+        minimapGC.setFill(MINIMAP_PLAYER);
+        minimapGC.fillOval(markerX - 2, markerY - 2, 4, 4);
+    }
+
+    /**
+     * Paint the room grid into an off-screen canvas and snapshot it (same
+     * approach as the static room layer)
+     */
+    private void rebuildMinimap(double scale) {
+        Canvas minimap = new Canvas(MINIMAP_SIZE, MINIMAP_SIZE);
+        paintMinimap(minimap.getGraphicsContext2D());
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+
+        boolean reuse = minimapImage != null && scale == minimapScale;
+        minimapImage = minimap.snapshot(params, reuse ? minimapImage : null);
+        minimapScale = scale;
+        minimapRebuilds++;
+    }
+
+    private void paintMinimap(GraphicsContext g) {
         // Clear minimap
-        minimapGC.setFill(Color.color(20.0/255, 20.0/255, 30.0/255, 0.9));
-        minimapGC.fillRect(0, 0, MINIMAP_SIZE, MINIMAP_SIZE);
+        g.setFill(Color.color(20.0/255, 20.0/255, 30.0/255, 0.9));
+        g.fillRect(0, 0, MINIMAP_SIZE, MINIMAP_SIZE);
 
         // Draw border
-        minimapGC.setStroke(Color.rgb(233, 69, 96));
-        minimapGC.setLineWidth(2);
-        minimapGC.strokeRect(1, 1, MINIMAP_SIZE - 2, MINIMAP_SIZE - 2);
+        g.setStroke(Color.rgb(233, 69, 96));
+        g.setLineWidth(2);
+        g.strokeRect(1, 1, MINIMAP_SIZE - 2, MINIMAP_SIZE - 2);
 
         // Get dungeon map
         DungeonMap map = dungeonRun.getMap();
@@ -2883,6 +3276,11 @@ public class RoomExplorationController {
 
                     double roomX = offsetX + transformedX * roomSize;
                     double roomY = offsetY + transformedY * roomSize;
+                    if (room == currentRoom) {
+                        minimapCurrentRoomX = roomX;
+                        minimapCurrentRoomY = roomY;
+                        minimapRoomSize = roomSize;
+                    }
 
                     // Determine room color based on type and state
                     Color roomColor;
@@ -2895,48 +3293,48 @@ public class RoomExplorationController {
                     }
 
                     // Draw room rectangle
-                    minimapGC.setFill(roomColor);
-                    minimapGC.fillRect(roomX, roomY, roomSize - 2, roomSize - 2);
+                    g.setFill(roomColor);
+                    g.fillRect(roomX, roomY, roomSize - 2, roomSize - 2);
 
                     // Draw room border
-                    minimapGC.setStroke(Color.rgb(150, 150, 160));
-                    minimapGC.setLineWidth(1);
-                    minimapGC.strokeRect(roomX, roomY, roomSize - 2, roomSize - 2);
+                    g.setStroke(Color.rgb(150, 150, 160));
+                    g.setLineWidth(1);
+                    g.strokeRect(roomX, roomY, roomSize - 2, roomSize - 2);
 
                     // Draw room type icon
-                    drawRoomIcon(room, roomX, roomY, roomSize);
+                    drawRoomIcon(g, room, roomX, roomY, roomSize);
 
                     // Draw connections (doors) - transformed to match 90° clockwise rotation
-                    minimapGC.setStroke(Color.rgb(100, 100, 110));
-                    minimapGC.setLineWidth(2);
+                    g.setStroke(Color.rgb(100, 100, 110));
+                    g.setLineWidth(2);
 
                     // After 90° clockwise rotation:
                     // NORTH -> EAST, SOUTH -> WEST, WEST -> NORTH, EAST -> SOUTH
                     if (room.getRoomInDirection(Direction.NORTH) != null) {
                         // NORTH becomes EAST
-                        minimapGC.strokeLine(roomX + roomSize - 2, roomY + roomSize/2 - 1, roomX + roomSize, roomY + roomSize/2 - 1);
+                        g.strokeLine(roomX + roomSize - 2, roomY + roomSize/2 - 1, roomX + roomSize, roomY + roomSize/2 - 1);
                     }
                     if (room.getRoomInDirection(Direction.SOUTH) != null) {
                         // SOUTH becomes WEST
-                        minimapGC.strokeLine(roomX, roomY + roomSize/2 - 1, roomX - 2, roomY + roomSize/2 - 1);
+                        g.strokeLine(roomX, roomY + roomSize/2 - 1, roomX - 2, roomY + roomSize/2 - 1);
                     }
                     if (room.getRoomInDirection(Direction.WEST) != null) {
                         // WEST becomes NORTH
-                        minimapGC.strokeLine(roomX + roomSize/2 - 1, roomY, roomX + roomSize/2 - 1, roomY - 2);
+                        g.strokeLine(roomX + roomSize/2 - 1, roomY, roomX + roomSize/2 - 1, roomY - 2);
                     }
                     if (room.getRoomInDirection(Direction.EAST) != null) {
                         // EAST becomes SOUTH
-                        minimapGC.strokeLine(roomX + roomSize/2 - 1, roomY + roomSize - 2, roomX + roomSize/2 - 1, roomY + roomSize);
+                        g.strokeLine(roomX + roomSize/2 - 1, roomY + roomSize - 2, roomX + roomSize/2 - 1, roomY + roomSize);
                     }
                 }
             }
         }
 
         // Draw title
-        minimapGC.setFill(Color.WHITE);
-        minimapGC.setFont(new Font(10));
-        minimapGC.setTextAlign(TextAlignment.CENTER);
-        minimapGC.fillText("MAP (M to toggle)", MINIMAP_SIZE / 2, 12);
+        g.setFill(Color.WHITE);
+        g.setFont(new Font(10));
+        g.setTextAlign(TextAlignment.CENTER);
+        g.fillText("MAP (M to toggle)", MINIMAP_SIZE / 2, 12);
     }
 
     /**
@@ -2958,10 +3356,10 @@ public class RoomExplorationController {
     /**
      * Draw icon representing room type
      */
-    private void drawRoomIcon(Room room, double x, double y, double size) {
-        minimapGC.setFill(Color.WHITE);
-        minimapGC.setFont(new Font(size * 0.6));
-        minimapGC.setTextAlign(TextAlignment.CENTER);
+    private void drawRoomIcon(GraphicsContext g, Room room, double x, double y, double size) {
+        g.setFill(Color.WHITE);
+        g.setFont(new Font(size * 0.6));
+        g.setTextAlign(TextAlignment.CENTER);
 
         String icon = switch (room.getType()) {
             case START -> "🏠";
@@ -2975,7 +3373,7 @@ public class RoomExplorationController {
         };
 
         if (!icon.isEmpty()) {
-            minimapGC.fillText(icon, x + size/2 - 1, y + size * 0.7);
+            g.fillText(icon, x + size/2 - 1, y + size * 0.7);
         }
     }
 
@@ -2994,6 +3392,7 @@ public class RoomExplorationController {
                 adjacent.markDiscovered();
             }
         }
+        minimapDirty = true;
     }
 
     /**
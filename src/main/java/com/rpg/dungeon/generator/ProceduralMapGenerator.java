@@ -1,6 +1,7 @@
 package com.rpg.dungeon.generator;
 
 import com.rpg.dungeon.model.*;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.RandomUtils;
 
 import java.util.*;
@@ -108,7 +109,7 @@ public class ProceduralMapGenerator {
 
             // Încearcă să adaugi camere în direcții random
             List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.values()));
-            Collections.shuffle(directions);
+            RandomUtils.shuffle(GameRandom.map(), directions);
 
             boolean addedRoom = false;
             for (Direction dir : directions) {
@@ -142,7 +143,7 @@ public class ProceduralMapGenerator {
                 addedRoom = true;
 
                 // Branch: adaugă un path secundar
-                if (branchCount < MAX_BRANCHES && RandomUtils.chancePercent(BRANCH_CHANCE * 100)) {
+                if (branchCount < MAX_BRANCHES && RandomUtils.chancePercent(GameRandom.map(), BRANCH_CHANCE * 100)) {
                     paths.add(new WalkPath(newX, newY, current.depth + 1));
                     branchCount++;
                 }
@@ -168,11 +169,11 @@ public class ProceduralMapGenerator {
      */
     private boolean addRandomRoom(DungeonMap map, List<Room> rooms, Set<String> visited, int gridSize) {
         // Încearcă să găsești o poziție validă lângă camerele existente
-        Collections.shuffle(rooms);
+        RandomUtils.shuffle(GameRandom.map(), rooms);
 
         for (Room room : rooms) {
             List<Direction> directions = new ArrayList<>(Arrays.asList(Direction.values()));
-            Collections.shuffle(directions);
+            RandomUtils.shuffle(GameRandom.map(), directions);
 
             for (Direction dir : directions) {
                 int newX = room.getX() + dir.getDx();
@@ -231,7 +232,7 @@ public class ProceduralMapGenerator {
         for (int i = 0; i < shrineCount; i++) availableTypes.add(RoomType.SHRINE);
         for (int i = 0; i < shopCount; i++) availableTypes.add(RoomType.SHOP);
 
-        Collections.shuffle(availableTypes);
+        RandomUtils.shuffle(GameRandom.map(), availableTypes);
 
         // Atribuie tipuri camerelor (skip start și boss)
         int typeIndex = 0;
@@ -1,5 +1,9 @@
 package com.rpg.dungeon.model;
 
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.*;
 
@@ -259,6 +263,13 @@ public class DungeonProgression implements Serializable {
         this.dungeonTokens += amount;
     }
 
+    /**
+     * Setează direct numărul de tokens (reluarea jurnalului de auto-save)
+     */
+    public void setDungeonTokens(int tokens) {
+        this.dungeonTokens = tokens;
+    }
+
     public int getTotalRuns() {
         return totalRuns;
     }
@@ -304,6 +315,50 @@ public class DungeonProgression implements Serializable {
         this.selectedStartingItems = new ArrayList<>(items);
     }
 
+    /**
+     * Scrie progresul în formatul binar de salvare
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeJournaledVarInt(dungeonTokens);
+        out.writeVarInt(totalRuns);
+        out.writeVarInt(successfulRuns);
+        out.writeVarInt(totalDeaths);
+        out.writeVarInt(deepestDepthReached);
+        out.writeVarInt(totalEnemiesKilled);
+        out.writeVarInt(totalBossesDefeated);
+        out.writeVarInt(totalItemsCollected);
+        out.writeVarInt(maxHpBonusLevel);
+        out.writeVarInt(startingGoldBonusLevel);
+        out.writeVarInt(treasureQualityLevel);
+        out.writeVarInt(extraStartingItemSlots);
+        out.writeStrings(unlockedRunItems);
+        out.writeStrings(startingLoadouts);
+        out.writeStrings(selectedStartingItems);
+    }
+
+    /**
+     * Citește progresul scris de {@link #writeBinary}
+     */
+    public static DungeonProgression readBinary(BinarySaveReader in) throws IOException {
+        DungeonProgression progression = new DungeonProgression();
+        progression.dungeonTokens = in.readVarInt();
+        progression.totalRuns = in.readVarInt();
+        progression.successfulRuns = in.readVarInt();
+        progression.totalDeaths = in.readVarInt();
+        progression.deepestDepthReached = in.readVarInt();
+        progression.totalEnemiesKilled = in.readVarInt();
+        progression.totalBossesDefeated = in.readVarInt();
+        progression.totalItemsCollected = in.readVarInt();
+        progression.maxHpBonusLevel = in.readVarInt();
+        progression.startingGoldBonusLevel = in.readVarInt();
+        progression.treasureQualityLevel = in.readVarInt();
+        progression.extraStartingItemSlots = in.readVarInt();
+        progression.unlockedRunItems = in.readStrings(HashSet::new);
+        progression.startingLoadouts = in.readStrings(ArrayList::new);
+        progression.selectedStartingItems = in.readStrings(ArrayList::new);
+        return progression;
+    }
+
     /**
      * Types of permanent upgrades
      */
@@ -1,6 +1,7 @@
 package com.rpg.dungeon.model;
 
 import com.rpg.model.characters.Erou;
+import com.rpg.utils.GameRandom;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -20,6 +21,8 @@ public class DungeonRun implements Serializable {
     private long startTime;
     private boolean bossDefeated;
     private boolean isActive;
+    // Seed-ul din care se derivă random-ul fiecărui etaj (GameRandom)
+    private long seed;
 
     // Progression tracking (persists across floor transitions)
     private int enemiesKilled;
@@ -34,6 +37,11 @@ public class DungeonRun implements Serializable {
     private int temporaryShaorma;
 
     public DungeonRun(DungeonMap map, Erou hero) {
+        this(map, hero, GameRandom.newRunSeed());
+    }
+
+    public DungeonRun(DungeonMap map, Erou hero, long seed) {
+        this.seed = seed;
         this.map = map;
         this.hero = hero;
         this.activeRunItems = new ArrayList<>();
@@ -121,6 +129,7 @@ public class DungeonRun implements Serializable {
     // Getters
     public DungeonMap getMap() { return map; }
     public Erou getHero() { return hero; }
+    public long getSeed() { return seed; }
     public List<RunItem> getActiveRunItems() { return new ArrayList<>(activeRunItems); }
     public int getRoomsCleared() { return roomsCleared; }
     public boolean isBossDefeated() { return bossDefeated; }
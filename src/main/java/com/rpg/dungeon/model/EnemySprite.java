@@ -13,6 +13,8 @@ public class EnemySprite implements Serializable {
     private Inamic enemy; // The actual enemy data
     private double x; // Position in pixels
     private double y;
+    private transient double prevX; // Position at the previous tick (render interpolation)
+    private transient double prevY;
     private double width = 32;
     private double height = 32;
 
@@ -21,10 +23,10 @@ public class EnemySprite implements Serializable {
     private EnemyType type = EnemyType.MELEE; // Enemy behavior type
     private double battleStartX = -1; // Position when battle started (for flee mechanics)
     private double battleStartY = -1;
-    private long chaseResumeTime = 0; // Timestamp when enemy can resume chasing after flee
+    private long chaseResumeTime = 0; // Simulation time (ms) when enemy can resume chasing after flee
 
     // Movement
-    private double moveSpeed = 1.5; // Pixels per frame when chasing
+    private double moveSpeed = 1.5; // Pixels per simulation tick (60 Hz) when chasing
 
     // Type-specific behavior timers
     private double actionCooldown = 0; // Cooldown for special abilities (ranged attack, charge, etc.)
@@ -42,8 +44,24 @@ public class EnemySprite implements Serializable {
         this.enemy = enemy;
         this.x = x;
         this.y = y;
+        savePreviousPosition();
     }
 
+    /**
+     * Remember the current position as the start of the next simulation tick
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    /**
+     * Position between the previous and the current tick, for rendering
+     * (alpha 0 = previous tick, 1 = current tick)
+     */
+    public double getRenderX(double alpha) { return prevX + (x - prevX) * alpha; }
+    public double getRenderY(double alpha) { return prevY + (y - prevY) * alpha; }
+
     /**
      * Check if player is in vision range
      */
@@ -108,17 +126,17 @@ public class EnemySprite implements Serializable {
     /**
      * Set chase cooldown after player flees
      */
-    public void setChaseCooldown(long milliseconds) {
-        this.chaseResumeTime = System.currentTimeMillis() + milliseconds;
+    public void setChaseCooldown(long milliseconds, double currentTime) {
+        this.chaseResumeTime = (long) (currentTime * 1000) + milliseconds;
         this.state = EnemyState.COOLDOWN;
     }
 
     /**
      * Check if chase cooldown has expired
      */
-    public boolean canChaseAgain() {
+    public boolean canChaseAgain(double currentTime) {
         if (state == EnemyState.COOLDOWN) {
-            if (System.currentTimeMillis() >= chaseResumeTime) {
+            if (currentTime * 1000 >= chaseResumeTime) {
                 state = EnemyState.IDLE;
                 return true;
             }
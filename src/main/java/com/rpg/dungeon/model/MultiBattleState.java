@@ -1,11 +1,16 @@
 package com.rpg.dungeon.model;
 
 import com.rpg.model.characters.Inamic;
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 /**
@@ -202,6 +207,100 @@ public class MultiBattleState implements Serializable {
     public boolean isBattleActive() { return battleActive; }
     public void setBattleActive(boolean active) { this.battleActive = active; }
 
+    /**
+     * Write the battle state in the binary format (used by battle recordings).
+     * Enemies go in a table first, then slots, queue and defeated list refer to
+     * them by index, so an enemy referenced twice stays a single instance.
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        Map<Inamic, Integer> enemyIds = new IdentityHashMap<>();
+        List<Inamic> enemyTable = new ArrayList<>();
+        for (BattleSlot slot : slots) registerEnemy(slot.getEnemy(), enemyIds, enemyTable);
+        for (ReinforcementEntry entry : reinforcementQueue) registerEnemy(entry.getEnemy(), enemyIds, enemyTable);
+        for (Inamic enemy : defeatedEnemies) registerEnemy(enemy, enemyIds, enemyTable);
+
+        out.writeVarInt(enemyTable.size());
+        for (Inamic enemy : enemyTable) {
+            enemy.writeBinary(out);
+        }
+
+        out.writeVarInt(slots.length);
+        for (BattleSlot slot : slots) {
+            out.writeVarInt(entryId(slot.getEnemy(), enemyIds));
+            out.writeBoolean(slot.isActive());
+        }
+        out.writeVarInt(reinforcementQueue.size());
+        for (ReinforcementEntry entry : reinforcementQueue) {
+            out.writeVarInt(entryId(entry.getEnemy(), enemyIds));
+            out.writeVarInt(entry.getJoinTurn());
+            out.writeVarInt(entry.getDistanceZone());
+        }
+        out.writeVarInt(defeatedEnemies.size());
+        for (Inamic enemy : defeatedEnemies) {
+            out.writeVarInt(entryId(enemy, enemyIds));
+        }
+
+        out.writeVarInt(currentTurn);
+        out.writeBoolean(battleActive);
+    }
+
+    /**
+     * Read a battle state written by {@link #writeBinary}
+     */
+    public static MultiBattleState readBinary(BinarySaveReader in) throws IOException {
+        MultiBattleState state = new MultiBattleState();
+
+        int enemyCount = in.readVarInt();
+        List<Inamic> enemyTable = new ArrayList<>(enemyCount);
+        for (int i = 0; i < enemyCount; i++) {
+            enemyTable.add(Inamic.readBinary(in));
+        }
+
+        int slotCount = in.readVarInt();
+        for (int i = 0; i < slotCount; i++) {
+            Inamic enemy = enemyAt(enemyTable, in.readVarInt());
+            boolean active = in.readBoolean();
+            if (i < MAX_ACTIVE_ENEMIES) {
+                state.slots[i].setEnemy(enemy);
+                state.slots[i].setActive(active);
+            }
+        }
+        int queued = in.readVarInt();
+        for (int i = 0; i < queued; i++) {
+            Inamic enemy = enemyAt(enemyTable, in.readVarInt());
+            state.reinforcementQueue.add(new ReinforcementEntry(enemy, in.readVarInt(), in.readVarInt()));
+        }
+        int defeated = in.readVarInt();
+        for (int i = 0; i < defeated; i++) {
+            state.defeatedEnemies.add(enemyAt(enemyTable, in.readVarInt()));
+        }
+
+        state.currentTurn = in.readVarInt();
+        state.battleActive = in.readBoolean();
+        return state;
+    }
+
+    private static void registerEnemy(Inamic enemy, Map<Inamic, Integer> ids, List<Inamic> table) {
+        if (enemy != null && !ids.containsKey(enemy)) {
+            ids.put(enemy, table.size());
+            table.add(enemy);
+        }
+    }
+
+    private static int entryId(Inamic enemy, Map<Inamic, Integer> ids) {
+        return enemy != null ? ids.get(enemy) : -1;
+    }
+
+    private static Inamic enemyAt(List<Inamic> table, int id) throws IOException {
+        if (id == -1) {
+            return null;
+        }
+        if (id < 0 || id >= table.size()) {
+            throw new IOException("Invalid enemy reference in battle state: " + id);
+        }
+        return table.get(id);
+    }
+
     /**
      * Represents a single enemy slot in battle
      */
@@ -0,0 +1,300 @@
+package com.rpg.dungeon.model;
+
+import java.util.Arrays;
+
+/**
+ * Navigation grid for a room plus a flow field toward one target (the player).
+ *
+ * A cell is blocked when an enemy-sized box centered on it would touch an active
+ * hazard, an unused object or a wall, so a free cell is always safe to stand on.
+ * {@link #setTarget} runs one Dijkstra pass from the target's cell over the free
+ * cells, but only when the target moved to another cell or the obstacles changed;
+ * every enemy then just reads the neighbouring cell with the smallest distance.
+ * Blocked cells also get an escape field pointing to the nearest free cell, used by
+ * enemies that were pushed into a hazard.
+ */
+public final class NavigationField {
+
+    private static final float UNREACHABLE = Float.POSITIVE_INFINITY;
+    private static final float DIAGONAL_COST = (float) Math.sqrt(2);
+    private static final int[] NEIGHBOUR_DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_DY = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final double agentWidth;
+    private final double agentHeight;
+
+    private final boolean[] blocked;
+    private final float[] distance;
+    private final int[] escapeNext;
+    private final int[] queue;
+    private long[] heap = new long[64];
+    private int heapSize;
+
+    private int targetCell = -1;
+    private boolean obstaclesChanged = true;
+    private int refreshCount;
+    private long lastRefreshNanos;
+
+    public NavigationField(double width, double height, double cellSize, double agentWidth, double agentHeight) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.agentWidth = agentWidth;
+        this.agentHeight = agentHeight;
+
+        int cells = columns * rows;
+        this.blocked = new boolean[cells];
+        this.distance = new float[cells];
+        this.escapeNext = new int[cells];
+        this.queue = new int[cells];
+        Arrays.fill(distance, UNREACHABLE);
+    }
+
+    /**
+     * Re-mark blocked cells from the room's hazards and objects. The walkable area
+     * is [minX, maxX] x [minY, maxY]; cells where the agent wouldn't fit inside it
+     * are blocked too.
+     */
+    public void rebuildObstacles(RoomSpatialIndex index, double minX, double minY, double maxX, double maxY) {
+        double halfWidth = agentWidth / 2;
+        double halfHeight = agentHeight / 2;
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                double x = (column + 0.5) * cellSize - halfWidth;
+                double y = (row + 0.5) * cellSize - halfHeight;
+                blocked[row * columns + column] = x < minX || y < minY
+                        || x + agentWidth > maxX || y + agentHeight > maxY
+                        || index.getHazards().anyOverlapping(x, y, agentWidth, agentHeight, Hazard::isActive)
+                        || index.getObjects().anyOverlapping(x, y, agentWidth, agentHeight, object -> !object.isInteracted());
+            }
+        }
+
+        buildEscapeField();
+        obstaclesChanged = true;
+    }
+
+    /**
+     * Point the flow field at (x, y). Recomputes only if the target changed cell
+     * or the obstacles were rebuilt since the last call.
+     *
+     * @return true if the field was recomputed
+     */
+    public boolean setTarget(double x, double y) {
+        int cell = cellAt(x, y);
+        if (cell == targetCell && !obstaclesChanged) {
+            return false;
+        }
+        targetCell = cell;
+        obstaclesChanged = false;
+
+        long start = System.nanoTime();
+        computeDistances();
+        lastRefreshNanos = System.nanoTime() - start;
+        refreshCount++;
+        return true;
+    }
+
+    /**
+     * Unit direction to walk from (x, y) along the flow field, or null if the
+     * target can't be reached from here. Inside the target's cell the caller
+     * should head straight for the target.
+     */
+    public double[] directionFrom(double x, double y) {
+        int cell = cellAt(x, y);
+        int column = cell % columns;
+        int row = cell / columns;
+
+        int best = -1;
+        float bestDistance = blocked[cell] ? UNREACHABLE : distance[cell];
+        for (int i = 0; i < NEIGHBOUR_DX.length; i++) {
+            int neighbour = neighbour(column, row, i);
+            if (neighbour < 0 || blocked[neighbour]) {
+                continue;
+            }
+            if (i >= 4 && cutsCorner(column, row, i)) {
+                continue;
+            }
+            if (distance[neighbour] < bestDistance) {
+                bestDistance = distance[neighbour];
+                best = neighbour;
+            }
+        }
+
+        if (best < 0) {
+            return null;
+        }
+        return directionToCell(x, y, best);
+    }
+
+    /**
+     * Unit direction from (x, y) toward the nearest free cell, or null if (x, y)
+     * is already in a free cell (or no free cell exists)
+     */
+    public double[] escapeDirectionFrom(double x, double y) {
+        int cell = cellAt(x, y);
+        if (!blocked[cell] || escapeNext[cell] < 0) {
+            return null;
+        }
+        return directionToCell(x, y, escapeNext[cell]);
+    }
+
+    public boolean isInTargetCell(double x, double y) {
+        return cellAt(x, y) == targetCell;
+    }
+
+    public boolean isBlocked(double x, double y) {
+        return blocked[cellAt(x, y)];
+    }
+
+    /**
+     * Number of flow field recomputations so far
+     */
+    public int getRefreshCount() { return refreshCount; }
+
+    public long getLastRefreshNanos() { return lastRefreshNanos; }
+
+    public int getCellCount() { return blocked.length; }
+
+    private void computeDistances() {
+        Arrays.fill(distance, UNREACHABLE);
+        heapSize = 0;
+
+        // The target's own cell is the source even if blocked (player standing next to a chest)
+        distance[targetCell] = 0;
+        push(0, targetCell);
+
+        while (heapSize > 0) {
+            long top = pop();
+            int cell = (int) top;
+            float cellDistance = Float.intBitsToFloat((int) (top >>> 32));
+            if (cellDistance > distance[cell]) {
+                continue; // Stale heap entry
+            }
+
+            int column = cell % columns;
+            int row = cell / columns;
+            for (int i = 0; i < NEIGHBOUR_DX.length; i++) {
+                int neighbour = neighbour(column, row, i);
+                if (neighbour < 0 || blocked[neighbour]) {
+                    continue;
+                }
+                if (i >= 4 && cutsCorner(column, row, i)) {
+                    continue;
+                }
+                float candidate = cellDistance + (i >= 4 ? DIAGONAL_COST : 1f);
+                if (candidate < distance[neighbour]) {
+                    distance[neighbour] = candidate;
+                    push(candidate, neighbour);
+                }
+            }
+        }
+    }
+
+    /**
+     * Multi-source BFS from every free cell into the blocked ones
+     */
+    private void buildEscapeField() {
+        Arrays.fill(escapeNext, -1);
+        int head = 0;
+        int tail = 0;
+        boolean[] visited = new boolean[blocked.length];
+        for (int cell = 0; cell < blocked.length; cell++) {
+            if (!blocked[cell]) {
+                visited[cell] = true;
+                queue[tail++] = cell;
+            }
+        }
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int column = cell % columns;
+            int row = cell / columns;
+            for (int i = 0; i < NEIGHBOUR_DX.length; i++) {
+                int neighbour = neighbour(column, row, i);
+                if (neighbour >= 0 && !visited[neighbour]) {
+                    visited[neighbour] = true;
+                    escapeNext[neighbour] = cell;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+    }
+
+    private int neighbour(int column, int row, int direction) {
+        int nextColumn = column + NEIGHBOUR_DX[direction];
+        int nextRow = row + NEIGHBOUR_DY[direction];
+        if (nextColumn < 0 || nextColumn >= columns || nextRow < 0 || nextRow >= rows) {
+            return -1;
+        }
+        return nextRow * columns + nextColumn;
+    }
+
+    /**
+     * A diagonal step is only allowed if both orthogonal cells beside it are free
+     */
+    private boolean cutsCorner(int column, int row, int direction) {
+        return blocked[row * columns + column + NEIGHBOUR_DX[direction]]
+                || blocked[(row + NEIGHBOUR_DY[direction]) * columns + column];
+    }
+
+    private double[] directionToCell(double x, double y, int cell) {
+        double dx = (cell % columns + 0.5) * cellSize - x;
+        double dy = (cell / columns + 0.5) * cellSize - y;
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length < 1e-9) {
+            return null;
+        }
+        return new double[]{dx / length, dy / length};
+    }
+
+    private int cellAt(double x, double y) {
+        int column = Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellSize)));
+        int row = Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellSize)));
+        return row * columns + column;
+    }
+
+    // Binary min-heap of (distance bits << 32 | cell); non-negative floats sort like their bits
+
+    private void push(float key, int cell) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        long value = ((long) Float.floatToIntBits(key) << 32) | cell;
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= last) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+}
@@ -0,0 +1,114 @@
+package com.rpg.dungeon.model;
+
+/**
+ * Fixed-capacity pool of cosmetic particles (hazard flames, poison, push wave),
+ * stored as parallel primitive arrays like ProjectilePool.
+ *
+ * Each particle has a position, a velocity in pixels per second, a size, a
+ * lifetime and a color index that the renderer maps to its palette. When the
+ * pool is full new particles are simply not emitted.
+ */
+public final class ParticlePool {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final double[] x;
+    private final double[] y;
+    private final double[] velocityX;
+    private final double[] velocityY;
+    private final double[] size;
+    private final double[] ttl;       // Seconds left
+    private final double[] lifetime;  // Seconds at spawn, for fading
+    private final int[] color;
+
+    private final int[] live;
+    private final int[] livePosition;
+    private int liveCount;
+    private final int[] free;
+    private int freeCount;
+
+    public ParticlePool(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.x = new double[this.capacity];
+        this.y = new double[this.capacity];
+        this.velocityX = new double[this.capacity];
+        this.velocityY = new double[this.capacity];
+        this.size = new double[this.capacity];
+        this.ttl = new double[this.capacity];
+        this.lifetime = new double[this.capacity];
+        this.color = new int[this.capacity];
+        this.live = new int[this.capacity];
+        this.livePosition = new int[this.capacity];
+        this.free = new int[this.capacity];
+        clear();
+    }
+
+    /**
+     * @return false if the pool is full and nothing was emitted
+     */
+    public boolean emit(double startX, double startY, double vx, double vy, double particleSize,
+                        double seconds, int colorIndex) {
+        if (freeCount == 0) {
+            return false;
+        }
+        int slot = free[--freeCount];
+        x[slot] = startX;
+        y[slot] = startY;
+        velocityX[slot] = vx;
+        velocityY[slot] = vy;
+        size[slot] = particleSize;
+        ttl[slot] = seconds;
+        lifetime[slot] = seconds;
+        color[slot] = colorIndex;
+
+        livePosition[slot] = liveCount;
+        live[liveCount++] = slot;
+        return true;
+    }
+
+    public void update(double deltaTime) {
+        for (int i = liveCount - 1; i >= 0; i--) {
+            int slot = live[i];
+            ttl[slot] -= deltaTime;
+            if (ttl[slot] <= 0) {
+                remove(slot);
+                continue;
+            }
+            x[slot] += velocityX[slot] * deltaTime;
+            y[slot] += velocityY[slot] * deltaTime;
+        }
+    }
+
+    public void clear() {
+        for (int slot = 0; slot < capacity; slot++) {
+            free[slot] = capacity - 1 - slot;
+        }
+        freeCount = capacity;
+        liveCount = 0;
+    }
+
+    private void remove(int slot) {
+        int position = livePosition[slot];
+        int last = live[--liveCount];
+        live[position] = last;
+        livePosition[last] = position;
+        free[freeCount++] = slot;
+    }
+
+    public int size() { return liveCount; }
+
+    public int slotAt(int i) { return live[i]; }
+
+    public int getCapacity() { return capacity; }
+
+    public double getX(int slot) { return x[slot]; }
+    public double getY(int slot) { return y[slot]; }
+    public double getSize(int slot) { return size[slot]; }
+    public int getColor(int slot) { return color[slot]; }
+
+    /**
+     * Remaining life as a fraction, 1 when just emitted and 0 when it expires
+     */
+    public double getFade(int slot) { return ttl[slot] / lifetime[slot]; }
+}
@@ -12,7 +12,9 @@ public class PlayerSprite implements Serializable {
     private double y;
     private double width = 64;  // Increased from 32 for better visibility
     private double height = 64; // Increased from 32 for better visibility
-    private double speed = 3.0; // Pixels per frame
+    private double speed = 3.0; // Pixels per simulation tick (60 Hz)
+    private transient double prevX; // Position at the previous tick (render interpolation)
+    private transient double prevY;
 
     private Direction facing = Direction.SOUTH; // Current facing direction
     private boolean moving = false;
@@ -26,8 +28,24 @@ public class PlayerSprite implements Serializable {
     public PlayerSprite(double x, double y) {
         this.x = x;
         this.y = y;
+        savePreviousPosition();
     }
 
+    /**
+     * Remember the current position as the start of the next simulation tick
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    /**
+     * Position between the previous and the current tick, for rendering
+     * (alpha 0 = previous tick, 1 = current tick)
+     */
+    public double getRenderX(double alpha) { return prevX + (x - prevX) * alpha; }
+    public double getRenderY(double alpha) { return prevY + (y - prevY) * alpha; }
+
     /**
      * Update player position based on current movement state
      */
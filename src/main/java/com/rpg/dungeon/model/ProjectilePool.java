@@ -0,0 +1,153 @@
+package com.rpg.dungeon.model;
+
+/**
+ * Fixed-capacity pool of enemy projectiles, stored as parallel primitive arrays.
+ *
+ * Slots are preallocated, so firing, moving and removing projectiles never
+ * allocates. Live slots are kept in a dense list; iterate it from the end
+ * ({@code for (int i = size() - 1; i >= 0; i--)}) so that {@link #kill} during
+ * the loop only swaps in slots that were already visited.
+ */
+public final class ProjectilePool {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private final double[] x;
+    private final double[] y;
+    private final double[] prevX;   // Position at the previous tick (render interpolation)
+    private final double[] prevY;
+    private final double[] velocityX;
+    private final double[] velocityY;
+    private final double[] radius;
+    private final int[] ttl;        // Ticks left before the projectile fizzles out
+    private final int[] damage;
+    private final boolean[] active;
+
+    private final int[] live;
+    private final int[] livePosition;
+    private int liveCount;
+    private final int[] free;
+    private int freeCount;
+
+    private int droppedSpawns;
+
+    public ProjectilePool(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.x = new double[this.capacity];
+        this.y = new double[this.capacity];
+        this.prevX = new double[this.capacity];
+        this.prevY = new double[this.capacity];
+        this.velocityX = new double[this.capacity];
+        this.velocityY = new double[this.capacity];
+        this.radius = new double[this.capacity];
+        this.ttl = new int[this.capacity];
+        this.damage = new int[this.capacity];
+        this.active = new boolean[this.capacity];
+        this.live = new int[this.capacity];
+        this.livePosition = new int[this.capacity];
+        this.free = new int[this.capacity];
+        clear();
+    }
+
+    /**
+     * Fire a projectile (velocity in pixels per 60 Hz tick).
+     *
+     * @return the slot, or -1 if the pool is full and the shot was dropped
+     */
+    public int spawn(double startX, double startY, double vx, double vy, double hitRadius, int hitDamage, int ticksToLive) {
+        if (freeCount == 0) {
+            droppedSpawns++;
+            return -1;
+        }
+        int slot = free[--freeCount];
+        x[slot] = startX;
+        y[slot] = startY;
+        prevX[slot] = startX;
+        prevY[slot] = startY;
+        velocityX[slot] = vx;
+        velocityY[slot] = vy;
+        radius[slot] = hitRadius;
+        damage[slot] = hitDamage;
+        ttl[slot] = ticksToLive;
+        active[slot] = true;
+
+        livePosition[slot] = liveCount;
+        live[liveCount++] = slot;
+        return slot;
+    }
+
+    /**
+     * Advance every projectile one tick; the ones whose time ran out are removed
+     */
+    public void update() {
+        for (int i = liveCount - 1; i >= 0; i--) {
+            int slot = live[i];
+            prevX[slot] = x[slot];
+            prevY[slot] = y[slot];
+            x[slot] += velocityX[slot];
+            y[slot] += velocityY[slot];
+            if (--ttl[slot] <= 0) {
+                kill(slot);
+            }
+        }
+    }
+
+    public void kill(int slot) {
+        if (!active[slot]) {
+            return;
+        }
+        active[slot] = false;
+
+        int position = livePosition[slot];
+        int last = live[--liveCount];
+        live[position] = last;
+        livePosition[last] = position;
+        free[freeCount++] = slot;
+    }
+
+    public void clear() {
+        for (int slot = 0; slot < capacity; slot++) {
+            active[slot] = false;
+            free[slot] = capacity - 1 - slot;
+        }
+        freeCount = capacity;
+        liveCount = 0;
+    }
+
+    /**
+     * Circle-vs-rectangle test for the projectile in {@code slot}
+     */
+    public boolean hitsRectangle(int slot, double rx, double ry, double rWidth, double rHeight) {
+        double closestX = Math.max(rx, Math.min(x[slot], rx + rWidth));
+        double closestY = Math.max(ry, Math.min(y[slot], ry + rHeight));
+        double distanceX = x[slot] - closestX;
+        double distanceY = y[slot] - closestY;
+        return distanceX * distanceX + distanceY * distanceY <= radius[slot] * radius[slot];
+    }
+
+    /**
+     * Number of live projectiles
+     */
+    public int size() { return liveCount; }
+
+    /**
+     * Slot of the i-th live projectile, 0 <= i < size()
+     */
+    public int slotAt(int i) { return live[i]; }
+
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Shots that couldn't be fired because the pool was full
+     */
+    public int getDroppedSpawns() { return droppedSpawns; }
+
+    public double getX(int slot) { return x[slot]; }
+    public double getY(int slot) { return y[slot]; }
+    public double getRenderX(int slot, double alpha) { return prevX[slot] + (x[slot] - prevX[slot]) * alpha; }
+    public double getRenderY(int slot, double alpha) { return prevY[slot] + (y[slot] - prevY[slot]) * alpha; }
+    public double getRadius(int slot) { return radius[slot]; }
+    public int getDamage(int slot) { return damage[slot]; }
+    public boolean isActive(int slot) { return active[slot]; }
+}
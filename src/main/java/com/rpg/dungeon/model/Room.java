@@ -30,6 +30,9 @@ public class Room implements Serializable {
     private List<Hazard> hazards;  // Environmental hazards in room
     private double enemySpawnX = -1;  // Enemy spawn position (pixels) - deprecated
     private double enemySpawnY = -1;
+    private int projectileCap = ProjectilePool.DEFAULT_CAPACITY;  // Max enemy projectiles in flight
+    private int particleCap = ParticlePool.DEFAULT_CAPACITY;      // Max cosmetic particles
+    private transient RoomSpatialIndex spatialIndex;  // Built on first use, not saved
 
     public Room(int x, int y, RoomType type) {
         this.x = x;
@@ -115,7 +118,14 @@ public class Room implements Serializable {
     public void setEvent(DungeonEvent event) { this.event = event; }
 
     public List<InteractiveObject> getObjects() { return objects; }
-    public void addObject(InteractiveObject object) { this.objects.add(object); }
+    public void addObject(InteractiveObject object) {
+        this.objects.add(object);
+        if (spatialIndex != null) spatialIndex.add(object);
+    }
+    public void removeObject(InteractiveObject object) {
+        this.objects.remove(object);
+        if (spatialIndex != null) spatialIndex.remove(object);
+    }
 
     public double getEnemySpawnX() { return enemySpawnX; }
     public void setEnemySpawnX(double x) { this.enemySpawnX = x; }
@@ -124,8 +134,16 @@ public class Room implements Serializable {
 
     // Multiple enemies support
     public List<EnemySprite> getEnemies() { return enemies; }
-    public void addEnemy(EnemySprite enemySprite) { this.enemies.add(enemySprite); }
-    public void removeEnemy(EnemySprite enemySprite) { this.enemies.remove(enemySprite); }
+    public void addEnemy(EnemySprite enemySprite) {
+        this.enemies.add(enemySprite);
+        if (spatialIndex != null && enemySprite.getState() != EnemySprite.EnemyState.DEFEATED) {
+            spatialIndex.add(enemySprite);
+        }
+    }
+    public void removeEnemy(EnemySprite enemySprite) {
+        this.enemies.remove(enemySprite);
+        if (spatialIndex != null) spatialIndex.remove(enemySprite);
+    }
 
     /**
      * Get all alive enemies in room
@@ -154,8 +172,32 @@ public class Room implements Serializable {
 
     // Hazard management
     public List<Hazard> getHazards() { return hazards; }
-    public void addHazard(Hazard hazard) { this.hazards.add(hazard); }
-    public void removeHazard(Hazard hazard) { this.hazards.remove(hazard); }
+    public void addHazard(Hazard hazard) {
+        this.hazards.add(hazard);
+        if (spatialIndex != null) spatialIndex.add(hazard);
+    }
+    public void removeHazard(Hazard hazard) {
+        this.hazards.remove(hazard);
+        if (spatialIndex != null) spatialIndex.remove(hazard);
+    }
+
+    // Pool sizes for the exploration view (0 in rooms saved before these existed)
+    public int getProjectileCap() { return projectileCap > 0 ? projectileCap : ProjectilePool.DEFAULT_CAPACITY; }
+    public void setProjectileCap(int projectileCap) { this.projectileCap = projectileCap; }
+    public int getParticleCap() { return particleCap > 0 ? particleCap : ParticlePool.DEFAULT_CAPACITY; }
+    public void setParticleCap(int particleCap) { this.particleCap = particleCap; }
+
+    /**
+     * Spatial index of the room's hazards, objects and alive enemies, built on
+     * first use. Changes made through this class keep it in sync; moving sprites
+     * must be reported to it with RoomSpatialIndex.update.
+     */
+    public RoomSpatialIndex getSpatialIndex() {
+        if (spatialIndex == null) {
+            spatialIndex = new RoomSpatialIndex(this);
+        }
+        return spatialIndex;
+    }
 
     /**
      * Returnează reprezentarea vizuală a camerei
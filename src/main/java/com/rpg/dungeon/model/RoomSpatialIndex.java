@@ -0,0 +1,58 @@
+package com.rpg.dungeon.model;
+
+/**
+ * Spatial index of everything placed in a room: hazards, interactive objects
+ * and alive enemies, one SpatialGrid per kind. (Projectiles live in a
+ * ProjectilePool, whose flat arrays are cheaper to scan than to index.)
+ *
+ * Owned by the Room (rebuilt lazily after loading a save) and kept in sync by
+ * Room's add/remove methods. Enemies move every tick, so the exploration
+ * controller reports their new positions with {@link #update(EnemySprite)}.
+ */
+public final class RoomSpatialIndex {
+
+    // Size of the exploration canvas; positions outside it are clamped into the border cells
+    public static final double ROOM_WIDTH = 1000;
+    public static final double ROOM_HEIGHT = 750;
+    public static final double CELL_SIZE = 64;
+
+    private final SpatialGrid<Hazard> hazards = new SpatialGrid<>(ROOM_WIDTH, ROOM_HEIGHT, CELL_SIZE);
+    private final SpatialGrid<InteractiveObject> objects = new SpatialGrid<>(ROOM_WIDTH, ROOM_HEIGHT, CELL_SIZE);
+    private final SpatialGrid<EnemySprite> enemies = new SpatialGrid<>(ROOM_WIDTH, ROOM_HEIGHT, CELL_SIZE);
+
+    RoomSpatialIndex(Room room) {
+        for (Hazard hazard : room.getHazards()) {
+            add(hazard);
+        }
+        for (InteractiveObject object : room.getObjects()) {
+            add(object);
+        }
+        for (EnemySprite enemy : room.getAliveEnemies()) {
+            add(enemy);
+        }
+    }
+
+    public void add(Hazard hazard) {
+        hazards.insert(hazard, hazard.getX(), hazard.getY(), hazard.getWidth(), hazard.getHeight());
+    }
+
+    public void add(InteractiveObject object) {
+        objects.insert(object, object.getX(), object.getY(), object.getWidth(), object.getHeight());
+    }
+
+    public void add(EnemySprite enemy) {
+        enemies.insert(enemy, enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+    }
+
+    public void update(EnemySprite enemy) {
+        enemies.move(enemy, enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
+    }
+
+    public void remove(Hazard hazard) { hazards.remove(hazard); }
+    public void remove(InteractiveObject object) { objects.remove(object); }
+    public void remove(EnemySprite enemy) { enemies.remove(enemy); }
+
+    public SpatialGrid<Hazard> getHazards() { return hazards; }
+    public SpatialGrid<InteractiveObject> getObjects() { return objects; }
+    public SpatialGrid<EnemySprite> getEnemies() { return enemies; }
+}
@@ -0,0 +1,275 @@
+package com.rpg.dungeon.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid spatial index for "what overlaps this box / what is near this point"
+ * queries, so collision and AI code only looks at things in nearby cells.
+ *
+ * Each item is stored with its bounding box in every cell the box covers. Boxes
+ * outside the grid are clamped to the border cells, so nothing is lost, it is only
+ * bucketed less precisely. Query results come back in insertion order (the order
+ * of the room's lists), so code that stops at the first match behaves the same as
+ * a linear scan. Not thread-safe - meant for the FX thread's game loop.
+ */
+public final class SpatialGrid<T> {
+
+    private static final Comparator<Entry<?>> INSERTION_ORDER = Comparator.comparingLong(e -> e.sequence);
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final List<Entry<T>>[] cells;
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    private final List<Entry<T>> matches = new ArrayList<>();
+    private long nextSequence;
+    private int queryStamp;
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = newCells(columns * rows);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> List<Entry<T>>[] newCells(int count) {
+        List<Entry<T>>[] cells = new List[count];
+        for (int i = 0; i < count; i++) {
+            cells[i] = new ArrayList<>(4);
+        }
+        return cells;
+    }
+
+    /**
+     * Add an item with its bounding box (re-inserting an item just moves it)
+     */
+    public void insert(T item, double x, double y, double width, double height) {
+        if (entries.containsKey(item)) {
+            move(item, x, y, width, height);
+            return;
+        }
+        Entry<T> entry = new Entry<>(item, nextSequence++);
+        entry.setBounds(x, y, width, height);
+        entry.minColumn = column(x);
+        entry.maxColumn = column(x + width);
+        entry.minRow = row(y);
+        entry.maxRow = row(y + height);
+        addToCells(entry);
+        entries.put(item, entry);
+    }
+
+    /**
+     * Update an item's bounding box. Only touches the cell lists when the item
+     * crosses into different cells, which for walking sprites is rare.
+     */
+    public void move(T item, double x, double y, double width, double height) {
+        Entry<T> entry = entries.get(item);
+        if (entry == null) {
+            insert(item, x, y, width, height);
+            return;
+        }
+        entry.setBounds(x, y, width, height);
+
+        int minColumn = column(x);
+        int maxColumn = column(x + width);
+        int minRow = row(y);
+        int maxRow = row(y + height);
+        if (minColumn == entry.minColumn && maxColumn == entry.maxColumn
+                && minRow == entry.minRow && maxRow == entry.maxRow) {
+            return;
+        }
+
+        removeFromCells(entry);
+        entry.minColumn = minColumn;
+        entry.maxColumn = maxColumn;
+        entry.minRow = minRow;
+        entry.maxRow = maxRow;
+        addToCells(entry);
+    }
+
+    public boolean remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) {
+            return false;
+        }
+        removeFromCells(entry);
+        return true;
+    }
+
+    public boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        for (List<Entry<T>> cell : cells) {
+            cell.clear();
+        }
+        entries.clear();
+    }
+
+    /**
+     * Append to {@code out} every item whose box overlaps the given box (same
+     * strict test as Hazard.collidesWith: touching edges don't overlap)
+     */
+    public List<T> query(double x, double y, double width, double height, List<T> out) {
+        int stamp = nextStamp();
+        for (int row = row(y), maxRow = row(y + height); row <= maxRow; row++) {
+            for (int column = column(x), maxColumn = column(x + width); column <= maxColumn; column++) {
+                List<Entry<T>> cell = cells[row * columns + column];
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (entry.stamp != stamp) {
+                        entry.stamp = stamp;
+                        if (entry.overlaps(x, y, width, height)) {
+                            matches.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+        return drainMatches(out);
+    }
+
+    /**
+     * Append to {@code out} every item whose box comes within {@code radius} of the
+     * point. Callers measuring from an item's center still do their own distance
+     * check - this only narrows down the candidates.
+     */
+    public List<T> queryRange(double centerX, double centerY, double radius, List<T> out) {
+        int stamp = nextStamp();
+        double radiusSquared = radius * radius;
+        for (int row = row(centerY - radius), maxRow = row(centerY + radius); row <= maxRow; row++) {
+            for (int column = column(centerX - radius), maxColumn = column(centerX + radius); column <= maxColumn; column++) {
+                List<Entry<T>> cell = cells[row * columns + column];
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (entry.stamp != stamp) {
+                        entry.stamp = stamp;
+                        if (entry.distanceSquaredTo(centerX, centerY) <= radiusSquared) {
+                            matches.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+        return drainMatches(out);
+    }
+
+    /**
+     * Whether any item accepted by {@code filter} overlaps the box. Stops at the
+     * first hit and allocates nothing, for hot paths like hazard avoidance.
+     */
+    public boolean anyOverlapping(double x, double y, double width, double height, Predicate<? super T> filter) {
+        for (int row = row(y), maxRow = row(y + height); row <= maxRow; row++) {
+            for (int column = column(x), maxColumn = column(x + width); column <= maxColumn; column++) {
+                List<Entry<T>> cell = cells[row * columns + column];
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (entry.overlaps(x, y, width, height) && filter.test(entry.item)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<T> drainMatches(List<T> out) {
+        if (matches.size() > 1) {
+            matches.sort(INSERTION_ORDER);
+        }
+        for (int i = 0; i < matches.size(); i++) {
+            out.add(matches.get(i).item);
+        }
+        matches.clear();
+        return out;
+    }
+
+    private int nextStamp() {
+        if (++queryStamp == 0) {
+            // Wrapped around: reset so no entry still carries a live stamp
+            for (Entry<T> entry : entries.values()) {
+                entry.stamp = 0;
+            }
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private void addToCells(Entry<T> entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn; column++) {
+                cells[row * columns + column].add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<T> entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn; column++) {
+                cells[row * columns + column].remove(entry);
+            }
+        }
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int index, int count) {
+        return index < 0 ? 0 : Math.min(index, count - 1);
+    }
+
+    private static final class Entry<T> {
+        final T item;
+        final long sequence;
+        double x;
+        double y;
+        double width;
+        double height;
+        int minColumn;
+        int maxColumn;
+        int minRow;
+        int maxRow;
+        int stamp;
+
+        Entry(T item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+        }
+
+        void setBounds(double x, double y, double width, double height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean overlaps(double ox, double oy, double oWidth, double oHeight) {
+            return ox < x + width && ox + oWidth > x && oy < y + height && oy + oHeight > y;
+        }
+
+        double distanceSquaredTo(double px, double py) {
+            double dx = px - Math.max(x, Math.min(px, x + width));
+            double dy = py - Math.max(y, Math.min(py, y + height));
+            return dx * dx + dy * dy;
+        }
+    }
+}
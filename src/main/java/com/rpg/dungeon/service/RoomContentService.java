@@ -4,10 +4,12 @@ import com.rpg.dungeon.model.*;
 import com.rpg.model.characters.Erou;
 import com.rpg.model.characters.Inamic;
 import com.rpg.service.EnemyGeneratorRomanesc;
+import com.rpg.service.LootBatch;
+import com.rpg.utils.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Service pentru popularea camerelor cu conținut
@@ -63,7 +65,7 @@ public class RoomContentService {
      * Difficulty scaling: enemiile devin mai puternice cu depth-ul
      */
     private void populateCombatRoom(Room room, int depth, Erou hero, boolean isBoss) {
-        Random random = new Random();
+        RandomGenerator random = GameRandom.map();
 
         // 🔧 NEW FLOOR-BASED SCALING: Dungeon depth determines enemy level (not hero level)
         // This allows players to tackle harder floors early (challenge) or farm easier floors (grind)
@@ -158,8 +160,7 @@ public class RoomContentService {
         int itemCount = 1 + (depth / 3); // 1 item la depth 1-2, 2 la depth 3-5, etc.
         itemCount = Math.min(itemCount, 3); // Maximum 3 items
 
-        for (int i = 0; i < itemCount; i++) {
-            RunItem item = createRandomRunItem(depth);
+        for (RunItem item : LootBatch.generate(itemCount, false, () -> createRandomRunItem(depth))) {
             room.addTreasure(item);
         }
     }
@@ -285,7 +286,7 @@ public class RoomContentService {
         possibleEvents.add(fountain);
 
         // Returnează un event aleatoriu
-        return possibleEvents.get((int)(Math.random() * possibleEvents.size()));
+        return possibleEvents.get(GameRandom.map().nextInt(possibleEvents.size()));
     }
 
     /**
@@ -294,7 +295,7 @@ public class RoomContentService {
      */
     public RunItem createRandomRunItem(int depth) {
         // Șansa de rarity crește cu depth-ul
-        double rarityRoll = Math.random();
+        double rarityRoll = GameRandom.loot().nextDouble();
         RunItem.RunItemRarity targetRarity;
 
         if (depth >= 5 && rarityRoll < 0.15) {
@@ -388,7 +389,7 @@ public class RoomContentService {
         }
 
         // Returnează un item aleatoriu din rarity-ul cerut
-        return possibleItems.get((int)(Math.random() * possibleItems.size()));
+        return possibleItems.get(GameRandom.loot().nextInt(possibleItems.size()));
     }
 
     /**
@@ -410,7 +411,7 @@ public class RoomContentService {
      * Early depths: mostly melee
      * Later depths: more variety with ranged, chargers, tanks
      */
-    private EnemySprite.EnemyType assignEnemyType(int depth, Random random) {
+    private EnemySprite.EnemyType assignEnemyType(int depth, RandomGenerator random) {
         // Depth 1-2: 90% melee, 10% charger
         if (depth <= 2) {
             return random.nextDouble() < 0.9 ? EnemySprite.EnemyType.MELEE : EnemySprite.EnemyType.CHARGER;
@@ -475,7 +476,7 @@ public class RoomContentService {
      * Spawn environmental hazards in a room based on depth
      * Higher depths have more and deadlier hazards
      */
-    private void spawnHazards(Room room, int depth, Random random) {
+    private void spawnHazards(Room room, int depth, RandomGenerator random) {
         // Room dimensions for spawning (assuming 800x600 room size)
         double roomWidth = 800;
         double roomHeight = 600;
@@ -536,7 +537,7 @@ public class RoomContentService {
     /**
      * Choose hazard type based on depth and randomness
      */
-    private Hazard.HazardType chooseHazardType(int depth, Random random) {
+    private Hazard.HazardType chooseHazardType(int depth, RandomGenerator random) {
         // Depth 1-2: Only spikes
         if (depth <= 2) {
             return Hazard.HazardType.SPIKES;
@@ -2085,6 +2085,30 @@ public class AbilityDefinitions {
         return abilities;
     }
 
+    /**
+     * Creates the base ability for a specific ability name (null if unknown).
+     */
+    public static Abilitate getBaseAbility(String abilityName) {
+        return switch (abilityName) {
+            // Wizard
+            case "Fireball" -> createFireballBase();
+            case "Lightning Bolt" -> createLightningBoltBase();
+            case "Ice Shard" -> createIceShardBase();
+            case "Arcane Missiles" -> createArcaneMissilesBase();
+            case "Meteor Strike" -> createMeteorStrikeBase();
+            // Warrior
+            case "Cleave" -> createCleaveBase();
+            case "Shield Bash" -> createShieldBashBase();
+            case "Whirlwind" -> createWhirlwindBase();
+            case "Execute" -> createExecuteBase();
+            // Rogue
+            case "Backstab" -> createBackstabBase();
+            case "Poison Blade" -> createPoisonBladeBase();
+            case "Shadow Step" -> createShadowStepBase();
+            default -> null;
+        };
+    }
+
     /**
      * Gets all variants for a specific ability.
      */
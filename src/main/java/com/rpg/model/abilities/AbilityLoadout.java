@@ -1,5 +1,9 @@
 package com.rpg.model.abilities;
 
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.*;
 
@@ -215,6 +219,82 @@ public class AbilityLoadout implements Serializable {
         }
     }
 
+    /**
+     * Writes the loadout in the binary save format.
+     * Configured abilities are stored by name (base, variant, talents) and
+     * rebuilt from AbilityDefinitions on load, instead of serializing the
+     * whole ability/variant/talent graph.
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeVarInt(unlockedAbilities.size());
+        for (ConfiguredAbility ability : unlockedAbilities.values()) {
+            out.writeString(ability.getBaseAbilityId());
+            out.writeString(ability.getSelectedVariant() != null ? ability.getSelectedVariant().getName() : null);
+            out.writeString(ability.getTier1Talent() != null ? ability.getTier1Talent().getName() : null);
+            out.writeString(ability.getTier2Talent() != null ? ability.getTier2Talent().getName() : null);
+            out.writeString(ability.getTier3Talent() != null ? ability.getTier3Talent().getName() : null);
+        }
+
+        out.writeStrings(activeLoadout);
+
+        out.writeVarInt(savedLoadouts.size());
+        for (Map.Entry<String, List<String>> entry : savedLoadouts.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeStrings(entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a loadout written by {@link #writeBinary}.
+     * Abilities that no longer exist in AbilityDefinitions are dropped.
+     */
+    public static AbilityLoadout readBinary(BinarySaveReader in) throws IOException {
+        AbilityLoadout loadout = new AbilityLoadout();
+
+        int unlockedCount = in.readVarInt();
+        for (int i = 0; i < unlockedCount; i++) {
+            String abilityId = in.readString();
+            String variantName = in.readString();
+            String tier1 = in.readString();
+            String tier2 = in.readString();
+            String tier3 = in.readString();
+
+            Abilitate base = AbilityDefinitions.getBaseAbility(abilityId);
+            if (base == null) {
+                continue;
+            }
+
+            List<AbilityVariant> variants = AbilityDefinitions.getVariantsForAbility(abilityId);
+            List<AbilityTalent> talents = AbilityDefinitions.getTalentsForAbility(abilityId);
+            ConfiguredAbility ability = AbilityDefinitions.createDefaultConfiguredAbility(base, variants, talents);
+
+            for (AbilityVariant variant : variants) {
+                if (variant.getName().equals(variantName)) {
+                    ability.setSelectedVariant(variant);
+                    break;
+                }
+            }
+            for (AbilityTalent talent : talents) {
+                if (talent.getName().equals(tier1)) ability.setTier1Talent(talent);
+                else if (talent.getName().equals(tier2)) ability.setTier2Talent(talent);
+                else if (talent.getName().equals(tier3)) ability.setTier3Talent(talent);
+            }
+
+            loadout.unlockAbility(ability);
+        }
+
+        List<String> active = in.readStrings(ArrayList::new);
+        active.removeIf(id -> !loadout.unlockedAbilities.containsKey(id));
+        loadout.activeLoadout = active;
+
+        int templateCount = in.readVarInt();
+        for (int i = 0; i < templateCount; i++) {
+            loadout.savedLoadouts.put(in.readString(), in.readStrings(ArrayList::new));
+        }
+
+        return loadout;
+    }
+
     /**
      * Returns a summary string for UI display.
      */
@@ -5,20 +5,28 @@ import com.rpg.model.abilities.AbilityLoadout;
 import com.rpg.model.abilities.ConfiguredAbility;
 import com.rpg.model.effects.BuffStack;
 import com.rpg.model.effects.DebuffStack;
+import com.rpg.model.inventory.InventoryStore;
 import com.rpg.model.items.BuffPotion;
 import com.rpg.model.items.EnchantScroll;
 import com.rpg.model.items.FlaskPiece;
 import com.rpg.model.items.Jewel;
 import com.rpg.model.items.ObiectEchipament;
+import com.rpg.model.items.StatType;
 import com.rpg.service.PotionUpgradeService;
 import com.rpg.service.dto.EquipResult;
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
 import com.rpg.utils.GameConstants;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -68,6 +76,11 @@ public class Erou implements Serializable {
     private transient long lastHitTime = 0;     // When hero was last hit
     private transient long lastKillTime = 0;    // When hero last killed an enemy
     private transient boolean isInBossFight = false;  // Currently fighting a boss
+    // Ceasul pentru condiții; null = ceasul sistemului. Replay-ul de luptă îl fixează pe fiecare acțiune
+    private transient java.util.function.LongSupplier clock;
+
+    // Înregistrarea ultimei lupte (BattleRecording), salvată la sfârșitul salvării
+    private transient byte[] lastBattleReplay;
 
     // 🔮 CONDITIONAL BONUSES FROM TALENT TREE (transient - recalculated dynamically)
     // These are populated by checking allocated nodes against current conditions
@@ -80,7 +93,7 @@ public class Erou implements Serializable {
     private int defense;
 
     // Inventar și consumabile
-    private final List<ObiectEchipament> inventar;
+    private List<ObiectEchipament> inventar;  // Mereu un InventoryStore (vezi readObject)
     private final List<Jewel> jewelInventory;  // Separate inventory for jewels
     private final List<com.rpg.model.inventory.ItemPocket> itemPockets;  // Custom pockets for organization
     protected List<Abilitate> abilitati;
@@ -108,6 +121,10 @@ public class Erou implements Serializable {
     private transient double runItemCritBonus = 0.0;
     private transient Map<String, Integer> runItemElementalDamage = new HashMap<>();
 
+    // Statistici derivate calculate o dată (vezi StatSheet); refăcute doar când sunt marcate dirty
+    private transient StatSheet statSheet;
+    private transient boolean statSheetDirty;
+
     // 🆕 DUNGEON META-PROGRESSION (persists between dungeon runs)
     private com.rpg.dungeon.model.DungeonProgression dungeonProgression;
 
@@ -157,7 +174,7 @@ public class Erou implements Serializable {
         this.healthPotions = GameConstants.INITIAL_POTIONS;
         this.manaPotions = GameConstants.INITIAL_MANA_POTIONS;
 
-        this.inventar = new ArrayList<>();
+        this.inventar = new InventoryStore();
         this.jewelInventory = new ArrayList<>();  // Initialize jewel inventory
         this.itemPockets = new ArrayList<>();  // Initialize item pockets
         this.abilitati = new ArrayList<>();
@@ -207,6 +224,9 @@ public class Erou implements Serializable {
 
         if (this.viata > this.viataMaxima) this.viata = this.viataMaxima;
         if (this.mana > manaMaxima) this.mana = manaMaxima;
+
+        // Toate schimbările de echipament, nivel și talente trec pe aici
+        invalidateStatSheet();
     }
 
     // ================== SISTEMUL DE REVIVAL CU ȘAORMA! ==================
@@ -450,10 +470,16 @@ public class Erou implements Serializable {
     public double getTalentDefensePercent() { return talentDefensePercent; }
 
     // Talent tree bonus modifiers (for allocation/deallocation)
-    public void modifyTalentCritChance(double amount) { this.talentCritChance += amount; }
+    public void modifyTalentCritChance(double amount) {
+        this.talentCritChance += amount;
+        invalidateStatSheet();
+    }
     public void modifyTalentCritMultiplier(double amount) { this.talentCritMultiplier += amount; }
     public void modifyTalentLifesteal(double amount) { this.talentLifesteal += amount; }
-    public void modifyTalentDodge(double amount) { this.talentDodge += amount; }
+    public void modifyTalentDodge(double amount) {
+        this.talentDodge += amount;
+        invalidateStatSheet();
+    }
     public void modifyTalentAttackSpeed(double amount) { this.talentAttackSpeed += amount; }
     public void modifyTalentDamageBonus(double amount) { this.talentDamageBonus += amount; }
     public void modifyTalentFlatHP(int amount) {
@@ -476,11 +502,11 @@ public class Erou implements Serializable {
     // Condition tracking getters/setters
     public long getLastHitTime() { return lastHitTime; }
     public void setLastHitTime(long time) { this.lastHitTime = time; }
-    public void recordHit() { this.lastHitTime = System.currentTimeMillis(); }
+    public void recordHit() { this.lastHitTime = now(); }
 
     public long getLastKillTime() { return lastKillTime; }
     public void setLastKillTime(long time) { this.lastKillTime = time; }
-    public void recordKill() { this.lastKillTime = System.currentTimeMillis(); }
+    public void recordKill() { this.lastKillTime = now(); }
 
     public boolean isInBossFight() { return isInBossFight; }
     public void setInBossFight(boolean inBossFight) { this.isInBossFight = inBossFight; }
@@ -495,7 +521,7 @@ public class Erou implements Serializable {
     }
 
     public boolean wasHitRecently() {
-        return (System.currentTimeMillis() - lastHitTime) < 4000; // 4 seconds
+        return (now() - lastHitTime) < 4000; // 4 seconds
     }
 
     public boolean wasNotHitRecently() {
@@ -503,9 +529,18 @@ public class Erou implements Serializable {
     }
 
     public boolean killedRecently() {
-        return (System.currentTimeMillis() - lastKillTime) < 4000; // 4 seconds
+        return (now() - lastKillTime) < 4000; // 4 seconds
     }
 
+    public void setClock(java.util.function.LongSupplier clock) { this.clock = clock; }
+
+    private long now() {
+        return clock != null ? clock.getAsLong() : System.currentTimeMillis();
+    }
+
+    public byte[] getLastBattleReplay() { return lastBattleReplay; }
+    public void setLastBattleReplay(byte[] replay) { this.lastBattleReplay = replay; }
+
     // Setters for conditional bonuses (called by TalentTreeController when allocating nodes)
     public void setConditionalDamage_FullHP(double value) { this.conditionalDamage_FullHP = value; }
     public void setConditionalDamage_LowHP(double value) { this.conditionalDamage_LowHP = value; }
@@ -640,15 +675,15 @@ public class Erou implements Serializable {
 
     // getteri de staturi====================
     public int getStrengthTotal() {
-        return strength + getEquipmentBonus("strength");
+        return getStatSheet().strengthTotal;
     }
 
     public int getDexterityTotal() {
-        return dexterity + getEquipmentBonus("dexterity");
+        return getStatSheet().dexterityTotal;
     }
 
     public int getIntelligenceTotal() {
-        return intelligence + getEquipmentBonus("intelligence");
+        return getStatSheet().intelligenceTotal;
     }
 
 //    // un getter pt bonusurile de la echipamente
@@ -914,35 +949,16 @@ public boolean useManaPotion() {
     // ================== METODE DE ȘANSE ==================
 
     public double getHitChance() {
-        double baseHitChance = GameConstants.BASE_HIT_CHANCE;
-        double dexBonus = getDexterityTotal() * GameConstants.HIT_CHANCE_PER_DEX;
-        double levelBonus = nivel * GameConstants.HIT_CHANCE_PER_LEVEL;
-        double equipmentBonus = getEquipmentBonus("hit_chance"); // ✅ ADAUGĂ echipament
-        return Math.min(95.0, baseHitChance + dexBonus + levelBonus + equipmentBonus);
+        return getStatSheet().hitChance;
     }
 
     public double getCritChanceTotal() {
-        double baseCritChance = GameConstants.BASE_CRIT_CHANCE;
-        double dexBonus = getDexterityTotal() * GameConstants.CRIT_CHANCE_PER_DEX;
-        double equipmentBonus = getEquipmentBonus("crit_chance"); // ✅ ADAUGĂ echipament
-        double runItemBonus = runItemCritBonus * 100; // Convert 0.15 -> 15%
-        double talentBonus = talentCritChance; // 🌳 Talent tree bonus
-        double conditionalBonus = getConditionalCritBonus(); // 🔮 Conditional bonus
-        return Math.min(95.0, baseCritChance + dexBonus + equipmentBonus + runItemBonus + talentBonus + conditionalBonus);
+        double conditionalBonus = getConditionalCritBonus(); // 🔮 Depinde de timp - nu intră în cache
+        return Math.min(95.0, getStatSheet().critChanceUncapped + conditionalBonus);
     }
 
     public double getDodgeChanceTotal() {
-        double baseDodgeChance = GameConstants.BASE_DODGE_CHANCE;
-        double dexBonus = getDexterityTotal() * GameConstants.DODGE_CHANCE_PER_DEX;
-        double equipmentBonus = getEquipmentBonus("dodge_chance"); // ✅ ADAUGĂ echipament
-        double runItemBonus = runItemDodgeBonus * 100; // Convert 0.15 -> 15%
-        double talentBonus = talentDodge; // 🌳 Talent tree bonus
-
-        // Apply debuff reductions
-        double debuffReduction = getDebuffDodgeReduction() * 100; // Convert -0.50 -> -50%
-
-        double totalDodge = baseDodgeChance + dexBonus + equipmentBonus + runItemBonus + talentBonus + debuffReduction;
-        return Math.max(0.0, Math.min(75.0, totalDodge)); // Ensure it's between 0 and 75
+        return getStatSheet().dodgeChance;
     }
 
     public double getCritMultiplierTotal() {
@@ -958,13 +974,66 @@ public boolean useManaPotion() {
     }
 
     public int getDefenseTotal() {
-        int baseDefense = defense + getEquipmentBonus("defense");
+        return getStatSheet().defenseTotal;
+    }
+
+    /**
+     * Marchează statisticile derivate pentru recalculare la următoarea citire.
+     * Apelată intern la orice schimbare relevantă; codul din afară o poate
+     * folosi dacă modifică eroul pe altă cale.
+     */
+    public void invalidateStatSheet() {
+        statSheetDirty = true;
+    }
+
+    private StatSheet getStatSheet() {
+        if (statSheet == null || statSheetDirty || !statSheet.isEquipmentCurrent()) {
+            rebuildStatSheet();
+        }
+        return statSheet;
+    }
+
+    /**
+     * Calculează toate statisticile derivate - aceleași formule ca înainte,
+     * doar că rulează o dată pe schimbare, nu la fiecare atac
+     */
+    private void rebuildStatSheet() {
+        StatSheet sheet = statSheet != null ? statSheet : new StatSheet();
+        sheet.captureEquipment(echipat != null ? echipat.values() : List.of());
+
+        sheet.strengthTotal = strength + sheet.getEquipmentBonus(StatType.STRENGTH);
+        sheet.dexterityTotal = dexterity + sheet.getEquipmentBonus(StatType.DEXTERITY);
+        sheet.intelligenceTotal = intelligence + sheet.getEquipmentBonus(StatType.INTELLIGENCE);
+
+        double baseHitChance = GameConstants.BASE_HIT_CHANCE;
+        double hitDexBonus = sheet.dexterityTotal * GameConstants.HIT_CHANCE_PER_DEX;
+        double levelBonus = nivel * GameConstants.HIT_CHANCE_PER_LEVEL;
+        double hitEquipmentBonus = sheet.getEquipmentBonus(StatType.HIT_CHANCE);
+        sheet.hitChance = Math.min(95.0, baseHitChance + hitDexBonus + levelBonus + hitEquipmentBonus);
+
+        double baseCritChance = GameConstants.BASE_CRIT_CHANCE;
+        double critDexBonus = sheet.dexterityTotal * GameConstants.CRIT_CHANCE_PER_DEX;
+        double critEquipmentBonus = sheet.getEquipmentBonus(StatType.CRIT_CHANCE);
+        double critRunItemBonus = runItemCritBonus * 100; // Convert 0.15 -> 15%
+        sheet.critChanceUncapped = baseCritChance + critDexBonus + critEquipmentBonus
+                + critRunItemBonus + talentCritChance;
+
+        double baseDodgeChance = GameConstants.BASE_DODGE_CHANCE;
+        double dodgeDexBonus = sheet.dexterityTotal * GameConstants.DODGE_CHANCE_PER_DEX;
+        double dodgeEquipmentBonus = sheet.getEquipmentBonus(StatType.DODGE_CHANCE);
+        double dodgeRunItemBonus = runItemDodgeBonus * 100; // Convert 0.15 -> 15%
+        double debuffDodgeReduction = getDebuffDodgeReduction() * 100; // Convert -0.50 -> -50%
+        double totalDodge = baseDodgeChance + dodgeDexBonus + dodgeEquipmentBonus
+                + dodgeRunItemBonus + talentDodge + debuffDodgeReduction;
+        sheet.dodgeChance = Math.max(0.0, Math.min(75.0, totalDodge)); // Ensure it's between 0 and 75
 
-        // Apply debuff reductions
-        double debuffReduction = getDebuffDefenseReduction(); // e.g., -0.20 = -20%
-        int defenseAfterDebuff = (int) (baseDefense * (1.0 + debuffReduction));
+        int baseDefense = defense + sheet.getEquipmentBonus(StatType.DEFENSE);
+        double debuffDefenseReduction = getDebuffDefenseReduction(); // e.g., -0.20 = -20%
+        int defenseAfterDebuff = (int) (baseDefense * (1.0 + debuffDefenseReduction));
+        sheet.defenseTotal = Math.max(0, defenseAfterDebuff); // Ensure defense doesn't go negative
 
-        return Math.max(0, defenseAfterDebuff); // Ensure defense doesn't go negative
+        statSheet = sheet;
+        statSheetDirty = false;
     }
 
     // ================== METODE DE ACTUALIZARE STĂRI ==================
@@ -973,9 +1042,8 @@ public boolean useManaPotion() {
         // Procesează buff-urile pentru heal
         for (BuffStack buff : buffuriActive.values()) {
             if (buff.isActive()) {
-                Map<String,Double> mods = buff.getAllModifiers();
-                if (mods.containsKey("heal_per_turn")) {
-                    int healAmount = mods.get("heal_per_turn").intValue();
+                if (buff.hasModifier(StatType.HEAL_PER_TURN)) {
+                    int healAmount = (int) buff.getModifier(StatType.HEAL_PER_TURN);
                     vindeca(healAmount);
                     System.out.printf(
                             "🌿 Regenerare: %s primește +%d HP din Nature buff%n",
@@ -1065,6 +1133,7 @@ public boolean useManaPotion() {
             debuffuriActive.get(nume).addStack(durata); // Only refresh duration
         } else {
             debuffuriActive.put(nume, new DebuffStack(effects, durata, 3)); // max 3 stacks
+            invalidateStatSheet();
         }
 
         System.out.printf("💀 Debuff %s aplicat pe %s pentru %d ture!%n", nume, this.nume, durata);
@@ -1086,6 +1155,7 @@ public boolean useManaPotion() {
             debuff.decreaseDuration();
             if (!debuff.isActive()) {
                 System.out.println("⏰ Debuff " + entry.getKey() + " a expirat pentru " + nume);
+                invalidateStatSheet();
                 return true;
             }
             return false;
@@ -1122,6 +1192,7 @@ public boolean useManaPotion() {
 
             if (!debuff.isActive()) {
                 logs.add("⏰ " + debuffName + " expired on " + nume);
+                invalidateStatSheet();
                 return true;
             }
 
@@ -1679,13 +1750,13 @@ public boolean useManaPotion() {
         // =================== STATISTICI PRINCIPALE ===================
         System.out.println("\n📈 STATISTICI:");
         System.out.printf("💪 Strength: %d (%d base + %d echipament)\n",
-                getStrengthTotal(), strength, getEquipmentBonus("strength"));
+                getStrengthTotal(), strength, getEquipmentBonus(StatType.STRENGTH));
         System.out.printf("🏃 Dexterity: %d (%d base + %d echipament)\n",
-                getDexterityTotal(), dexterity, getEquipmentBonus("dexterity"));
+                getDexterityTotal(), dexterity, getEquipmentBonus(StatType.DEXTERITY));
         System.out.printf("🧠 Intelligence: %d (%d base + %d echipament)\n",
-                getIntelligenceTotal(), intelligence, getEquipmentBonus("intelligence"));
+                getIntelligenceTotal(), intelligence, getEquipmentBonus(StatType.INTELLIGENCE));
         System.out.printf("🛡️  Defense: %d (%d base + %d echipament)\n",
-                getDefenseTotal(), defense, getEquipmentBonus("defense"));
+                getDefenseTotal(), defense, getEquipmentBonus(StatType.DEFENSE));
 
         // =================== RESURSE SI CONSUMABILE ===================
         System.out.println("\n💰 RESURSE:");
@@ -2184,17 +2255,8 @@ public boolean useManaPotion() {
     /**
      * Calculează toate bonusurile din echipament
      */
-    private int getEquipmentBonus(String stat) {
-        if (echipat == null) return 0;
-
-        int bonus = 0;
-        for (ObiectEchipament item : echipat.values()) {
-            if (item != null) {
-                Map<String, Integer> itemBonuses = item.getTotalBonuses();
-                bonus += itemBonuses.getOrDefault(stat, 0);
-            }
-        }
-        return bonus;
+    private int getEquipmentBonus(StatType stat) {
+        return getStatSheet().getEquipmentBonus(stat);
     }
 
     /**
@@ -2206,10 +2268,9 @@ public boolean useManaPotion() {
         // Main hand weapon
         ObiectEchipament mainHand = getMainHandWeapon();
         if (mainHand != null) {
-            Map<String, Integer> bonuses = mainHand.getTotalBonuses();
-            totalDamage += bonuses.getOrDefault("Damage", 0);
-            totalDamage += bonuses.getOrDefault("damage_bonus", 0);
-            totalDamage += bonuses.getOrDefault("attack_bonus", 0);
+            totalDamage += mainHand.getTotalBonus(StatType.WEAPON_DAMAGE);
+            totalDamage += mainHand.getTotalBonus(StatType.DAMAGE_BONUS);
+            totalDamage += mainHand.getTotalBonus(StatType.ATTACK_BONUS);
         }
 
         // Off hand weapon (la 50% eficiență)
@@ -2217,9 +2278,8 @@ public boolean useManaPotion() {
         if (offHand != null && offHand.canEquipInOffHand() &&
                 (offHand.getTip() == ObiectEchipament.TipEchipament.OFF_HAND_WEAPON ||
                         offHand.getTip() == ObiectEchipament.TipEchipament.WEAPON_ONE_HANDED)) {
-            Map<String, Integer> bonuses = offHand.getTotalBonuses();
-            totalDamage += (bonuses.getOrDefault("Damage", 0) / 2); // 50% pentru off-hand
-            totalDamage += (bonuses.getOrDefault("damage_bonus", 0) / 2);
+            totalDamage += (offHand.getTotalBonus(StatType.WEAPON_DAMAGE) / 2); // 50% pentru off-hand
+            totalDamage += (offHand.getTotalBonus(StatType.DAMAGE_BONUS) / 2);
         }
 
         // Apply talent tree damage bonus (% increased damage)
@@ -2241,8 +2301,30 @@ public boolean useManaPotion() {
 
 // ==================== INVENTAR (WRAPPER PENTRU COMPATIBILITATE) ====================
 
+    // Creat o singură dată; ține doar vederi peste câmpurile eroului
+    private transient InventarWrapper inventarView;
+
     public InventarWrapper getInventar() {
-        return new InventarWrapper(this);
+        if (inventarView == null) {
+            inventarView = new InventarWrapper(this);
+        }
+        return inventarView;
+    }
+
+    /**
+     * Inventarul de echipament, cu indexuri pe tip, categorie, slot, raritate și nivel
+     */
+    public InventoryStore getInventoryStore() {
+        return (InventoryStore) inventar;
+    }
+
+    /**
+     * Salvările Java vechi au inventarul ca ArrayList - îl transformă în InventoryStore
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        inventar = InventoryStore.wrap(inventar);
     }
 
     // Clasă internă wrapper pentru inventar
@@ -2259,6 +2341,10 @@ public boolean useManaPotion() {
             return erou.inventar;
         }
 
+        public InventoryStore getStore() {
+            return erou.getInventoryStore();
+        }
+
         public boolean addItem(ObiectEchipament item) {
             return erou.inventar.add(item);
         }
@@ -2303,67 +2389,70 @@ public boolean useManaPotion() {
 
 
         // ========== POȚIUNI VINDECARE ==========
-
-        private Map<Integer, Integer> healthPotionsMap = new HashMap<>();
+        // Vedere peste contorul eroului (healthPotions), la vindecarea tier-ului curent
 
         public Map<Integer, Integer> getHealthPotions() {
-            // 🔄 MIGRARE AUTOMATĂ din sistemul vechi
-            if (healthPotionsMap.isEmpty() && erou.healthPotions > 0) {
-                // Migrează poțiunile vechi în noul sistem
-                int healAmount = erou.getHealthPotionHealing(); // Folosește tier-ul actual
-                healthPotionsMap.put(healAmount, erou.healthPotions);
-
-                System.out.printf("🔄 MIGRATED: %d poțiuni vechi → %d HP heal amount\\n",
-                        erou.healthPotions, healAmount);
-
-                // Opțional: resetează sistemul vechi pentru a evita confuzia
-                // erou.healthPotions = 0;
+            Map<Integer, Integer> potions = new HashMap<>();
+            if (erou.healthPotions > 0) {
+                potions.put(erou.getHealthPotionHealing(), erou.healthPotions);
             }
-            return healthPotionsMap;
+            return potions;
         }
 
         public boolean hasHealthPotion(int healAmount) {
-            return healthPotionsMap.getOrDefault(healAmount, 0) > 0;
+            return erou.healthPotions > 0;
         }
 
         public void removeHealthPotion(int healAmount) {
-            int current = healthPotionsMap.getOrDefault(healAmount, 0);
-            if (current > 1) {
-                healthPotionsMap.put(healAmount, current - 1);
-            } else {
-                healthPotionsMap.remove(healAmount);
-            }
+            erou.healthPotions = Math.max(0, erou.healthPotions - 1);
         }
 
         public void addHealthPotion(int healAmount) {
-            healthPotionsMap.merge(healAmount, 1, Integer::sum);
+            erou.healthPotions++;
+        }
+
+        /**
+         * Numărul total de poțiuni de vindecare
+         */
+        public int getHealthPotionCount() {
+            return erou.healthPotions;
         }
 
 
 
         // ========== POȚIUNI BUFF ==========
-
-        private Map<BuffPotion.BuffType, Integer> buffPotionsMap = new HashMap<>();
+        // Chiar map-ul eroului (cel salvat)
 
         public Map<BuffPotion.BuffType, Integer> getBuffPotions() {
-            return buffPotionsMap;
+            return erou.buffPotions;
         }
 
         public boolean hasBuffPotion(BuffPotion.BuffType type) {
-            return buffPotionsMap.getOrDefault(type, 0) > 0;
+            return erou.buffPotions.getOrDefault(type, 0) > 0;
         }
 
         public void removeBuffPotion(BuffPotion.BuffType type) {
-            int current = buffPotionsMap.getOrDefault(type, 0);
+            int current = erou.buffPotions.getOrDefault(type, 0);
             if (current > 1) {
-                buffPotionsMap.put(type, current - 1);
+                erou.buffPotions.put(type, current - 1);
             } else {
-                buffPotionsMap.remove(type);
+                erou.buffPotions.remove(type);
             }
         }
 
         public void addBuffPotion(BuffPotion.BuffType type, int quantity) {
-            buffPotionsMap.merge(type, quantity, Integer::sum);
+            erou.buffPotions.merge(type, quantity, Integer::sum);
+        }
+
+        /**
+         * Numărul total de poțiuni buff (o intrare pe BuffType)
+         */
+        public int getBuffPotionCount() {
+            int total = 0;
+            for (int quantity : erou.buffPotions.values()) {
+                total += quantity;
+            }
+            return total;
         }
 
         // ========== ENCHANT SCROLLS ==========
@@ -2435,7 +2524,7 @@ public boolean useManaPotion() {
 // ==================== METODE PENTRU POȚIUNI ====================
 
     public void addHealthPotion(int healAmount) {
-        getInventar().getHealthPotions().merge(healAmount, 1, Integer::sum);
+        getInventar().addHealthPotion(healAmount);
     }
 
 
@@ -2469,7 +2558,7 @@ public boolean useManaPotion() {
 
         ObiectEchipament arma = getArmaEchipata();
         if (arma != null) {
-            baseDamage += arma.getTotalBonuses().getOrDefault("Damage", 0);
+            baseDamage += arma.getTotalBonus(StatType.WEAPON_DAMAGE);
         }
 
         // 🆕 APLICĂ RUN ITEM DAMAGE MODIFIERS
@@ -2556,7 +2645,10 @@ public boolean useManaPotion() {
     public void setRunItemFlatDefense(int defense) { this.runItemFlatDefense = defense; }
 
     public double getRunItemDodgeBonus() { return runItemDodgeBonus; }
-    public void setRunItemDodgeBonus(double bonus) { this.runItemDodgeBonus = bonus; }
+    public void setRunItemDodgeBonus(double bonus) {
+        this.runItemDodgeBonus = bonus;
+        invalidateStatSheet();
+    }
 
     public double getRunItemLifesteal() { return runItemLifesteal; }
     public void setRunItemLifesteal(double lifesteal) { this.runItemLifesteal = lifesteal; }
@@ -2568,7 +2660,10 @@ public boolean useManaPotion() {
     public void setRunItemGoldMultiplier(double multiplier) { this.runItemGoldMultiplier = multiplier; }
 
     public double getRunItemCritBonus() { return runItemCritBonus; }
-    public void setRunItemCritBonus(double bonus) { this.runItemCritBonus = bonus; }
+    public void setRunItemCritBonus(double bonus) {
+        this.runItemCritBonus = bonus;
+        invalidateStatSheet();
+    }
 
     public void setRunItemElementalDamage(String element, int damage) {
         if (runItemElementalDamage == null) {
@@ -2618,4 +2713,428 @@ public boolean useManaPotion() {
         itemPockets.remove(pocket);
     }
 
-}
\ No newline at end of file
+    // 💾 FORMAT BINAR DE SALVARE
+    // Ordinea câmpurilor e parte din format - orice schimbare cere o versiune nouă în ErouBinaryCodec
+
+    /**
+     * Scrie starea persistentă a eroului (fără câmpurile transient).
+     * Numele și clasa sunt scrise de ErouBinaryCodec, care construiește instanța.
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        // writeJournaledVarInt = câmp care poate fi actualizat și prin jurnalul de auto-save
+        out.writeVarInt(nivel);
+        out.writeJournaledVarInt(xp);
+        out.writeVarInt(xpNecesarPentruUrmatoarelNivel);
+        out.writeJournaledVarInt(viata);
+        out.writeVarInt(viataMaxima);
+        out.writeJournaledVarInt(gold);
+        out.writeJournaledVarInt(scrap);
+        out.writeJournaledVarInt(shaormaRevival);
+        out.writeVarInt(strength);
+        out.writeVarInt(dexterity);
+        out.writeVarInt(intelligence);
+        out.writeVarInt(statPoints);
+        out.writeJournaledVarInt(passivePoints);
+        out.writeVarInt(defense);
+
+        // Salvările vechi deserializate pot avea null în câmpurile adăugate ulterior
+        Map<FlaskPiece.FlaskType, Integer> flasks = flaskPieces != null ? flaskPieces : Map.of();
+        Map<BuffPotion.BuffType, Integer> buffPots = buffPotions != null ? buffPotions : Map.of();
+        Map<EnchantScroll.EnchantType, EnchantScroll> scrolls = enchantScrolls != null ? enchantScrolls : Map.of();
+        Map<String, ObiectEchipament> equipped = echipat != null ? echipat : Map.of();
+        List<com.rpg.model.inventory.ItemPocket> pockets = itemPockets != null ? itemPockets : List.of();
+        List<Jewel> jewels = jewelInventory != null ? jewelInventory : List.of();
+        // Inventarul e urmărit de jurnal obiect cu obiect
+        List<ObiectEchipament> items = inventar != null && !out.isJournalMasked() ? inventar : List.of();
+        Map<String, BuffStack> buffs = buffuriActive != null ? buffuriActive : Map.of();
+        Map<String, DebuffStack> debuffs = debuffuriActive != null ? debuffuriActive : Map.of();
+        List<Abilitate> abilities = abilitati != null ? abilitati : List.of();
+
+        if (!out.isJournalMasked()) {
+            writeTalentState(out);
+        }
+
+        // Resurse
+        out.writeJournaledVarInt(resursaCurenta);
+        out.writeVarInt(resursaMaxima);
+        out.writeString(tipResursa);
+        out.writeJournaledVarInt(mana);
+        out.writeJournaledVarInt(rage);
+        out.writeVarInt(rageMaxim);
+        out.writeJournaledVarInt(energy);
+        out.writeVarInt(energyMaxim);
+
+        // Consumabile
+        out.writeJournaledVarInt(healthPotions);
+        out.writeJournaledVarInt(manaPotions);
+        out.writeEnum(healthPotionTier);
+        out.writeEnum(manaPotionTier);
+        out.writeVarInt(flasks.size());
+        for (Map.Entry<FlaskPiece.FlaskType, Integer> entry : flasks.entrySet()) {
+            out.writeEnum(entry.getKey());
+            out.writeVarInt(entry.getValue());
+        }
+        out.writeVarInt(buffPots.size());
+        for (Map.Entry<BuffPotion.BuffType, Integer> entry : buffPots.entrySet()) {
+            out.writeEnum(entry.getKey());
+            out.writeVarInt(entry.getValue());
+        }
+        out.writeVarInt(scrolls.size());
+        for (EnchantScroll scroll : scrolls.values()) {
+            out.writeEnum(scroll.getType());
+            out.writeVarInt(scroll.getQuantity());
+            out.writeVarInt(scroll.getEnchantLevel());
+        }
+
+        // Echipament: un tabel cu obiectele distincte, apoi referințe - același
+        // obiect poate fi în inventar, echipat și într-un pocket în același timp
+        Map<ObiectEchipament, Integer> itemIds = new IdentityHashMap<>();
+        List<ObiectEchipament> itemTable = new ArrayList<>();
+        for (ObiectEchipament item : items) registerItem(item, itemIds, itemTable);
+        for (ObiectEchipament item : equipped.values()) registerItem(item, itemIds, itemTable);
+        for (com.rpg.model.inventory.ItemPocket pocket : pockets) {
+            for (ObiectEchipament item : pocket.getItems()) registerItem(item, itemIds, itemTable);
+        }
+
+        out.writeVarInt(itemTable.size());
+        for (ObiectEchipament item : itemTable) {
+            item.writeBinary(out);
+        }
+        out.writeVarInt(items.size());
+        for (ObiectEchipament item : items) {
+            out.writeVarInt(itemIds.get(item));
+        }
+        out.writeVarInt(equipped.size());
+        for (Map.Entry<String, ObiectEchipament> entry : equipped.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeVarInt(itemIds.get(entry.getValue()));
+        }
+        out.writeVarInt(pockets.size());
+        for (com.rpg.model.inventory.ItemPocket pocket : pockets) {
+            out.writeString(pocket.getName());
+            out.writeString(pocket.getColor());
+            out.writeVarInt(pocket.getItems().size());
+            for (ObiectEchipament item : pocket.getItems()) {
+                out.writeVarInt(itemIds.get(item));
+            }
+        }
+
+        out.writeVarInt(jewels.size());
+        for (Jewel jewel : jewels) {
+            jewel.writeBinary(out);
+        }
+
+        // Efecte active
+        out.writeVarInt(buffs.size());
+        for (Map.Entry<String, BuffStack> entry : buffs.entrySet()) {
+            out.writeString(entry.getKey());
+            entry.getValue().writeBinary(out);
+        }
+        out.writeVarInt(debuffs.size());
+        for (Map.Entry<String, DebuffStack> entry : debuffs.entrySet()) {
+            out.writeString(entry.getKey());
+            entry.getValue().writeBinary(out);
+        }
+
+        // Abilitățile clasice sunt definite de clasă - salvăm doar numele și upgrade-urile
+        out.writeVarInt(abilities.size());
+        for (Abilitate abilitate : abilities) {
+            out.writeString(abilitate.getNume());
+            out.writeVarInt(abilitate.getUpgradeLevel());
+        }
+
+        getAbilityLoadout().writeBinary(out);
+        getDungeonProgression().writeBinary(out);
+    }
+
+    private static void registerItem(ObiectEchipament item, Map<ObiectEchipament, Integer> ids,
+                                     List<ObiectEchipament> table) {
+        if (item != null && !ids.containsKey(item)) {
+            ids.put(item, table.size());
+            table.add(item);
+        }
+    }
+
+    /**
+     * Citește starea scrisă de {@link #writeBinary} peste un erou proaspăt construit
+     * (cu numele și clasa din salvare).
+     */
+    public void readBinary(BinarySaveReader in) throws IOException {
+        nivel = in.readVarInt();
+        xp = in.readVarInt();
+        xpNecesarPentruUrmatoarelNivel = in.readVarInt();
+        viata = in.readVarInt();
+        viataMaxima = in.readVarInt();
+        gold = in.readVarInt();
+        scrap = in.readVarInt();
+        shaormaRevival = in.readVarInt();
+        strength = in.readVarInt();
+        dexterity = in.readVarInt();
+        intelligence = in.readVarInt();
+        statPoints = in.readVarInt();
+        passivePoints = in.readVarInt();
+        defense = in.readVarInt();
+
+        readTalentState(in);
+
+        resursaCurenta = in.readVarInt();
+        resursaMaxima = in.readVarInt();
+        tipResursa = in.readString();
+        mana = in.readVarInt();
+        rage = in.readVarInt();
+        rageMaxim = in.readVarInt();
+        energy = in.readVarInt();
+        energyMaxim = in.readVarInt();
+
+        healthPotions = in.readVarInt();
+        manaPotions = in.readVarInt();
+        PotionUpgradeService.PotionTier hpTier = in.readEnum(PotionUpgradeService.PotionTier.class);
+        PotionUpgradeService.PotionTier mpTier = in.readEnum(PotionUpgradeService.PotionTier.class);
+        healthPotionTier = hpTier != null ? hpTier : PotionUpgradeService.PotionTier.BASIC;
+        manaPotionTier = mpTier != null ? mpTier : PotionUpgradeService.PotionTier.BASIC;
+
+        flaskPieces = new HashMap<>();
+        int flaskCount = in.readVarInt();
+        for (int i = 0; i < flaskCount; i++) {
+            FlaskPiece.FlaskType type = in.readEnum(FlaskPiece.FlaskType.class);
+            int quantity = in.readVarInt();
+            if (type != null) flaskPieces.put(type, quantity);
+        }
+        buffPotions = new HashMap<>();
+        int buffPotionCount = in.readVarInt();
+        for (int i = 0; i < buffPotionCount; i++) {
+            BuffPotion.BuffType type = in.readEnum(BuffPotion.BuffType.class);
+            int quantity = in.readVarInt();
+            if (type != null) buffPotions.put(type, quantity);
+        }
+        enchantScrolls = new HashMap<>();
+        int scrollCount = in.readVarInt();
+        for (int i = 0; i < scrollCount; i++) {
+            EnchantScroll.EnchantType type = in.readEnum(EnchantScroll.EnchantType.class);
+            int quantity = in.readVarInt();
+            int level = in.readVarInt();
+            if (type != null) enchantScrolls.put(type, new EnchantScroll(type, quantity, level));
+        }
+
+        int itemCount = in.readVarInt();
+        List<ObiectEchipament> itemTable = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            itemTable.add(ObiectEchipament.readBinary(in));
+        }
+        inventar.clear();
+        int inventoryCount = in.readVarInt();
+        for (int i = 0; i < inventoryCount; i++) {
+            inventar.add(itemTable.get(in.readVarInt()));
+        }
+        echipat = new HashMap<>();
+        int equippedCount = in.readVarInt();
+        for (int i = 0; i < equippedCount; i++) {
+            String slot = in.readString();
+            echipat.put(slot, itemTable.get(in.readVarInt()));
+        }
+        itemPockets.clear();
+        int pocketCount = in.readVarInt();
+        for (int i = 0; i < pocketCount; i++) {
+            com.rpg.model.inventory.ItemPocket pocket = new com.rpg.model.inventory.ItemPocket(in.readString());
+            pocket.setColor(in.readString());
+            int pocketSize = in.readVarInt();
+            for (int j = 0; j < pocketSize; j++) {
+                pocket.getItems().add(itemTable.get(in.readVarInt()));
+            }
+            itemPockets.add(pocket);
+        }
+
+        jewelInventory.clear();
+        int jewelCount = in.readVarInt();
+        for (int i = 0; i < jewelCount; i++) {
+            jewelInventory.add(Jewel.readBinary(in));
+        }
+
+        buffuriActive.clear();
+        int buffCount = in.readVarInt();
+        for (int i = 0; i < buffCount; i++) {
+            String key = in.readString();
+            buffuriActive.put(key, BuffStack.readBinary(in));
+        }
+        debuffuriActive.clear();
+        int debuffCount = in.readVarInt();
+        for (int i = 0; i < debuffCount; i++) {
+            String key = in.readString();
+            debuffuriActive.put(key, DebuffStack.readBinary(in));
+        }
+
+        // Reconstruiește abilitățile clasei până la nivelul salvat, apoi
+        // păstrează doar ce era în salvare, în aceeași ordine
+        initializeazaAbilitati();
+        Map<String, Abilitate> available = new LinkedHashMap<>();
+        for (Abilitate abilitate : abilitati) {
+            available.putIfAbsent(abilitate.getNume(), abilitate);
+        }
+        for (int level = 1; level <= nivel; level++) {
+            Abilitate abilitate = abilitateSpecialaNivel(level);
+            if (abilitate != null) {
+                available.putIfAbsent(abilitate.getNume(), abilitate);
+            }
+        }
+        abilitati = new ArrayList<>();
+        int abilityCount = in.readVarInt();
+        for (int i = 0; i < abilityCount; i++) {
+            String name = in.readString();
+            int upgradeLevel = in.readVarInt();
+            Abilitate abilitate = available.get(name);
+            if (abilitate != null) {
+                while (abilitate.getUpgradeLevel() < upgradeLevel
+                        && abilitate.getUpgradeLevel() < abilitate.getMaxUpgradeLevel()) {
+                    abilitate.upgradeAbility();
+                }
+                abilitati.add(abilitate);
+            }
+        }
+
+        // Loadout-ul din salvare înlocuiește ce au deblocat abilitateSpecialaNivel/constructorul
+        abilityLoadout = AbilityLoadout.readBinary(in);
+        dungeonProgression = com.rpg.dungeon.model.DungeonProgression.readBinary(in);
+        invalidateStatSheet();
+    }
+
+    /**
+     * Câmpurile transient care influențează lupta (run items, bonusuri
+     * condiționale, momentele ultimei lovituri/ucideri). Nu fac parte din
+     * salvare, dar replay-ul unei lupte are nevoie de ele.
+     */
+    public void writeCombatState(BinarySaveWriter out) throws IOException {
+        out.writeDouble(runItemDamageMultiplier);
+        out.writeVarInt(runItemFlatDamage);
+        out.writeDouble(runItemDefenseMultiplier);
+        out.writeVarInt(runItemFlatDefense);
+        out.writeDouble(runItemDodgeBonus);
+        out.writeDouble(runItemLifesteal);
+        out.writeVarInt(runItemRegenPerTurn);
+        out.writeDouble(runItemGoldMultiplier);
+        out.writeDouble(runItemCritBonus);
+        out.writeIntMap(runItemElementalDamage != null ? runItemElementalDamage : Map.of());
+        out.writeDouble(conditionalDamage_FullHP);
+        out.writeDouble(conditionalDamage_LowHP);
+        out.writeDouble(conditionalDefense_FullHP);
+        out.writeDouble(conditionalCrit_NotHitRecently);
+        out.writeLong(lastHitTime);
+        out.writeLong(lastKillTime);
+        out.writeBoolean(isInBossFight);
+    }
+
+    public void readCombatState(BinarySaveReader in) throws IOException {
+        runItemDamageMultiplier = in.readDouble();
+        runItemFlatDamage = in.readVarInt();
+        runItemDefenseMultiplier = in.readDouble();
+        runItemFlatDefense = in.readVarInt();
+        runItemDodgeBonus = in.readDouble();
+        runItemLifesteal = in.readDouble();
+        runItemRegenPerTurn = in.readVarInt();
+        runItemGoldMultiplier = in.readDouble();
+        runItemCritBonus = in.readDouble();
+        runItemElementalDamage = new HashMap<>(in.readIntMap());
+        conditionalDamage_FullHP = in.readDouble();
+        conditionalDamage_LowHP = in.readDouble();
+        conditionalDefense_FullHP = in.readDouble();
+        conditionalCrit_NotHitRecently = in.readDouble();
+        lastHitTime = in.readLong();
+        lastKillTime = in.readLong();
+        isInBossFight = in.readBoolean();
+        invalidateStatSheet();
+    }
+
+    /**
+     * Nodurile de talent alocate și bonusurile lor (parte din writeBinary,
+     * scrisă separat și în jurnalul de auto-save)
+     */
+    public void writeTalentState(BinarySaveWriter out) throws IOException {
+        Set<Integer> talentNodes = allocatedTalentNodes != null ? allocatedTalentNodes : Set.of();
+
+        out.writeVarInt(talentNodes.size());
+        for (int nodeId : talentNodes) {
+            out.writeVarInt(nodeId);
+        }
+        out.writeDouble(talentCritChance);
+        out.writeDouble(talentCritMultiplier);
+        out.writeDouble(talentLifesteal);
+        out.writeDouble(talentDodge);
+        out.writeDouble(talentAttackSpeed);
+        out.writeDouble(talentDamageBonus);
+        out.writeVarInt(talentFlatHP);
+        out.writeVarInt(talentFlatDefense);
+        out.writeDouble(talentHPPercent);
+        out.writeDouble(talentDefensePercent);
+    }
+
+    public void readTalentState(BinarySaveReader in) throws IOException {
+        int nodeCount = in.readVarInt();
+        allocatedTalentNodes = new HashSet<>();
+        for (int i = 0; i < nodeCount; i++) {
+            allocatedTalentNodes.add(in.readVarInt());
+        }
+        talentCritChance = in.readDouble();
+        talentCritMultiplier = in.readDouble();
+        talentLifesteal = in.readDouble();
+        talentDodge = in.readDouble();
+        talentAttackSpeed = in.readDouble();
+        talentDamageBonus = in.readDouble();
+        talentFlatHP = in.readVarInt();
+        talentFlatDefense = in.readVarInt();
+        talentHPPercent = in.readDouble();
+        talentDefensePercent = in.readDouble();
+        invalidateStatSheet();
+    }
+
+    /**
+     * Valorile câmpurilor scrise cu writeJournaledVarInt, în ordine fixă
+     * (indexul face parte din formatul jurnalului de auto-save)
+     */
+    public int[] getJournalScalars() {
+        return new int[] {
+                xp, viata, gold, scrap, shaormaRevival, passivePoints,
+                resursaCurenta, mana, rage, energy, healthPotions, manaPotions,
+                getDungeonProgression().getDungeonTokens()
+        };
+    }
+
+    /**
+     * Restaurează valorile din {@link #getJournalScalars()}, fără recalculări
+     */
+    public void setJournalScalars(int[] values) {
+        xp = values[0];
+        viata = values[1];
+        gold = values[2];
+        scrap = values[3];
+        shaormaRevival = values[4];
+        passivePoints = values[5];
+        resursaCurenta = values[6];
+        mana = values[7];
+        rage = values[8];
+        energy = values[9];
+        healthPotions = values[10];
+        manaPotions = values[11];
+        getDungeonProgression().setDungeonTokens(values[12]);
+    }
+
+    /**
+     * True dacă obiectul e echipat sau pus într-un pocket - astfel de obiecte
+     * nu pot fi adăugate prin jurnal fără să li se piardă identitatea comună
+     */
+    public boolean isItemReferencedOutsideInventory(ObiectEchipament item) {
+        // Identitate, nu equals - două obiecte cu același nume/raritate sunt distincte
+        if (echipat != null) {
+            for (ObiectEchipament equipped : echipat.values()) {
+                if (equipped == item) return true;
+            }
+        }
+        if (itemPockets != null) {
+            for (com.rpg.model.inventory.ItemPocket pocket : itemPockets) {
+                for (ObiectEchipament pocketItem : pocket.getItems()) {
+                    if (pocketItem == item) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
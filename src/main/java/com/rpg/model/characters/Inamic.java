@@ -3,11 +3,16 @@ package com.rpg.model.characters;
 import com.rpg.model.effects.DebuffStack;
 import com.rpg.model.enemies.EnemyAffix;
 import com.rpg.model.enemies.EnemyTier;
+import com.rpg.model.items.LootDescriptor;
 import com.rpg.model.items.ObiectEchipament;
 import com.rpg.service.LootGenerator;
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
 import com.rpg.utils.GameConstants;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.RandomUtils;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -37,7 +42,10 @@ public class Inamic implements Serializable {
     private final double dropChance;
 
     // Loot system - NECESAR pentru GameService
-    private List<ObiectEchipament> lootTable;
+    // Doar descriptorul (nivel, boss, seed) se ține și se salvează; itemele se
+    // generează la prima cerere, după moartea inamicului
+    private LootDescriptor lootDescriptor;
+    private transient List<ObiectEchipament> lootTable;
 
     // Rezistențe și vulnerabilități
     private String tipDamageRezistent;
@@ -92,7 +100,6 @@ public class Inamic implements Serializable {
         this.boss = isBoss;
         this.debuffuriActive = new HashMap<>();
         this.abilitatiSpeciale = new ArrayList<>();
-        this.lootTable = new ArrayList<>();
 
         // Calculează damage și alte statistici
         this.damage = GameConstants.calculateEnemyDamage(nivel);
@@ -106,6 +113,21 @@ public class Inamic implements Serializable {
         generateLootTable();
     }
 
+    // constructor pt citirea din formatul binar - fara generare, restul vine din flux
+    private Inamic(String nume, int nivel, int viataMaxima, int defense, int gold, int xpOferit,
+                   int shards, double dropChance) {
+        this.nume = nume;
+        this.nivel = nivel;
+        this.viataMaxima = viataMaxima;
+        this.defense = defense;
+        this.goldReward = gold;
+        this.xpReward = xpOferit;
+        this.shards = shards;
+        this.dropChance = dropChance;
+        this.debuffuriActive = new HashMap<>();
+        this.abilitatiSpeciale = new ArrayList<>();
+    }
+
 // genereaza rezistente la inamici
     private void generateResistances() {
         String[] damageTypes = {
@@ -114,14 +136,14 @@ public class Inamic implements Serializable {
         };
 
         // 30% șansă să aibă rezistență la un tip
-        if (RandomUtils.chancePercent(30.0)) {
-            this.tipDamageRezistent = RandomUtils.randomElement(damageTypes);
+        if (RandomUtils.chancePercent(GameRandom.map(), 30.0)) {
+            this.tipDamageRezistent = RandomUtils.randomElement(GameRandom.map(), damageTypes);
         }
 
         // 20% șansă să aibă vulnerabilitate la un tip (diferit de rezistență)
-        if (RandomUtils.chancePercent(20.0)) {
+        if (RandomUtils.chancePercent(GameRandom.map(), 20.0)) {
             do {
-                this.tipDamageVulnerabil = RandomUtils.randomElement(damageTypes);
+                this.tipDamageVulnerabil = RandomUtils.randomElement(GameRandom.map(), damageTypes);
             } while (tipDamageVulnerabil != null &&
                     tipDamageVulnerabil.equals(tipDamageRezistent));
         }
@@ -147,10 +169,17 @@ public class Inamic implements Serializable {
         }
     }
 
-// genereaza loot-ul la un inamic , necesar la sf bataliei
+// pregateste loot-ul la un inamic (doar descriptorul), itemele se genereaza la sf bataliei
     private void generateLootTable() {
-        LootGenerator lootGen = new LootGenerator();
-        this.lootTable = lootGen.generatePossibleLoot(nivel, boss);
+        this.lootDescriptor = LootGenerator.describeLoot(nivel, boss);
+    }
+
+// itemele din tabela de loot, generate o singura data din descriptor
+    private List<ObiectEchipament> materializedLoot() {
+        if (lootTable == null) {
+            lootTable = LootGenerator.materializeLoot(getLootDescriptor());
+        }
+        return lootTable;
     }
 
     // =====================
@@ -178,7 +207,20 @@ public class Inamic implements Serializable {
 
 // getter pt loot table
     public List<ObiectEchipament> getLootTable() {
-        return new ArrayList<>(lootTable);
+        return new ArrayList<>(materializedLoot());
+    }
+
+// descriptorul de loot (salvarile vechi nu il au, primesc unul cu seed nou, tras o singura data)
+    public LootDescriptor getLootDescriptor() {
+        if (lootDescriptor == null) {
+            lootDescriptor = LootGenerator.describeLoot(nivel, boss);
+        }
+        return lootDescriptor;
+    }
+
+// arunca drop chance-ul si genereaza doar itemele care pica
+    public List<ObiectEchipament> rollLoot() {
+        return LootGenerator.rollLoot(getLootDescriptor(), dropChance);
     }
 
     // ===============================
@@ -536,6 +578,7 @@ public class Inamic implements Serializable {
     public String getTipDamageRezistent() { return tipDamageRezistent; }
     public String getTipDamageVulnerabil() { return tipDamageVulnerabil; }
     public double getCritChance() { return critChance; }
+    public int getRegenerareViata() { return regenerareViata; }
     public List<String> getAbilitatiSpeciale() { return new ArrayList<>(abilitatiSpeciale); }
 
     // 🆕 Elite tier and affix getters/setters
@@ -647,6 +690,14 @@ public class Inamic implements Serializable {
     }
 
     public int calculeazaDamage() {
+        return calculeazaDamage(GameRandom.combat());
+    }
+
+    /**
+     * Damage-ul unui atac, cu variația per-hit luată din generatorul dat
+     * (BattleEngine îi dă generatorul luptei, ca luptele cu seed să se repete)
+     */
+    public int calculeazaDamage(java.util.random.RandomGenerator random) {
         double damageMultiplier = 1.0;
 
         // Aplică modificatorii din debuff-uri (cod existent)
@@ -665,7 +716,6 @@ public class Inamic implements Serializable {
 
         // 🎲 ADAUGĂ VARIAȚIE PER-HIT (±15%)
         int variatie = (int)(baseDamage * 0.15);
-        java.util.Random random = new java.util.Random();
         int minDamage = Math.max(1, baseDamage - variatie);
         int maxDamage = baseDamage + variatie;
 
@@ -684,7 +734,7 @@ public class Inamic implements Serializable {
 
     // FIX: Alias pentru getLootTable()
     public List<ObiectEchipament> getLoot() {
-        return new ArrayList<>(lootTable);
+        return new ArrayList<>(materializedLoot());
     }
 
     // FIX: Metodă nouă pentru Șaorma reward
@@ -771,8 +821,7 @@ public class Inamic implements Serializable {
             return null;
         }
 
-        java.util.Random random = new java.util.Random();
-        return usableAbilities.get(random.nextInt(usableAbilities.size()));
+        return usableAbilities.get(GameRandom.combat().nextInt(usableAbilities.size()));
     }
 
     /**
@@ -937,5 +986,142 @@ public class Inamic implements Serializable {
         return sb.toString();
     }
 
+    // ================== FORMAT BINAR ==================
+    // Folosit de înregistrările de luptă; ordinea câmpurilor e parte din format
 
-}
\ No newline at end of file
+    /**
+     * Scrie starea completă a inamicului (inclusiv ce a adăugat generatorul și
+     * starea din luptă) în formatul binar
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeString(nume);
+        out.writeVarInt(nivel);
+        out.writeVarInt(viataMaxima);
+        out.writeVarInt(defense);
+        out.writeVarInt(goldReward);
+        out.writeVarInt(xpReward);
+        out.writeVarInt(shards);
+        out.writeDouble(dropChance);
+
+        out.writeVarInt(viata);
+        out.writeVarInt(damage);
+        out.writeBoolean(boss);
+        out.writeBoolean(inspectat);
+        out.writeBoolean(lootDescriptor != null);
+        if (lootDescriptor != null) {
+            out.writeVarInt(lootDescriptor.getLevel());
+            out.writeBoolean(lootDescriptor.isBoss());
+            out.writeLong(lootDescriptor.getSeed());
+        }
+
+        out.writeString(tipDamageRezistent);
+        out.writeString(tipDamageVulnerabil);
+        out.writeVarInt(debuffuriActive.size());
+        for (Map.Entry<String, DebuffStack> entry : debuffuriActive.entrySet()) {
+            out.writeString(entry.getKey());
+            entry.getValue().writeBinary(out);
+        }
+        out.writeDouble(critChance);
+        out.writeStrings(abilitatiSpeciale);
+        out.writeVarInt(regenerareViata);
+
+        out.writeEnum(tier);
+        out.writeVarInt(affixes.size());
+        for (EnemyAffix affix : affixes) {
+            out.writeEnum(affix);
+        }
+        out.writeBoolean(hasShield);
+        out.writeVarInt(shieldHealth);
+        out.writeBoolean(hasTeleported);
+        out.writeBoolean(hasSummonedMinion);
+
+        out.writeEnum(archetype);
+        out.writeVarInt(abilities.size());
+        for (com.rpg.model.enemies.EnemyAbility ability : abilities) {
+            out.writeEnum(ability);
+        }
+        out.writeVarInt(abilityCooldowns.size());
+        for (Map.Entry<com.rpg.model.enemies.EnemyAbility, Integer> entry : abilityCooldowns.entrySet()) {
+            out.writeEnum(entry.getKey());
+            out.writeVarInt(entry.getValue());
+        }
+
+        out.writeVarInt(abilityDamageReductionTurns);
+        out.writeDouble(abilityDamageReductionAmount);
+        out.writeVarInt(abilityDamageBuffTurns);
+        out.writeDouble(abilityDamageBuffAmount);
+        out.writeVarInt(abilityDefenseDebuffTurns);
+        out.writeDouble(abilityDefenseDebuffAmount);
+        out.writeBoolean(abilityEvasionActive);
+        out.writeVarInt(abilityEvasionTurns);
+    }
+
+    /**
+     * Citește un inamic scris de {@link #writeBinary}. Affix-urile și abilitățile
+     * care nu mai există în joc sunt sărite.
+     */
+    public static Inamic readBinary(BinarySaveReader in) throws IOException {
+        Inamic enemy = new Inamic(in.readString(), in.readVarInt(), in.readVarInt(), in.readVarInt(),
+                in.readVarInt(), in.readVarInt(), in.readVarInt(), in.readDouble());
+
+        enemy.viata = in.readVarInt();
+        enemy.damage = in.readVarInt();
+        enemy.boss = in.readBoolean();
+        enemy.inspectat = in.readBoolean();
+        if (in.readBoolean()) {
+            enemy.lootDescriptor = new LootDescriptor(in.readVarInt(), in.readBoolean(), in.readLong());
+        }
+
+        enemy.tipDamageRezistent = in.readString();
+        enemy.tipDamageVulnerabil = in.readString();
+        int debuffCount = in.readVarInt();
+        for (int i = 0; i < debuffCount; i++) {
+            String key = in.readString();
+            enemy.debuffuriActive.put(key, DebuffStack.readBinary(in));
+        }
+        enemy.critChance = in.readDouble();
+        enemy.abilitatiSpeciale.addAll(in.readStrings(ArrayList::new));
+        enemy.regenerareViata = in.readVarInt();
+
+        EnemyTier tier = in.readEnum(EnemyTier.class);
+        enemy.tier = tier != null ? tier : EnemyTier.NORMAL;
+        int affixCount = in.readVarInt();
+        for (int i = 0; i < affixCount; i++) {
+            EnemyAffix affix = in.readEnum(EnemyAffix.class);
+            if (affix != null) {
+                enemy.affixes.add(affix);
+            }
+        }
+        enemy.hasShield = in.readBoolean();
+        enemy.shieldHealth = in.readVarInt();
+        enemy.hasTeleported = in.readBoolean();
+        enemy.hasSummonedMinion = in.readBoolean();
+
+        enemy.archetype = in.readEnum(com.rpg.model.enemies.EnemyArchetype.class);
+        int abilityCount = in.readVarInt();
+        for (int i = 0; i < abilityCount; i++) {
+            com.rpg.model.enemies.EnemyAbility ability = in.readEnum(com.rpg.model.enemies.EnemyAbility.class);
+            if (ability != null) {
+                enemy.abilities.add(ability);
+            }
+        }
+        int cooldownCount = in.readVarInt();
+        for (int i = 0; i < cooldownCount; i++) {
+            com.rpg.model.enemies.EnemyAbility ability = in.readEnum(com.rpg.model.enemies.EnemyAbility.class);
+            int turns = in.readVarInt();
+            if (ability != null) {
+                enemy.abilityCooldowns.put(ability, turns);
+            }
+        }
+
+        enemy.abilityDamageReductionTurns = in.readVarInt();
+        enemy.abilityDamageReductionAmount = in.readDouble();
+        enemy.abilityDamageBuffTurns = in.readVarInt();
+        enemy.abilityDamageBuffAmount = in.readDouble();
+        enemy.abilityDefenseDebuffTurns = in.readVarInt();
+        enemy.abilityDefenseDebuffAmount = in.readDouble();
+        enemy.abilityEvasionActive = in.readBoolean();
+        enemy.abilityEvasionTurns = in.readVarInt();
+        return enemy;
+    }
+}
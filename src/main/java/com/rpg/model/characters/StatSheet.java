@@ -0,0 +1,69 @@
+package com.rpg.model.characters;
+
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.model.items.StatType;
+import com.rpg.model.items.StatVector;
+
+import java.util.Collection;
+
+/**
+ * Statisticile derivate ale unui erou, calculate o singură dată.
+ *
+ * Erou o reface doar când ceva din care e calculată se schimbă (echipament,
+ * talente, run items, debuff-uri, nivel); getter-ele din luptă citesc
+ * valorile direct. Obiectele echipate își pot schimba bonusurile fără ca
+ * eroul să afle (enhance, enchant), de aceea foaia ține versiunea fiecăruia.
+ */
+final class StatSheet {
+
+    // Bonusurile însumate de la toate obiectele echipate
+    final StatVector equipmentBonuses = new StatVector();
+
+    int strengthTotal;
+    int dexterityTotal;
+    int intelligenceTotal;
+    int defenseTotal;
+
+    double hitChance;
+    // Fără bonusul condițional (depinde de timp) și fără plafonul de 95%
+    double critChanceUncapped;
+    double dodgeChance;
+
+    private ObiectEchipament[] items = new ObiectEchipament[0];
+    private int[] versions = new int[0];
+
+    /**
+     * Recalculează bonusurile de echipament și reține versiunea fiecărui obiect
+     */
+    void captureEquipment(Collection<ObiectEchipament> equipped) {
+        equipmentBonuses.clear();
+        items = new ObiectEchipament[equipped.size()];
+        versions = new int[items.length];
+
+        int i = 0;
+        for (ObiectEchipament item : equipped) {
+            items[i] = item;
+            if (item != null) {
+                versions[i] = item.getBonusVersion();
+                item.addTotalBonusesTo(equipmentBonuses);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * True dacă niciun obiect echipat nu și-a schimbat bonusurile de la captură
+     */
+    boolean isEquipmentCurrent() {
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] != null && items[i].getBonusVersion() != versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getEquipmentBonus(StatType stat) {
+        return equipmentBonuses.get(stat);
+    }
+}
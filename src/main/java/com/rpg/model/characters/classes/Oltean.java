@@ -5,6 +5,7 @@ import com.rpg.model.abilities.AbilityDefinitions;
 import com.rpg.model.abilities.AbilityType;
 import com.rpg.model.abilities.ConfiguredAbility;
 import com.rpg.utils.GameConstants;
+import com.rpg.utils.GameRandom;
 
 import java.io.Serializable;
 import java.util.Arrays;
@@ -226,7 +227,7 @@ public class Oltean extends com.rpg.model.characters.Erou implements Serializabl
     public void iaDamage(int damage) {
         if (ascuns && turiAscuns > 0) {
             double evitare = 70.0;
-            if (Math.random() * 100 < evitare) {
+            if (GameRandom.combat().nextDouble() * 100 < evitare) {
                 System.out.println("💨 " + getNume() + " evită damage-ul fiind ascuns!");
               //  System.out.println(getRandomLine(STEALTH_LINES));
                 return;
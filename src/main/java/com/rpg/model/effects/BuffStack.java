@@ -1,5 +1,12 @@
 package com.rpg.model.effects;
 
+import com.rpg.model.items.DoubleStatVector;
+import com.rpg.model.items.StatType;
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -11,13 +18,17 @@ public class BuffStack implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
-    private Map<String, Double> modificatori;
+    private DoubleStatVector modificatori;
     private int durata;
     private int stacks;
     private int maxStacks;
 
     public BuffStack(Map<String, Double> modificatori, int durata, int maxStacks) {
-        this.modificatori = new HashMap<>(modificatori);
+        this(DoubleStatVector.fromMap(modificatori), durata, maxStacks);
+    }
+
+    public BuffStack(DoubleStatVector modificatori, int durata, int maxStacks) {
+        this.modificatori = new DoubleStatVector(modificatori);
         this.durata = durata;
         this.stacks = 1;
         this.maxStacks = maxStacks;
@@ -55,18 +66,32 @@ public class BuffStack implements Serializable {
      */
     public Map<String, Double> getAllModifiers() {
         Map<String, Double> result = new HashMap<>();
-        for (Map.Entry<String, Double> entry : modificatori.entrySet()) {
-            // Modificatorii se aplică multiplicativ pe stacks
-            double baseValue = entry.getValue();
-            double stackMultiplier = 1.0 + ((baseValue - 1.0) * stacks);
-            result.put(entry.getKey(), stackMultiplier);
-        }
+        modificatori.forEach((stat, baseValue) -> result.put(stat, stackedValue(baseValue)));
         return result;
     }
 
+    /**
+     * True dacă buff-ul modifică statul dat
+     */
+    public boolean hasModifier(StatType stat) {
+        return modificatori.contains(stat);
+    }
+
+    /**
+     * Modificatorul unui stat multiplicat cu nr de stacks, fără copia din getAllModifiers
+     */
+    public double getModifier(StatType stat) {
+        return stackedValue(modificatori.get(stat));
+    }
+
+    private double stackedValue(double baseValue) {
+        // Modificatorii se aplică multiplicativ pe stacks
+        return 1.0 + ((baseValue - 1.0) * stacks);
+    }
+
     // Getteri
     public Map<String, Double> getModificatori() {
-        return new HashMap<>(modificatori);
+        return modificatori.toMap();
     }
 
     public int getDurata() {
@@ -80,4 +105,41 @@ public class BuffStack implements Serializable {
     public int getMaxStacks() {
         return maxStacks;
     }
-}
\ No newline at end of file
+
+    /**
+     * Scrie buff-ul în formatul binar de salvare
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        modificatori.writeBinary(out);
+        out.writeVarInt(durata);
+        out.writeVarInt(stacks);
+        out.writeVarInt(maxStacks);
+    }
+
+    /**
+     * Citește un buff scris de {@link #writeBinary}
+     */
+    public static BuffStack readBinary(BinarySaveReader in) throws IOException {
+        BuffStack stack = new BuffStack(DoubleStatVector.readBinary(in), in.readVarInt(), 1);
+        stack.stacks = in.readVarInt();
+        stack.maxStacks = in.readVarInt();
+        return stack;
+    }
+
+    /**
+     * Salvările vechi (Java serialization) au modificatorii ca HashMap&lt;String, Double&gt;
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+
+        durata = fields.get("durata", 0);
+        stacks = fields.get("stacks", 1);
+        maxStacks = fields.get("maxStacks", 1);
+
+        Object stored = fields.get("modificatori", null);
+        modificatori = stored instanceof DoubleStatVector vector
+                ? vector
+                : DoubleStatVector.fromMap(stored instanceof Map ? (Map<String, Double>) stored : null);
+    }
+}
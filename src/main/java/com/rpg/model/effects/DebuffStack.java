@@ -1,5 +1,9 @@
 package com.rpg.model.effects;
 
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -87,4 +91,24 @@ public class DebuffStack implements Serializable {
     public int getMaxStacks() {
         return maxStacks;
     }
-}
\ No newline at end of file
+
+    /**
+     * Scrie debuff-ul în formatul binar de salvare
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeDoubleMap(effects);
+        out.writeVarInt(durata);
+        out.writeVarInt(stacks);
+        out.writeVarInt(maxStacks);
+    }
+
+    /**
+     * Citește un debuff scris de {@link #writeBinary}
+     */
+    public static DebuffStack readBinary(BinarySaveReader in) throws IOException {
+        DebuffStack stack = new DebuffStack(in.readDoubleMap(), in.readVarInt(), 1);
+        stack.stacks = in.readVarInt();
+        stack.maxStacks = in.readVarInt();
+        return stack;
+    }
+}
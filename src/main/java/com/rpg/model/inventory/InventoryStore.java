@@ -0,0 +1,417 @@
+package com.rpg.model.inventory;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.model.items.ObiectEchipament.Raritate;
+import com.rpg.model.items.ObiectEchipament.TipEchipament;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Inventarul de echipament al eroului, cu indexuri ținute la zi la fiecare
+ * adăugare și ștergere: pe TipEchipament, raritate și nivel necesar.
+ * Categoria generală (WEAPON, ARMOR...) și slotul de echipare depind doar de
+ * tip, așa că se răspund din indexul pe tip.
+ *
+ * E o List obișnuită, deci codul care face add/remove/iterare pe
+ * getInventar().getItems() merge ca înainte și ține indexurile corecte.
+ * Fiecare intrare are un număr de ordine; listele din indexuri păstrează
+ * ordinea din inventar și se pot combina fără să parcurgi tot inventarul.
+ * Adăugarea la final și ștergerea sunt incrementale; inserarea la mijloc
+ * renumerotează tot (rar - inventarul se umple doar prin adăugare la final).
+ *
+ * Un item din inventar modificat pe loc (setTip, setRaritate, setNivelNecesar)
+ * trebuie anunțat cu reindex(), altfel rămâne în indexurile vechi.
+ *
+ * Listener-ii primesc fiecare schimbare, pe thread-ul care a făcut-o.
+ * La serializare Java se scrie ca ArrayList, deci formatul vechi nu se schimbă.
+ */
+public class InventoryStore extends AbstractList<ObiectEchipament> implements RandomAccess, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Primește schimbările din inventar
+     */
+    public interface Listener {
+        void itemAdded(ObiectEchipament item);
+
+        void itemRemoved(ObiectEchipament item);
+
+        /**
+         * Conținutul s-a schimbat în bloc (golire, încărcare, reordonare)
+         */
+        void inventoryReset();
+    }
+
+    // Un loc din inventar; cheile sunt cele sub care a fost indexat
+    private static final class Entry {
+        final ObiectEchipament item;
+        long order;
+        TipEchipament tip;
+        Raritate raritate;
+        int nivel;
+
+        Entry(ObiectEchipament item, long order) {
+            this.item = item;
+            this.order = order;
+            this.tip = item.getTip();
+            this.raritate = item.getRaritate();
+            this.nivel = item.getNivelNecesar();
+        }
+    }
+
+    private static final Comparator<Entry> BY_ORDER = Comparator.comparingLong(e -> e.order);
+
+    private final ArrayList<Entry> entries = new ArrayList<>();
+    private final Map<TipEchipament, List<Entry>> byType = new EnumMap<>(TipEchipament.class);
+    private final Map<Raritate, List<Entry>> byRarity = new EnumMap<>(Raritate.class);
+    private final TreeMap<Integer, List<Entry>> byLevel = new TreeMap<>();
+    private long nextOrder;
+
+    private final transient List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public InventoryStore() {
+    }
+
+    public InventoryStore(Collection<? extends ObiectEchipament> items) {
+        entries.ensureCapacity(items.size());
+        for (ObiectEchipament item : items) {
+            Entry entry = new Entry(Objects.requireNonNull(item), nextOrder++);
+            entries.add(entry);
+            index(entry);
+        }
+    }
+
+    /**
+     * Lista dată ca InventoryStore (aceeași instanță dacă e deja unul)
+     */
+    public static InventoryStore wrap(List<ObiectEchipament> items) {
+        if (items instanceof InventoryStore store) {
+            return store;
+        }
+        return items != null ? new InventoryStore(items) : new InventoryStore();
+    }
+
+    // ==================== LIST ====================
+
+    @Override
+    public ObiectEchipament get(int index) {
+        return entries.get(index).item;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean add(ObiectEchipament item) {
+        Entry entry = new Entry(Objects.requireNonNull(item), nextOrder++);
+        entries.add(entry);
+        index(entry);
+        modCount++;
+        for (Listener listener : listeners) {
+            listener.itemAdded(item);
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, ObiectEchipament item) {
+        if (index == entries.size()) {
+            add(item);
+            return;
+        }
+        entries.add(index, new Entry(Objects.requireNonNull(item), 0));
+        rebuild();
+        modCount++;
+        for (Listener listener : listeners) {
+            listener.itemAdded(item);
+        }
+    }
+
+    @Override
+    public ObiectEchipament set(int index, ObiectEchipament item) {
+        Entry old = entries.get(index);
+        Entry entry = new Entry(Objects.requireNonNull(item), old.order); // Ia locul celui vechi
+        unindex(old);
+        entries.set(index, entry);
+        index(entry);
+        for (Listener listener : listeners) {
+            listener.itemRemoved(old.item);
+            listener.itemAdded(item);
+        }
+        return old.item;
+    }
+
+    @Override
+    public ObiectEchipament remove(int index) {
+        Entry entry = entries.remove(index);
+        unindex(entry);
+        modCount++;
+        for (Listener listener : listeners) {
+            listener.itemRemoved(entry.item);
+        }
+        return entry.item;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        byType.clear();
+        byRarity.clear();
+        byLevel.clear();
+        modCount++;
+        for (Listener listener : listeners) {
+            listener.inventoryReset();
+        }
+    }
+
+    // ==================== INDEXURI ====================
+
+    /**
+     * Itemele de un tip, în ordinea din inventar
+     */
+    public List<ObiectEchipament> byType(TipEchipament tip) {
+        return items(byType.get(tip));
+    }
+
+    /**
+     * Itemele de oricare din tipurile date, în ordinea din inventar
+     */
+    public List<ObiectEchipament> byTypes(Set<TipEchipament> tips) {
+        List<List<Entry>> buckets = new ArrayList<>(tips.size());
+        for (TipEchipament tip : tips) {
+            buckets.add(byType.get(tip));
+        }
+        return merge(buckets);
+    }
+
+    /**
+     * Itemele dintr-o categorie generală (vezi ObiectEchipament.getGeneralCategory)
+     */
+    public List<ObiectEchipament> byCategory(String category) {
+        return byTypes(typesInCategory(category));
+    }
+
+    /**
+     * Itemele care se pot echipa într-un slot (Erou.MAIN_HAND, Erou.RING1...)
+     */
+    public List<ObiectEchipament> bySlot(String slot) {
+        return byTypes(typesForSlot(slot));
+    }
+
+    public List<ObiectEchipament> byRarity(Raritate raritate) {
+        return items(byRarity.get(raritate));
+    }
+
+    /**
+     * Itemele cu nivel necesar cel mult nivelul dat
+     */
+    public List<ObiectEchipament> usableAt(int nivel) {
+        return merge(new ArrayList<>(byLevel.headMap(nivel, true).values()));
+    }
+
+    public int countByType(TipEchipament tip) {
+        return count(byType.get(tip));
+    }
+
+    public int countByTypes(Set<TipEchipament> tips) {
+        int total = 0;
+        for (TipEchipament tip : tips) {
+            total += count(byType.get(tip));
+        }
+        return total;
+    }
+
+    public int countByCategory(String category) {
+        return countByTypes(typesInCategory(category));
+    }
+
+    public int countBySlot(String slot) {
+        return countByTypes(typesForSlot(slot));
+    }
+
+    public int countByRarity(Raritate raritate) {
+        return count(byRarity.get(raritate));
+    }
+
+    public int countUsableAt(int nivel) {
+        int total = 0;
+        for (List<Entry> bucket : byLevel.headMap(nivel, true).values()) {
+            total += bucket.size();
+        }
+        return total;
+    }
+
+    /**
+     * Mută în indexurile corecte un item modificat pe loc (tip, raritate, nivel)
+     */
+    public void reindex(ObiectEchipament item) {
+        boolean changed = false;
+        for (Entry entry : entries) {
+            if (entry.item == item && (entry.tip != item.getTip() || entry.raritate != item.getRaritate()
+                    || entry.nivel != item.getNivelNecesar())) {
+                unindex(entry);
+                entry.tip = item.getTip();
+                entry.raritate = item.getRaritate();
+                entry.nivel = item.getNivelNecesar();
+                index(entry);
+                changed = true;
+            }
+        }
+        if (changed) {
+            for (Listener listener : listeners) {
+                listener.itemRemoved(item);
+                listener.itemAdded(item);
+            }
+        }
+    }
+
+    // ==================== LISTENERS ====================
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    // ==================== SLOTURI ȘI CATEGORII ====================
+
+    /**
+     * Tipurile dintr-o categorie generală; necunoscută = niciunul
+     */
+    public static Set<TipEchipament> typesInCategory(String category) {
+        Set<TipEchipament> tips = EnumSet.noneOf(TipEchipament.class);
+        for (TipEchipament tip : TipEchipament.values()) {
+            if (ObiectEchipament.generalCategoryOf(tip).equals(category)) {
+                tips.add(tip);
+            }
+        }
+        return tips;
+    }
+
+    /**
+     * Tipurile care intră într-un slot; RING1 și RING2 acceptă aceleași inele
+     */
+    public static Set<TipEchipament> typesForSlot(String slot) {
+        return switch (slot) {
+            case Erou.MAIN_HAND -> EnumSet.of(TipEchipament.WEAPON_ONE_HANDED, TipEchipament.WEAPON_TWO_HANDED);
+            case Erou.OFF_HAND -> EnumSet.of(TipEchipament.SHIELD, TipEchipament.OFF_HAND_WEAPON,
+                    TipEchipament.OFF_HAND_MAGIC);
+            case Erou.ARMOR -> EnumSet.of(TipEchipament.ARMOR);
+            case Erou.HELMET -> EnumSet.of(TipEchipament.HELMET);
+            case Erou.GLOVES -> EnumSet.of(TipEchipament.GLOVES);
+            case Erou.BOOTS -> EnumSet.of(TipEchipament.BOOTS);
+            case Erou.RING1, Erou.RING2 -> EnumSet.of(TipEchipament.RING);
+            case Erou.NECKLACE -> EnumSet.of(TipEchipament.NECKLACE);
+            default -> EnumSet.noneOf(TipEchipament.class);
+        };
+    }
+
+    // ==================== INTERN ====================
+
+    private void index(Entry entry) {
+        insert(byType.computeIfAbsent(entry.tip, t -> new ArrayList<>()), entry);
+        insert(byRarity.computeIfAbsent(entry.raritate, r -> new ArrayList<>()), entry);
+        insert(byLevel.computeIfAbsent(entry.nivel, n -> new ArrayList<>()), entry);
+    }
+
+    private void unindex(Entry entry) {
+        removeFrom(byType.get(entry.tip), entry);
+        removeFrom(byRarity.get(entry.raritate), entry);
+        List<Entry> level = byLevel.get(entry.nivel);
+        removeFrom(level, entry);
+        if (level != null && level.isEmpty()) {
+            byLevel.remove(entry.nivel);
+        }
+    }
+
+    // Listele din indexuri sunt sortate după order; de obicei intrarea nouă e ultima
+    private static void insert(List<Entry> bucket, Entry entry) {
+        int size = bucket.size();
+        if (size == 0 || bucket.get(size - 1).order < entry.order) {
+            bucket.add(entry);
+            return;
+        }
+        int position = Collections.binarySearch(bucket, entry, BY_ORDER);
+        bucket.add(position < 0 ? -position - 1 : position, entry);
+    }
+
+    private static void removeFrom(List<Entry> bucket, Entry entry) {
+        if (bucket == null) {
+            return;
+        }
+        int position = Collections.binarySearch(bucket, entry, BY_ORDER);
+        if (position >= 0 && bucket.get(position) == entry) {
+            bucket.remove(position);
+        }
+    }
+
+    // Renumerotează în ordinea din inventar și reface indexurile
+    private void rebuild() {
+        byType.clear();
+        byRarity.clear();
+        byLevel.clear();
+        nextOrder = 0;
+        for (Entry entry : entries) {
+            entry.order = nextOrder++;
+            index(entry);
+        }
+    }
+
+    private static int count(List<Entry> bucket) {
+        return bucket != null ? bucket.size() : 0;
+    }
+
+    private static List<ObiectEchipament> items(List<Entry> bucket) {
+        if (bucket == null) {
+            return new ArrayList<>();
+        }
+        List<ObiectEchipament> items = new ArrayList<>(bucket.size());
+        for (Entry entry : bucket) {
+            items.add(entry.item);
+        }
+        return items;
+    }
+
+    // Reunește mai multe liste sortate, păstrând ordinea din inventar
+    private static List<ObiectEchipament> merge(List<List<Entry>> buckets) {
+        buckets.removeIf(bucket -> bucket == null || bucket.isEmpty());
+        if (buckets.size() <= 1) {
+            return items(buckets.isEmpty() ? null : buckets.get(0));
+        }
+        List<Entry> merged = new ArrayList<>();
+        for (List<Entry> bucket : buckets) {
+            merged.addAll(bucket);
+        }
+        merged.sort(BY_ORDER);
+        return items(merged);
+    }
+
+    /**
+     * Se salvează ca ArrayList simplu; Erou îl reîmpachetează la citire
+     */
+    @Serial
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+}
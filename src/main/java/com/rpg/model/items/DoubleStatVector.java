@@ -0,0 +1,185 @@
+package com.rpg.model.items;
+
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Varianta cu valori double a lui StatVector, pentru modificatorii de jewel
+ * (procente, bonusuri fracționare) și multiplicatorii de buff.
+ */
+public final class DoubleStatVector implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Ca ObjIntConsumer, pentru valori double fără boxing
+     */
+    @FunctionalInterface
+    public interface StatConsumer {
+        void accept(String key, double value);
+    }
+
+    private final double[] values = new double[StatType.count()];
+    private long present;
+    private Map<String, Double> extra;
+
+    public DoubleStatVector() {
+    }
+
+    public DoubleStatVector(DoubleStatVector other) {
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        present = other.present;
+        if (other.extra != null) {
+            extra = new LinkedHashMap<>(other.extra);
+        }
+    }
+
+    /**
+     * Adaptor pentru codul care încă lucrează cu map-uri string → double
+     */
+    public static DoubleStatVector fromMap(Map<String, Double> map) {
+        DoubleStatVector vector = new DoubleStatVector();
+        if (map != null) {
+            map.forEach((key, value) -> {
+                if (key != null && value != null) {
+                    vector.set(key, value);
+                }
+            });
+        }
+        return vector;
+    }
+
+    // ================== ACCES ==================
+
+    public double get(StatType stat) {
+        return values[stat.ordinal()];
+    }
+
+    public double get(String key) {
+        StatType stat = StatType.fromKey(key);
+        if (stat != null) {
+            return values[stat.ordinal()];
+        }
+        return extra != null ? extra.getOrDefault(key, 0.0) : 0.0;
+    }
+
+    public boolean contains(StatType stat) {
+        return (present & bit(stat)) != 0;
+    }
+
+    public boolean contains(String key) {
+        StatType stat = StatType.fromKey(key);
+        if (stat != null) {
+            return contains(stat);
+        }
+        return extra != null && extra.containsKey(key);
+    }
+
+    public void set(StatType stat, double value) {
+        values[stat.ordinal()] = value;
+        present |= bit(stat);
+    }
+
+    public void set(String key, double value) {
+        StatType stat = StatType.fromKey(key);
+        if (stat != null) {
+            set(stat, value);
+        } else {
+            if (extra == null) {
+                extra = new LinkedHashMap<>();
+            }
+            extra.put(key, value);
+        }
+    }
+
+    public void remove(String key) {
+        StatType stat = StatType.fromKey(key);
+        if (stat != null) {
+            values[stat.ordinal()] = 0.0;
+            present &= ~bit(stat);
+        } else if (extra != null) {
+            extra.remove(key);
+        }
+    }
+
+    public boolean isEmpty() {
+        return present == 0 && (extra == null || extra.isEmpty());
+    }
+
+    public int size() {
+        return Long.bitCount(present) + (extra != null ? extra.size() : 0);
+    }
+
+    /**
+     * Parcurge modificatorii prezenți (ordinea StatType, apoi cheile necunoscute)
+     */
+    public void forEach(StatConsumer action) {
+        long bits = present;
+        while (bits != 0) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            action.accept(StatType.byOrdinal(ordinal).getKey(), values[ordinal]);
+            bits &= bits - 1;
+        }
+        if (extra != null) {
+            extra.forEach(action::accept);
+        }
+    }
+
+    /**
+     * Copie ca map string → double, pentru API-urile vechi
+     */
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    private static long bit(StatType stat) {
+        return 1L << stat.ordinal();
+    }
+
+    // ================== FORMAT BINAR ==================
+
+    /**
+     * Același layout ca BinarySaveWriter.writeDoubleMap - salvările existente rămân valide
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeVarInt(size());
+        long bits = present;
+        while (bits != 0) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            out.writeString(StatType.byOrdinal(ordinal).getKey());
+            out.writeDouble(values[ordinal]);
+            bits &= bits - 1;
+        }
+        if (extra != null) {
+            for (Map.Entry<String, Double> entry : extra.entrySet()) {
+                out.writeString(entry.getKey());
+                out.writeDouble(entry.getValue());
+            }
+        }
+    }
+
+    public static DoubleStatVector readBinary(BinarySaveReader in) throws IOException {
+        DoubleStatVector vector = new DoubleStatVector();
+        int size = in.readVarInt();
+        for (int i = 0; i < size; i++) {
+            String key = in.readString();
+            double value = in.readDouble();
+            if (key != null) {
+                vector.set(key, value);
+            }
+        }
+        return vector;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.rpg.model.items;
+
+import com.rpg.model.items.ObiectEchipament.TipEchipament;
+import com.rpg.model.items.ObiectEchipament.WeaponHandedness;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Partea comună, imutabilă, a unui obiect de echipament: numele afișat, tipul,
+ * handedness, clasa armei și dacă merge în off-hand.
+ *
+ * Template-urile sunt internate: toate obiectele cu aceleași valori țin o
+ * singură instanță (și un singur String pentru nume), iar ObiectEchipament
+ * păstrează doar ce e propriu fiecărui exemplar - nivel, raritate, bonusuri
+ * aruncate, enhancement, durabilitate, preț. Numele sunt combinații finite
+ * (bază + prefix + sufix, plus "+N" de la enhancement), deci registrul rămâne mic.
+ *
+ * O schimbare (redenumire, alt tip) nu modifică template-ul, ci cere altul cu with*().
+ */
+public final class ItemTemplate implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final ConcurrentHashMap<ItemTemplate, ItemTemplate> registry = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final TipEchipament tip;
+    private final WeaponHandedness handedness;
+    private final String weaponClass;
+    private final boolean offHandCompatible;
+
+    private ItemTemplate(String name, TipEchipament tip, WeaponHandedness handedness,
+                         String weaponClass, boolean offHandCompatible) {
+        this.name = name;
+        this.tip = tip;
+        this.handedness = handedness != null ? handedness : WeaponHandedness.ONE_HANDED;
+        this.weaponClass = weaponClass != null ? weaponClass : "";
+        this.offHandCompatible = offHandCompatible;
+    }
+
+    /**
+     * Template-ul internat cu valorile date
+     */
+    public static ItemTemplate of(String name, TipEchipament tip, WeaponHandedness handedness,
+                                  String weaponClass, boolean offHandCompatible) {
+        return intern(new ItemTemplate(name, tip, handedness, weaponClass, offHandCompatible));
+    }
+
+    private static ItemTemplate intern(ItemTemplate template) {
+        ItemTemplate existing = registry.putIfAbsent(template, template);
+        return existing != null ? existing : template;
+    }
+
+    /**
+     * Câte template-uri distincte există (pentru statistici de memorie)
+     */
+    public static int registeredCount() {
+        return registry.size();
+    }
+
+    public ItemTemplate withName(String name) {
+        return Objects.equals(this.name, name) ? this : of(name, tip, handedness, weaponClass, offHandCompatible);
+    }
+
+    public ItemTemplate withTip(TipEchipament tip) {
+        return this.tip == tip ? this : of(name, tip, handedness, weaponClass, offHandCompatible);
+    }
+
+    public ItemTemplate withHandedness(WeaponHandedness handedness) {
+        return this.handedness == handedness ? this : of(name, tip, handedness, weaponClass, offHandCompatible);
+    }
+
+    public ItemTemplate withWeaponClass(String weaponClass) {
+        return Objects.equals(this.weaponClass, weaponClass) ? this : of(name, tip, handedness, weaponClass, offHandCompatible);
+    }
+
+    public ItemTemplate withOffHandCompatible(boolean offHandCompatible) {
+        return this.offHandCompatible == offHandCompatible ? this : of(name, tip, handedness, weaponClass, offHandCompatible);
+    }
+
+    public String getName() { return name; }
+    public TipEchipament getTip() { return tip; }
+    public WeaponHandedness getHandedness() { return handedness; }
+    public String getWeaponClass() { return weaponClass; }
+    public boolean isOffHandCompatible() { return offHandCompatible; }
+
+    /**
+     * La deserializare revine la instanța din registru
+     */
+    @Serial
+    private Object readResolve() {
+        return intern(new ItemTemplate(name, tip, handedness, weaponClass, offHandCompatible));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ItemTemplate other)) return false;
+        return offHandCompatible == other.offHandCompatible
+                && tip == other.tip
+                && handedness == other.handedness
+                && Objects.equals(name, other.name)
+                && weaponClass.equals(other.weaponClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, tip, handedness, weaponClass, offHandCompatible);
+    }
+
+    @Override
+    public String toString() {
+        return "ItemTemplate{" + name + ", " + tip + ", " + handedness + ", " + weaponClass
+                + (offHandCompatible ? ", off-hand" : "") + "}";
+    }
+}
@@ -1,7 +1,11 @@
 package com.rpg.model.items;
 
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -80,10 +84,10 @@ public class Jewel implements Serializable {
     private int price;
 
     /**
-     * Map of stat modifiers this jewel provides
-     * Key examples: "damage", "hp_percent", "defense", "crit_chance", "dodge"
+     * Stat modifiers this jewel provides, indexed by StatType
+     * Key examples: "damage_percent", "hp_percent", "crit_chance", "all_stats"
      */
-    private Map<String, Double> modifiers;
+    private DoubleStatVector modifiers;
 
     /**
      * Whether this jewel is currently socketed
@@ -105,7 +109,7 @@ public class Jewel implements Serializable {
         this.type = type;
         this.rarity = rarity;
         this.requiredLevel = requiredLevel;
-        this.modifiers = new HashMap<>();
+        this.modifiers = new DoubleStatVector();
         this.isSocketed = false;
         this.price = calculateBasePrice();
         this.flavorText = "";
@@ -117,7 +121,7 @@ public class Jewel implements Serializable {
     public Jewel(String name, JewelType type, JewelRarity rarity, int requiredLevel,
                  Map<String, Double> modifiers, String flavorText) {
         this(name, type, rarity, requiredLevel);
-        this.modifiers = new HashMap<>(modifiers);
+        this.modifiers = DoubleStatVector.fromMap(modifiers);
         this.flavorText = flavorText;
     }
 
@@ -127,7 +131,7 @@ public class Jewel implements Serializable {
      * Adds a modifier to this jewel
      */
     public void addModifier(String stat, double value) {
-        modifiers.put(stat, value);
+        modifiers.set(stat, value);
     }
 
     /**
@@ -141,21 +145,35 @@ public class Jewel implements Serializable {
      * Gets the value of a specific modifier
      */
     public double getModifier(String stat) {
-        return modifiers.getOrDefault(stat, 0.0);
+        return modifiers.get(stat);
+    }
+
+    /**
+     * Gets the value of a specific modifier without a string lookup
+     */
+    public double getModifier(StatType stat) {
+        return modifiers.get(stat);
     }
 
     /**
-     * Gets all modifiers
+     * Gets all modifiers (copy, for code that still works with string keys)
      */
     public Map<String, Double> getModifiers() {
-        return new HashMap<>(modifiers);
+        return modifiers.toMap();
+    }
+
+    /**
+     * Number of modifiers, without copying them
+     */
+    public int getModifierCount() {
+        return modifiers.size();
     }
 
     /**
      * Checks if jewel has a specific modifier
      */
     public boolean hasModifier(String stat) {
-        return modifiers.containsKey(stat) && modifiers.get(stat) != 0.0;
+        return modifiers.contains(stat) && modifiers.get(stat) != 0.0;
     }
 
     // ==================== HELPER METHODS ====================
@@ -184,7 +202,7 @@ public class Jewel implements Serializable {
      */
     public Jewel createCopy() {
         Jewel copy = new Jewel(name, type, rarity, requiredLevel);
-        copy.modifiers = new HashMap<>(this.modifiers);
+        copy.modifiers = new DoubleStatVector(this.modifiers);
         copy.flavorText = this.flavorText;
         copy.price = this.price;
         return copy;
@@ -253,6 +271,57 @@ public class Jewel implements Serializable {
         return prefix + String.format("%.0f", value);
     }
 
+    // ==================== BINARY SAVE FORMAT ====================
+
+    /**
+     * Writes this jewel in the binary save format
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeString(name);
+        out.writeEnum(type);
+        out.writeEnum(rarity);
+        out.writeVarInt(requiredLevel);
+        out.writeVarInt(price);
+        out.writeBoolean(isSocketed);
+        out.writeString(flavorText);
+        modifiers.writeBinary(out);
+    }
+
+    /**
+     * Reads a jewel written by {@link #writeBinary}
+     */
+    public static Jewel readBinary(BinarySaveReader in) throws IOException {
+        Jewel jewel = new Jewel(in.readString(), in.readEnum(JewelType.class),
+                in.readEnum(JewelRarity.class), in.readVarInt());
+        jewel.price = in.readVarInt();
+        jewel.isSocketed = in.readBoolean();
+        jewel.flavorText = in.readString();
+        jewel.modifiers = DoubleStatVector.readBinary(in);
+        return jewel;
+    }
+
+    /**
+     * Old (Java serialization) saves store modifiers as a HashMap&lt;String, Double&gt;;
+     * fields are read by hand so the map can be converted.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+
+        name = (String) fields.get("name", null);
+        type = (JewelType) fields.get("type", null);
+        rarity = (JewelRarity) fields.get("rarity", null);
+        requiredLevel = fields.get("requiredLevel", 0);
+        price = fields.get("price", 0);
+        isSocketed = fields.get("isSocketed", false);
+        flavorText = (String) fields.get("flavorText", "");
+
+        Object storedModifiers = fields.get("modifiers", null);
+        modifiers = storedModifiers instanceof DoubleStatVector vector
+                ? vector
+                : DoubleStatVector.fromMap(storedModifiers instanceof Map ? (Map<String, Double>) storedModifiers : null);
+    }
+
     // ==================== GETTERS & SETTERS ====================
 
     public String getName() { return name; }
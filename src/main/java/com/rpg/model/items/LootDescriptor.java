@@ -0,0 +1,36 @@
+package com.rpg.model.items;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Descriptorul compact al loot-ului unui inamic: nivelul, dacă e boss și
+ * seed-ul din care se generează itemele.
+ *
+ * Inamicul nu mai ține iteme gata construite; LootGenerator le creează din
+ * descriptor abia când inamicul moare, și doar pe cele care chiar pică.
+ * Același descriptor dă mereu aceleași iteme, oricâte ar pica.
+ */
+public final class LootDescriptor implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int level;
+    private final boolean boss;
+    private final long seed;
+
+    public LootDescriptor(int level, boolean boss, long seed) {
+        this.level = level;
+        this.boss = boss;
+        this.seed = seed;
+    }
+
+    public int getLevel() { return level; }
+    public boolean isBoss() { return boss; }
+    public long getSeed() { return seed; }
+
+    @Override
+    public String toString() {
+        return "LootDescriptor{level=" + level + ", boss=" + boss + ", seed=" + seed + "}";
+    }
+}
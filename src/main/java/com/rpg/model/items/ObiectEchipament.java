@@ -1,5 +1,10 @@
 package com.rpg.model.items;
 
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,10 +18,9 @@ import java.util.Map;
 public class ObiectEchipament implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    // ✅ NOUT: Proprietăți pentru noul sistem
-    private WeaponHandedness handedness = WeaponHandedness.ONE_HANDED;
-    private boolean isOffHandCompatible = false;
-    private String weaponClass = ""; // "sword", "dagger", "staff", "wand", "orb", etc.
+    // ✅ Numele, tipul, handedness, clasa armei ("sword", "dagger", "staff"...) și
+    // compatibilitatea off-hand - partajate prin template-ul internat (vezi ItemTemplate)
+    private ItemTemplate template;
 
 
     // ==================== ENUM PENTRU WEAPON HANDEDNESS ====================
@@ -36,14 +40,16 @@ public class ObiectEchipament implements Serializable {
 
     // ==================== GETTERS/SETTERS NOI ====================
 
-    public WeaponHandedness getHandedness() { return handedness; }
-    public void setHandedness(WeaponHandedness handedness) { this.handedness = handedness; }
+    public WeaponHandedness getHandedness() { return template.getHandedness(); }
+    public void setHandedness(WeaponHandedness handedness) { this.template = template.withHandedness(handedness); }
+
+    public boolean isOffHandCompatible() { return template.isOffHandCompatible(); }
+    public void setOffHandCompatible(boolean offHandCompatible) { this.template = template.withOffHandCompatible(offHandCompatible); }
 
-    public boolean isOffHandCompatible() { return isOffHandCompatible; }
-    public void setOffHandCompatible(boolean offHandCompatible) { this.isOffHandCompatible = offHandCompatible; }
+    public String getWeaponClass() { return template.getWeaponClass(); }
+    public void setWeaponClass(String weaponClass) { this.template = template.withWeaponClass(weaponClass); }
 
-    public String getWeaponClass() { return weaponClass; }
-    public void setWeaponClass(String weaponClass) { this.weaponClass = weaponClass; }
+    public ItemTemplate getTemplate() { return template; }
 
     // ==================== HELPER METHODS ====================
 
@@ -51,6 +57,7 @@ public class ObiectEchipament implements Serializable {
      * Verifică dacă acest item poate fi echipat în main hand
      */
     public boolean canEquipInMainHand() {
+        TipEchipament tip = template.getTip();
         return tip == TipEchipament.WEAPON_ONE_HANDED ||
                 tip == TipEchipament.WEAPON_TWO_HANDED;
     }
@@ -59,18 +66,19 @@ public class ObiectEchipament implements Serializable {
      * Verifică dacă acest item poate fi echipat în off hand
      */
     public boolean canEquipInOffHand() {
+        TipEchipament tip = template.getTip();
         return tip == TipEchipament.SHIELD ||
                 tip == TipEchipament.OFF_HAND_WEAPON ||
                 tip == TipEchipament.OFF_HAND_MAGIC ||
-                (tip == TipEchipament.WEAPON_ONE_HANDED && isOffHandCompatible);
+                (tip == TipEchipament.WEAPON_ONE_HANDED && template.isOffHandCompatible());
     }
 
     /**
      * Verifică dacă acest item ocupă ambele mâini
      */
     public boolean isTwoHanded() {
-        return tip == TipEchipament.WEAPON_TWO_HANDED ||
-                handedness == WeaponHandedness.TWO_HANDED;
+        return template.getTip() == TipEchipament.WEAPON_TWO_HANDED ||
+                template.getHandedness() == WeaponHandedness.TWO_HANDED;
     }
 
     /**
@@ -176,17 +184,22 @@ public class ObiectEchipament implements Serializable {
 
     // ================== CAMPURI ==================
 
-    private String nume;
     private int nivelNecesar;
     private Raritate raritate;
-    private TipEchipament tip;
     private boolean equipped = false;
-    private Map<String, Integer> bonuses = new HashMap<>();
+    private StatVector bonuses = new StatVector();
     private int duritate = 100;
     private int pret;
     private int enhancementLevel = 0;
 
-    private Map<String, Integer> enhancementBonuses = new HashMap<>(); // Bonusuri din enhancement
+    // Bonusuri din enhancement; null cât timp obiectul nu e enhanced (majoritatea)
+    private StatVector enhancementBonuses;
+    private static final StatVector NO_BONUSES = new StatVector(); // Nu se modifică niciodată
+
+    // Bonusuri totale calculate o dată; null = trebuie recalculate
+    private transient StatVector totalBonusesCache;
+    // Crește la fiecare schimbare de bonusuri - Erou îl folosește ca să știe când își reface statisticile
+    private transient int bonusVersion;
 
     // ================== CONSTRUCTORI ==================
 
@@ -196,17 +209,25 @@ public class ObiectEchipament implements Serializable {
     public ObiectEchipament(String nume, int nivelNecesar, Raritate raritate, TipEchipament tip,
                             int strengthBonus, int dexterityBonus, int intelligenceBonus,
                             int defenseBonus, int pret) {
-        this.nume = nume;
+        this(ItemTemplate.of(nume, tip, WeaponHandedness.ONE_HANDED, "", false),
+                nivelNecesar, raritate, strengthBonus, dexterityBonus, intelligenceBonus, defenseBonus, pret);
+    }
+
+    /**
+     * Exemplar nou dintr-un template existent
+     */
+    public ObiectEchipament(ItemTemplate template, int nivelNecesar, Raritate raritate,
+                            int strengthBonus, int dexterityBonus, int intelligenceBonus,
+                            int defenseBonus, int pret) {
+        this.template = template;
         this.nivelNecesar = nivelNecesar;
         this.raritate = raritate;
-        this.tip = tip;
         this.pret = pret;
-        this.bonuses = new HashMap<>();
 
-        if (strengthBonus > 0) bonuses.put("strength", strengthBonus);
-        if (dexterityBonus > 0) bonuses.put("dexterity", dexterityBonus);
-        if (intelligenceBonus > 0) bonuses.put("intelligence", intelligenceBonus);
-        if (defenseBonus > 0) bonuses.put("defense", defenseBonus);
+        if (strengthBonus > 0) bonuses.set(StatType.STRENGTH, strengthBonus);
+        if (dexterityBonus > 0) bonuses.set(StatType.DEXTERITY, dexterityBonus);
+        if (intelligenceBonus > 0) bonuses.set(StatType.INTELLIGENCE, intelligenceBonus);
+        if (defenseBonus > 0) bonuses.set(StatType.DEFENSE, defenseBonus);
     }
 
     /**
@@ -216,13 +237,8 @@ public class ObiectEchipament implements Serializable {
                             int strengthBonus, int dexterityBonus, int intelligenceBonus,
                             int defenseBonus, int pret, WeaponHandedness handedness,
                             String weaponClass, boolean isOffHandCompatible) {
-        // Apelează constructorul existent
-        this(nume, nivelNecesar, raritate, tip, strengthBonus, dexterityBonus,
-                intelligenceBonus, defenseBonus, pret);
-
-        this.handedness = handedness;
-        this.weaponClass = weaponClass;
-        this.isOffHandCompatible = isOffHandCompatible;
+        this(ItemTemplate.of(nume, tip, handedness, weaponClass, isOffHandCompatible),
+                nivelNecesar, raritate, strengthBonus, dexterityBonus, intelligenceBonus, defenseBonus, pret);
     }
 
 
@@ -246,42 +262,46 @@ public class ObiectEchipament implements Serializable {
     }
 
     public TipEchipament getTip() {
-        return tip;
+        return template.getTip();
     }
 
     public void setTip(TipEchipament tip) {
-        this.tip = tip;
+        this.template = template.withTip(tip);
     }
 
     // Modifică getStrengthBonus() să folosească bonusurile totale:
     public int getStrengthBonus() {
-        return getTotalBonuses().getOrDefault("strength", 0);
+        return getTotalBonus(StatType.STRENGTH);
     }
 
     // Similar pentru celelalte bonusuri:
     public int getDexterityBonus() {
-        return getTotalBonuses().getOrDefault("dexterity", 0);
+        return getTotalBonus(StatType.DEXTERITY);
     }
 
     public int getIntelligenceBonus() {
-        return getTotalBonuses().getOrDefault("intelligence", 0);
+        return getTotalBonus(StatType.INTELLIGENCE);
     }
 
     public int getDefenseBonus() {
-        return getTotalBonuses().getOrDefault("defense", 0);
+        return getTotalBonus(StatType.DEFENSE);
     }
     // ================== METODE PENTRU LOOT GENERATOR ==================
 
     public void setBonuses(Map<String, Integer> bonuses) {
-        this.bonuses = new HashMap<>(bonuses);
+        setBonuses(StatVector.fromMap(bonuses));
+    }
+
+    public void setBonuses(StatVector bonuses) {
+        this.bonuses = new StatVector(bonuses);
+        invalidateBonuses();
     }
 
     public void increaseLevel(int amount) {
         this.nivelNecesar += amount;
         // Îmbunătățește și bonusurile
-        for (Map.Entry<String, Integer> entry : bonuses.entrySet()) {
-            bonuses.put(entry.getKey(), entry.getValue() + 1);
-        }
+        bonuses.addToEach(1);
+        invalidateBonuses();
         this.pret = calculateDefaultPrice();
     }
 
@@ -316,9 +336,10 @@ public class ObiectEchipament implements Serializable {
      * Calculează bonusurile de enhancement bazate pe nivelul actual.
      */
     private void updateEnhancementBonuses() {
-        enhancementBonuses.clear();
-
-        if (enhancementLevel > 0) {
+        if (enhancementLevel <= 0) {
+            enhancementBonuses = null;
+        } else {
+            StatVector enhancementBonuses = new StatVector();
             // Calculează bonusurile bazate pe enhancement level și raritate
             double rarityMultiplier = getRarityEnhancementMultiplier();
 
@@ -330,17 +351,19 @@ public class ObiectEchipament implements Serializable {
                 int percentBonus = (int) (baseValue * enhancementLevel * rarityMultiplier * 0.1); // 10% per nivel
                 int totalBonus = flatBonus + percentBonus;
 
-                enhancementBonuses.put(stat, totalBonus);
+                enhancementBonuses.set(stat, totalBonus);
             });
 
             // Adaugă bonusuri speciale la anumite nivele
             if (enhancementLevel >= 3) {
-                enhancementBonuses.put("damage_bonus", enhancementLevel * 2);
+                enhancementBonuses.set(StatType.DAMAGE_BONUS, enhancementLevel * 2);
             }
             if (enhancementLevel >= 5) {
-                enhancementBonuses.put("crit_chance", enhancementLevel);
+                enhancementBonuses.set(StatType.CRIT_CHANCE, enhancementLevel);
             }
+            this.enhancementBonuses = enhancementBonuses;
         }
+        invalidateBonuses();
     }
 
     /**
@@ -361,12 +384,12 @@ public class ObiectEchipament implements Serializable {
      */
     private void updateItemName() {
         // Înlătură enhancement-ul anterior din nume dacă există
-        String baseName = nume.replaceAll("\\s*\\+\\d+$", "");
+        String baseName = getNume().replaceAll("\\s*\\+\\d+$", "");
 
         if (enhancementLevel > 0) {
-            this.nume = baseName + " +" + enhancementLevel;
+            setNume(baseName + " +" + enhancementLevel);
         } else {
-            this.nume = baseName;
+            setNume(baseName);
         }
     }
 
@@ -374,13 +397,55 @@ public class ObiectEchipament implements Serializable {
      * Returnează bonusurile totale (de bază + enhancement).
      */
     public Map<String, Integer> getTotalBonuses() {
-        Map<String, Integer> totalBonuses = new HashMap<>(bonuses);
+        return totalBonuses().toMap();
+    }
+
+    /**
+     * Bonusul total pentru un stat, fără să copieze map-ul (folosit în luptă)
+     */
+    public int getTotalBonus(StatType stat) {
+        return totalBonuses().get(stat);
+    }
+
+    /**
+     * Ca mai sus, pentru cheile string vechi ("Damage", "crit_chance"...)
+     */
+    public int getTotalBonus(String stat) {
+        return totalBonuses().get(stat);
+    }
+
+    /**
+     * Adună bonusurile totale în {@code target}, fără copii intermediare
+     */
+    public void addTotalBonusesTo(StatVector target) {
+        target.addAll(totalBonuses());
+    }
+
+    /**
+     * Versiunea curentă a bonusurilor; se schimbă la enhancement, enchant, setBonuses
+     */
+    public int getBonusVersion() {
+        return bonusVersion;
+    }
+
+    private StatVector totalBonuses() {
+        if (enhancementBonuses == null) {
+            return bonuses; // Fără enhancement totalul e chiar bonusul de bază - nu e nevoie de copie
+        }
+        if (totalBonusesCache == null) {
+            StatVector totalBonuses = new StatVector(bonuses);
 
-        // Adaugă bonusurile de enhancement
-        enhancementBonuses.forEach((stat, enhancementBonus) ->
-                totalBonuses.merge(stat, enhancementBonus, Integer::sum));
+            // Adaugă bonusurile de enhancement
+            totalBonuses.addAll(enhancementBonuses);
 
-        return totalBonuses;
+            totalBonusesCache = totalBonuses;
+        }
+        return totalBonusesCache;
+    }
+
+    private void invalidateBonuses() {
+        totalBonusesCache = null;
+        bonusVersion++;
     }
 
     /**
@@ -393,23 +458,22 @@ public class ObiectEchipament implements Serializable {
         if (!isWeapon()) {  // ✅ Folosește helper method în loc de tip != WEAPON
             return 0; // Doar armele au attack bonus
         }
-        return getTotalBonuses().getOrDefault("attack_bonus", 0) +
-                getTotalBonuses().getOrDefault("damage_bonus", 0);
+        return getTotalBonus(StatType.ATTACK_BONUS) + getTotalBonus(StatType.DAMAGE_BONUS);
     }
 
     /**
      * Verifică dacă weapon-ul are enchantment de un anumit tip.
      */
     public boolean hasEnchantment(String enchantType) {
-        return getTotalBonuses().containsKey("enchant_" + enchantType.toLowerCase()) &&
-                getTotalBonuses().get("enchant_" + enchantType.toLowerCase()) > 0;
+        return getEnchantmentDamage(enchantType) > 0;
     }
 
     /**
      * Returnează damage-ul enchantment-ului de un anumit tip.
      */
     public int getEnchantmentDamage(String enchantType) {
-        return getTotalBonuses().getOrDefault("enchant_" + enchantType.toLowerCase(), 0);
+        StatType stat = StatType.forEnchantment(enchantType);
+        return stat != null ? getTotalBonus(stat) : getTotalBonus(StatType.ENCHANT_PREFIX + enchantType.toLowerCase());
     }
 
     /**
@@ -417,9 +481,9 @@ public class ObiectEchipament implements Serializable {
      */
     public Map<String, Integer> getAllEnchantments() {
         Map<String, Integer> enchantments = new HashMap<>();
-        getTotalBonuses().forEach((key, value) -> {
-            if (key.startsWith("enchant_") && value > 0) {
-                String enchantType = key.substring(8); // Remove "enchant_" prefix
+        totalBonuses().forEach((key, value) -> {
+            if (key.startsWith(StatType.ENCHANT_PREFIX) && value > 0) {
+                String enchantType = key.substring(StatType.ENCHANT_PREFIX.length());
                 enchantments.put(enchantType, value);
             }
         });
@@ -432,7 +496,7 @@ public class ObiectEchipament implements Serializable {
      * Returnează doar bonusurile de enhancement.
      */
     public Map<String, Integer> getEnhancementBonuses() {
-        return new HashMap<>(enhancementBonuses);
+        return (enhancementBonuses != null ? enhancementBonuses : NO_BONUSES).toMap();
     }
 
     /**
@@ -497,16 +561,118 @@ public class ObiectEchipament implements Serializable {
 
 
     public ObiectEchipament createCopy() {
-        ObiectEchipament copy = new ObiectEchipament(nume, nivelNecesar, raritate, tip,
+        // Template-ul e partajat, nu copiat; doar starea exemplarului e nouă
+        ObiectEchipament copy = new ObiectEchipament(template, nivelNecesar, raritate,
                 getStrengthBonus(), getDexterityBonus(), getIntelligenceBonus(), getDefenseBonus(), pret);
         copy.setDuritate(this.duritate);
         return copy;
     }
 
+    // ================== FORMAT BINAR DE SALVARE ==================
+
+    /**
+     * Scrie obiectul în formatul binar de salvare.
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeString(template.getName());
+        out.writeVarInt(nivelNecesar);
+        out.writeEnum(raritate);
+        out.writeEnum(template.getTip());
+        out.writeBoolean(equipped);
+        out.writeVarInt(duritate);
+        out.writeVarInt(pret);
+        out.writeVarInt(enhancementLevel);
+        out.writeEnum(template.getHandedness());
+        out.writeBoolean(template.isOffHandCompatible());
+        out.writeString(template.getWeaponClass());
+        bonuses.writeBinary(out);
+        (enhancementBonuses != null ? enhancementBonuses : NO_BONUSES).writeBinary(out);
+    }
+
+    /**
+     * Citește un obiect scris de {@link #writeBinary}.
+     */
+    public static ObiectEchipament readBinary(BinarySaveReader in) throws IOException {
+        String nume = in.readString();
+        int nivelNecesar = in.readVarInt();
+        Raritate raritate = in.readEnum(Raritate.class);
+        TipEchipament tip = in.readEnum(TipEchipament.class);
+        boolean equipped = in.readBoolean();
+        int duritate = in.readVarInt();
+        int pret = in.readVarInt();
+        int enhancementLevel = in.readVarInt();
+        WeaponHandedness handedness = in.readEnum(WeaponHandedness.class);
+        boolean offHandCompatible = in.readBoolean();
+        String weaponClass = in.readString();
+
+        ObiectEchipament item = new ObiectEchipament(
+                ItemTemplate.of(nume, tip, handedness, weaponClass, offHandCompatible),
+                nivelNecesar, raritate, 0, 0, 0, 0, pret);
+        item.equipped = equipped;
+        item.duritate = duritate;
+        item.enhancementLevel = enhancementLevel;
+
+        // Enhancement bonuses se păstrează ca atare - enchantment-urile se
+        // adaugă peste bonusuri după enhancement, deci nu pot fi recalculate
+        item.bonuses = StatVector.readBinary(in);
+        item.enhancementBonuses = nullIfEmpty(StatVector.readBinary(in));
+        return item;
+    }
+
+    /**
+     * Salvările vechi (Java serialization) au bonusurile ca HashMap&lt;String, Integer&gt;
+     * și numele, tipul, handedness etc. direct în obiect, nu într-un ItemTemplate.
+     * Câmpurile sunt citite manual ca ambele forme să ajungă la template + StatVector.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+
+        if (hasField(fields, "template")) {
+            template = (ItemTemplate) fields.get("template", null);
+        } else {
+            // Câmpurile vechi nu mai există în clasă: get() aruncă dacă lipsesc din stream
+            template = ItemTemplate.of(
+                    (String) legacyField(fields, "nume", null),
+                    (TipEchipament) legacyField(fields, "tip", null),
+                    (WeaponHandedness) legacyField(fields, "handedness", WeaponHandedness.ONE_HANDED),
+                    (String) legacyField(fields, "weaponClass", ""),
+                    hasField(fields, "isOffHandCompatible") && fields.get("isOffHandCompatible", false));
+        }
+        nivelNecesar = fields.get("nivelNecesar", 0);
+        raritate = (Raritate) fields.get("raritate", null);
+        equipped = fields.get("equipped", false);
+        duritate = fields.get("duritate", 100);
+        pret = fields.get("pret", 0);
+        enhancementLevel = fields.get("enhancementLevel", 0);
+        bonuses = toStatVector(fields.get("bonuses", null));
+        enhancementBonuses = nullIfEmpty(toStatVector(fields.get("enhancementBonuses", null)));
+    }
+
+    private static boolean hasField(ObjectInputStream.GetField fields, String name) {
+        return fields.getObjectStreamClass().getField(name) != null;
+    }
+
+    private static Object legacyField(ObjectInputStream.GetField fields, String name, Object fallback)
+            throws IOException {
+        return hasField(fields, name) ? fields.get(name, fallback) : fallback;
+    }
+
+    private static StatVector nullIfEmpty(StatVector vector) {
+        return vector == null || vector.size() == 0 ? null : vector;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatVector toStatVector(Object value) {
+        if (value instanceof StatVector vector) {
+            return vector;
+        }
+        return StatVector.fromMap(value instanceof Map ? (Map<String, Integer>) value : null);
+    }
+
     // ================== GETTERI ȘI SETTERI ==================
 
-    public String getNume() { return nume; }
-    public void setNume(String nume) { this.nume = nume; }
+    public String getNume() { return template.getName(); }
+    public void setNume(String nume) { this.template = template.withName(nume); }
 
     public int getNivelNecesar() { return nivelNecesar; }
     public void setNivelNecesar(int nivel) { this.nivelNecesar = nivel; }
@@ -517,7 +683,8 @@ public class ObiectEchipament implements Serializable {
     public int getDuritate() { return duritate; }
     public void setDuritate(int duritate) { this.duritate = Math.max(0, Math.min(100, duritate)); }
 
-    public Map<String, Integer> getBonuses() { return new HashMap<>(bonuses); }
+    public Map<String, Integer> getBonuses() { return bonuses.toMap(); }
+    public int getBonusCount() { return bonuses.size(); }
 
     // ================== METODE OVERRIDE ==================
 
@@ -526,16 +693,18 @@ public class ObiectEchipament implements Serializable {
     @Override
     public String toString() {
         String status = equipped ? " [ECHIPAT]" : "";
+        TipEchipament tip = template.getTip();
         String tipDisplay = tip != null ? tip.getIcon() + tip.getDisplayName() : "Unknown";
         String enhancement = enhancementLevel > 0 ? " (+" + enhancementLevel + ")" : "";
 
         // Afișează handedness pentru arme
         String handednessDisplay = "";
         if (canEquipInMainHand() || canEquipInOffHand()) {
-            handednessDisplay = " [" + handedness.getDisplayName() + "]";
+            handednessDisplay = " [" + template.getHandedness().getDisplayName() + "]";
         }
 
         // Afișează weapon class dacă există
+        String weaponClass = template.getWeaponClass();
         String classDisplay = !weaponClass.isEmpty() ? " (" + weaponClass + ")" : "";
 
         // Adaugă enchantment display
@@ -551,7 +720,7 @@ public class ObiectEchipament implements Serializable {
         }
 
         return String.format("%s %s%s%s%s%s (Nivel %d, %s, Duritate: %d%%, %d gold)%s",
-                tipDisplay, nume, enhancement, handednessDisplay, classDisplay,
+                tipDisplay, template.getName(), enhancement, handednessDisplay, classDisplay,
                 enchantDisplay.toString(), nivelNecesar, raritate, duritate, pret, status);
     }
 
@@ -564,10 +733,8 @@ public class ObiectEchipament implements Serializable {
             throw new IllegalArgumentException("Enchantments pot fi aplicate doar pe arme!");
         }
 
-        Map<String, Integer> currentBonuses = new HashMap<>(bonuses);
-        String enchantKey = "enchant_" + enchantType.toLowerCase();
-        currentBonuses.put(enchantKey, damage);
-        setBonuses(currentBonuses);
+        bonuses.set(StatType.ENCHANT_PREFIX + enchantType.toLowerCase(), damage);
+        invalidateBonuses();
 
         // Nu modificăm numele aici - se va face în Erou.useEnchantScroll()
     }
@@ -596,6 +763,7 @@ public class ObiectEchipament implements Serializable {
      * Verifică dacă acest obiect este o armă (orice tip)
      */
     public boolean isWeapon() {
+        TipEchipament tip = template.getTip();
         return tip == TipEchipament.WEAPON_ONE_HANDED ||
                 tip == TipEchipament.WEAPON_TWO_HANDED;
     }
@@ -604,6 +772,7 @@ public class ObiectEchipament implements Serializable {
      * Verifică dacă acest obiect este armură (orice tip de protecție)
      */
     public boolean isArmor() {
+        TipEchipament tip = template.getTip();
         return tip == TipEchipament.ARMOR ||
                 tip == TipEchipament.HELMET ||
                 tip == TipEchipament.GLOVES ||
@@ -614,6 +783,7 @@ public class ObiectEchipament implements Serializable {
      * Verifică dacă acest obiect este accesoriu
      */
     public boolean isAccessory() {
+        TipEchipament tip = template.getTip();
         return tip == TipEchipament.RING ||
                 tip == TipEchipament.NECKLACE;
     }
@@ -622,6 +792,7 @@ public class ObiectEchipament implements Serializable {
      * Verifică dacă acest obiect este off-hand item
      */
     public boolean isOffHandItem() {
+        TipEchipament tip = template.getTip();
         return tip == TipEchipament.SHIELD ||
                 tip == TipEchipament.OFF_HAND_WEAPON ||
                 tip == TipEchipament.OFF_HAND_MAGIC;
@@ -631,11 +802,19 @@ public class ObiectEchipament implements Serializable {
      * Pentru compatibilitate cu codul vechi - returnează categoria generală
      */
     public String getGeneralCategory() {
-        if (isWeapon()) return "WEAPON";
-        if (isArmor()) return "ARMOR";
-        if (isAccessory()) return "ACCESSORY";
-        if (isOffHandItem()) return "OFF_HAND";
-        return tip.name();
+        return generalCategoryOf(template.getTip());
+    }
+
+    /**
+     * Categoria generală a unui tip (WEAPON, ARMOR, ACCESSORY, OFF_HAND)
+     */
+    public static String generalCategoryOf(TipEchipament tip) {
+        return switch (tip) {
+            case WEAPON_ONE_HANDED, WEAPON_TWO_HANDED -> "WEAPON";
+            case ARMOR, HELMET, GLOVES, BOOTS -> "ARMOR";
+            case RING, NECKLACE -> "ACCESSORY";
+            case SHIELD, OFF_HAND_WEAPON, OFF_HAND_MAGIC -> "OFF_HAND";
+        };
     }
 
 
@@ -644,15 +823,15 @@ public class ObiectEchipament implements Serializable {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ObiectEchipament item = (ObiectEchipament) obj;
-        return nume.equals(item.nume) &&
+        return getNume().equals(item.getNume()) &&
                 nivelNecesar == item.nivelNecesar &&
                 raritate == item.raritate &&
-                tip == item.tip;
+                getTip() == item.getTip();
     }
 
     @Override
     public int hashCode() {
-        return nume.hashCode() * 31 + nivelNecesar * 7 + raritate.hashCode() + tip.hashCode();
+        return getNume().hashCode() * 31 + nivelNecesar * 7 + raritate.hashCode() + getTip().hashCode();
     }
 
 
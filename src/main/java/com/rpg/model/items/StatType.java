@@ -0,0 +1,133 @@
+package com.rpg.model.items;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statisticile cunoscute de echipament, jewels și buff-uri.
+ *
+ * Fiecare valoare păstrează cheia string folosită până acum în map-uri
+ * ("strength", "Damage", "enchant_fire"...), care rămâne și cheia scrisă în
+ * salvări - ordinea constantelor se poate schimba fără să strice fișierele.
+ * Cheile necunoscute (din salvări vechi sau date noi) nu se pierd: StatVector
+ * le ține separat, ca string-uri.
+ */
+public enum StatType {
+
+    // Atribute
+    STRENGTH("strength"),
+    DEXTERITY("dexterity"),
+    INTELLIGENCE("intelligence"),
+    DEFENSE("defense"),
+    STR_BONUS("str_bonus"),
+    DEX_BONUS("dex_bonus"),
+    INT_BONUS("int_bonus"),
+    ALL_STATS("all_stats"),
+
+    // Damage - "Damage" e damage-ul de bază al armelor, distinct de "damage"
+    WEAPON_DAMAGE("Damage"),
+    DAMAGE("damage"),
+    DAMAGE_BONUS("damage_bonus"),
+    ATTACK_BONUS("attack_bonus"),
+    DAMAGE_PERCENT("damage_percent"),
+    ELEMENTAL_DAMAGE("elemental_damage"),
+    SPELL_POWER("spell_power"),
+    ATTACK_SPEED("attack_speed"),
+
+    // Șanse
+    HIT_CHANCE("hit_chance"),
+    CRIT_CHANCE("crit_chance"),
+    CRIT_MULTIPLIER("crit_multiplier"),
+    CRIT_DAMAGE("crit_damage"),
+    DODGE_CHANCE("dodge_chance"),
+    BLOCK_CHANCE("block_chance"),
+    STEALTH_BONUS("stealth_bonus"),
+
+    // Apărare
+    DAMAGE_REDUCTION("damage_reduction"),
+    DEFENSE_PERCENT("defense_percent"),
+    FIRE_RESISTANCE("fire_resistance"),
+    ICE_RESISTANCE("ice_resistance"),
+    MAGIC_RESISTANCE("magic_resistance"),
+
+    // Resurse
+    HEALTH("health"),
+    VIATA("viata"),
+    HP_PERCENT("hp_percent"),
+    MANA("mana"),
+    MANA_REGEN("mana_regen"),
+    HEAL_PER_TURN("heal_per_turn"),
+    LIFESTEAL("lifesteal"),
+    MANA_STEAL("mana_steal"),
+
+    // Utilitare
+    GOLD_FIND("gold_find"),
+    EXP_BONUS("exp_bonus"),
+
+    // Enchantment-uri pe arme (valoarea = damage-ul enchantment-ului)
+    ENCHANT_FIRE("enchant_fire"),
+    ENCHANT_ICE("enchant_ice"),
+    ENCHANT_LIGHTNING("enchant_lightning"),
+    ENCHANT_POISON("enchant_poison"),
+    ENCHANT_HOLY("enchant_holy"),
+    ENCHANT_SHADOW("enchant_shadow"),
+    ENCHANT_ARCANE("enchant_arcane"),
+    ENCHANT_NATURE("enchant_nature");
+
+    public static final String ENCHANT_PREFIX = "enchant_";
+
+    private static final StatType[] VALUES = values();
+    private static final Map<String, StatType> BY_KEY = new HashMap<>();
+
+    static {
+        // StatVector ține prezența fiecărui stat într-un long
+        if (VALUES.length > Long.SIZE) {
+            throw new IllegalStateException("Prea multe StatType pentru masca din StatVector");
+        }
+        for (StatType type : VALUES) {
+            BY_KEY.put(type.key, type);
+        }
+    }
+
+    private final String key;
+    private final String enchantType;
+
+    StatType(String key) {
+        this.key = key;
+        this.enchantType = key.startsWith(ENCHANT_PREFIX) ? key.substring(ENCHANT_PREFIX.length()) : null;
+    }
+
+    /**
+     * Cheia string folosită în map-urile vechi și în salvări
+     */
+    public String getKey() { return key; }
+
+    public boolean isEnchantment() { return enchantType != null; }
+
+    /**
+     * Tipul enchantment-ului ("fire", "ice"...) sau null pentru statisticile obișnuite
+     */
+    public String getEnchantType() { return enchantType; }
+
+    /**
+     * Statul pentru o cheie veche, sau null dacă cheia nu e cunoscută
+     */
+    public static StatType fromKey(String key) {
+        return key != null ? BY_KEY.get(key) : null;
+    }
+
+    /**
+     * Statul de enchantment pentru un tip ("fire", "Fire"...), sau null
+     */
+    public static StatType forEnchantment(String enchantType) {
+        return enchantType != null ? BY_KEY.get(ENCHANT_PREFIX + enchantType.toLowerCase()) : null;
+    }
+
+    static StatType byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+}
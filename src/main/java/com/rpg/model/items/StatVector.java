@@ -0,0 +1,224 @@
+package com.rpg.model.items;
+
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Bonusuri întregi indexate după StatType: un int[] plus o mască de prezență,
+ * în locul unui HashMap&lt;String, Integer&gt;. Citirea unui stat e un acces
+ * la array, fără hashing de string-uri și fără boxing.
+ *
+ * Masca păstrează diferența dintre "stat absent" și "stat cu valoarea 0",
+ * ca getBonuses().size() / containsKey să dea aceleași rezultate ca înainte.
+ * Cheile care nu au un StatType ajung în {@code extra}, deci nimic din map-urile
+ * vechi nu se pierde.
+ */
+public final class StatVector implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] values = new int[StatType.count()];
+    private long present;
+    private Map<String, Integer> extra;
+
+    public StatVector() {
+    }
+
+    public StatVector(StatVector other) {
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        present = other.present;
+        if (other.extra != null) {
+            extra = new LinkedHashMap<>(other.extra);
+        }
+    }
+
+    /**
+     * Adaptor pentru codul care încă lucrează cu map-uri string → int
+     */
+    public static StatVector fromMap(Map<String, Integer> map) {
+        StatVector vector = new StatVector();
+        if (map != null) {
+            map.forEach((key, value) -> {
+                if (key != null && value != null) {
+                    vector.set(key, value);
+                }
+            });
+        }
+        return vector;
+    }
+
+    // ================== ACCES ==================
+
+    public int get(StatType stat) {
+        return values[stat.ordinal()];
+    }
+
+    public int get(String key) {
+        StatType stat = StatType.fromKey(key);
+        if (stat != null) {
+            return values[stat.ordinal()];
+        }
+        return extra != null ? extra.getOrDefault(key, 0) : 0;
+    }
+
+    public boolean contains(StatType stat) {
+        return (present & bit(stat)) != 0;
+    }
+
+    public boolean contains(String key) {
+        StatType stat = StatType.fromKey(key);
+        if (stat != null) {
+            return contains(stat);
+        }
+        return extra != null && extra.containsKey(key);
+    }
+
+    public void set(StatType stat, int value) {
+        values[stat.ordinal()] = value;
+        present |= bit(stat);
+    }
+
+    public void set(String key, int value) {
+        StatType stat = StatType.fromKey(key);
+        if (stat != null) {
+            set(stat, value);
+        } else {
+            if (extra == null) {
+                extra = new LinkedHashMap<>();
+            }
+            extra.put(key, value);
+        }
+    }
+
+    public void add(StatType stat, int value) {
+        set(stat, values[stat.ordinal()] + value);
+    }
+
+    public void remove(StatType stat) {
+        values[stat.ordinal()] = 0;
+        present &= ~bit(stat);
+    }
+
+    public void clear() {
+        Arrays.fill(values, 0);
+        present = 0;
+        extra = null;
+    }
+
+    /**
+     * Adună toate bonusurile din {@code other} (echivalentul lui Map.merge cu Integer::sum)
+     */
+    public void addAll(StatVector other) {
+        long bits = other.present;
+        while (bits != 0) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            values[ordinal] += other.values[ordinal];
+            bits &= bits - 1;
+        }
+        present |= other.present;
+
+        if (other.extra != null) {
+            if (extra == null) {
+                extra = new LinkedHashMap<>();
+            }
+            other.extra.forEach((key, value) -> extra.merge(key, value, Integer::sum));
+        }
+    }
+
+    /**
+     * Adaugă {@code amount} la fiecare stat prezent
+     */
+    public void addToEach(int amount) {
+        long bits = present;
+        while (bits != 0) {
+            values[Long.numberOfTrailingZeros(bits)] += amount;
+            bits &= bits - 1;
+        }
+        if (extra != null) {
+            extra.replaceAll((key, value) -> value + amount);
+        }
+    }
+
+    public boolean isEmpty() {
+        return present == 0 && (extra == null || extra.isEmpty());
+    }
+
+    public int size() {
+        return Long.bitCount(present) + (extra != null ? extra.size() : 0);
+    }
+
+    /**
+     * Parcurge statisticile prezente (ordinea StatType, apoi cheile necunoscute)
+     */
+    public void forEach(ObjIntConsumer<String> action) {
+        long bits = present;
+        while (bits != 0) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            action.accept(StatType.byOrdinal(ordinal).getKey(), values[ordinal]);
+            bits &= bits - 1;
+        }
+        if (extra != null) {
+            extra.forEach(action::accept);
+        }
+    }
+
+    /**
+     * Copie ca map string → int, pentru API-urile vechi (tooltip-uri, UI)
+     */
+    public Map<String, Integer> toMap() {
+        Map<String, Integer> map = new HashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    private static long bit(StatType stat) {
+        return 1L << stat.ordinal();
+    }
+
+    // ================== FORMAT BINAR ==================
+
+    /**
+     * Același layout ca BinarySaveWriter.writeIntMap - salvările existente rămân valide
+     */
+    public void writeBinary(BinarySaveWriter out) throws IOException {
+        out.writeVarInt(size());
+        long bits = present;
+        while (bits != 0) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            out.writeString(StatType.byOrdinal(ordinal).getKey());
+            out.writeVarInt(values[ordinal]);
+            bits &= bits - 1;
+        }
+        if (extra != null) {
+            for (Map.Entry<String, Integer> entry : extra.entrySet()) {
+                out.writeString(entry.getKey());
+                out.writeVarInt(entry.getValue());
+            }
+        }
+    }
+
+    public static StatVector readBinary(BinarySaveReader in) throws IOException {
+        StatVector vector = new StatVector();
+        int size = in.readVarInt();
+        for (int i = 0; i < size; i++) {
+            String key = in.readString();
+            int value = in.readVarInt();
+            if (key != null) {
+                vector.set(key, value);
+            }
+        }
+        return vector;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
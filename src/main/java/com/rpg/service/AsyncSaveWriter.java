@@ -0,0 +1,190 @@
+package com.rpg.service;
+
+import com.rpg.service.dto.SaveResult;
+import javafx.application.Platform;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Scrie snapshot-uri de salvare pe un thread de fundal.
+ *
+ * Pentru fiecare fișier există cel mult un snapshot în așteptare: o cerere
+ * nouă îl înlocuiește pe cel vechi, deci auto-save-urile venite una după alta
+ * ajung pe disc o singură dată, cu starea cea mai recentă. Callback-urile
+ * cererilor înlocuite primesc rezultatul scrierii care le-a acoperit.
+ */
+public class AsyncSaveWriter {
+
+    private final SaveIndex saveIndex;
+    private final ExecutorService executor;
+    private final Map<File, PendingSave> pending = new ConcurrentHashMap<>();
+    private volatile Future<?> lastTask;
+
+    public AsyncSaveWriter(SaveIndex saveIndex) {
+        this.saveIndex = saveIndex;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Operația de scriere a unei salvări; rulează pe thread-ul writer-ului
+     * și întoarce header-ul stării scrise (pentru index).
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        SaveFileHeader write() throws IOException;
+    }
+
+    /**
+     * Programează scrierea snapshot-ului. Callback-ul (poate fi null) rulează
+     * pe thread-ul FX după ce fișierul a fost scris.
+     */
+    public void submit(ErouBinaryCodec.Snapshot snapshot, File file, String fileName,
+                       String successMessage, Consumer<SaveResult> onComplete) {
+        submit(() -> {
+            ErouBinaryCodec.writeSnapshot(snapshot, file);
+            return snapshot.getHeader();
+        }, file, fileName, successMessage, onComplete);
+    }
+
+    /**
+     * Ca mai sus, pentru o operație de scriere arbitrară (de ex. jurnalul de auto-save)
+     */
+    public void submit(SaveTask task, File file, String fileName,
+                       String successMessage, Consumer<SaveResult> onComplete) {
+        boolean[] scheduled = new boolean[1];
+
+        pending.compute(file, (key, previous) -> {
+            List<Consumer<SaveResult>> callbacks = new ArrayList<>();
+            if (previous != null) {
+                callbacks.addAll(previous.callbacks);
+            } else {
+                scheduled[0] = true;
+            }
+            if (onComplete != null) {
+                callbacks.add(onComplete);
+            }
+            return new PendingSave(task, fileName, successMessage, callbacks);
+        });
+
+        // Un snapshot deja în coadă pentru același fișier va fi preluat de task-ul existent
+        if (scheduled[0]) {
+            lastTask = executor.submit(() -> write(file));
+        }
+    }
+
+    /**
+     * Rulează scrierea pe thread-ul writer-ului și așteaptă rezultatul (auto-save
+     * sincron). Trece prin aceeași coadă ca scrierile asincrone, deci nu se
+     * suprapune cu ele pe fișierul temporar, iar cererile mai vechi pentru
+     * același fișier ajung pe disc înaintea ei.
+     */
+    public SaveFileHeader writeNow(SaveTask task, File file) throws IOException {
+        Future<SaveFileHeader> result = executor.submit(() -> {
+            SaveFileHeader header = task.write();
+            saveIndex.put(file, header);
+            saveIndex.flush();
+            return header;
+        });
+        lastTask = result;
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Salvare întreruptă", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Așteaptă (cel mult timeoutMillis) terminarea scrierilor în curs,
+     * de ex. înainte de ieșirea din joc.
+     */
+    public void awaitPending(long timeoutMillis) {
+        Future<?> barrier = executor.submit(() -> { });
+        try {
+            barrier.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.err.println("Salvările în fundal nu s-au terminat la timp: " + e.getMessage());
+        }
+    }
+
+    public boolean isBusy() {
+        Future<?> task = lastTask;
+        return !pending.isEmpty() || (task != null && !task.isDone());
+    }
+
+    private void write(File file) {
+        PendingSave save = pending.remove(file);
+        if (save == null) {
+            return;
+        }
+
+        SaveResult result;
+        try {
+            SaveFileHeader header = save.task.write();
+            // Pentru o intrare de jurnal fișierul nu se schimbă, dar indexul
+            // primește header-ul stării curente (gold/nivel din lista de load)
+            saveIndex.put(file, header);
+            saveIndex.flush();
+            result = new SaveResult(true, save.successMessage, save.fileName);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Eroare la salvarea în fundal: " + e.getMessage());
+            result = new SaveResult(false, "Eroare la salvare: " + e.getMessage(), null);
+        }
+
+        deliver(save.callbacks, result);
+    }
+
+    private static void deliver(List<Consumer<SaveResult>> callbacks, SaveResult result) {
+        if (callbacks.isEmpty()) {
+            return;
+        }
+
+        Runnable notify = () -> callbacks.forEach(callback -> callback.accept(result));
+        try {
+            Platform.runLater(notify);
+        } catch (IllegalStateException e) {
+            // Toolkit-ul FX nu rulează (consolă/benchmark) - notifică direct
+            notify.run();
+        }
+    }
+
+    private static final class PendingSave {
+        final SaveTask task;
+        final String fileName;
+        final String successMessage;
+        final List<Consumer<SaveResult>> callbacks;
+
+        PendingSave(SaveTask task, String fileName,
+                    String successMessage, List<Consumer<SaveResult>> callbacks) {
+            this.task = task;
+            this.fileName = fileName;
+            this.successMessage = successMessage;
+            this.callbacks = callbacks;
+        }
+    }
+}
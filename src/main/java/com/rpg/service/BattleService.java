@@ -210,7 +210,7 @@ public class BattleService {
         if (inamic.esteInspectat()) {
             critChance += 15.0;
         }
-        breakdown.isCrit = RandomUtils.chancePercent(critChance);
+        breakdown.isCrit = RandomUtils.chancePercent(GameRandom.combat(), critChance);
 
         if (breakdown.isCrit) {
             breakdown.critMultiplier = GameConstants.CRIT_DAMAGE_MULTIPLIER;
@@ -389,7 +389,7 @@ public class BattleService {
         pauseWithLoading("🎲 Verificare hit", DELAY_MEDIUM);
 
         // 2️⃣ ROLL HIT
-        if (RandomUtils.chancePercent(hitChance)) {
+        if (RandomUtils.chancePercent(GameRandom.combat(), hitChance)) {
             System.out.println("✅ LOVITURĂ REUȘITĂ!");
             pause(DELAY_SHORT);
 
@@ -460,7 +460,7 @@ public class BattleService {
                     System.out.println("❄️ Target slowed! (-30% DEX x2 turns)");
                 }
                 case "lightning" -> {
-                    if (RandomUtils.chancePercent(5.0)) {
+                    if (RandomUtils.chancePercent(GameRandom.combat(), 5.0)) {
                         target.aplicaDebuff("stun", 1, 0);
                         System.out.println("⚡ Target STUNNED! (1 turn)");
                     } else {
@@ -704,7 +704,7 @@ public class BattleService {
                     pauseWithLoading("🎲 Verificare hit", DELAY_MEDIUM);
                 }
 
-                if (RandomUtils.chancePercent(hitChance)) {
+                if (RandomUtils.chancePercent(GameRandom.combat(), hitChance)) {
                     System.out.println("    ✅ HIT!");
                     pause(DELAY_SHORT);
 
@@ -713,7 +713,7 @@ public class BattleService {
 
                     // ✅ CRITICAL HIT CHECK (per hit)
                     double critChance = erou.getCritChanceTotal();
-                    boolean isCrit = RandomUtils.chancePercent(critChance);
+                    boolean isCrit = RandomUtils.chancePercent(GameRandom.combat(), critChance);
 
                     if (isCrit) {
                         hitDamage = (int) (hitDamage * erou.getCritMultiplierTotal());
@@ -942,7 +942,7 @@ public class BattleService {
 
         pauseWithLoading("🎲 Verificare dodge", DELAY_MEDIUM);
 
-        if (RandomUtils.chancePercent(dodgeChance)) {
+        if (RandomUtils.chancePercent(GameRandom.combat(), dodgeChance)) {
             System.out.println("✅ EVITAT!");
             pause(DELAY_SHORT);
             BattleOneLiners.displayDodgeOneLiner(erou);
@@ -960,13 +960,13 @@ public class BattleService {
 
         // Base damage cu variație
         int baseDamage = inamic.getDamage();
-        baseDamage = RandomUtils.applyRandomVariation(baseDamage, 20);
+        baseDamage = RandomUtils.applyRandomVariation(GameRandom.combat(), baseDamage, 20);
         int damageBeforeCrit = baseDamage;
 
         // ==================== CHECK CRIT ====================
         pauseWithLoading("🎲 Verificare critical", DELAY_SHORT);
 
-        boolean isCrit = RandomUtils.chancePercent(inamic.getCritChance());
+        boolean isCrit = RandomUtils.chancePercent(GameRandom.combat(), inamic.getCritChance());
         double critMultiplier = GameConstants.CRIT_DAMAGE_MULTIPLIER;
 
         if (isCrit) {
@@ -1021,13 +1021,13 @@ public class BattleService {
                 erou.getViata(), erou.getViataMaxima());
 
         // ==================== SPECIAL ABILITIES ====================
-        if (RandomUtils.chancePercent(25.0) && !inamic.getAbilitatiSpeciale().isEmpty()) {
+        if (RandomUtils.chancePercent(GameRandom.combat(), 25.0) && !inamic.getAbilitatiSpeciale().isEmpty()) {
             pause(DELAY_MEDIUM);
             System.out.println("\n⚡ " + inamic.getNume() + " folosește o abilitate specială!");
             pause(DELAY_SHORT);
 
             // Aici poți adăuga efecte speciale pentru inamic
-            String specialAbility = RandomUtils.randomElement(inamic.getAbilitatiSpeciale());
+            String specialAbility = RandomUtils.randomElement(GameRandom.combat(), inamic.getAbilitatiSpeciale());
             System.out.println("🌟 Abilitate: " + specialAbility);
         }
 
@@ -189,7 +189,7 @@ public class DisenchantService {
         int levelBonus = item.getNivelNecesar() / 5; // +1 shard per 5 nivele
 
         // Bonus bazat pe numărul de bonusuri
-        int bonusCount = item.getBonuses().size();
+        int bonusCount = item.getBonusCount();
         int bonusMultiplier = Math.max(1, bonusCount);
 
         // Calculul final
@@ -5,7 +5,9 @@ import com.rpg.model.enemies.EnemyAbility;
 import com.rpg.model.enemies.EnemyAffix;
 import com.rpg.model.enemies.EnemyArchetype;
 import com.rpg.model.enemies.EnemyTier;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.RandomUtils;
+import com.rpg.utils.WeightedSampler;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,31 +19,70 @@ import java.util.List;
  */
 public class EnemyAffixService {
 
+    private static final EnemyTier[] ROLLED_TIERS = {
+            EnemyTier.NORMAL, EnemyTier.ELITE, EnemyTier.CHAMPION, EnemyTier.LEGENDARY
+    };
+
+    // One tier sampler per dungeon level, up to the level where every chance hits its cap
+    private static final List<WeightedSampler<EnemyTier>> TIERS_BY_LEVEL = buildTierTable();
+
+    private static final EnemyAffix[] AFFIXES = EnemyAffix.values();
+    private static final WeightedSampler<EnemyAffix> AFFIX_WEIGHTS =
+            WeightTables.sampler("affix.weights", EnemyAffix.class, null);
+    private static final long[] AFFIX_CONFLICTS = buildConflictMasks();
+    private static final long ROLLABLE_AFFIXES = rollableMask();
+
     /**
      * Determines enemy tier based on level and random chance.
-     * Higher levels have better chances for elite tiers.
+     * Higher levels have better chances for elite tiers (see tier.* in data/weights.properties).
      */
     public static EnemyTier assignTier(int dungeonLevel, boolean forceBoss) {
         if (forceBoss) {
             return EnemyTier.BOSS;
         }
 
-        // Calculate tier probabilities based on dungeon level
-        double eliteChance = Math.min(20.0 + (dungeonLevel * 0.5), 40.0);      // 20-40%
-        double championChance = Math.min(5.0 + (dungeonLevel * 0.3), 20.0);    // 5-20%
-        double legendaryChance = Math.min(1.0 + (dungeonLevel * 0.2), 10.0);   // 1-10%
-
-        double roll = RandomUtils.randomDouble() * 100.0;
-
-        if (roll < legendaryChance) {
-            return EnemyTier.LEGENDARY;
-        } else if (roll < legendaryChance + championChance) {
-            return EnemyTier.CHAMPION;
-        } else if (roll < legendaryChance + championChance + eliteChance) {
-            return EnemyTier.ELITE;
-        } else {
-            return EnemyTier.NORMAL;
+        int index = Math.max(0, Math.min(dungeonLevel, TIERS_BY_LEVEL.size() - 1));
+        return TIERS_BY_LEVEL.get(index).sample(GameRandom.map());
+    }
+
+    private static List<WeightedSampler<EnemyTier>> buildTierTable() {
+        // Each tier is {base %, % per level, max %}; NORMAL gets whatever is left of 100%
+        double[][] formulas = {
+                null,
+                tierFormula("tier.ELITE", 20.0, 0.5, 40.0),
+                tierFormula("tier.CHAMPION", 5.0, 0.3, 20.0),
+                tierFormula("tier.LEGENDARY", 1.0, 0.2, 10.0)
+        };
+
+        int cappedLevel = 0;
+        for (int t = 1; t < formulas.length; t++) {
+            double[] formula = formulas[t];
+            if (formula[1] > 0) {
+                cappedLevel = Math.max(cappedLevel, (int) Math.ceil((formula[2] - formula[0]) / formula[1]));
+            }
+        }
+
+        List<WeightedSampler<EnemyTier>> byLevel = new ArrayList<>(cappedLevel + 1);
+        for (int level = 0; level <= cappedLevel; level++) {
+            double[] chances = new double[ROLLED_TIERS.length];
+            double special = 0;
+            for (int t = 1; t < formulas.length; t++) {
+                chances[t] = Math.max(0, Math.min(formulas[t][0] + level * formulas[t][1], formulas[t][2]));
+                special += chances[t];
+            }
+            chances[0] = Math.max(0, 100.0 - special);
+            byLevel.add(new WeightedSampler<>(ROLLED_TIERS, chances));
+        }
+        return List.copyOf(byLevel);
+    }
+
+    private static double[] tierFormula(String key, double base, double perLevel, double max) {
+        double[] formula = WeightTables.numbers(key, base, perLevel, max);
+        if (formula.length != 3) {
+            System.err.println("⚠️ " + key + " needs base, per level and max - using defaults");
+            return new double[]{base, perLevel, max};
         }
+        return formula;
     }
 
     /**
@@ -55,17 +96,20 @@ public class EnemyAffixService {
             return; // Normal enemies have no affixes
         }
 
-        List<EnemyAffix> availableAffixes = new ArrayList<>(Arrays.asList(EnemyAffix.values()));
-        List<EnemyAffix> selectedAffixes = new ArrayList<>();
+        List<EnemyAffix> selectedAffixes = new ArrayList<>(maxAffixes);
+        long available = ROLLABLE_AFFIXES; // One bit per affix ordinal
 
-        // Select random affixes
-        for (int i = 0; i < maxAffixes && !availableAffixes.isEmpty(); i++) {
-            EnemyAffix affix = RandomUtils.randomElement(availableAffixes);
+        // Select weighted affixes; a roll that lands on a taken or conflicting affix is rerolled
+        while (selectedAffixes.size() < maxAffixes && available != 0) {
+            int index = AFFIX_WEIGHTS.sampleIndex(GameRandom.map());
+            EnemyAffix affix = AFFIX_WEIGHTS.getValue(index);
+            long bit = 1L << affix.ordinal();
+            if ((available & bit) == 0) {
+                continue;
+            }
             selectedAffixes.add(affix);
-            availableAffixes.remove(affix); // No duplicate affixes
-
-            // Remove conflicting affixes
-            removeConflictingAffixes(availableAffixes, affix);
+            available &= ~bit;                             // No duplicate affixes
+            available &= ~AFFIX_CONFLICTS[affix.ordinal()]; // Remove conflicting affixes
         }
 
         enemy.setAffixes(selectedAffixes);
@@ -75,23 +119,46 @@ public class EnemyAffixService {
     }
 
     /**
-     * Removes affixes that conflict with the given affix.
+     * Affixes that can't be picked once the given affix is selected, as a bit mask by ordinal.
      */
-    private static void removeConflictingAffixes(List<EnemyAffix> available, EnemyAffix selected) {
-        switch (selected) {
-            case FAST -> available.remove(EnemyAffix.PHASING); // Can't be fast and phasing
-            case SHIELDED -> available.remove(EnemyAffix.ARMORED); // Can't have both shields and armor
-            case ENRAGED -> available.remove(EnemyAffix.BERSERKER); // Both are damage buffs
-            case VAMPIRIC -> available.remove(EnemyAffix.REGENERATING); // Both are healing
-            case BURNING -> {
-                available.remove(EnemyAffix.FROZEN_AURA); // Fire vs Ice
-                available.remove(EnemyAffix.SHOCKING);
-            }
-            case FROZEN_AURA -> {
-                available.remove(EnemyAffix.BURNING); // Fire vs Ice
-                available.remove(EnemyAffix.SHOCKING);
+    private static long[] buildConflictMasks() {
+        long[] masks = new long[AFFIXES.length];
+        for (EnemyAffix selected : AFFIXES) {
+            masks[selected.ordinal()] = switch (selected) {
+                case FAST -> bits(EnemyAffix.PHASING); // Can't be fast and phasing
+                case SHIELDED -> bits(EnemyAffix.ARMORED); // Can't have both shields and armor
+                case ENRAGED -> bits(EnemyAffix.BERSERKER); // Both are damage buffs
+                case VAMPIRIC -> bits(EnemyAffix.REGENERATING); // Both are healing
+                case BURNING -> bits(EnemyAffix.FROZEN_AURA, EnemyAffix.SHOCKING); // Fire vs Ice
+                case FROZEN_AURA -> bits(EnemyAffix.BURNING, EnemyAffix.SHOCKING); // Fire vs Ice
+                default -> 0L;
+            };
+        }
+        return masks;
+    }
+
+    /**
+     * Affixes with a positive weight - the only ones a roll can land on.
+     */
+    private static long rollableMask() {
+        if (AFFIXES.length > Long.SIZE) {
+            throw new IllegalStateException("Affix masks hold at most " + Long.SIZE + " affixes");
+        }
+        long mask = 0;
+        for (int i = 0; i < AFFIX_WEIGHTS.size(); i++) {
+            if (AFFIX_WEIGHTS.getWeight(i) > 0) {
+                mask |= 1L << AFFIX_WEIGHTS.getValue(i).ordinal();
             }
         }
+        return mask;
+    }
+
+    private static long bits(EnemyAffix... affixes) {
+        long mask = 0;
+        for (EnemyAffix affix : affixes) {
+            mask |= 1L << affix.ordinal();
+        }
+        return mask;
     }
 
     /**
@@ -232,7 +299,7 @@ public class EnemyAffixService {
      */
     private static void assignArchetype(Inamic enemy) {
         EnemyArchetype[] allArchetypes = EnemyArchetype.values();
-        EnemyArchetype archetype = RandomUtils.randomElement(Arrays.asList(allArchetypes));
+        EnemyArchetype archetype = RandomUtils.randomElement(GameRandom.map(), Arrays.asList(allArchetypes));
         enemy.setArchetype(archetype);
     }
 
@@ -326,49 +393,49 @@ public class EnemyAffixService {
         switch (tier) {
             case ELITE -> {
                 // 1 ability: offensive or tactical (archetype-preferred)
-                if (!preferredOffensive.isEmpty() && RandomUtils.randomBoolean()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredOffensive));
+                if (!preferredOffensive.isEmpty() && RandomUtils.randomBoolean(GameRandom.map())) {
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredOffensive));
                 } else if (!preferredTactical.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredTactical));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredTactical));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(offensiveAbilities));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), offensiveAbilities));
                 }
             }
 
             case CHAMPION -> {
                 // 2 abilities: offensive + defensive (archetype-preferred)
                 if (!preferredOffensive.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredOffensive));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredOffensive));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(offensiveAbilities));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), offensiveAbilities));
                 }
 
-                if (!preferredDefensive.isEmpty() && RandomUtils.randomBoolean()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredDefensive));
+                if (!preferredDefensive.isEmpty() && RandomUtils.randomBoolean(GameRandom.map())) {
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredDefensive));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(crowdControlAbilities));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), crowdControlAbilities));
                 }
             }
 
             case BOSS -> {
                 // 3 abilities: offensive + defensive + tactical (archetype-preferred)
                 if (!preferredOffensive.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredOffensive));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredOffensive));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(),
                             combineList(offensiveAbilities, eliteOffensiveAbilities)));
                 }
 
                 if (!preferredDefensive.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredDefensive));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredDefensive));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(defensiveAbilities));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), defensiveAbilities));
                 }
 
                 if (!preferredTactical.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredTactical));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredTactical));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(Arrays.asList(
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), Arrays.asList(
                             EnemyAbility.BATTLE_CRY, EnemyAbility.ENRAGE)));
                 }
             }
@@ -376,23 +443,23 @@ public class EnemyAffixService {
             case LEGENDARY -> {
                 // 4 abilities: best of all types (archetype-preferred)
                 if (!preferredOffensive.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredOffensive));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredOffensive));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(eliteOffensiveAbilities));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), eliteOffensiveAbilities));
                 }
 
                 if (!preferredDefensive.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredDefensive));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredDefensive));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(defensiveAbilities));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), defensiveAbilities));
                 }
 
-                selectedAbilities.add(RandomUtils.randomElement(crowdControlAbilities));
+                selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), crowdControlAbilities));
 
                 if (!preferredTactical.isEmpty()) {
-                    selectedAbilities.add(RandomUtils.randomElement(preferredTactical));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), preferredTactical));
                 } else {
-                    selectedAbilities.add(RandomUtils.randomElement(tacticalAbilities));
+                    selectedAbilities.add(RandomUtils.randomElement(GameRandom.map(), tacticalAbilities));
                 }
             }
         }
@@ -2,6 +2,7 @@ package com.rpg.service;
 
 import com.rpg.model.characters.Inamic;
 import com.rpg.utils.GameConstants;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.RandomUtils;
 
 import java.util.ArrayList;
@@ -110,7 +111,7 @@ public class EnemyGeneratorRomanesc {
             inamici.add(boss);
         } else {
             // 3-5 inamici normali
-            for (int i = 0; i < RandomUtils.randomInt(3, 5); i++) {
+            for (int i = 0; i < RandomUtils.randomInt(GameRandom.map(), 3, 5); i++) {
                 inamici.add(genereazaInamicNormal(nivel));
             }
         }
@@ -213,7 +214,7 @@ public class EnemyGeneratorRomanesc {
         }
 
         // ✅ RandomUtils funcționează perfect
-        String[] inamicData = RandomUtils.randomElement(tabelInamici);
+        String[] inamicData = RandomUtils.randomElement(GameRandom.map(), tabelInamici);
 
         // ✅ FIX NUME - folosește elementele din array
         String nume = prefix + inamicData[0] + " " + inamicData[1] + " Lv" + nivel;
@@ -225,10 +226,10 @@ public class EnemyGeneratorRomanesc {
         int xpOferit = GameConstants.ENEMY_BASE_XP + (nivel * GameConstants.ENEMY_XP_PER_LEVEL);
 
         // Variație aleatorie
-        viataMaxima = RandomUtils.applyRandomVariation(viataMaxima, 20);
-        defense = RandomUtils.applyRandomVariation(defense, 15);
-        gold = RandomUtils.applyRandomVariation(gold, 30);
-        xpOferit = RandomUtils.applyRandomVariation(xpOferit, 25);
+        viataMaxima = RandomUtils.applyRandomVariation(GameRandom.map(), viataMaxima, 20);
+        defense = RandomUtils.applyRandomVariation(GameRandom.map(), defense, 15);
+        gold = RandomUtils.applyRandomVariation(GameRandom.map(), gold, 30);
+        xpOferit = RandomUtils.applyRandomVariation(GameRandom.map(), xpOferit, 25);
 
         // Safety check
         viataMaxima = Math.max(10, viataMaxima);
@@ -262,7 +263,7 @@ public class EnemyGeneratorRomanesc {
         // Setează vulnerabilități
         inamic.setTipDamageVulnerabil(inamicData[2]);
         inamic.setTipDamageRezistent(inamicData[3]);
-        inamic.setCritChanceBonus(RandomUtils.randomInt(0, 5));
+        inamic.setCritChanceBonus(RandomUtils.randomInt(GameRandom.map(), 0, 5));
 
         // 🆕 Enhance enemy with tier and affixes
         EnemyAffixService.enhanceEnemy(inamic, nivel, false);
@@ -302,7 +303,7 @@ public class EnemyGeneratorRomanesc {
             emoji = "💫";
         }
 
-        String numeBoss = RandomUtils.randomElement(tabelBossi);
+        String numeBoss = RandomUtils.randomElement(GameRandom.map(), tabelBossi);
         String nume = emoji + " " + prefix + ": " + numeBoss + " " + emoji;
 
         // Statistici boss (mai mari decât inamicii normali)
@@ -317,7 +318,7 @@ public class EnemyGeneratorRomanesc {
         // Boss-ii au vulnerabilități și rezistențe speciale
         boss.setTipDamageVulnerabil(getVulnerabilitateBoss(nivel));
         boss.setTipDamageRezistent(getRezistentaBoss(nivel));
-        boss.setCritChanceBonus(RandomUtils.randomInt(10, 20));
+        boss.setCritChanceBonus(RandomUtils.randomInt(GameRandom.map(), 10, 20));
         boss.setRegenerareViata(Math.max(2, viataMaxima / 15));
 
         // 🆕 Enhance boss with affixes (will be set to BOSS tier automatically)
@@ -0,0 +1,251 @@
+package com.rpg.service;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.classes.Ardelean;
+import com.rpg.model.characters.classes.Moldovean;
+import com.rpg.model.characters.classes.Oltean;
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Codec binar versionat pentru Erou, folosit în locul ObjectOutputStream.
+ *
+ * Layout fișier: [SaveFileHeader][magic "RPGB"][versiune][clasă][nume][stare Erou]
+ * [replay-ul ultimei lupte, de la versiunea 2].
+ * Starea e scrisă câmp cu câmp de Erou.writeBinary și clasele de model, cu un
+ * tabel de interning pentru string-uri - fără descriptori de clasă și fără
+ * dependență de serialVersionUID.
+ *
+ * Salvările vechi (Java serialization) sunt citite o singură dată și rescrise
+ * în formatul nou, păstrând data modificării ca ordinea din lista de load să
+ * nu se schimbe.
+ */
+public final class ErouBinaryCodec {
+
+    /** "RPGB" - payload binar; payload-urile vechi încep cu 0xACED (ObjectOutputStream). */
+    public static final int PAYLOAD_MAGIC = 0x52504742;
+    public static final int FORMAT_VERSION = 2;
+
+    private ErouBinaryCodec() {
+    }
+
+    /**
+     * Scrie eroul în formatul binar (fără header)
+     */
+    public static void encode(Erou erou, OutputStream out) throws IOException {
+        encode(erou, out, true);
+    }
+
+    /**
+     * @param withReplay false pentru starea eroului din interiorul unei înregistrări
+     *                   de luptă, care nu trebuie să conțină la rândul ei replay-ul anterior
+     */
+    public static void encode(Erou erou, OutputStream out, boolean withReplay) throws IOException {
+        BinarySaveWriter writer = new BinarySaveWriter(out);
+        writer.writeRawInt(PAYLOAD_MAGIC);
+        writer.writeVarInt(FORMAT_VERSION);
+        writer.writeString(erou.getClass().getSimpleName());
+        writer.writeString(erou.getNume());
+        erou.writeBinary(writer);
+        writeReplay(withReplay ? erou.getLastBattleReplay() : null, writer);
+        writer.flush();
+    }
+
+    /**
+     * Replay-ul ultimei lupte, la sfârșitul payload-ului (gol dacă nu există)
+     */
+    static void writeReplay(byte[] replay, BinarySaveWriter writer) throws IOException {
+        writer.writeBytes(replay != null ? replay : new byte[0]);
+    }
+
+    /**
+     * Citește un erou scris de {@link #encode}
+     */
+    public static Erou decode(InputStream in) throws IOException {
+        BinarySaveReader reader = new BinarySaveReader(in);
+        if (reader.readRawInt() != PAYLOAD_MAGIC) {
+            throw new IOException("Payload-ul nu este în formatul binar");
+        }
+
+        int version = reader.readVarInt();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Salvare dintr-o versiune mai nouă a jocului (format " + version + ")");
+        }
+
+        Erou erou = createHero(reader.readString(), reader.readString());
+        try {
+            erou.readBinary(reader);
+            if (version >= 2) {
+                byte[] replay = reader.readBytes();
+                erou.setLastBattleReplay(replay.length > 0 ? replay : null);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Salvare coruptă: " + e.getMessage(), e);
+        }
+        return erou;
+    }
+
+    /**
+     * Scrie o salvare completă: header + payload binar
+     */
+    public static SaveFileHeader writeSaveFile(Erou erou, File file) throws IOException {
+        Snapshot snapshot = snapshot(erou);
+        writeSnapshot(snapshot, file);
+        return snapshot.getHeader();
+    }
+
+    /**
+     * Copie imutabilă a stării eroului: header + payload deja codificat.
+     * Se face pe thread-ul care deține eroul (FX); scrierea pe disc poate
+     * rula apoi pe orice thread, fără să mai atingă Erou-ul.
+     */
+    public static Snapshot snapshot(Erou erou) throws IOException {
+        return snapshot(erou, true);
+    }
+
+    /**
+     * @param withReplay false când replay-ul e salvat separat (auto-save cu jurnal)
+     */
+    public static Snapshot snapshot(Erou erou, boolean withReplay) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(8 * 1024);
+        encode(erou, buffer, withReplay);
+        return new Snapshot(SaveFileHeader.of(erou), buffer.toByteArray());
+    }
+
+    /**
+     * Scrie snapshot-ul într-un fișier temporar și îl redenumește peste
+     * destinație, ca o salvare întreruptă să nu lase un fișier trunchiat.
+     */
+    public static void writeSnapshot(Snapshot snapshot, File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+
+        File temp = new File(file.getPath() + ".tmp");
+        try (BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(temp))) {
+            snapshot.getHeader().writeTo(out);
+            out.write(snapshot.payload);
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+
+        replace(temp, file);
+    }
+
+    /**
+     * Redenumește fișierul temporar peste destinație (atomic, unde se poate)
+     */
+    static void replace(File temp, File file) throws IOException {
+        try {
+            Files.move(temp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Citește o salvare în oricare dintre formate.
+     * Salvările vechi (Java serialization, cu sau fără header) sunt migrate pe loc.
+     */
+    public static Erou readSaveFile(File file) throws IOException {
+        boolean legacy;
+        Erou erou;
+
+        try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            SaveFileHeader.readFrom(in);
+
+            legacy = !isBinaryPayload(in);
+            erou = legacy ? readLegacyPayload(in) : decode(in);
+        }
+
+        if (legacy) {
+            migrate(erou, file);
+        }
+        return erou;
+    }
+
+    /**
+     * Verifică (fără a consuma) dacă urmează un payload binar
+     */
+    private static boolean isBinaryPayload(BufferedInputStream in) throws IOException {
+        in.mark(4);
+        byte[] magic = in.readNBytes(4);
+        in.reset();
+
+        return magic.length == 4 &&
+                ((magic[0] & 0xFF) << 24 | (magic[1] & 0xFF) << 16 |
+                        (magic[2] & 0xFF) << 8 | (magic[3] & 0xFF)) == PAYLOAD_MAGIC;
+    }
+
+    private static Erou readLegacyPayload(InputStream in) throws IOException {
+        try {
+            ObjectInputStream ois = new ObjectInputStream(in);
+            return (Erou) ois.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Salvare veche necunoscută: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rescrie o salvare veche în formatul binar. Dacă rescrierea eșuează,
+     * fișierul original rămâne neatins.
+     */
+    private static void migrate(Erou erou, File file) {
+        long lastModified = file.lastModified();
+
+        try {
+            writeSaveFile(erou, file);
+            file.setLastModified(lastModified);
+            System.out.println("💾 Salvare migrată în formatul binar: " + file.getName());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Nu s-a putut migra salvarea " + file.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Construiește instanța de bază pentru clasa salvată
+     */
+    private static Erou createHero(String className, String name) throws IOException {
+        if (className == null || name == null) {
+            throw new IOException("Salvare fără clasă sau nume de erou");
+        }
+
+        return switch (className) {
+            case "Moldovean" -> new Moldovean(name);
+            case "Ardelean" -> new Ardelean(name);
+            case "Oltean" -> new Oltean(name);
+            default -> throw new IOException("Clasă de erou necunoscută: " + className);
+        };
+    }
+
+    /**
+     * Starea unui erou gata de scris pe disc
+     */
+    public static final class Snapshot {
+        private final SaveFileHeader header;
+        private final byte[] payload;
+
+        private Snapshot(SaveFileHeader header, byte[] payload) {
+            this.header = header;
+            this.payload = payload;
+        }
+
+        public SaveFileHeader getHeader() { return header; }
+        public int getPayloadSize() { return payload.length; }
+
+        /**
+         * O copie nouă a eroului din payload (nu atinge eroul din care s-a făcut snapshot-ul)
+         */
+        Erou decode() throws IOException {
+            return ErouBinaryCodec.decode(new ByteArrayInputStream(payload));
+        }
+    }
+}
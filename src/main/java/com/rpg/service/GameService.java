@@ -8,6 +8,7 @@ import com.rpg.model.items.FlaskPiece;
 import com.rpg.model.items.ObiectEchipament;
 import com.rpg.ui.GameUI;
 import com.rpg.utils.GameConstants;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.Validator;
 
 import java.util.List;
@@ -322,25 +323,23 @@ public class GameService {
             System.out.println("\n🎲 Verificare drop bonus de la boss...");
 
             // Flask Pieces drop
-            if (Math.random() < GameConstants.BOSS_FLASK_DROP_CHANCE / 100.0) {
+            if (GameRandom.loot().nextDouble() < GameConstants.BOSS_FLASK_DROP_CHANCE / 100.0) {
                 FlaskPiece.FlaskType randomType = FlaskPiece.FlaskType.values()[
-                        (int)(Math.random() * FlaskPiece.FlaskType.values().length)];
-                erou.addFlaskPieces(randomType, 1 + (int)(Math.random() * 3));
+                        (int)(GameRandom.loot().nextDouble() * FlaskPiece.FlaskType.values().length)];
+                erou.addFlaskPieces(randomType, 1 + (int)(GameRandom.loot().nextDouble() * 3));
             }
 
             // Enchant Scrolls drop
-            if (Math.random() < GameConstants.BOSS_SCROLL_DROP_CHANCE / 100.0) {
+            if (GameRandom.loot().nextDouble() < GameConstants.BOSS_SCROLL_DROP_CHANCE / 100.0) {
                 EnchantScroll.EnchantType randomType = EnchantScroll.EnchantType.values()[
-                        (int)(Math.random() * EnchantScroll.EnchantType.values().length)];
-                int level = 1 + (int)(Math.random() * 3);
+                        (int)(GameRandom.loot().nextDouble() * EnchantScroll.EnchantType.values().length)];
+                int level = 1 + (int)(GameRandom.loot().nextDouble() * 3);
                 erou.addEnchantScroll(randomType, 1, level);
             }
         }
 
-        List<ObiectEchipament> loot = LootGenerator.rollForLoot(
-                inamic.getLootTable(),
-                inamic.getDropChance()
-        );
+        // Se generează doar itemele care pică
+        List<ObiectEchipament> loot = inamic.rollLoot();
 
         if (!loot.isEmpty()) {
             System.out.println("\n🎁 LOOT OBȚINUT:");
@@ -2,14 +2,18 @@ package com.rpg.service;
 
 import com.rpg.model.characters.Erou;
 import com.rpg.model.items.BuffPotion;
+import com.rpg.model.items.ItemTemplate;
 import com.rpg.model.items.Jewel;
 import com.rpg.model.items.ObiectEchipament;
+import com.rpg.model.items.ObiectEchipament.TipEchipament;
 import com.rpg.service.dto.*;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * InventoryServiceFX - Refactorizat pentru JavaFX
@@ -40,6 +44,47 @@ public class InventoryServiceFX {
         }
     }
 
+    // Tab-ul de accesorii include și piesele mici de armură și scutul
+    private static final Set<TipEchipament> ACCESSORY_TAB_TYPES = EnumSet.of(
+            TipEchipament.RING, TipEchipament.NECKLACE, TipEchipament.HELMET,
+            TipEchipament.BOOTS, TipEchipament.GLOVES, TipEchipament.SHIELD);
+
+    // DTO-urile echipamentului din inventar, refolosite la schimbarea tab-ului
+    // cât timp itemul nu s-a schimbat (vezi CachedDTO)
+    private final Map<ObiectEchipament, CachedDTO> equipmentDtos = new IdentityHashMap<>();
+
+    private static final class CachedDTO {
+        final InventoryItemDTO dto;
+        final ItemTemplate template;
+        final ObiectEchipament.Raritate raritate;
+        final int nivel;
+        final int bonusVersion;
+        final int enhancementLevel;
+        final int duritate;
+        final int pret;
+
+        CachedDTO(InventoryItemDTO dto, ObiectEchipament item) {
+            this.dto = dto;
+            this.template = item.getTemplate();
+            this.raritate = item.getRaritate();
+            this.nivel = item.getNivelNecesar();
+            this.bonusVersion = item.getBonusVersion();
+            this.enhancementLevel = item.getEnhancementLevel();
+            this.duritate = item.getDuritate();
+            this.pret = item.getPret();
+        }
+
+        boolean matches(ObiectEchipament item) {
+            return template == item.getTemplate()
+                    && raritate == item.getRaritate()
+                    && nivel == item.getNivelNecesar()
+                    && bonusVersion == item.getBonusVersion()
+                    && enhancementLevel == item.getEnhancementLevel()
+                    && duritate == item.getDuritate()
+                    && pret == item.getPret();
+        }
+    }
+
     /**
      * Obține toate itemurile din inventar filtrate pe categorie
      */
@@ -65,8 +110,8 @@ public class InventoryServiceFX {
         List<InventoryItemDTO> allItems = new ArrayList<>();
 
         // Echipament din inventar
-        for (ObiectEchipament item : erou.getInventar().getItems()) {
-            allItems.add(createEquipmentDTO(item, false));
+        for (ObiectEchipament item : erou.getInventoryStore()) {
+            allItems.add(toDTO(item));
         }
 
         // Echipament echipat
@@ -134,37 +179,19 @@ public class InventoryServiceFX {
      * Arme - ÎNLOCUIEȘTE METODA COMPLETĂ
      */
     private List<InventoryItemDTO> getWeapons(Erou erou) {
-        return erou.getInventar().getItems().stream()
-                .filter(item -> item.isWeapon())  // ✅ Folosește helper method
-                .map(item -> createEquipmentDTO(item, false))
-                .collect(Collectors.toList());
+        return toDTOs(erou.getInventoryStore().byCategory("WEAPON"));
     }
     /**
      * Armuri - ÎNLOCUIEȘTE METODA COMPLETĂ
      */
     private List<InventoryItemDTO> getArmors(Erou erou) {
-        return erou.getInventar().getItems().stream()
-                .filter(item -> item.getTip() == ObiectEchipament.TipEchipament.ARMOR)  // ✅ ARMOR
-                .map(item -> createEquipmentDTO(item, false))
-                .collect(Collectors.toList());
+        return toDTOs(erou.getInventoryStore().byType(TipEchipament.ARMOR));
     }
     /**
      * Accesorii - ÎNLOCUIEȘTE METODA COMPLETĂ
      */
     private List<InventoryItemDTO> getAccessories(Erou erou) {
-        return erou.getInventar().getItems().stream()
-                .filter(item -> {
-                    ObiectEchipament.TipEchipament tip = item.getTip();
-                    // Accesorii = RING, NECKLACE, etc (tot ce nu e armă sau armură)
-                    return tip == ObiectEchipament.TipEchipament.RING ||
-                            tip == ObiectEchipament.TipEchipament.NECKLACE ||
-                            tip == ObiectEchipament.TipEchipament.HELMET ||
-                            tip == ObiectEchipament.TipEchipament.BOOTS ||
-                            tip == ObiectEchipament.TipEchipament.GLOVES ||
-                            tip == ObiectEchipament.TipEchipament.SHIELD;
-                })
-                .map(item -> createEquipmentDTO(item, false))
-                .collect(Collectors.toList());
+        return toDTOs(erou.getInventoryStore().byTypes(ACCESSORY_TAB_TYPES));
     }
     /**
      * Consumabile (toate poțiunile și scrollurile)
@@ -240,6 +267,48 @@ public class InventoryServiceFX {
         return items;
     }
 
+    // ==================== ACTUALIZĂRI INCREMENTALE ====================
+
+    /**
+     * Dacă un item din inventar (neechipat) apare în categoria dată
+     */
+    public boolean belongsTo(InventoryCategory category, ObiectEchipament item) {
+        return switch (category) {
+            case TOATE -> true;
+            case ARME -> item.isWeapon();
+            case ARMURI -> item.getTip() == TipEchipament.ARMOR;
+            case ACCESORII -> ACCESSORY_TAB_TYPES.contains(item.getTip());
+            default -> false;
+        };
+    }
+
+    /**
+     * DTO-ul unui item din inventar; refolosit dacă itemul nu s-a schimbat
+     */
+    public InventoryItemDTO toDTO(ObiectEchipament item) {
+        CachedDTO cached = equipmentDtos.get(item);
+        if (cached == null || !cached.matches(item)) {
+            cached = new CachedDTO(createEquipmentDTO(item, false), item);
+            equipmentDtos.put(item, cached);
+        }
+        return cached.dto;
+    }
+
+    /**
+     * Uită DTO-ul unui item scos din inventar
+     */
+    public void forget(ObiectEchipament item) {
+        equipmentDtos.remove(item);
+    }
+
+    private List<InventoryItemDTO> toDTOs(List<ObiectEchipament> items) {
+        List<InventoryItemDTO> dtos = new ArrayList<>(items.size());
+        for (ObiectEchipament item : items) {
+            dtos.add(toDTO(item));
+        }
+        return dtos;
+    }
+
     // ==================== ACȚIUNI PE ITEME ====================
 
     /**
@@ -680,18 +749,17 @@ public class InventoryServiceFX {
     }
 
     /**
-     * Obține statistici despre inventar
+     * Obține statistici despre inventar - doar contoare, fără parcurgeri
      */
     public InventoryStatsDTO getInventoryStats(Erou erou) {
-        int totalItems = erou.getInventar().getItems().size();
-        int maxCapacity = erou.getInventar().getCapacitateMaxima();
+        Erou.InventarWrapper inventar = erou.getInventar();
+        int totalItems = erou.getInventoryStore().size();
+        int maxCapacity = inventar.getCapacitateMaxima();
         int equipmentCount = totalItems;
-        int potionCount = erou.getInventar().getHealthPotions().values().stream()
-                .mapToInt(Integer::intValue).sum();
-        int buffPotionCount = erou.getInventar().getBuffPotions().values().stream()
-                .mapToInt(Integer::intValue).sum();
-        int specialItemCount = erou.getInventar().getEnchantScrolls().size() +
-                erou.getInventar().getFlaskPieces().size() +
+        int potionCount = inventar.getHealthPotionCount();
+        int buffPotionCount = inventar.getBuffPotionCount();
+        int specialItemCount = inventar.getEnchantScrolls().size() +
+                inventar.getFlaskPieces().size() +
                 erou.getShaormaRevivalCount();
 
         return new InventoryStatsDTO(
@@ -703,4 +771,4 @@ public class InventoryServiceFX {
                 specialItemCount
         );
     }
-}
\ No newline at end of file
+}
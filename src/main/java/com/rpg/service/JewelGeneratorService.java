@@ -3,8 +3,11 @@ package com.rpg.service;
 import com.rpg.model.items.Jewel;
 import com.rpg.model.items.Jewel.JewelRarity;
 import com.rpg.model.items.Jewel.JewelType;
+import com.rpg.utils.GameRandom;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
 
 /**
  * Service for generating random jewels as loot drops
@@ -12,7 +15,6 @@ import java.util.*;
  */
 public class JewelGeneratorService {
 
-    private static final Random random = new Random();
 
     // Jewel name prefixes and suffixes for procedural generation
     private static final String[] PREFIXES = {
@@ -34,7 +36,7 @@ public class JewelGeneratorService {
     public static Jewel generateRandomJewel(int heroLevel) {
         JewelRarity rarity = rollRarity();
         JewelType type = rollType();
-        int jewelLevel = Math.max(1, heroLevel + random.nextInt(5) - 2); // ±2 levels
+        int jewelLevel = Math.max(1, heroLevel + random().nextInt(5) - 2); // ±2 levels
 
         String name = generateJewelName(type, rarity);
         Jewel jewel = new Jewel(name, type, rarity, jewelLevel);
@@ -65,7 +67,7 @@ public class JewelGeneratorService {
      * Rolls jewel rarity based on weighted probabilities
      */
     private static JewelRarity rollRarity() {
-        int roll = random.nextInt(100);
+        int roll = random().nextInt(100);
 
         if (roll < 50) return JewelRarity.COMMON;        // 50%
         if (roll < 75) return JewelRarity.UNCOMMON;      // 25%
@@ -78,7 +80,7 @@ public class JewelGeneratorService {
      * Rolls jewel type (equal probability for non-unique)
      */
     private static JewelType rollType() {
-        int roll = random.nextInt(100);
+        int roll = random().nextInt(100);
 
         if (roll < 25) return JewelType.CRIMSON;    // 25% - STR
         if (roll < 50) return JewelType.VIRIDIAN;   // 25% - DEX
@@ -93,7 +95,7 @@ public class JewelGeneratorService {
     private static int rollModifierCount(JewelRarity rarity) {
         int min = rarity.getMinModifiers();
         int max = rarity.getMaxModifiers();
-        return min + random.nextInt(max - min + 1);
+        return min + random().nextInt(max - min + 1);
     }
 
     /**
@@ -108,7 +110,7 @@ public class JewelGeneratorService {
             String modifier;
             int attempts = 0;
             do {
-                modifier = availableModifiers.get(random.nextInt(availableModifiers.size()));
+                modifier = availableModifiers.get(random().nextInt(availableModifiers.size()));
                 attempts++;
             } while (usedModifiers.contains(modifier) && attempts < 20);
 
@@ -253,7 +255,7 @@ public class JewelGeneratorService {
         double max = baseMax * multiplier;
 
         // Roll random value in range
-        double value = min + (max - min) * random.nextDouble();
+        double value = min + (max - min) * random().nextDouble();
 
         // Round to 1 decimal place
         return Math.round(value * 10.0) / 10.0;
@@ -269,13 +271,13 @@ public class JewelGeneratorService {
         }
 
         // For other rarities, use prefix + type + suffix
-        if (random.nextBoolean()) {
+        if (random().nextBoolean()) {
             // Prefix + Type
-            String prefix = PREFIXES[random.nextInt(PREFIXES.length)];
+            String prefix = PREFIXES[random().nextInt(PREFIXES.length)];
             return prefix + " " + type.getDisplayName();
         } else {
             // Type + Suffix
-            String suffix = SUFFIXES[random.nextInt(SUFFIXES.length)];
+            String suffix = SUFFIXES[random().nextInt(SUFFIXES.length)];
             return type.getDisplayName() + " " + suffix;
         }
     }
@@ -307,7 +309,7 @@ public class JewelGeneratorService {
             };
         };
 
-        return legendaryNames[random.nextInt(legendaryNames.length)];
+        return legendaryNames[random().nextInt(legendaryNames.length)];
     }
 
     /**
@@ -324,12 +326,18 @@ public class JewelGeneratorService {
      * Generates a batch of jewels for shop inventory
      */
     public static List<Jewel> generateShopInventory(int heroLevel, int count) {
-        List<Jewel> jewels = new ArrayList<>();
+        return sortForShop(LootBatch.jewels(heroLevel, count, false));
+    }
 
-        for (int i = 0; i < count; i++) {
-            jewels.add(generateRandomJewel(heroLevel));
-        }
+    /**
+     * Same inventory, generated on the loot worker pool (e.g. for a shop restock)
+     */
+    public static CompletableFuture<List<Jewel>> generateShopInventoryAsync(int heroLevel, int count) {
+        return LootBatch.generateAsync(count, i -> generateRandomJewel(heroLevel))
+                .thenApply(JewelGeneratorService::sortForShop);
+    }
 
+    private static List<Jewel> sortForShop(List<Jewel> jewels) {
         // Sort by rarity and price
         jewels.sort(Comparator
                 .comparing((Jewel j) -> j.getRarity().ordinal())
@@ -339,4 +347,11 @@ public class JewelGeneratorService {
 
         return jewels;
     }
+
+    /**
+     * Stream-ul de loot al thread-ului curent (vezi GameRandom)
+     */
+    private static RandomGenerator random() {
+        return GameRandom.loot();
+    }
 }
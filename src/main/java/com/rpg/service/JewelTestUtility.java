@@ -167,7 +167,7 @@ public class JewelTestUtility {
                         jewel.getType().getIcon(),
                         jewel.getName(),
                         status,
-                        jewel.getModifiers().size());
+                        jewel.getModifierCount());
             }
         }
 
@@ -0,0 +1,158 @@
+package com.rpg.service;
+
+import com.rpg.model.items.Jewel;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.model.items.ObiectEchipament.Raritate;
+import com.rpg.model.items.ObiectEchipament.TipEchipament;
+import com.rpg.utils.GameRandom;
+import com.rpg.utils.WeightedSampler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Generare de loot în loturi: N iteme sau jewels dintr-un singur apel.
+ *
+ * Lotul se împarte în bucăți de CHUNK_SIZE. Fiecare bucată primește propriul
+ * GameRandom, obținut cu split() pe thread-ul care cere lotul, în ordinea
+ * bucăților. Așa, un lot cu seed dă exact aceleași iteme, în aceeași ordine,
+ * fie că rulează secvențial, fie împărțit pe ForkJoinPool, oricâte thread-uri
+ * ar fi. Stream-ul de loot al apelantului nu e consumat.
+ *
+ * Pentru pregenerare (stocul magazinului, comorile unui dungeon), varianta
+ * async rulează tot lotul pe pool și întoarce un CompletableFuture.
+ */
+public final class LootBatch {
+
+    static final int CHUNK_SIZE = 32;
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("loot-batch-" + THREAD_IDS.incrementAndGet());
+                thread.setDaemon(true); // Nu ține jocul deschis
+                return thread;
+            },
+            null, false);
+
+    private LootBatch() {
+    }
+
+    // ==================== ITEME ====================
+
+    /**
+     * N iteme de nivelul dat, cu tipurile și raritatea din tabelele de loot
+     */
+    public static List<ObiectEchipament> items(int level, int count, boolean parallel) {
+        return items(level, count, null, null, parallel);
+    }
+
+    /**
+     * N iteme de nivelul dat
+     *
+     * @param types    distribuția tipurilor; null = ponderile din item.type
+     * @param rarities distribuția rarităților; null = pragul de nivel din rarity.*
+     */
+    public static List<ObiectEchipament> items(int level, int count, WeightedSampler<TipEchipament> types,
+                                               WeightedSampler<Raritate> rarities, boolean parallel) {
+        return generate(count, parallel, () -> LootGenerator.generateRandomItem(level, types, rarities));
+    }
+
+    // ==================== JEWELS ====================
+
+    /**
+     * N jewels aleatorii de nivelul dat (ca generateRandomJewel)
+     */
+    public static List<Jewel> jewels(int level, int count, boolean parallel) {
+        return generate(count, parallel, () -> JewelGeneratorService.generateRandomJewel(level));
+    }
+
+    // ==================== GENERIC ====================
+
+    /**
+     * Apelează generatorul de {@code count} ori, pe bucăți cu stream-uri separate
+     *
+     * @param parallel true = bucățile rulează pe pool; rezultatul e același
+     */
+    public static <T> List<T> generate(int count, boolean parallel, Supplier<T> generator) {
+        return generateIndexed(count, parallel, index -> generator.get());
+    }
+
+    /**
+     * Ca generate(), dar generatorul primește poziția din lot (0..count-1)
+     */
+    public static <T> List<T> generateIndexed(int count, boolean parallel, IntFunction<T> generator) {
+        return run(split(count, generator), count, parallel);
+    }
+
+    /**
+     * Tot lotul pe pool, fără să blocheze thread-ul curent (de exemplu FX).
+     * Stream-urile se împart aici, pe thread-ul apelant, deci rezultatul e
+     * același ca la generateIndexed() cu același seed.
+     */
+    public static <T> CompletableFuture<List<T>> generateAsync(int count, IntFunction<T> generator) {
+        List<Callable<List<T>>> chunks = split(count, generator);
+        return CompletableFuture.supplyAsync(() -> run(chunks, count, true), POOL);
+    }
+
+    private static <T> List<T> run(List<Callable<List<T>>> chunks, int count, boolean parallel) {
+        List<T> result = new ArrayList<>(count);
+        if (!parallel || chunks.size() < 2) {
+            for (Callable<List<T>> chunk : chunks) {
+                result.addAll(call(chunk));
+            }
+            return result;
+        }
+
+        for (Future<List<T>> partial : POOL.invokeAll(chunks)) {
+            try {
+                result.addAll(partial.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Generarea lotului a fost întreruptă", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Generarea lotului a eșuat", e.getCause());
+            }
+        }
+        return result;
+    }
+
+    private static <T> List<Callable<List<T>>> split(int count, IntFunction<T> generator) {
+        GameRandom parent = GameRandom.current();
+        List<Callable<List<T>>> chunks = new ArrayList<>((count + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        for (int start = 0; start < count; start += CHUNK_SIZE) {
+            int first = start;
+            int end = Math.min(count, start + CHUNK_SIZE);
+            GameRandom random = parent.split();
+            chunks.add(() -> GameRandom.callWith(random, () -> {
+                List<T> part = new ArrayList<>(end - first);
+                for (int i = first; i < end; i++) {
+                    part.add(generator.apply(i));
+                }
+                return part;
+            }));
+        }
+        return chunks;
+    }
+
+    private static <T> List<T> call(Callable<List<T>> chunk) {
+        try {
+            return chunk.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
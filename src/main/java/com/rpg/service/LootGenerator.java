@@ -1,15 +1,19 @@
 package com.rpg.service;
 
 import com.rpg.model.items.Jewel;
+import com.rpg.model.items.LootDescriptor;
 import com.rpg.model.items.ObiectEchipament;
 import com.rpg.model.items.ObiectEchipament.Raritate;
 import com.rpg.model.items.ObiectEchipament.TipEchipament;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.RandomUtils;
+import com.rpg.utils.WeightedSampler;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 
 public class LootGenerator {
@@ -244,15 +248,73 @@ public class LootGenerator {
             "MUE PSD", "Anti-Corupție", "al Justiției", "Revolution", "Freedom"
     };
 
+    // ==================== TABELE DE PONDERI ====================
+    // Construite o singură dată din data/weights.properties (vezi WeightTables);
+    // fiecare aruncare e apoi O(1), fără alocări
+
+    private enum WeaponFamily { PHYSICAL, MAGIC, RANGED }
+
+    private static final WeightedSampler<TipEchipament> ITEM_TYPES =
+            WeightTables.sampler("item.type", TipEchipament.class, null);
+    private static final WeightedSampler<WeaponFamily> ONE_HANDED_FAMILIES =
+            WeightTables.sampler("weapon.one_handed", WeaponFamily.class, "PHYSICAL:1");
+    private static final WeightedSampler<WeaponFamily> TWO_HANDED_FAMILIES =
+            WeightTables.sampler("weapon.two_handed", WeaponFamily.class, "PHYSICAL:1");
+
+    private static final MagicalWeapon[] ONE_HANDED_MAGIC = java.util.Arrays.stream(MagicalWeapon.values())
+            .filter(MagicalWeapon::isOneHanded)
+            .toArray(MagicalWeapon[]::new);
+    private static final MagicalWeapon[] TWO_HANDED_MAGIC = java.util.Arrays.stream(MagicalWeapon.values())
+            .filter(w -> !w.isOneHanded() && w.getWeaponClass().equals("staff"))
+            .toArray(MagicalWeapon[]::new);
+    private static final MagicalWeapon[] OFF_HAND_MAGIC = java.util.Arrays.stream(MagicalWeapon.values())
+            .filter(w -> !w.isOneHanded() && !w.getWeaponClass().equals("staff"))
+            .toArray(MagicalWeapon[]::new);
+
+    // Sampler-ul de raritate pentru fiecare nivel până la ultimul prag (de acolo în sus e același)
+    private static final List<WeightedSampler<Raritate>> RARITY_BY_LEVEL = buildRarityTable();
+
+    private static List<WeightedSampler<Raritate>> buildRarityTable() {
+        double[] brackets = WeightTables.numbers("rarity.brackets", 1);
+        List<WeightedSampler<Raritate>> byLevel = new ArrayList<>();
+        for (int i = 0; i < brackets.length; i++) {
+            int from = (int) brackets[i];
+            // Un prag nesortat ar suprascrie în tăcere nivelurile de dinainte
+            if (from != brackets[i] || from < 0 || (i > 0 && from <= brackets[i - 1])) {
+                throw new IllegalStateException("rarity.brackets trebuie să fie niveluri întregi, strict crescătoare: "
+                        + java.util.Arrays.toString(brackets));
+            }
+            WeightedSampler<Raritate> sampler = WeightTables.sampler("rarity." + from, Raritate.class, "COMMON:1");
+            if (byLevel.isEmpty()) {
+                byLevel.add(sampler); // Nivelurile de sub primul prag
+            }
+            while (byLevel.size() <= from) {
+                byLevel.add(byLevel.get(byLevel.size() - 1));
+            }
+            byLevel.set(from, sampler);
+        }
+        return List.copyOf(byLevel);
+    }
+
     // ==================== METODE PRINCIPALE ====================
 
     /**
      * Generează un obiect aleatoriu bazat pe nivelul inamicului.
      */
     public static ObiectEchipament generateRandomItem(int enemyLevel) {
-        Raritate raritate = determineRarity(enemyLevel);
-        TipEchipament[] tipuri = TipEchipament.values();
-        TipEchipament tip = RandomUtils.randomElement(tipuri);
+        return generateRandomItem(enemyLevel, null, null);
+    }
+
+    /**
+     * Obiect aleatoriu cu distribuții date (folosit de LootBatch)
+     *
+     * @param types    tipurile posibile; null = ponderile din item.type
+     * @param rarities raritățile posibile; null = pragul de nivel din rarity.*
+     */
+    public static ObiectEchipament generateRandomItem(int enemyLevel, WeightedSampler<TipEchipament> types,
+                                                      WeightedSampler<Raritate> rarities) {
+        Raritate raritate = rarities != null ? rarities.sample(GameRandom.loot()) : determineRarity(enemyLevel);
+        TipEchipament tip = (types != null ? types : ITEM_TYPES).sample(GameRandom.loot());
 
         return generateItemByType(tip, enemyLevel, raritate);
     }
@@ -269,21 +331,17 @@ public class LootGenerator {
 
         switch (tip) {
             case WEAPON_ONE_HANDED -> {
-                // Alege random între Physical și Agile one-handed
-                double roll = RandomUtils.randomDouble();
-                if (roll < 0.7) { // 70% Physical
-                    OneHandedPhysicalWeapon weapon = RandomUtils.randomElement(OneHandedPhysicalWeapon.values());
+                // Physical sau Magical one-handed, după ponderile din weapon.one_handed
+                if (ONE_HANDED_FAMILIES.sample(GameRandom.loot()) != WeaponFamily.MAGIC) {
+                    OneHandedPhysicalWeapon weapon = RandomUtils.randomElement(GameRandom.loot(), OneHandedPhysicalWeapon.values());
                     itemName = generateWeaponName(weapon.getBaseName(), weapon.getPrefixes(), raritate);
                     bonuses = calculatePhysicalWeaponBonuses(raritate, level);
                     weaponClass = weapon.getWeaponClass();
 
                     // Daggers/knives pot fi off-hand compatible
                     isOffHandCompatible = weaponClass.equals("dagger");
-                } else { // 30% Magical one-handed
-                    MagicalWeapon[] oneHandedMagic = java.util.Arrays.stream(MagicalWeapon.values())
-                            .filter(MagicalWeapon::isOneHanded)
-                            .toArray(MagicalWeapon[]::new);
-                    MagicalWeapon weapon = RandomUtils.randomElement(oneHandedMagic);
+                } else { // Magical one-handed
+                    MagicalWeapon weapon = RandomUtils.randomElement(GameRandom.loot(), ONE_HANDED_MAGIC);
                     itemName = generateWeaponName(weapon.getBaseName(), weapon.getPrefixes(), raritate);
                     bonuses = calculateMagicalWeaponBonuses(raritate, level);
                     weaponClass = weapon.getWeaponClass();
@@ -293,22 +351,19 @@ public class LootGenerator {
             }
 
             case WEAPON_TWO_HANDED -> {
-                double roll = RandomUtils.randomDouble();
-                if (roll < 0.6) { // 60% Physical two-handed
-                    TwoHandedPhysicalWeapon weapon = RandomUtils.randomElement(TwoHandedPhysicalWeapon.values());
+                WeaponFamily family = TWO_HANDED_FAMILIES.sample(GameRandom.loot());
+                if (family == WeaponFamily.PHYSICAL) {
+                    TwoHandedPhysicalWeapon weapon = RandomUtils.randomElement(GameRandom.loot(), TwoHandedPhysicalWeapon.values());
                     itemName = generateWeaponName(weapon.getBaseName(), weapon.getPrefixes(), raritate);
                     bonuses = calculatePhysicalWeaponBonuses(raritate, level);
                     weaponClass = weapon.getWeaponClass();
-                } else if (roll < 0.85) { // 25% Magical two-handed (staffs)
-                    MagicalWeapon[] twoHandedMagic = java.util.Arrays.stream(MagicalWeapon.values())
-                            .filter(w -> !w.isOneHanded() && w.getWeaponClass().equals("staff"))
-                            .toArray(MagicalWeapon[]::new);
-                    MagicalWeapon weapon = RandomUtils.randomElement(twoHandedMagic);
+                } else if (family == WeaponFamily.MAGIC) { // Magical two-handed (staffs)
+                    MagicalWeapon weapon = RandomUtils.randomElement(GameRandom.loot(), TWO_HANDED_MAGIC);
                     itemName = generateWeaponName(weapon.getBaseName(), weapon.getPrefixes(), raritate);
                     bonuses = calculateMagicalWeaponBonuses(raritate, level);
                     weaponClass = weapon.getWeaponClass();
-                } else { // 15% Ranged two-handed
-                    RangedWeapon weapon = RandomUtils.randomElement(RangedWeapon.values());
+                } else { // Ranged two-handed
+                    RangedWeapon weapon = RandomUtils.randomElement(GameRandom.loot(), RangedWeapon.values());
                     itemName = generateWeaponName(weapon.getBaseName(), weapon.getPrefixes(), raritate);
                     bonuses = calculateRangedWeaponBonuses(raritate, level);
                     weaponClass = weapon.getWeaponClass();
@@ -317,7 +372,7 @@ public class LootGenerator {
             }
 
             case SHIELD -> {
-                ShieldType shield = RandomUtils.randomElement(ShieldType.values());
+                ShieldType shield = RandomUtils.randomElement(GameRandom.loot(), ShieldType.values());
                 itemName = generateWeaponName(shield.getBaseName(), shield.getPrefixes(), raritate);
                 bonuses = calculateShieldBonuses(raritate);
                 weaponClass = shield.getShieldClass();
@@ -328,7 +383,7 @@ public class LootGenerator {
                 // Generate off-hand specific daggers/weapons
                 String[] offHandNames = {"Pumnal", "Stiletto", "Cuțit", "Dagger"};
                 String[] offHandPrefixes = {"Rapid", "din Umbră", "Secundar", "de Backup", "Ascuns"};
-                itemName = generateWeaponName(RandomUtils.randomElement(offHandNames),
+                itemName = generateWeaponName(RandomUtils.randomElement(GameRandom.loot(), offHandNames),
                         offHandPrefixes, raritate);
                 bonuses = calculateOffHandWeaponBonuses(raritate);
                 weaponClass = "dagger";
@@ -336,10 +391,7 @@ public class LootGenerator {
             }
 
             case OFF_HAND_MAGIC -> {
-                MagicalWeapon[] offHandMagic = java.util.Arrays.stream(MagicalWeapon.values())
-                        .filter(w -> !w.isOneHanded() && !w.getWeaponClass().equals("staff"))
-                        .toArray(MagicalWeapon[]::new);
-                MagicalWeapon weapon = RandomUtils.randomElement(offHandMagic);
+                MagicalWeapon weapon = RandomUtils.randomElement(GameRandom.loot(), OFF_HAND_MAGIC);
                 itemName = generateWeaponName(weapon.getBaseName(), weapon.getPrefixes(), raritate);
                 bonuses = calculateOffHandMagicBonuses(raritate);
                 weaponClass = weapon.getWeaponClass();
@@ -347,37 +399,37 @@ public class LootGenerator {
             }
 
             case ARMOR -> {
-                String[] armorData = RandomUtils.randomElement(ARMOR_TYPES);
+                String[] armorData = RandomUtils.randomElement(GameRandom.loot(), ARMOR_TYPES);
                 itemName = generateArmorName(armorData, raritate);
                 bonuses = calculateDefensiveBonuses(raritate, level, 1.0);
                 weaponClass = "armor";
             }
             case HELMET -> {
-                String[] helmetData = RandomUtils.randomElement(HELMET_TYPES);
+                String[] helmetData = RandomUtils.randomElement(GameRandom.loot(), HELMET_TYPES);
                 itemName = generateArmorName(helmetData, raritate);
                 bonuses = calculateDefensiveBonuses(raritate, level, 0.7);
                 weaponClass = "helmet";
             }
             case BOOTS -> {
-                String[] bootsData = RandomUtils.randomElement(BOOTS_TYPES);
+                String[] bootsData = RandomUtils.randomElement(GameRandom.loot(), BOOTS_TYPES);
                 itemName = generateArmorName(bootsData, raritate);
                 bonuses = calculateDefensiveBonuses(raritate, level, 0.6);
                 weaponClass = "boots";
             }
             case GLOVES -> {
-                String[] glovesData = RandomUtils.randomElement(GLOVES_TYPES);
+                String[] glovesData = RandomUtils.randomElement(GameRandom.loot(), GLOVES_TYPES);
                 itemName = generateArmorName(glovesData, raritate);
                 bonuses = calculateDefensiveBonuses(raritate, level, 0.6);
                 weaponClass = "gloves";
             }
             case RING -> {
-                String[] ringData = RandomUtils.randomElement(RING_TYPES);
+                String[] ringData = RandomUtils.randomElement(GameRandom.loot(), RING_TYPES);
                 itemName = generateAccessoryName(ringData, raritate);
                 bonuses = calculateAccessoryBonuses(raritate);
                 weaponClass = "ring";
             }
             case NECKLACE -> {
-                String[] necklaceData = RandomUtils.randomElement(NECKLACE_TYPES);
+                String[] necklaceData = RandomUtils.randomElement(GameRandom.loot(), NECKLACE_TYPES);
                 itemName = generateAccessoryName(necklaceData, raritate);
                 bonuses = calculateAccessoryBonuses(raritate);
                 weaponClass = "necklace";
@@ -389,7 +441,7 @@ public class LootGenerator {
             }
         }
 
-        int requiredLevel = Math.max(1, level + RandomUtils.randomInt(-2, 2));
+        int requiredLevel = Math.max(1, level + RandomUtils.randomInt(GameRandom.loot(), -2, 2));
         int pret = calculateItemPrice(requiredLevel, raritate);
 
 // ✅ Folosește constructorul extins cu noile proprietăți
@@ -417,10 +469,10 @@ public class LootGenerator {
         // 🔧 NEW FORMULA: Level + Rarity scaling
         int levelBonus = (itemLevel / 2) + 1;
         int rarityMultipliedBonus = (int)(levelBonus * raritate.getMultiplier());
-        int statBonus = Math.max(1, rarityMultipliedBonus / 2) + RandomUtils.randomInt(0, 2);
-        int weaponDamage = rarityMultipliedBonus + RandomUtils.randomInt(1, Math.max(2, itemLevel / 10 + 2));
+        int statBonus = Math.max(1, rarityMultipliedBonus / 2) + RandomUtils.randomInt(GameRandom.loot(), 0, 2);
+        int weaponDamage = rarityMultipliedBonus + RandomUtils.randomInt(GameRandom.loot(), 1, Math.max(2, itemLevel / 10 + 2));
 
-        bonuses.put("dexterity", statBonus + RandomUtils.randomInt(2, 6));
+        bonuses.put("dexterity", statBonus + RandomUtils.randomInt(GameRandom.loot(), 2, 6));
         bonuses.put("Damage", weaponDamage);
         bonuses.put("hit_chance", Math.max(4, statBonus * 2)); // Ranged = mai precis
         bonuses.put("crit_chance", Math.max(5, statBonus + 3));
@@ -436,8 +488,8 @@ public class LootGenerator {
         Map<String, Integer> bonuses = new HashMap<>();
         int statBonus = (int)(raritate.getMultiplier() * 1.5); // Slightly lower than main hand
 
-        bonuses.put("dexterity", statBonus + RandomUtils.randomInt(1, 3));
-        bonuses.put("Damage", statBonus + RandomUtils.randomInt(1, 4));
+        bonuses.put("dexterity", statBonus + RandomUtils.randomInt(GameRandom.loot(), 1, 3));
+        bonuses.put("Damage", statBonus + RandomUtils.randomInt(GameRandom.loot(), 1, 4));
         bonuses.put("crit_chance", statBonus * 2); // Off-hand = mai multe crit-uri
         bonuses.put("hit_chance", statBonus);
 
@@ -452,7 +504,7 @@ public class LootGenerator {
         Map<String, Integer> bonuses = new HashMap<>();
         int statBonus = (int)(raritate.getMultiplier() * 1.5);
 
-        bonuses.put("intelligence", statBonus + RandomUtils.randomInt(1, 4));
+        bonuses.put("intelligence", statBonus + RandomUtils.randomInt(GameRandom.loot(), 1, 4));
         bonuses.put("mana", statBonus * 8);
         bonuses.put("mana_steal", statBonus);
 
@@ -469,10 +521,10 @@ public class LootGenerator {
     // ==================== GENERARE NUME ====================
 
     private static String generateWeaponName(String baseName, String[] prefixes, Raritate raritate) {
-        String prefix = RandomUtils.randomElement(prefixes);
+        String prefix = RandomUtils.randomElement(GameRandom.loot(), prefixes);
 
         if (raritate.ordinal() >= 3) { // EPIC sau LEGENDARY
-            String suffix = RandomUtils.randomElement(EPIC_SUFFIXES);
+            String suffix = RandomUtils.randomElement(GameRandom.loot(), EPIC_SUFFIXES);
             return baseName + " " + prefix + " " + suffix;  // ✅ CORECT
         }
 
@@ -481,10 +533,10 @@ public class LootGenerator {
 
     private static String generateArmorName(String[] armorData, Raritate raritate) {
         String baseName = armorData[0];
-        String prefix = RandomUtils.randomElement(java.util.Arrays.copyOfRange(armorData, 1, armorData.length));
+        String prefix = RandomUtils.randomElement(GameRandom.loot(), java.util.Arrays.copyOfRange(armorData, 1, armorData.length));
 
         if (raritate.ordinal() >= 3) {
-            String suffix = RandomUtils.randomElement(EPIC_SUFFIXES);
+            String suffix = RandomUtils.randomElement(GameRandom.loot(), EPIC_SUFFIXES);
             return baseName + " " + prefix + " " + suffix;  // ✅ CORECT
         }
 
@@ -493,10 +545,10 @@ public class LootGenerator {
 
     private static String generateAccessoryName(String[] accessoryData, Raritate raritate) {
         String baseName = accessoryData[0];
-        String prefix = RandomUtils.randomElement(java.util.Arrays.copyOfRange(accessoryData, 1, accessoryData.length));
+        String prefix = RandomUtils.randomElement(GameRandom.loot(), java.util.Arrays.copyOfRange(accessoryData, 1, accessoryData.length));
 
         if (raritate.ordinal() >= 3) {
-            String suffix = RandomUtils.randomElement(EPIC_SUFFIXES);
+            String suffix = RandomUtils.randomElement(GameRandom.loot(), EPIC_SUFFIXES);
             return baseName + " " + prefix + " " + suffix;  // ✅ CORECT
         }
 
@@ -510,10 +562,10 @@ public class LootGenerator {
         // 🔧 NEW FORMULA: Level + Rarity scaling
         int levelBonus = (itemLevel / 2) + 1;
         int rarityMultipliedBonus = (int)(levelBonus * raritate.getMultiplier());
-        int randomVariation = RandomUtils.randomInt(1, Math.max(2, itemLevel / 10 + 2));
+        int randomVariation = RandomUtils.randomInt(GameRandom.loot(), 1, Math.max(2, itemLevel / 10 + 2));
 
         int weaponDamage = rarityMultipliedBonus + randomVariation;
-        int statBonus = Math.max(1, rarityMultipliedBonus / 2) + RandomUtils.randomInt(0, 2);
+        int statBonus = Math.max(1, rarityMultipliedBonus / 2) + RandomUtils.randomInt(GameRandom.loot(), 0, 2);
 
         bonuses.put("strength", statBonus);
         bonuses.put("Damage", weaponDamage);
@@ -536,7 +588,7 @@ public class LootGenerator {
             bonuses.put("elemental_damage", Math.max(5, statBonus));
             // Bonus aleator special
             String[] specialBonuses = {"gold_find", "fire_resistance"};
-            String special = RandomUtils.randomElement(specialBonuses);
+            String special = RandomUtils.randomElement(GameRandom.loot(), specialBonuses);
             bonuses.put(special, Math.max(7, statBonus + 5));
         }
 
@@ -546,9 +598,9 @@ public class LootGenerator {
     private static Map<String, Integer> calculateAgileWeaponBonuses(Raritate raritate) {
         Map<String, Integer> bonuses = new HashMap<>();
         int statBonus = (int)(raritate.getMultiplier() * 2);
-        int attackBonus = statBonus + RandomUtils.randomInt(2, 5);
+        int attackBonus = statBonus + RandomUtils.randomInt(GameRandom.loot(), 2, 5);
 
-        bonuses.put("dexterity", statBonus + RandomUtils.randomInt(1, 4));
+        bonuses.put("dexterity", statBonus + RandomUtils.randomInt(GameRandom.loot(), 1, 4));
         bonuses.put("Damage", attackBonus);
 
         // ✨ BONUSURI NOI
@@ -578,10 +630,10 @@ public class LootGenerator {
         // 🔧 NEW FORMULA: Level + Rarity scaling
         int levelBonus = (itemLevel / 2) + 1;
         int rarityMultipliedBonus = (int)(levelBonus * raritate.getMultiplier());
-        int randomVariation = RandomUtils.randomInt(1, Math.max(2, itemLevel / 10 + 2));
+        int randomVariation = RandomUtils.randomInt(GameRandom.loot(), 1, Math.max(2, itemLevel / 10 + 2));
 
         int weaponDamage = rarityMultipliedBonus + randomVariation;
-        int statBonus = Math.max(1, rarityMultipliedBonus / 2) + RandomUtils.randomInt(0, 2);
+        int statBonus = Math.max(1, rarityMultipliedBonus / 2) + RandomUtils.randomInt(GameRandom.loot(), 0, 2);
 
         bonuses.put("intelligence", statBonus);
         bonuses.put("Damage", weaponDamage);
@@ -616,7 +668,7 @@ public class LootGenerator {
         // 🔧 NEW FORMULA: Level + Rarity scaling
         int levelBonus = (itemLevel / 3) + 1;  // Armor scales slightly slower
         int rarityMultipliedBonus = (int)(levelBonus * raritate.getMultiplier() * multiplier);
-        int defenseBonus = rarityMultipliedBonus + RandomUtils.randomInt(1, Math.max(2, itemLevel / 10 + 2));
+        int defenseBonus = rarityMultipliedBonus + RandomUtils.randomInt(GameRandom.loot(), 1, Math.max(2, itemLevel / 10 + 2));
 
         bonuses.put("defense", defenseBonus);
         bonuses.put("health", Math.max(15, (int)(rarityMultipliedBonus * 8)));
@@ -639,7 +691,7 @@ public class LootGenerator {
             bonuses.put("gold_find", Math.max(5, defenseBonus + 5));
             // Bonus special defensiv
             String[] defensiveBonuses = {"block_chance", "lifesteal"};
-            String special = RandomUtils.randomElement(defensiveBonuses);
+            String special = RandomUtils.randomElement(GameRandom.loot(), defensiveBonuses);
             bonuses.put(special, Math.max(2, defenseBonus / 2));
         }
 
@@ -651,7 +703,7 @@ public class LootGenerator {
         Map<String, Integer> bonuses = new HashMap<>();
         int statBonus = (int)(raritate.getMultiplier() * 2);
 
-        bonuses.put("defense", statBonus * 2 + RandomUtils.randomInt(3, 6));
+        bonuses.put("defense", statBonus * 2 + RandomUtils.randomInt(GameRandom.loot(), 3, 6));
         bonuses.put("viata", statBonus * 10);
 
         if (raritate.ordinal() >= 1) {
@@ -665,21 +717,21 @@ public class LootGenerator {
         Map<String, Integer> bonuses = new HashMap<>();
         int statBonus = (int)(raritate.getMultiplier() * 2);
 
-        double roll = RandomUtils.randomDouble();
+        double roll = RandomUtils.randomDouble(GameRandom.loot());
 
         if (roll < 0.33) {
-            bonuses.put("strength", statBonus + RandomUtils.randomInt(0, 3));
+            bonuses.put("strength", statBonus + RandomUtils.randomInt(GameRandom.loot(), 0, 3));
             bonuses.put("attack_bonus", statBonus);
         } else if (roll < 0.66) {
-            bonuses.put("dexterity", statBonus + RandomUtils.randomInt(0, 3));
+            bonuses.put("dexterity", statBonus + RandomUtils.randomInt(GameRandom.loot(), 0, 3));
             bonuses.put("crit_chance", statBonus);
         } else {
-            bonuses.put("intelligence", statBonus + RandomUtils.randomInt(0, 3));
+            bonuses.put("intelligence", statBonus + RandomUtils.randomInt(GameRandom.loot(), 0, 3));
             bonuses.put("mana", statBonus * 5);
         }
 
         if (raritate.ordinal() >= 3) {
-            double secondRoll = RandomUtils.randomDouble();
+            double secondRoll = RandomUtils.randomDouble(GameRandom.loot());
             if (secondRoll < 0.5) {
                 bonuses.put("defense", statBonus / 2);
             } else {
@@ -693,13 +745,8 @@ public class LootGenerator {
     // ==================== HELPER METHODS ====================
 
     private static Raritate determineRarity(int level) {
-        double roll = RandomUtils.randomDouble();
-
-        if (level >= 20 && roll < 0.05) return Raritate.LEGENDARY;
-        if (level >= 15 && roll < 0.15) return Raritate.EPIC;
-        if (level >= 10 && roll < 0.25) return Raritate.RARE;
-        if (level >= 5 && roll < 0.40) return Raritate.UNCOMMON;
-        return Raritate.COMMON;
+        int index = Math.max(0, Math.min(level, RARITY_BY_LEVEL.size() - 1));
+        return RARITY_BY_LEVEL.get(index).sample(GameRandom.loot());
     }
 
     private static int calculateItemPrice(int level, Raritate raritate) {
@@ -710,28 +757,60 @@ public class LootGenerator {
     // ==================== METODE PENTRU LOOT GENERATION ====================
 
     public List<ObiectEchipament> generatePossibleLoot(int enemyLevel, boolean isBoss) {
-        List<ObiectEchipament> lootTable = new ArrayList<>();
+        return materializeLoot(describeLoot(enemyLevel, isBoss));
+    }
+
+    /**
+     * Descriptor nou pentru loot-ul unui inamic. Costă un singur long din
+     * stream-ul de loot; itemele se generează abia la moartea inamicului.
+     */
+    public static LootDescriptor describeLoot(int enemyLevel, boolean isBoss) {
+        return new LootDescriptor(enemyLevel, isBoss, GameRandom.loot().nextLong());
+    }
+
+    /**
+     * Toate itemele posibile din descriptor (tabela de loot completă)
+     */
+    public static List<ObiectEchipament> materializeLoot(LootDescriptor loot) {
+        return generateLoot(loot, false, 0);
+    }
 
-        int itemCount = isBoss ? RandomUtils.randomInt(2, 4) : RandomUtils.randomInt(1, 3);
+    /**
+     * Aruncă drop chance-ul pentru fiecare slot și generează doar itemele care pică
+     */
+    public static List<ObiectEchipament> rollLoot(LootDescriptor loot, double dropChance) {
+        return generateLoot(loot, true, dropChance);
+    }
+
+    /**
+     * Slot-urile (câte iteme, nivelul fiecăruia, seed-ul fiecăruia) vin din seed-ul
+     * descriptorului și se citesc la fel indiferent ce pică, deci un item e același
+     * și în tabela completă, și într-un drop parțial. Aruncarea de drop folosește
+     * stream-ul de loot curent, ca înainte.
+     */
+    private static List<ObiectEchipament> generateLoot(LootDescriptor loot, boolean rollDrops, double dropChance) {
+        SplittableRandom slots = new SplittableRandom(loot.getSeed());
+        int itemCount = loot.isBoss() ? RandomUtils.randomInt(slots, 2, 4) : RandomUtils.randomInt(slots, 1, 3);
 
+        List<ObiectEchipament> items = new ArrayList<>(itemCount);
         for (int i = 0; i < itemCount; i++) {
-            ObiectEchipament item = generateRandomItem(enemyLevel);
+            long itemSeed = slots.nextLong();
+            boolean upgraded = loot.isBoss() && RandomUtils.chancePercent(slots, 30.0);
 
-            if (isBoss && RandomUtils.chancePercent(30.0)) {
-                item = generateRandomItem(enemyLevel + 2);
+            if (rollDrops && !RandomUtils.chancePercent(GameRandom.loot(), dropChance)) {
+                continue;
             }
-
-            lootTable.add(item);
+            int itemLevel = upgraded ? loot.getLevel() + 2 : loot.getLevel();
+            items.add(GameRandom.callWith(GameRandom.seeded(itemSeed), () -> generateRandomItem(itemLevel)));
         }
-
-        return lootTable;
+        return items;
     }
 
     public static List<ObiectEchipament> rollForLoot(List<ObiectEchipament> lootTable, double dropChance) {
         List<ObiectEchipament> actualLoot = new ArrayList<>();
 
         for (ObiectEchipament item : lootTable) {
-            if (RandomUtils.chancePercent(dropChance)) {
+            if (RandomUtils.chancePercent(GameRandom.loot(), dropChance)) {
                 actualLoot.add(item);
             }
         }
@@ -798,7 +877,7 @@ public class LootGenerator {
     public static Jewel rollBossJewelDrop(int bossLevel) {
         double dropChance = 0.40; // 40% chance for bosses to drop jewels
 
-        if (RandomUtils.chancePercent(dropChance * 100)) {
+        if (RandomUtils.chancePercent(GameRandom.loot(), dropChance * 100)) {
             return JewelGeneratorService.generateRandomJewel(bossLevel);
         }
 
@@ -812,7 +891,7 @@ public class LootGenerator {
     public static Jewel rollRegularJewelDrop(int enemyLevel) {
         double dropChance = 0.05; // 5% chance for regular enemies
 
-        if (RandomUtils.chancePercent(dropChance * 100)) {
+        if (RandomUtils.chancePercent(GameRandom.loot(), dropChance * 100)) {
             return JewelGeneratorService.generateRandomJewel(enemyLevel);
         }
 
@@ -826,7 +905,7 @@ public class LootGenerator {
     public static Jewel generateGuaranteedJewel(int level, boolean highQuality) {
         if (highQuality) {
             // Higher chance for rare/epic/legendary
-            double roll = RandomUtils.randomDouble();
+            double roll = RandomUtils.randomDouble(GameRandom.loot());
             Jewel.JewelRarity rarity;
 
             if (roll < 0.10) {
@@ -850,26 +929,28 @@ public class LootGenerator {
      * Generates multiple jewels for special loot (secret rooms, bonus chests)
      */
     public static List<Jewel> generateJewelTreasure(int level, int count) {
-        List<Jewel> jewels = new ArrayList<>();
+        return generateJewelTreasure(level, count, false);
+    }
 
-        for (int i = 0; i < count; i++) {
+    /**
+     * Same, as one LootBatch - {@code parallel} spreads big treasures over the loot pool
+     */
+    public static List<Jewel> generateJewelTreasure(int level, int count, boolean parallel) {
+        return LootBatch.generate(count, parallel, () -> {
             // Slightly higher quality for treasure finds
-            double roll = RandomUtils.randomDouble();
+            double roll = RandomUtils.randomDouble(GameRandom.loot());
             if (roll < 0.3) {
-                jewels.add(generateGuaranteedJewel(level, true));
-            } else {
-                jewels.add(JewelGeneratorService.generateRandomJewel(level));
+                return generateGuaranteedJewel(level, true);
             }
-        }
-
-        return jewels;
+            return JewelGeneratorService.generateRandomJewel(level);
+        });
     }
 
     /**
      * Helper method to roll jewel type
      */
     private static Jewel.JewelType rollJewelType() {
-        double roll = RandomUtils.randomDouble();
+        double roll = RandomUtils.randomDouble(GameRandom.loot());
 
         if (roll < 0.25) return Jewel.JewelType.CRIMSON;
         if (roll < 0.50) return Jewel.JewelType.VIRIDIAN;
@@ -886,7 +967,7 @@ public class LootGenerator {
 
         System.out.println("\n💎 " + rarityIcon + " " + jewel.getType().getIcon() + " " + jewel.getName() + " " + rarityIcon);
         System.out.println("   " + jewel.getType().getDisplayName() + " | " + jewel.getRarity().getDisplayName());
-        System.out.println("   🎯 Level " + jewel.getRequiredLevel() + " | " + jewel.getModifiers().size() + " modifiers");
+        System.out.println("   🎯 Level " + jewel.getRequiredLevel() + " | " + jewel.getModifierCount() + " modifiers");
 
         // Show modifiers
         String[] modLines = jewel.getModifiersDescription().split("\n");
@@ -0,0 +1,152 @@
+package com.rpg.service;
+
+import com.rpg.model.characters.Erou;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Header cu layout fix scris înaintea payload-ului unei salvări.
+ *
+ * Conține doar ce are nevoie ecranul de load (nume, nivel, gold, clasă, dată),
+ * așa că lista de salvări nu mai trebuie să deserializeze tot Erou-ul.
+ * Fișierele vechi (fără header) încep direct cu stream-ul ObjectOutputStream
+ * și sunt detectate după magic number.
+ */
+public final class SaveFileHeader {
+
+    /** "RPGS" - marchează fișierele care au header. */
+    public static final int MAGIC = 0x52504753;
+    /** 1 = payload Java serialization, 2 = payload binar (ErouBinaryCodec). */
+    public static final int SCHEMA_VERSION = 2;
+
+    /** Mărimea totală a header-ului; payload-ul începe mereu la acest offset. */
+    public static final int HEADER_SIZE = 256;
+
+    private static final int MAX_NAME_BYTES = 128;
+    private static final int MAX_CLASS_BYTES = 48;
+
+    private final int schemaVersion;
+    private final String heroName;
+    private final int heroLevel;
+    private final int heroGold;
+    private final String heroClass;
+    private final long timestamp;
+
+    public SaveFileHeader(int schemaVersion, String heroName, int heroLevel,
+                          int heroGold, String heroClass, long timestamp) {
+        this.schemaVersion = schemaVersion;
+        this.heroName = heroName;
+        this.heroLevel = heroLevel;
+        this.heroGold = heroGold;
+        this.heroClass = heroClass;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Construiește header-ul pentru starea curentă a eroului
+     */
+    public static SaveFileHeader of(Erou erou) {
+        return new SaveFileHeader(
+                SCHEMA_VERSION,
+                erou.getNume(),
+                erou.getNivel(),
+                erou.getGold(),
+                erou.getClass().getSimpleName(),
+                System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Scrie exact HEADER_SIZE bytes în stream
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(HEADER_SIZE);
+        DataOutputStream dos = new DataOutputStream(buffer);
+
+        dos.writeInt(MAGIC);
+        dos.writeShort(schemaVersion);
+        dos.writeInt(heroLevel);
+        dos.writeInt(heroGold);
+        dos.writeLong(timestamp);
+        writeBoundedString(dos, heroName, MAX_NAME_BYTES);
+        writeBoundedString(dos, heroClass, MAX_CLASS_BYTES);
+        dos.flush();
+
+        byte[] padded = new byte[HEADER_SIZE];
+        byte[] written = buffer.toByteArray();
+        System.arraycopy(written, 0, padded, 0, written.length);
+        out.write(padded);
+    }
+
+    /**
+     * Citește header-ul de la începutul stream-ului.
+     *
+     * Dacă fișierul nu are header (salvare veche), stream-ul este resetat la
+     * început și se returnează null, astfel încât apelantul să poată citi
+     * payload-ul direct.
+     */
+    public static SaveFileHeader readFrom(BufferedInputStream in) throws IOException {
+        in.mark(HEADER_SIZE);
+
+        byte[] raw = in.readNBytes(HEADER_SIZE);
+        if (raw.length < HEADER_SIZE) {
+            in.reset();
+            return null;
+        }
+
+        DataInputStream dis = new DataInputStream(new ByteArrayInputStream(raw));
+        if (dis.readInt() != MAGIC) {
+            in.reset();
+            return null;
+        }
+
+        int version = dis.readUnsignedShort();
+        int level = dis.readInt();
+        int gold = dis.readInt();
+        long timestamp = dis.readLong();
+        String name = readBoundedString(dis);
+        String heroClass = readBoundedString(dis);
+
+        return new SaveFileHeader(version, name, level, gold, heroClass, timestamp);
+    }
+
+    /**
+     * Citește doar header-ul unui fișier, fără payload
+     */
+    public static SaveFileHeader readFrom(File file) {
+        try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(file), HEADER_SIZE)) {
+            return readFrom(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void writeBoundedString(DataOutputStream dos, String value, int maxBytes) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, maxBytes);
+
+        // Nu tăia un caracter UTF-8 la jumătate
+        while (length > 0 && length < bytes.length && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+
+        dos.writeByte(length);
+        dos.write(bytes, 0, length);
+    }
+
+    private static String readBoundedString(DataInputStream dis) throws IOException {
+        int length = dis.readUnsignedByte();
+        byte[] bytes = new byte[length];
+        dis.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Getters
+    public int getSchemaVersion() { return schemaVersion; }
+    public String getHeroName() { return heroName; }
+    public int getHeroLevel() { return heroLevel; }
+    public int getHeroGold() { return heroGold; }
+    public String getHeroClass() { return heroClass; }
+    public long getTimestamp() { return timestamp; }
+}
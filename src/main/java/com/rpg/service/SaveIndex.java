@@ -0,0 +1,167 @@
+package com.rpg.service;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index pe disc cu header-ele tuturor salvărilor (manuale + auto).
+ *
+ * O intrare e validă cât timp mărimea și data modificării fișierului
+ * coincid cu cele înregistrate; altfel e recitită din header (sau, pentru
+ * salvările vechi fără header, reconstruită prin încărcare completă).
+ */
+public class SaveIndex {
+
+    private static final int INDEX_MAGIC = 0x52504749; // "RPGI"
+    private static final int INDEX_VERSION = 1;
+
+    private final File indexFile;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean loaded = false;
+    private boolean dirty = false;
+
+    public SaveIndex(File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Returnează header-ul indexat dacă fișierul nu s-a schimbat de la indexare
+     */
+    public synchronized SaveFileHeader get(File file) {
+        ensureLoaded();
+        Entry entry = entries.get(keyFor(file));
+        if (entry == null || entry.fileSize != file.length() || entry.lastModified != file.lastModified()) {
+            return null;
+        }
+        return entry.header;
+    }
+
+    public synchronized void put(File file, SaveFileHeader header) {
+        ensureLoaded();
+        entries.put(keyFor(file), new Entry(file.length(), file.lastModified(), header));
+        dirty = true;
+    }
+
+    public synchronized void remove(File file) {
+        ensureLoaded();
+        if (entries.remove(keyFor(file)) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Scoate intrările pentru fișiere care nu mai există pe disc
+     */
+    public synchronized void prune() {
+        ensureLoaded();
+        if (entries.keySet().removeIf(key -> !new File(key).exists())) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Scrie indexul pe disc doar dacă s-a modificat
+     */
+    public synchronized void flush() {
+        if (!dirty) {
+            return;
+        }
+
+        File parent = indexFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+
+        File temp = new File(indexFile.getPath() + ".tmp");
+        try (DataOutputStream dos = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp)))) {
+            dos.writeInt(INDEX_MAGIC);
+            dos.writeShort(INDEX_VERSION);
+            dos.writeInt(entries.size());
+
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+                SaveFileHeader header = entry.header;
+
+                dos.writeUTF(e.getKey());
+                dos.writeLong(entry.fileSize);
+                dos.writeLong(entry.lastModified);
+                dos.writeShort(header.getSchemaVersion());
+                dos.writeUTF(header.getHeroName());
+                dos.writeInt(header.getHeroLevel());
+                dos.writeInt(header.getHeroGold());
+                dos.writeUTF(header.getHeroClass());
+                dos.writeLong(header.getTimestamp());
+            }
+        } catch (IOException e) {
+            System.err.println("Eroare la scrierea indexului de salvări: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(temp.toPath(), indexFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            System.err.println("Eroare la scrierea indexului de salvări: " + e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        if (!indexFile.exists()) {
+            return;
+        }
+
+        try (DataInputStream dis = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (dis.readInt() != INDEX_MAGIC || dis.readUnsignedShort() != INDEX_VERSION) {
+                // Index necunoscut - va fi reconstruit de la zero
+                return;
+            }
+
+            int count = dis.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = dis.readUTF();
+                long fileSize = dis.readLong();
+                long lastModified = dis.readLong();
+                SaveFileHeader header = new SaveFileHeader(
+                        dis.readUnsignedShort(),
+                        dis.readUTF(),
+                        dis.readInt(),
+                        dis.readInt(),
+                        dis.readUTF(),
+                        dis.readLong()
+                );
+                entries.put(key, new Entry(fileSize, lastModified, header));
+            }
+        } catch (IOException e) {
+            // Index corupt - îl reconstruim din fișiere
+            entries.clear();
+            dirty = true;
+        }
+    }
+
+    private static String keyFor(File file) {
+        return file.getPath().replace('\\', '/');
+    }
+
+    private static final class Entry {
+        final long fileSize;
+        final long lastModified;
+        final SaveFileHeader header;
+
+        Entry(long fileSize, long lastModified, SaveFileHeader header) {
+            this.fileSize = fileSize;
+            this.lastModified = lastModified;
+            this.header = header;
+        }
+    }
+}
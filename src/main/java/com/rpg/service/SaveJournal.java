@@ -0,0 +1,442 @@
+package com.rpg.service;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Jurnal incremental pentru un fișier de auto-save.
+ *
+ * Lângă salvarea completă (baza) se păstrează un fișier ".jnl" append-only.
+ * Fiecare auto-save care schimbă doar câmpuri urmărite (gold, xp, HP,
+ * poțiuni, resurse, tokens, talente, obiecte adăugate/scoase din inventar)
+ * adaugă o intrare de câteva zeci de bytes în loc să rescrie tot eroul.
+ *
+ * Restul stării e comparat printr-o codificare mascată (câmpurile urmărite
+ * omise): dacă diferă, sau jurnalul a atins {@link #MAX_ENTRIES} intrări,
+ * se scrie o bază nouă și jurnalul este golit (compactare).
+ *
+ * Replay-ul ultimei lupte nu intră nici în bază, nici în reziduu: stă într-un
+ * fișier ".rpl" alături, rescris doar când eroul are o înregistrare nouă, ca o
+ * luptă să nu forțeze o bază nouă la fiecare auto-save.
+ *
+ * {@link #capture} rulează pe thread-ul care deține eroul și face o singură
+ * codificare (snapshot-ul bazei). Reziduul, obiectele și diferența față de
+ * starea scrisă se calculează pe thread-ul AsyncSaveWriter, dintr-o copie a
+ * eroului decodată din snapshot, fără să mai atingă eroul din joc.
+ */
+public class SaveJournal {
+
+    /** După atâtea intrări, următorul auto-save rescrie baza */
+    public static final int MAX_ENTRIES = 64;
+
+    private static final int JOURNAL_MAGIC = 0x52504A4E; // "RPJN"
+    private static final int JOURNAL_VERSION = 1;
+    private static final String EXTENSION = ".jnl";
+    private static final String REPLAY_EXTENSION = ".rpl";
+
+    private final File saveFile;
+
+    // Starea scrisă ultima dată (bază + intrări) - null până la prima bază din sesiune
+    private Capture written;
+    private long baseTimestamp;
+    private long baseLength;
+    private long baseModified;
+    private int entryCount;
+    private volatile boolean forceFull;
+
+    // Replay-ul aflat acum în fișierul ".rpl" - valid doar după prima scriere din sesiune
+    private byte[] writtenReplay;
+    private boolean replaySynced;
+
+    public SaveJournal(File saveFile) {
+        this.saveFile = saveFile;
+    }
+
+    public static File journalFileFor(File saveFile) {
+        return new File(saveFile.getPath() + EXTENSION);
+    }
+
+    public static File replayFileFor(File saveFile) {
+        return new File(saveFile.getPath() + REPLAY_EXTENSION);
+    }
+
+    /**
+     * Cere ca următoarea scriere să fie o bază completă (de ex. după un save manual)
+     */
+    public void requestCompaction() {
+        forceFull = true;
+    }
+
+    /**
+     * Copiază starea eroului necesară scrierii (bază și/sau intrare de jurnal)
+     */
+    public static Capture capture(Erou erou) throws IOException {
+        return new Capture(ErouBinaryCodec.snapshot(erou, false), erou.getLastBattleReplay());
+    }
+
+    /**
+     * Scrie captura: intrare în jurnal dacă se poate, altfel bază nouă.
+     * Returnează header-ul corespunzător stării scrise.
+     */
+    public SaveFileHeader write(Capture capture) throws IOException {
+        writeReplay(capture.replay);
+
+        byte[] entry = needsFullWrite(capture) ? null : encodeEntry(written, capture);
+
+        // O intrare aproape cât baza nu mai economisește nimic
+        if (entry == null || entry.length > capture.snapshot.getPayloadSize() / 2) {
+            writeBase(capture);
+        } else {
+            appendEntry(entry);
+            written = capture;
+            entryCount++;
+        }
+        return capture.snapshot.getHeader();
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    private boolean needsFullWrite(Capture capture) throws IOException {
+        if (written == null
+                || forceFull
+                || entryCount >= MAX_ENTRIES
+                // Baza a fost ștearsă, importată sau rescrisă din afara jurnalului
+                || saveFile.length() != baseLength
+                || saveFile.lastModified() != baseModified) {
+            return true;
+        }
+        return !Arrays.equals(written.analyze().residual, capture.analyze().residual);
+    }
+
+    private void writeBase(Capture capture) throws IOException {
+        // Baza nouă face jurnalul vechi inutil; dacă ștergerea nu apucă să ruleze,
+        // jurnalul rămas nu se potrivește cu baza și e ignorat la încărcare
+        written = null;
+        ErouBinaryCodec.writeSnapshot(capture.snapshot, saveFile);
+        journalFileFor(saveFile).delete();
+
+        written = capture;
+        baseTimestamp = capture.snapshot.getHeader().getTimestamp();
+        baseLength = saveFile.length();
+        baseModified = saveFile.lastModified();
+        entryCount = 0;
+        forceFull = false;
+    }
+
+    /**
+     * Rescrie fișierul ".rpl" doar dacă eroul are altă înregistrare decât cea scrisă
+     */
+    private void writeReplay(byte[] replay) throws IOException {
+        // Înregistrările nu se modifică după ce lupta s-a terminat - o luptă nouă e alt array.
+        // Fișierul poate fi șters din afară (delete/import), deci se verifică și existența lui.
+        File replayFile = replayFileFor(saveFile);
+        if (replaySynced && replay == writtenReplay && replayFile.exists() == (replay != null)) {
+            return;
+        }
+
+        if (replay == null) {
+            replayFile.delete();
+        } else {
+            File temp = new File(replayFile.getPath() + ".tmp");
+            try (FileOutputStream out = new FileOutputStream(temp)) {
+                out.write(replay);
+            } catch (IOException e) {
+                temp.delete();
+                throw e;
+            }
+            ErouBinaryCodec.replace(temp, replayFile);
+        }
+        writtenReplay = replay;
+        replaySynced = true;
+    }
+
+    /**
+     * Pune pe eroul încărcat replay-ul din fișierul ".rpl", dacă baza nu are unul
+     */
+    public static void loadBattleReplay(File saveFile, Erou erou) {
+        File replayFile = replayFileFor(saveFile);
+        if (erou.getLastBattleReplay() != null || !replayFile.exists()) {
+            return;
+        }
+
+        try {
+            erou.setLastBattleReplay(Files.readAllBytes(replayFile.toPath()));
+        } catch (IOException e) {
+            System.err.println("Replay-ul auto-save-ului nu poate fi citit: " + e.getMessage());
+        }
+    }
+
+    private void appendEntry(byte[] entry) throws IOException {
+        File journalFile = journalFileFor(saveFile);
+        boolean create = entryCount == 0 || !journalFile.exists();
+
+        CRC32 crc = new CRC32();
+        crc.update(entry);
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(journalFile, !create)))) {
+            if (create) {
+                out.writeInt(JOURNAL_MAGIC);
+                out.writeShort(JOURNAL_VERSION);
+                out.writeLong(baseTimestamp);
+                out.writeLong(baseLength);
+            }
+            out.writeInt(entry.length);
+            out.writeInt((int) crc.getValue());
+            out.write(entry);
+        } catch (IOException e) {
+            // Coada jurnalului poate fi trunchiată - următorul auto-save rescrie baza
+            written = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Codifică diferența dintre două capturi, sau null dacă obiectele noi nu
+     * pot fi adăugate prin jurnal
+     */
+    private static byte[] encodeEntry(Capture previousCapture, Capture currentCapture) throws IOException {
+        Capture.State previous = previousCapture.analyze();
+        Capture.State current = currentCapture.analyze();
+
+        // Obiectele păstrate: cele vechi care se regăsesc, cu același conținut și în
+        // aceeași ordine, la începutul inventarului curent; restul sunt scoase, iar
+        // ce urmează după ele în inventarul curent e adăugat la coadă
+        List<Integer> removed = new ArrayList<>();
+        int kept = 0;
+        for (int i = 0; i < previous.inventory.size(); i++) {
+            if (kept < current.inventory.size()
+                    && Arrays.equals(previous.inventory.get(i).bytes, current.inventory.get(kept).bytes)) {
+                kept++;
+            } else {
+                removed.add(i);
+            }
+        }
+
+        List<ItemRecord> added = current.inventory.subList(kept, current.inventory.size());
+        for (ItemRecord record : added) {
+            if (record.shared) {
+                return null;
+            }
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        BinarySaveWriter out = new BinarySaveWriter(buffer);
+
+        int mask = 0;
+        for (int i = 0; i < current.scalars.length; i++) {
+            if (current.scalars[i] != previous.scalars[i]) {
+                mask |= 1 << i;
+            }
+        }
+        out.writeVarInt(mask);
+        for (int i = 0; i < current.scalars.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                out.writeVarInt(current.scalars[i]);
+            }
+        }
+
+        boolean talentsChanged = !Arrays.equals(previous.talents, current.talents);
+        out.writeBoolean(talentsChanged);
+        if (talentsChanged) {
+            out.writeBytes(current.talents);
+        }
+
+        out.writeVarInt(removed.size());
+        for (int index : removed) {
+            out.writeVarInt(index);
+        }
+        out.writeVarInt(added.size());
+        for (ItemRecord record : added) {
+            out.writeBytes(record.bytes);
+        }
+
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Aplică peste eroul încărcat din bază intrările jurnalului care îi aparțin.
+     * Returnează numărul de intrări aplicate; o coadă coruptă este ignorată.
+     */
+    public static int replay(File saveFile, Erou erou) {
+        File journalFile = journalFileFor(saveFile);
+        if (!journalFile.exists()) {
+            return 0;
+        }
+
+        SaveFileHeader baseHeader = SaveFileHeader.readFrom(saveFile);
+        if (baseHeader == null) {
+            return 0;
+        }
+
+        int applied = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(journalFile)))) {
+            if (in.readInt() != JOURNAL_MAGIC || in.readUnsignedShort() != JOURNAL_VERSION
+                    || in.readLong() != baseHeader.getTimestamp() || in.readLong() != saveFile.length()) {
+                // Jurnal rămas de la o bază mai veche
+                return 0;
+            }
+
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int expectedCrc = in.readInt();
+                byte[] entry = new byte[length];
+                in.readFully(entry);
+
+                CRC32 crc = new CRC32();
+                crc.update(entry);
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+
+                applyEntry(erou, entry);
+                applied++;
+            }
+        } catch (IOException | RuntimeException e) {
+            // Intrare scrisă pe jumătate - ce s-a aplicat până aici e consistent
+            System.err.println("Jurnal auto-save incomplet (" + applied + " intrări aplicate): " + e.getMessage());
+        }
+        return applied;
+    }
+
+    private static void applyEntry(Erou erou, byte[] entry) throws IOException {
+        BinarySaveReader in = new BinarySaveReader(new ByteArrayInputStream(entry));
+
+        int[] scalars = erou.getJournalScalars();
+        int mask = in.readVarInt();
+        for (int i = 0; i < scalars.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                scalars[i] = in.readVarInt();
+            }
+        }
+        erou.setJournalScalars(scalars);
+
+        if (in.readBoolean()) {
+            erou.readTalentState(new BinarySaveReader(new ByteArrayInputStream(in.readBytes())));
+        }
+
+        List<ObiectEchipament> items = erou.getInventar().getItems();
+        int removedCount = in.readVarInt();
+        int[] removed = new int[removedCount];
+        for (int i = 0; i < removedCount; i++) {
+            removed[i] = in.readVarInt();
+        }
+        // Indexurile sunt crescătoare - scoatem de la coadă ca să rămână valide
+        for (int i = removedCount - 1; i >= 0; i--) {
+            items.remove(removed[i]);
+        }
+
+        int addedCount = in.readVarInt();
+        for (int i = 0; i < addedCount; i++) {
+            items.add(decodeItem(in.readBytes()));
+        }
+    }
+
+    private static byte[] encodeItem(ObiectEchipament item) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(96);
+        BinarySaveWriter out = new BinarySaveWriter(buffer);
+        item.writeBinary(out);
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static ObiectEchipament decodeItem(byte[] bytes) throws IOException {
+        return ObiectEchipament.readBinary(new BinarySaveReader(new ByteArrayInputStream(bytes)));
+    }
+
+    private static byte[] encodeTalents(Erou erou) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        BinarySaveWriter out = new BinarySaveWriter(buffer);
+        erou.writeTalentState(out);
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Starea unui erou la momentul unui auto-save: snapshot-ul codificat pe
+     * thread-ul eroului (fără replay, ținut separat), plus părțile comparate de
+     * jurnal, calculate din el abia pe thread-ul de scriere
+     */
+    public static final class Capture {
+        private final ErouBinaryCodec.Snapshot snapshot;
+        private final byte[] replay;
+        private State state;
+
+        private Capture(ErouBinaryCodec.Snapshot snapshot, byte[] replay) {
+            this.snapshot = snapshot;
+            this.replay = replay;
+        }
+
+        public SaveFileHeader getHeader() { return snapshot.getHeader(); }
+
+        /**
+         * Decodează snapshot-ul într-o copie a eroului și extrage din ea reziduul,
+         * câmpurile urmărite, talentele și obiectele din inventar (o singură dată)
+         */
+        State analyze() throws IOException {
+            if (state == null) {
+                Erou copy = snapshot.decode();
+
+                ByteArrayOutputStream residual = new ByteArrayOutputStream(4 * 1024);
+                BinarySaveWriter maskedWriter = new BinarySaveWriter(residual, true);
+                copy.writeBinary(maskedWriter);
+                maskedWriter.flush();
+
+                List<ObiectEchipament> items = copy.getInventar().getItems();
+                List<ItemRecord> inventory = new ArrayList<>(items.size());
+                for (ObiectEchipament item : items) {
+                    inventory.add(new ItemRecord(encodeItem(item), copy.isItemReferencedOutsideInventory(item)));
+                }
+
+                state = new State(residual.toByteArray(), copy.getJournalScalars(), encodeTalents(copy), inventory);
+            }
+            return state;
+        }
+
+        private static final class State {
+            final byte[] residual;
+            final int[] scalars;
+            final byte[] talents;
+            final List<ItemRecord> inventory;
+
+            State(byte[] residual, int[] scalars, byte[] talents, List<ItemRecord> inventory) {
+                this.residual = residual;
+                this.scalars = scalars;
+                this.talents = talents;
+                this.inventory = inventory;
+            }
+        }
+    }
+
+    /**
+     * Un obiect din inventar: conținutul codificat și dacă e folosit și în afara
+     * inventarului (echipat sau într-un pocket)
+     */
+    private static final class ItemRecord {
+        final byte[] bytes;
+        final boolean shared;
+
+        ItemRecord(byte[] bytes, boolean shared) {
+            this.bytes = bytes;
+            this.shared = shared;
+        }
+    }
+}
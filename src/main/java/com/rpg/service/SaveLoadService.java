@@ -212,10 +212,9 @@ public class SaveLoadService {
 
 
     private boolean saveGameToFile(Erou erou, String filePath) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            // SALVEAZĂ DOAR EROUL - progresul dungeon e inclus!
-            oos.writeObject(erou);                         // ✅ Primul obiect
-            oos.writeObject(new Date());                   // ✅ Al doilea obiect
+        try {
+            // Header-ul citit de ecranul de load, apoi eroul - progresul dungeon e inclus!
+            ErouBinaryCodec.writeSaveFile(erou, new File(filePath));
             return true;
         } catch (IOException e) {
             System.err.println("Eroare la salvarea jocului: " + e.getMessage());
@@ -229,12 +228,10 @@ public class SaveLoadService {
      * Încarcă dintr-un fișier specific.
      */
     private Erou loadGameFromFile(String filePath) {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
-            // CITEȘTE DOAR CE AI SALVAT!
-            Erou erou = (Erou) ois.readObject();           // ✅ Primul obiect
-            Date saveDate = (Date) ois.readObject();       // ✅ Al doilea obiect
-            return erou;
-        } catch (IOException | ClassNotFoundException e) {
+        try {
+            // Salvările vechi (Java serialization) sunt migrate automat
+            return ErouBinaryCodec.readSaveFile(new File(filePath));
+        } catch (IOException e) {
             System.err.println("❌ Eroare la încărcarea jocului: " + e.getMessage());
             return null;
         }
@@ -10,6 +10,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * SaveLoadServiceFX - Refactorizat pentru JavaFX
@@ -21,6 +24,15 @@ public class SaveLoadServiceFX {
     private static final String AUTOSAVE_DIR = "autosaves/";
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
+    // Index partajat de toate instanțele - lista de salvări citește de aici, nu din payload
+    private static final SaveIndex saveIndex = new SaveIndex(new File(SAVE_DIR + "saves.idx"));
+
+    // Un singur writer de fundal, ca auto-save-urile din controllere diferite să se coalizeze
+    private static final AsyncSaveWriter asyncWriter = new AsyncSaveWriter(saveIndex);
+
+    // Jurnalele incrementale ale auto-save-urilor din sesiunea curentă, pe fișier
+    private static final Map<File, SaveJournal> journals = new ConcurrentHashMap<>();
+
     public SaveLoadServiceFX() {
         createDirectories();
     }
@@ -52,6 +64,8 @@ public class SaveLoadServiceFX {
         // Sortează după data modificării (cele mai recente primele)
         allSaves.sort((a, b) -> b.getSaveDate().compareTo(a.getSaveDate()));
 
+        saveIndex.prune();
+        saveIndex.flush();
         return allSaves;
     }
 
@@ -66,6 +80,7 @@ public class SaveLoadServiceFX {
         }
 
         saves.sort((a, b) -> b.getSaveDate().compareTo(a.getSaveDate()));
+        saveIndex.flush();
         return saves;
     }
 
@@ -80,6 +95,7 @@ public class SaveLoadServiceFX {
         }
 
         saves.sort((a, b) -> b.getSaveDate().compareTo(a.getSaveDate()));
+        saveIndex.flush();
         return saves;
     }
 
@@ -95,6 +111,7 @@ public class SaveLoadServiceFX {
         String fileName = SAVE_DIR + sanitizedName + ".sav";
 
         if (saveGameToFile(erou, fileName)) {
+            compactAutoSave(erou);
             return new SaveResult(
                     true,
                     "Jocul a fost salvat cu succes!",
@@ -112,6 +129,7 @@ public class SaveLoadServiceFX {
         String fileName = SAVE_DIR + sanitizeFileName(erou.getNume()) + "_quick.sav";
 
         if (saveGameToFile(erou, fileName)) {
+            compactAutoSave(erou);
             return new SaveResult(
                     true,
                     "Quick Save complet!",
@@ -123,20 +141,76 @@ public class SaveLoadServiceFX {
     }
 
     /**
-     * Auto-salvare
+     * Auto-salvare sincronă. Trece prin același jurnal și același writer ca
+     * {@link #autoSaveAsync}, doar că așteaptă scrierea.
      */
     public SaveResult autoSave(Erou erou) {
-        String fileName = AUTOSAVE_DIR + "auto_" + sanitizeFileName(erou.getNume()) + ".asv";
+        String fileName = "auto_" + sanitizeFileName(erou.getNume()) + ".asv";
+        File file = new File(AUTOSAVE_DIR + fileName);
 
-        if (saveGameToFile(erou, fileName)) {
-            return new SaveResult(
-                    true,
-                    "Auto-save complet!",
-                    "auto_" + sanitizeFileName(erou.getNume()) + ".asv"
-            );
+        try {
+            SaveJournal.Capture capture = SaveJournal.capture(erou);
+            SaveJournal journal = journals.computeIfAbsent(file, SaveJournal::new);
+            asyncWriter.writeNow(() -> journal.write(capture), file);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Eroare la auto-save: " + e.getMessage());
+            return new SaveResult(false, "Eroare la auto-save!", null);
         }
 
-        return new SaveResult(false, "Eroare la auto-save!", null);
+        return new SaveResult(true, "Auto-save complet!", fileName);
+    }
+
+    /**
+     * Auto-salvare asincronă.
+     *
+     * Pe thread-ul FX se face doar snapshot-ul eroului (o codificare); diferența
+     * față de ultima scriere și scrierea pe disc se fac în fundal. Cererile repetate înainte ca
+     * scrierea să înceapă se reduc la una singură, cu starea cea mai nouă.
+     * Dacă s-au schimbat doar câmpurile urmărite de {@link SaveJournal},
+     * pe disc ajunge doar o intrare de jurnal, nu tot eroul.
+     * onComplete (opțional) primește rezultatul pe thread-ul FX.
+     */
+    public void autoSaveAsync(Erou erou, Consumer<SaveResult> onComplete) {
+        String fileName = "auto_" + sanitizeFileName(erou.getNume()) + ".asv";
+        File file = new File(AUTOSAVE_DIR + fileName);
+
+        SaveJournal.Capture capture;
+        try {
+            capture = SaveJournal.capture(erou);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Eroare la auto-save: " + e.getMessage());
+            if (onComplete != null) {
+                onComplete.accept(new SaveResult(false, "Eroare la auto-save!", null));
+            }
+            return;
+        }
+
+        SaveJournal journal = journals.computeIfAbsent(file, SaveJournal::new);
+        asyncWriter.submit(() -> journal.write(capture), file, fileName,
+                "Auto-save complet!", onComplete);
+    }
+
+    /**
+     * După un save manual, auto-save-ul eroului e rescris complet și jurnalul golit
+     */
+    private void compactAutoSave(Erou erou) {
+        File file = new File(AUTOSAVE_DIR + "auto_" + sanitizeFileName(erou.getNume()) + ".asv");
+        SaveJournal journal = journals.get(file);
+        if (journal != null) {
+            journal.requestCompaction();
+            autoSaveAsync(erou, null);
+        }
+    }
+
+    /**
+     * Așteaptă salvările din fundal (de ex. la ieșirea în meniul principal)
+     */
+    public void awaitPendingSaves(long timeoutMillis) {
+        asyncWriter.awaitPending(timeoutMillis);
+    }
+
+    public boolean isSaveInProgress() {
+        return asyncWriter.isBusy();
     }
 
     /**
@@ -168,7 +242,14 @@ public class SaveLoadServiceFX {
         }
 
         File file = new File(fullPath);
-        return file.exists() && file.delete();
+        if (file.exists() && file.delete()) {
+            SaveJournal.journalFileFor(file).delete();
+            SaveJournal.replayFileFor(file).delete();
+            saveIndex.remove(file);
+            saveIndex.flush();
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -195,7 +276,9 @@ public class SaveLoadServiceFX {
             return null;
         }
 
-        return createSaveFileDTO(file, fileName.endsWith(".asv"));
+        SaveFileDTO info = createSaveFileDTO(file, fileName.endsWith(".asv"));
+        saveIndex.flush();
+        return info;
     }
 
     // ==================== HELPER METHODS ====================
@@ -205,20 +288,18 @@ public class SaveLoadServiceFX {
         long fileSize = file.length();
         Date saveDate = new Date(file.lastModified());
 
-        // Încearcă să citească informații despre erou
+        // Informațiile despre erou vin din index sau din header, nu din payload
         String heroName = "Unknown";
+        String heroClass = null;
         int heroLevel = 0;
         int heroGold = 0;
 
-        try {
-            Erou erou = loadGameFromFile(file.getPath());
-            if (erou != null) {
-                heroName = erou.getNume();
-                heroLevel = erou.getNivel();
-                heroGold = erou.getGold();
-            }
-        } catch (Exception e) {
-            // Dacă nu se poate citi, folosește valorile default
+        SaveFileHeader header = readHeaderIndexed(file);
+        if (header != null) {
+            heroName = header.getHeroName();
+            heroClass = header.getHeroClass();
+            heroLevel = header.getHeroLevel();
+            heroGold = header.getHeroGold();
         }
 
         String displayName = isAutoSave
@@ -229,6 +310,7 @@ public class SaveLoadServiceFX {
                 fileName,
                 displayName,
                 heroName,
+                heroClass,
                 heroLevel,
                 heroGold,
                 saveDate,
@@ -237,27 +319,76 @@ public class SaveLoadServiceFX {
         );
     }
 
+    /**
+     * Returnează header-ul unei salvări: din index dacă e actual, altfel din
+     * fișier. Salvările vechi fără header sunt încărcate complet o singură
+     * dată, iar rezultatul rămâne în index.
+     */
+    private SaveFileHeader readHeaderIndexed(File file) {
+        SaveFileHeader header = saveIndex.get(file);
+        if (header != null) {
+            return header;
+        }
+
+        header = SaveFileHeader.readFrom(file);
+        if (header == null) {
+            try {
+                Erou erou = loadGameFromFile(file.getPath());
+                if (erou != null) {
+                    header = new SaveFileHeader(
+                            0,
+                            erou.getNume(),
+                            erou.getNivel(),
+                            erou.getGold(),
+                            erou.getClass().getSimpleName(),
+                            file.lastModified()
+                    );
+                }
+            } catch (Exception e) {
+                // Dacă nu se poate citi, folosește valorile default
+            }
+        }
+
+        if (header != null) {
+            saveIndex.put(file, header);
+        }
+        return header;
+    }
+
     private boolean saveGameToFile(Erou erou, String filePath) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            oos.writeObject(erou);
-            oos.writeObject(new Date());
-            return true;
+        File file = new File(filePath);
+        SaveFileHeader header;
+
+        try {
+            header = ErouBinaryCodec.writeSaveFile(erou, file);
         } catch (IOException e) {
             System.err.println("Eroare la salvarea jocului: " + e.getMessage());
             return false;
         }
+
+        saveIndex.put(file, header);
+        saveIndex.flush();
+        return true;
     }
 
     private Erou loadGameFromFile(String filePath) {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
-            Erou erou = (Erou) ois.readObject();
-            Date saveDate = (Date) ois.readObject();
+        try {
+            // Citește ambele formate; salvările vechi sunt rescrise în formatul binar
+            File file = new File(filePath);
+            Erou erou = ErouBinaryCodec.readSaveFile(file);
+
+            // Auto-save-urile pot avea modificări mai noi în jurnal
+            int replayed = SaveJournal.replay(file, erou);
+            if (replayed > 0) {
+                System.out.println("💾 Aplicate " + replayed + " intrări din jurnalul auto-save");
+            }
+            SaveJournal.loadBattleReplay(file, erou);
 
             // Migrate old stat points to passive points (for talent tree)
             erou.migrateStatPointsToPassive();
 
             return erou;
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException e) {
             System.err.println("Eroare la încărcarea jocului: " + e.getMessage());
             return null;
         }
@@ -295,6 +426,16 @@ public class SaveLoadServiceFX {
                 return new SaveResult(false, "Salvarea nu există!", null);
             }
 
+            // Un auto-save cu jurnal sau replay separat e exportat compactat, într-un singur fișier
+            if (SaveJournal.journalFileFor(source).exists() || SaveJournal.replayFileFor(source).exists()) {
+                Erou erou = loadGameFromFile(sourcePath);
+                if (erou == null) {
+                    return new SaveResult(false, "Eroare la export: salvarea nu poate fi citită", null);
+                }
+                ErouBinaryCodec.writeSaveFile(erou, dest);
+                return new SaveResult(true, "Salvarea a fost exportată cu succes!", dest.getName());
+            }
+
             // Copiază fișierul
             try (FileInputStream fis = new FileInputStream(source);
                  FileOutputStream fos = new FileOutputStream(dest)) {
@@ -329,6 +470,9 @@ public class SaveLoadServiceFX {
                     : SAVE_DIR + fileName;
 
             File dest = new File(destPath);
+            // Jurnalul și replay-ul separat al salvării înlocuite nu aparțin celei importate
+            SaveJournal.journalFileFor(dest).delete();
+            SaveJournal.replayFileFor(dest).delete();
 
             // Copiază fișierul
             try (FileInputStream fis = new FileInputStream(source);
@@ -362,6 +506,8 @@ public class SaveLoadServiceFX {
         int deleted = 0;
         for (int i = keepCount; i < autoSaves.size(); i++) {
             if (autoSaves.get(i).delete()) {
+                SaveJournal.journalFileFor(autoSaves.get(i)).delete();
+                SaveJournal.replayFileFor(autoSaves.get(i)).delete();
                 deleted++;
             }
         }
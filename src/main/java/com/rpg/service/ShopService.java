@@ -3,6 +3,7 @@ package com.rpg.service;
 import com.rpg.model.characters.Erou;
 import com.rpg.model.items.BuffPotion;
 import com.rpg.model.items.ObiectEchipament;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.RandomUtils;
 import com.rpg.utils.Validator;
 
@@ -710,7 +711,7 @@ public class ShopService {
         shopInventory = new ArrayList<>();
 
         // Generează 8-12 obiecte aleatorii pentru shop
-        int itemCount = RandomUtils.randomInt(8, 12);
+        int itemCount = RandomUtils.randomInt(GameRandom.loot(), 8, 12);
         for (int i = 0; i < itemCount; i++) {
             ObiectEchipament item = generateRandomEquipment();
             shopInventory.add(item);
@@ -730,14 +731,14 @@ public class ShopService {
     private ObiectEchipament generateRandomEquipment() {
         // Folosește LootGenerator pentru consistență
         // Pentru acum, creez un obiect simplu
-        ObiectEchipament.TipEchipament tip = RandomUtils.randomElement(ObiectEchipament.TipEchipament.values());
+        ObiectEchipament.TipEchipament tip = RandomUtils.randomElement(GameRandom.loot(), ObiectEchipament.TipEchipament.values());
         ObiectEchipament.Raritate raritate = selectRandomRarity();
-        int nivel = RandomUtils.randomInt(1, 30);
+        int nivel = RandomUtils.randomInt(GameRandom.loot(), 1, 30);
         String nume = generateItemName(tip, raritate);
 
         Map<String, Integer> bonuses = new HashMap<>();
-        bonuses.put("strength", RandomUtils.randomInt(1, 5));
-        bonuses.put("dexterity", RandomUtils.randomInt(1, 3));
+        bonuses.put("strength", RandomUtils.randomInt(GameRandom.loot(), 1, 5));
+        bonuses.put("dexterity", RandomUtils.randomInt(GameRandom.loot(), 1, 3));
 
         int pret = nivel * 15 + (int)(raritate.ordinal() * 25);
 
@@ -753,7 +754,7 @@ public class ShopService {
      * Selectează o raritate aleatorie cu probabilități realiste.
      */
     private ObiectEchipament.Raritate selectRandomRarity() {
-        double rand = RandomUtils.randomDouble();
+        double rand = RandomUtils.randomDouble(GameRandom.loot());
         if (rand < 0.5) return ObiectEchipament.Raritate.COMMON;
         else if (rand < 0.75) return ObiectEchipament.Raritate.UNCOMMON;
         else if (rand < 0.9) return ObiectEchipament.Raritate.RARE;
@@ -768,11 +769,11 @@ public class ShopService {
         String[] prefixes = {"Rusty", "Iron", "Steel", "Mystic", "Enchanted", "Legendary", "Divine"};
         String[] suffixes = {"of Power", "of Agility", "of Wisdom", "of Protection", "of the Brave"};
 
-        String prefix = RandomUtils.randomElement(prefixes);
+        String prefix = RandomUtils.randomElement(GameRandom.loot(), prefixes);
         String baseName = tip.getDisplayName();
 
         if (raritate.ordinal() >= 2) {
-            String suffix = RandomUtils.randomElement(suffixes);
+            String suffix = RandomUtils.randomElement(GameRandom.loot(), suffixes);
             return prefix + " " + baseName + " " + suffix;
         } else {
             return prefix + " " + baseName;
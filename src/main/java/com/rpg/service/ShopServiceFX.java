@@ -8,12 +8,15 @@ import com.rpg.model.items.ObiectEchipament;
 import com.rpg.service.dto.PurchaseResult;
 import com.rpg.service.dto.ShopItemDTO;
 import com.rpg.service.LootGenerator;
+import com.rpg.utils.GameRandom;
 
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ShopService refactorizat pentru JavaFX
@@ -26,7 +29,20 @@ public class ShopServiceFX {
     private final Map<String, ObiectEchipament> generatedSamples = new HashMap<>();
 
     // Contor restock - ca să schimbi seed-ul logic dacă vrei
-    private int restockCycle = 0;
+    private volatile int restockCycle = 0;
+
+    // 📦 Stoc pregenerat pe workerii de loot (vezi restockAsync); null = se generează la afișare
+    private volatile PreparedStock preparedStock;
+
+    // Un sample din fiecare tip, în ordinea din getEquipment
+    private static final ObiectEchipament.TipEchipament[] SHOP_EQUIPMENT = {
+            ObiectEchipament.TipEchipament.WEAPON_ONE_HANDED,
+            ObiectEchipament.TipEchipament.WEAPON_TWO_HANDED,
+            ObiectEchipament.TipEchipament.ARMOR,
+            ObiectEchipament.TipEchipament.SHIELD,
+            ObiectEchipament.TipEchipament.OFF_HAND_WEAPON,
+            ObiectEchipament.TipEchipament.OFF_HAND_MAGIC
+    };
 
     // Iteme de bază cu stoc limitat (id -> stoc ramas)
     private final Map<String, Integer> baseStock = new HashMap<>();
@@ -69,6 +85,47 @@ public class ShopServiceFX {
 
         // 3) bump un ciclu de restock (dacă vrei să alterezi RNG)
         restockCycle++;
+        preparedStock = null;
+    }
+
+    /**
+     * Restock + pregenerarea întregului stoc (echipament și jewels) pe
+     * workerii de loot, fără să blocheze UI-ul. Când future-ul se termină,
+     * getItemsByCategory afișează stocul pregătit, fără generare pe loc.
+     */
+    public CompletableFuture<Void> restockAsync(int heroLevel) {
+        forceRestock();
+        int cycle = restockCycle;
+        int jewelCount = rollJewelCount();
+
+        CompletableFuture<List<ObiectEchipament>> equipment = LootBatch.generateAsync(SHOP_EQUIPMENT.length,
+                i -> generateShopSample(SHOP_EQUIPMENT[i], heroLevel));
+        CompletableFuture<List<Jewel>> jewels = JewelGeneratorService.generateShopInventoryAsync(heroLevel, jewelCount);
+
+        return equipment.thenAcceptBoth(jewels, (items, jewelList) -> {
+            if (cycle != restockCycle) {
+                return; // Între timp a venit alt restock
+            }
+            Map<ObiectEchipament.TipEchipament, ObiectEchipament> byType =
+                    new EnumMap<>(ObiectEchipament.TipEchipament.class);
+            for (int i = 0; i < SHOP_EQUIPMENT.length; i++) {
+                byType.put(SHOP_EQUIPMENT[i], items.get(i));
+            }
+            preparedStock = new PreparedStock(heroLevel, byType, jewelList);
+        });
+    }
+
+    private static final class PreparedStock {
+        final int heroLevel;
+        final Map<ObiectEchipament.TipEchipament, ObiectEchipament> equipment;
+        final List<Jewel> jewels;
+
+        PreparedStock(int heroLevel, Map<ObiectEchipament.TipEchipament, ObiectEchipament> equipment,
+                      List<Jewel> jewels) {
+            this.heroLevel = heroLevel;
+            this.equipment = equipment;
+            this.jewels = jewels;
+        }
     }
 
     // 💎 Cache for generated jewels
@@ -311,12 +368,7 @@ public class ShopServiceFX {
 
         // 🗡️ ARME ONE-HANDED
         String weaponOneKey = "weapon_one_" + heroLevel;
-        ObiectEchipament weaponOneSample = LootGenerator.generateItemByType(
-                ObiectEchipament.TipEchipament.WEAPON_ONE_HANDED,
-                heroLevel,
-                pickShopRarityForLevel(heroLevel)
-        );
-        weaponOneSample = applyShopFlavor(weaponOneSample);
+        ObiectEchipament weaponOneSample = shopSample(ObiectEchipament.TipEchipament.WEAPON_ONE_HANDED, heroLevel);
         generatedSamples.put(weaponOneKey, weaponOneSample);
 
         StringBuilder weaponOneDesc = new StringBuilder();
@@ -342,12 +394,7 @@ public class ShopServiceFX {
 
         // 🗡️ ARME TWO-HANDED
         String weaponTwoKey = "weapon_two_" + heroLevel;
-        ObiectEchipament weaponTwoSample = LootGenerator.generateItemByType(
-                ObiectEchipament.TipEchipament.WEAPON_TWO_HANDED,
-                heroLevel,
-                pickShopRarityForLevel(heroLevel)
-        );
-        weaponTwoSample = applyShopFlavor(weaponTwoSample);
+        ObiectEchipament weaponTwoSample = shopSample(ObiectEchipament.TipEchipament.WEAPON_TWO_HANDED, heroLevel);
         generatedSamples.put(weaponTwoKey, weaponTwoSample);
 
         StringBuilder weaponTwoDesc = new StringBuilder();
@@ -370,12 +417,7 @@ public class ShopServiceFX {
 
         // 🛡️ ARMURI
         String armorKey = "armor_" + heroLevel;
-        ObiectEchipament armorSample = LootGenerator.generateItemByType(
-                ObiectEchipament.TipEchipament.ARMOR,
-                heroLevel,
-                pickShopRarityForLevel(heroLevel)
-        );
-        armorSample = applyShopFlavor(armorSample);
+        ObiectEchipament armorSample = shopSample(ObiectEchipament.TipEchipament.ARMOR, heroLevel);
         generatedSamples.put(armorKey, armorSample);
 
         StringBuilder armorDesc = new StringBuilder();
@@ -396,12 +438,7 @@ public class ShopServiceFX {
 
         // 🛡️ SHIELDS
         String shieldKey = "shield_" + heroLevel;
-        ObiectEchipament shieldSample = LootGenerator.generateItemByType(
-                ObiectEchipament.TipEchipament.SHIELD,
-                heroLevel,
-                pickShopRarityForLevel(heroLevel)
-        );
-        shieldSample = applyShopFlavor(shieldSample);
+        ObiectEchipament shieldSample = shopSample(ObiectEchipament.TipEchipament.SHIELD, heroLevel);
         generatedSamples.put(shieldKey, shieldSample);
 
         StringBuilder shieldDesc = new StringBuilder();
@@ -424,12 +461,7 @@ public class ShopServiceFX {
 
         // 📦 OFF-HAND WEAPONS
         String offHandWeaponKey = "offhand_weapon_" + heroLevel;
-        ObiectEchipament offHandWeaponSample = LootGenerator.generateItemByType(
-                ObiectEchipament.TipEchipament.OFF_HAND_WEAPON,
-                heroLevel,
-                pickShopRarityForLevel(heroLevel)
-        );
-        offHandWeaponSample = applyShopFlavor(offHandWeaponSample);
+        ObiectEchipament offHandWeaponSample = shopSample(ObiectEchipament.TipEchipament.OFF_HAND_WEAPON, heroLevel);
         generatedSamples.put(offHandWeaponKey, offHandWeaponSample);
 
         StringBuilder offHandWeaponDesc = new StringBuilder();
@@ -452,12 +484,7 @@ public class ShopServiceFX {
 
         // 📖 OFF-HAND MAGIC
         String offHandMagicKey = "offhand_magic_" + heroLevel;
-        ObiectEchipament offHandMagicSample = LootGenerator.generateItemByType(
-                ObiectEchipament.TipEchipament.OFF_HAND_MAGIC,
-                heroLevel,
-                pickShopRarityForLevel(heroLevel)
-        );
-        offHandMagicSample = applyShopFlavor(offHandMagicSample);
+        ObiectEchipament offHandMagicSample = shopSample(ObiectEchipament.TipEchipament.OFF_HAND_MAGIC, heroLevel);
         generatedSamples.put(offHandMagicKey, offHandMagicSample);
 
         StringBuilder offHandMagicDesc = new StringBuilder();
@@ -537,9 +564,11 @@ public class ShopServiceFX {
     private List<ShopItemDTO> getJewels(int heroLevel) {
         List<ShopItemDTO> items = new ArrayList<>();
 
-        // Generate 5-8 random jewels for the shop
-        int jewelCount = 5 + (int)(Math.random() * 4);
-        List<Jewel> shopJewels = JewelGeneratorService.generateShopInventory(heroLevel, jewelCount);
+        // Pregenerated stock if there is one for this level, otherwise 5-8 random jewels
+        PreparedStock stock = preparedStock;
+        List<Jewel> shopJewels = stock != null && stock.heroLevel == heroLevel
+                ? stock.jewels
+                : JewelGeneratorService.generateShopInventory(heroLevel, rollJewelCount());
 
         for (Jewel jewel : shopJewels) {
             String jewelId = "jewel_" + jewel.getName().replaceAll("\\s+", "_");
@@ -552,7 +581,7 @@ public class ShopServiceFX {
             desc.append(jewel.getType().getDisplayName()).append(" | ");
             desc.append(jewel.getRarity().getDisplayName()).append("\n");
             desc.append("Level ").append(jewel.getRequiredLevel()).append(" | ");
-            desc.append(jewel.getModifiers().size()).append(" modifiers\n\n");
+            desc.append(jewel.getModifierCount()).append(" modifiers\n\n");
 
             // Add modifier preview
             String[] modLines = jewel.getModifiersDescription().split("\n");
@@ -856,6 +885,26 @@ public class ShopServiceFX {
         return ObiectEchipament.Raritate.COMMON;
     }
 
+    /**
+     * Sample-ul unui tip: din stocul pregenerat dacă există pentru nivelul ăsta,
+     * altfel generat acum
+     */
+    private ObiectEchipament shopSample(ObiectEchipament.TipEchipament tip, int heroLevel) {
+        PreparedStock stock = preparedStock;
+        if (stock != null && stock.heroLevel == heroLevel && stock.equipment.containsKey(tip)) {
+            return stock.equipment.get(tip);
+        }
+        return generateShopSample(tip, heroLevel);
+    }
+
+    private ObiectEchipament generateShopSample(ObiectEchipament.TipEchipament tip, int heroLevel) {
+        return applyShopFlavor(LootGenerator.generateItemByType(tip, heroLevel, pickShopRarityForLevel(heroLevel)));
+    }
+
+    private int rollJewelCount() {
+        return 5 + GameRandom.loot().nextInt(4);
+    }
+
     /**
      * Aplică "shop flavor" - prețuri mai bune și nume fancy
      */
@@ -1,6 +1,7 @@
 package com.rpg.service;
 
 import com.rpg.model.characters.Erou;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.Validator;
 
 import java.util.HashMap;
@@ -273,7 +274,7 @@ public class TavernService {
         System.out.printf("💰 Gold rămas: %d\n", erou.getGold());
 
         // Șansă pentru Șaorma de Revival bonus!
-        if (Math.random() < 0.10) { // 10% șansă
+        if (GameRandom.loot().nextDouble() < 0.10) { // 10% șansă
             erou.adaugaShaormaRevival(1);
             System.out.println("\n🎉 " + "═".repeat(40));
             System.out.println("    🌯 ✨ BONUS INCREDIBIL! ✨");
@@ -2,10 +2,10 @@ package com.rpg.service;
 
 import com.rpg.model.characters.Erou;
 import com.rpg.service.dto.*;
+import com.rpg.utils.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * TavernServiceFX - Serviciu pentru tavernă (odihnă, gambling, quests)
@@ -17,7 +17,6 @@ public class TavernServiceFX {
     private static final int GAMBLE_MIN_BET = 10;
     private static final int GAMBLE_MAX_BET = 500;
 
-    private Random random = new Random();
 
     /**
      * Odihnește eroul (recuperează HP și resursă)
@@ -98,8 +97,8 @@ public class TavernServiceFX {
         }
 
         // Aruncă zaruri
-        int heroRoll = random.nextInt(6) + 1;
-        int tavernKeeperRoll = random.nextInt(6) + 1;
+        int heroRoll = GameRandom.loot().nextInt(6) + 1;
+        int tavernKeeperRoll = GameRandom.loot().nextInt(6) + 1;
 
         hero.scadeGold(bet);
 
@@ -236,7 +235,7 @@ public class TavernServiceFX {
                 "🌯 Vânzător: 'Șaormele de Revival sunt rare! Doar boss-ii le au!'"
         };
 
-        return stories[random.nextInt(stories.length)];
+        return stories[GameRandom.cosmetic().nextInt(stories.length)];
     }
 
     /**
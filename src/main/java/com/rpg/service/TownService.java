@@ -1,6 +1,7 @@
 package com.rpg.service;
 
 import com.rpg.model.characters.Erou;
+import com.rpg.utils.GameRandom;
 import com.rpg.utils.Validator;
 
 import java.util.Scanner;
@@ -94,7 +95,7 @@ public class TownService {
                 "💡 Sfat: Salvează des - nu știi când dai de un boss greu!"
         };
 
-        int randomIndex = (int)(Math.random() * tips.length);
+        int randomIndex = GameRandom.cosmetic().nextInt(tips.length);
         System.out.println("\n" + tips[randomIndex]);
     }
 
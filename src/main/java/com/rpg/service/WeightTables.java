@@ -0,0 +1,127 @@
+package com.rpg.service;
+
+import com.rpg.utils.WeightedSampler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Tabelele de ponderi pentru loot și inamici, citite din /data/weights.properties.
+ *
+ * Balansul (raritate pe nivel, tipuri de iteme, familii de arme, tier-uri,
+ * afixe) se schimbă din fișier, nu din cod. Pentru teste de balans fără rebuild,
+ * -Drpg.weights=cale/fisier.properties suprascrie cheile din resursă.
+ *
+ * O intrare are forma {@code NUME:pondere,NUME:pondere}; numele sunt constantele
+ * enum-ului cerut. O cheie lipsă sau greșită e raportată și înlocuită cu
+ * valoarea de rezervă dată de apelant, ca jocul să pornească oricum.
+ */
+public final class WeightTables {
+
+    private static final String RESOURCE = "/data/weights.properties";
+    private static final Properties weights = load();
+
+    private WeightTables() {
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream stream = WeightTables.class.getResourceAsStream(RESOURCE)) {
+            if (stream != null) {
+                try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            } else {
+                System.err.println("⚠️ Lipsește " + RESOURCE + " - se folosesc ponderile de rezervă");
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Nu s-a putut citi " + RESOURCE + ": " + e.getMessage());
+        }
+
+        String override = System.getProperty("rpg.weights");
+        if (override != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(override), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+                System.out.println("⚖️ Ponderi suprascrise din " + override);
+            } catch (IOException e) {
+                System.err.println("⚠️ Nu s-a putut citi " + override + ": " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Sampler pentru o intrare de forma NUME:pondere,...
+     *
+     * @param fallback intrarea folosită dacă cheia lipsește sau e greșită;
+     *                 null înseamnă toate valorile enum-ului, cu aceeași pondere
+     */
+    public static <E extends Enum<E>> WeightedSampler<E> sampler(String key, Class<E> type, String fallback) {
+        String spec = weights.getProperty(key);
+        if (spec != null) {
+            try {
+                return parse(spec, type);
+            } catch (IllegalArgumentException e) {
+                System.err.println("⚠️ Ponderi greșite pentru " + key + " (" + e.getMessage() + ")");
+            }
+        } else {
+            System.err.println("⚠️ Lipsesc ponderile pentru " + key);
+        }
+        return fallback != null ? parse(fallback, type) : WeightedSampler.uniform(type.getEnumConstants());
+    }
+
+    /**
+     * Listă de numere separate prin virgulă (praguri, formule)
+     */
+    public static double[] numbers(String key, double... fallback) {
+        String spec = weights.getProperty(key);
+        if (spec == null) {
+            System.err.println("⚠️ Lipsesc valorile pentru " + key);
+            return fallback.clone();
+        }
+        try {
+            String[] parts = spec.split(",");
+            double[] values = new double[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                values[i] = Double.parseDouble(parts[i].trim());
+            }
+            return values;
+        } catch (NumberFormatException e) {
+            System.err.println("⚠️ Valori greșite pentru " + key + " (" + e.getMessage() + ")");
+            return fallback.clone();
+        }
+    }
+
+    private static <E extends Enum<E>> WeightedSampler<E> parse(String spec, Class<E> type) {
+        List<E> values = new ArrayList<>();
+        List<Double> entryWeights = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("intrare invalidă '" + entry.trim() + "'");
+            }
+            E value = Enum.valueOf(type, pair[0].trim());
+            if (values.contains(value)) {
+                throw new IllegalArgumentException(value + " apare de două ori");
+            }
+            values.add(value);
+            entryWeights.add(Double.parseDouble(pair[1].trim()));
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] array = values.toArray((E[]) java.lang.reflect.Array.newInstance(type, values.size()));
+        double[] weightArray = new double[entryWeights.size()];
+        for (int i = 0; i < weightArray.length; i++) {
+            weightArray[i] = entryWeights.get(i);
+        }
+        return new WeightedSampler<>(array, weightArray);
+    }
+}
@@ -0,0 +1,71 @@
+package com.rpg.service.battle;
+
+/**
+ * O acțiune a eroului într-o tură, aleasă de un BattlePolicy.
+ * Ținta e indexul în lista de inamici activi primită de policy.
+ */
+public final class BattleAction {
+
+    public enum Kind {
+        ATTACK,
+        ABILITY,
+        HEALTH_POTION,
+        RESOURCE_POTION,
+        FLEE
+    }
+
+    private static final BattleAction FLEE = new BattleAction(Kind.FLEE, null, 0, 0);
+
+    private final Kind kind;
+    private final String abilityName;
+    private final int target;
+    private final int amount;
+
+    private BattleAction(Kind kind, String abilityName, int target, int amount) {
+        this.kind = kind;
+        this.abilityName = abilityName;
+        this.target = target;
+        this.amount = amount;
+    }
+
+    public static BattleAction attack(int target) {
+        return new BattleAction(Kind.ATTACK, null, target, 0);
+    }
+
+    public static BattleAction ability(String abilityName, int target) {
+        return new BattleAction(Kind.ABILITY, abilityName, target, 0);
+    }
+
+    public static BattleAction healthPotion(int healAmount) {
+        return new BattleAction(Kind.HEALTH_POTION, null, 0, healAmount);
+    }
+
+    public static BattleAction resourcePotion(int restoreAmount) {
+        return new BattleAction(Kind.RESOURCE_POTION, null, 0, restoreAmount);
+    }
+
+    public static BattleAction flee() {
+        return FLEE;
+    }
+
+    public Kind getKind() { return kind; }
+
+    public String getAbilityName() { return abilityName; }
+
+    public int getTarget() { return target; }
+
+    /**
+     * HP-ul vindecat sau resursa regenerată, pentru poțiuni
+     */
+    public int getAmount() { return amount; }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case ABILITY: return "ABILITY(" + abilityName + " → " + target + ")";
+            case ATTACK: return "ATTACK(" + target + ")";
+            case FLEE: return "FLEE";
+            default: return kind + "(" + amount + ")";
+        }
+    }
+}
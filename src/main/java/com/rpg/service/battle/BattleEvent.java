@@ -0,0 +1,80 @@
+package com.rpg.service.battle;
+
+/**
+ * Un eveniment de luptă emis de BattleEngine.
+ *
+ * Câmpurile structurate (tip, parte, valoare) sunt pentru simulări și
+ * statistici; {@link #getText()} e linia de log afișată până acum în UI,
+ * pe care BattleServiceFX o trimite mai departe neschimbată.
+ */
+public final class BattleEvent {
+
+    public enum Type {
+        TURN_START,
+        DAMAGE,
+        CRITICAL,
+        MISS,
+        DODGE,
+        HEAL,
+        ABILITY,
+        ENEMY_DEFEATED,
+        HERO_DEFEATED,
+        FLED,
+        MESSAGE
+    }
+
+    /**
+     * Partea despre care e evenimentul: cine primește damage-ul sau vindecarea,
+     * cine ratează, cine evită, cine folosește abilitatea, cine cade.
+     */
+    public enum Side {
+        HERO,
+        ENEMY
+    }
+
+    private final Type type;
+    private final Side side;
+    private final String actor;
+    private final int amount;
+    private final boolean critical;
+    private final String text;
+
+    BattleEvent(Type type, Side side, String actor, int amount, boolean critical, String text) {
+        this.type = type;
+        this.side = side;
+        this.actor = actor;
+        this.amount = amount;
+        this.critical = critical;
+        this.text = text;
+    }
+
+    public Type getType() { return type; }
+
+    /**
+     * Null pentru mesajele fără o parte anume (separatoare, recompense)
+     */
+    public Side getSide() { return side; }
+
+    /**
+     * Numele combatantului implicat, sau null
+     */
+    public String getActor() { return actor; }
+
+    /**
+     * Damage-ul efectiv sau HP-ul vindecat; 0 pentru celelalte tipuri
+     */
+    public int getAmount() { return amount; }
+
+    public boolean isCritical() { return critical; }
+
+    public String getText() { return text; }
+
+    public boolean is(Type type, Side side) {
+        return this.type == type && this.side == side;
+    }
+
+    @Override
+    public String toString() {
+        return type + (side != null ? "/" + side : "") + (amount != 0 ? " " + amount : "") + ": " + text;
+    }
+}
@@ -0,0 +1,76 @@
+package com.rpg.service.battle;
+
+import com.rpg.service.battle.BattleEvent.Side;
+import com.rpg.service.battle.BattleEvent.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evenimentele unei ture, în ordinea în care s-au întâmplat.
+ *
+ * add(String) păstrează forma vechii liste de log-uri - tot ce nu are un tip
+ * anume ajunge ca MESSAGE.
+ */
+final class BattleLog {
+
+    private final List<BattleEvent> events = new ArrayList<>();
+
+    void add(String text) {
+        events.add(new BattleEvent(Type.MESSAGE, null, null, 0, false, text));
+    }
+
+    void addAll(List<String> lines) {
+        for (String line : lines) {
+            add(line);
+        }
+    }
+
+    void turnStart(String text) {
+        events.add(new BattleEvent(Type.TURN_START, null, null, 0, false, text));
+    }
+
+    void damage(Side target, String targetName, int amount, boolean critical, String text) {
+        events.add(new BattleEvent(Type.DAMAGE, target, targetName, amount, critical, text));
+    }
+
+    void damage(Side target, String targetName, int amount, String text) {
+        damage(target, targetName, amount, false, text);
+    }
+
+    void critical(Side attacker, String attackerName, String text) {
+        events.add(new BattleEvent(Type.CRITICAL, attacker, attackerName, 0, true, text));
+    }
+
+    void miss(Side attacker, String attackerName, String text) {
+        events.add(new BattleEvent(Type.MISS, attacker, attackerName, 0, false, text));
+    }
+
+    void dodge(Side defender, String defenderName, String text) {
+        events.add(new BattleEvent(Type.DODGE, defender, defenderName, 0, false, text));
+    }
+
+    void heal(Side target, String targetName, int amount, String text) {
+        events.add(new BattleEvent(Type.HEAL, target, targetName, amount, false, text));
+    }
+
+    void ability(Side user, String userName, String text) {
+        events.add(new BattleEvent(Type.ABILITY, user, userName, 0, false, text));
+    }
+
+    void enemyDefeated(String enemyName, String text) {
+        events.add(new BattleEvent(Type.ENEMY_DEFEATED, Side.ENEMY, enemyName, 0, false, text));
+    }
+
+    void heroDefeated(String heroName, String text) {
+        events.add(new BattleEvent(Type.HERO_DEFEATED, Side.HERO, heroName, 0, false, text));
+    }
+
+    void fled(String heroName, String text) {
+        events.add(new BattleEvent(Type.FLED, Side.HERO, heroName, 0, false, text));
+    }
+
+    List<BattleEvent> events() {
+        return events;
+    }
+}
@@ -0,0 +1,45 @@
+package com.rpg.service.battle;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.Inamic;
+import com.rpg.service.dto.AbilityDTO;
+
+import java.util.List;
+
+/**
+ * Alege acțiunea eroului când lupta rulează fără UI (simulări, teste de balans).
+ */
+@FunctionalInterface
+public interface BattlePolicy {
+
+    /**
+     * @param enemies inamicii activi, vii; ținta acțiunii e un index în această listă
+     * @param abilities abilitățile eroului, ca în UI (cooldown, resursă)
+     */
+    BattleAction chooseAction(Erou hero, List<Inamic> enemies, List<AbilityDTO> abilities);
+
+    /**
+     * Doar atacuri normale pe primul inamic
+     */
+    static BattlePolicy attackOnly() {
+        return (hero, enemies, abilities) -> BattleAction.attack(0);
+    }
+
+    /**
+     * Jucătorul "tipic": bea o poțiune sub 30% HP, folosește prima abilitate
+     * disponibilă, altfel atacă primul inamic
+     */
+    static BattlePolicy abilitiesFirst() {
+        return (hero, enemies, abilities) -> {
+            if (hero.getViata() < hero.getViataMaxima() * 0.3 && hero.getHealthPotions() > 0) {
+                return BattleAction.healthPotion(hero.getHealthPotionHealing());
+            }
+            for (AbilityDTO ability : abilities) {
+                if (ability.isAvailable()) {
+                    return BattleAction.ability(ability.getName(), 0);
+                }
+            }
+            return BattleAction.attack(0);
+        };
+    }
+}
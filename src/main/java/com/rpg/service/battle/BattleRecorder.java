@@ -0,0 +1,101 @@
+package com.rpg.service.battle;
+
+import com.rpg.dungeon.model.MultiBattleState;
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.Inamic;
+import com.rpg.service.ErouBinaryCodec;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Construiește un BattleRecording pe măsură ce se joacă lupta.
+ *
+ * Starea eroului și a inamicilor se copiază la început, înainte de
+ * startBattle; apoi fiecare acțiune trimisă motorului se adaugă cu
+ * {@link #record}. Eroul e copiat prin ErouBinaryCodec, inamicii prin
+ * formatul binar al Inamic / MultiBattleState - nu prin Java serialization,
+ * ca înregistrările să nu se strice la orice câmp nou din clasele de model.
+ */
+public final class BattleRecorder {
+
+    private final long seed;
+    private final long startTime;
+    private final MultiBattleState multiBattleState;
+    private final byte[] heroState;
+    private final byte[] heroCombatState;
+    private final byte[] enemyState;
+    private final List<BattleRecording.Entry> entries = new ArrayList<>();
+
+    private BattleRecorder(long seed, long startTime, Erou hero, MultiBattleState multiBattleState,
+                           Inamic enemy) throws IOException {
+        this.seed = seed;
+        this.startTime = startTime;
+        this.multiBattleState = multiBattleState;
+
+        ByteArrayOutputStream heroBuffer = new ByteArrayOutputStream(8 * 1024);
+        ErouBinaryCodec.encode(hero, heroBuffer, false);
+        this.heroState = heroBuffer.toByteArray();
+
+        ByteArrayOutputStream combatBuffer = new ByteArrayOutputStream(256);
+        BinarySaveWriter combatWriter = new BinarySaveWriter(combatBuffer);
+        hero.writeCombatState(combatWriter);
+        combatWriter.flush();
+        this.heroCombatState = combatBuffer.toByteArray();
+
+        ByteArrayOutputStream enemyBuffer = new ByteArrayOutputStream(1024);
+        BinarySaveWriter enemyWriter = new BinarySaveWriter(enemyBuffer);
+        if (multiBattleState != null) {
+            multiBattleState.writeBinary(enemyWriter);
+        } else {
+            enemy.writeBinary(enemyWriter);
+        }
+        enemyWriter.flush();
+        this.enemyState = enemyBuffer.toByteArray();
+    }
+
+    public static BattleRecorder start(long seed, long startTime, Erou hero, Inamic enemy) throws IOException {
+        return new BattleRecorder(seed, startTime, hero, null, enemy);
+    }
+
+    public static BattleRecorder startMulti(long seed, long startTime, Erou hero,
+                                            MultiBattleState battleState) throws IOException {
+        return new BattleRecorder(seed, startTime, hero, battleState, null);
+    }
+
+    /**
+     * Ținta așa cum o găsește replay-ul: slotul inamicului în luptele multi-enemy,
+     * -1 dacă nu e în niciun slot (replay-ul alege atunci primul inamic activ)
+     */
+    public int targetIndex(Inamic target) {
+        if (multiBattleState == null) {
+            return 0;
+        }
+        MultiBattleState.BattleSlot[] slots = multiBattleState.getSlots();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].getEnemy() == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param time ora acțiunii (epoch ms), aceeași pe care a văzut-o eroul în tură
+     */
+    public void record(BattleAction action, long time) {
+        entries.add(new BattleRecording.Entry(action, Math.max(0, time - startTime)));
+    }
+
+    public int getActionCount() {
+        return entries.size();
+    }
+
+    public BattleRecording finish() {
+        return new BattleRecording(seed, startTime, multiBattleState != null,
+                heroState, heroCombatState, enemyState, new ArrayList<>(entries));
+    }
+}
@@ -0,0 +1,164 @@
+package com.rpg.service.battle;
+
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.BinarySaveWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Înregistrarea unei lupte: starea de start, seed-ul și acțiunile eroului.
+ *
+ * Motorul e determinist pentru același seed, deci nu se salvează rezultatele
+ * turelor, doar ce a ales jucătorul și când - BattleReplay le rejoacă.
+ * Formatul (comprimat cu Deflate): [magic "RPBR"][versiune][seed][start]
+ * [multi][erou][stare luptă erou][inamici][acțiuni]. Fiecare acțiune ține
+ * tipul, abilitatea, ținta (slotul, în luptele multi-enemy), cantitatea
+ * pentru poțiuni și milisecundele trecute de la acțiunea precedentă.
+ * Inamicii sunt în formatul binar al Inamic / MultiBattleState.
+ */
+public final class BattleRecording {
+
+    private static final int MAGIC = 0x52504252;
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final long startTime;
+    private final boolean multiBattle;
+    private final byte[] heroState;
+    private final byte[] heroCombatState;
+    private final byte[] enemyState;
+    private final List<Entry> entries;
+
+    BattleRecording(long seed, long startTime, boolean multiBattle, byte[] heroState,
+                    byte[] heroCombatState, byte[] enemyState, List<Entry> entries) {
+        this.seed = seed;
+        this.startTime = startTime;
+        this.multiBattle = multiBattle;
+        this.heroState = heroState;
+        this.heroCombatState = heroCombatState;
+        this.enemyState = enemyState;
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public byte[] toBytes() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(4 * 1024);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(buffer)) {
+            BinarySaveWriter out = new BinarySaveWriter(deflater);
+            out.writeRawInt(MAGIC);
+            out.writeVarInt(VERSION);
+            out.writeLong(seed);
+            out.writeLong(startTime);
+            out.writeBoolean(multiBattle);
+            out.writeBytes(heroState);
+            out.writeBytes(heroCombatState);
+            out.writeBytes(enemyState);
+
+            out.writeVarInt(entries.size());
+            long previous = 0;
+            for (Entry entry : entries) {
+                BattleAction action = entry.action;
+                out.writeEnum(action.getKind());
+                out.writeString(action.getAbilityName());
+                out.writeVarInt(action.getTarget());
+                out.writeVarInt(action.getAmount());
+                out.writeVarInt((int) Math.min(Integer.MAX_VALUE, entry.time - previous));
+                previous = entry.time;
+            }
+            out.flush();
+        }
+        return buffer.toByteArray();
+    }
+
+    public static BattleRecording fromBytes(byte[] data) throws IOException {
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            BinarySaveReader in = new BinarySaveReader(inflater);
+            if (in.readRawInt() != MAGIC) {
+                throw new IOException("Datele nu sunt o înregistrare de luptă");
+            }
+            int version = in.readVarInt();
+            if (version > VERSION) {
+                throw new IOException("Înregistrare dintr-o versiune mai nouă a jocului (format " + version + ")");
+            }
+
+            long seed = in.readLong();
+            long startTime = in.readLong();
+            boolean multiBattle = in.readBoolean();
+            byte[] heroState = in.readBytes();
+            byte[] heroCombatState = in.readBytes();
+            byte[] enemyState = in.readBytes();
+
+            int count = in.readVarInt();
+            List<Entry> entries = new ArrayList<>(count);
+            long time = 0;
+            for (int i = 0; i < count; i++) {
+                BattleAction.Kind kind = in.readEnum(BattleAction.Kind.class);
+                String abilityName = in.readString();
+                int target = in.readVarInt();
+                int amount = in.readVarInt();
+                time += in.readVarInt();
+                if (kind == null) {
+                    throw new IOException("Acțiune necunoscută în înregistrare");
+                }
+                entries.add(new Entry(toAction(kind, abilityName, target, amount), time));
+            }
+            return new BattleRecording(seed, startTime, multiBattle, heroState, heroCombatState, enemyState, entries);
+        }
+    }
+
+    private static BattleAction toAction(BattleAction.Kind kind, String abilityName, int target, int amount) {
+        switch (kind) {
+            case ABILITY: return BattleAction.ability(abilityName, target);
+            case HEALTH_POTION: return BattleAction.healthPotion(amount);
+            case RESOURCE_POTION: return BattleAction.resourcePotion(amount);
+            case FLEE: return BattleAction.flee();
+            case ATTACK:
+            default: return BattleAction.attack(target);
+        }
+    }
+
+    public long getSeed() { return seed; }
+
+    /**
+     * Ora la care a început lupta (epoch ms); timpii acțiunilor sunt relativi la ea
+     */
+    public long getStartTime() { return startTime; }
+
+    public boolean isMultiBattle() { return multiBattle; }
+
+    byte[] getHeroState() { return heroState; }
+
+    byte[] getHeroCombatState() { return heroCombatState; }
+
+    byte[] getEnemyState() { return enemyState; }
+
+    public List<Entry> getEntries() { return entries; }
+
+    /**
+     * O acțiune a eroului și momentul ei, în ms de la începutul luptei
+     */
+    public static final class Entry {
+        private final BattleAction action;
+        private final long time;
+
+        Entry(BattleAction action, long time) {
+            this.action = action;
+            this.time = time;
+        }
+
+        public BattleAction getAction() { return action; }
+
+        public long getTime() { return time; }
+
+        @Override
+        public String toString() {
+            return "+" + time + "ms " + action;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.rpg.service.battle;
+
+import com.rpg.dungeon.model.MultiBattleState;
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.Inamic;
+import com.rpg.service.ErouBinaryCodec;
+import com.rpg.utils.BinarySaveReader;
+import com.rpg.utils.GameRandom;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rejoacă un BattleRecording pe copii ale eroului și inamicilor, fără UI.
+ *
+ * Se poate merge pas cu pas ({@link #step()}, folosit de BattleControllerFX
+ * în modul replay) sau direct până la capăt ({@link #runToEnd()}). Ceasul
+ * eroului e fixat pe momentul înregistrat al fiecărei acțiuni, ca bonusurile
+ * "lovit recent" / "ucis recent" să iasă la fel.
+ */
+public final class BattleReplay {
+
+    private final BattleRecording recording;
+    private final Erou hero;
+    private final Inamic enemy;
+    private final MultiBattleState multiBattleState;
+    private final GameRandom random;
+    private final BattleEngine engine;
+    private final BattleTurn startTurn;
+
+    private final List<BattleTurn> turns = new ArrayList<>();
+    private int next;
+    private long clockTime;
+    private Inamic lastTarget;
+
+    public BattleReplay(BattleRecording recording) throws IOException {
+        this.recording = recording;
+        this.hero = ErouBinaryCodec.decode(new ByteArrayInputStream(recording.getHeroState()));
+        hero.readCombatState(new BinarySaveReader(new ByteArrayInputStream(recording.getHeroCombatState())));
+        hero.setClock(() -> clockTime);
+
+        Object enemies = readEnemies(recording);
+        if (recording.isMultiBattle()) {
+            this.multiBattleState = (MultiBattleState) enemies;
+            this.enemy = null;
+        } else {
+            this.multiBattleState = null;
+            this.enemy = (Inamic) enemies;
+        }
+
+        this.random = GameRandom.seeded(recording.getSeed());
+        this.engine = new BattleEngine(random.stream(GameRandom.Stream.COMBAT));
+        this.clockTime = recording.getStartTime();
+        this.startTurn = GameRandom.callWith(random, () -> multiBattleState != null
+                ? engine.startMultiBattle(hero, multiBattleState)
+                : engine.startBattle(hero, enemy));
+    }
+
+    public static BattleReplay of(byte[] data) throws IOException {
+        return new BattleReplay(BattleRecording.fromBytes(data));
+    }
+
+    private static Object readEnemies(BattleRecording recording) throws IOException {
+        BinarySaveReader in = new BinarySaveReader(new ByteArrayInputStream(recording.getEnemyState()));
+        try {
+            return recording.isMultiBattle() ? MultiBattleState.readBinary(in) : Inamic.readBinary(in);
+        } catch (RuntimeException e) {
+            throw new IOException("Inamici corupți în înregistrare: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean hasNext() {
+        return next < recording.getEntries().size() && !isFinished();
+    }
+
+    /**
+     * Execută următoarea acțiune înregistrată
+     */
+    public BattleTurn step() {
+        if (!hasNext()) {
+            throw new IllegalStateException("Replay-ul s-a terminat");
+        }
+
+        BattleRecording.Entry entry = recording.getEntries().get(next++);
+        BattleAction action = entry.getAction();
+        Inamic target = resolveTarget(action.getTarget());
+        clockTime = recording.getStartTime() + entry.getTime();
+        lastTarget = target;
+
+        BattleTurn turn = GameRandom.callWith(random, () -> engine.perform(hero, target, action));
+        turns.add(turn);
+        return turn;
+    }
+
+    /**
+     * Rejoacă toate acțiunile rămase, la viteza motorului
+     */
+    public BattleReport runToEnd() {
+        while (hasNext()) {
+            step();
+        }
+
+        BattleReport report = new BattleReport();
+        for (BattleTurn turn : turns) {
+            report.record(turn.getEvents());
+        }
+
+        BattleTurn last = turns.isEmpty() ? null : turns.get(turns.size() - 1);
+        if (last != null && last.getResult() != null) {
+            report.finish(last.getResult().isVictory() ? BattleReport.Outcome.VICTORY : BattleReport.Outcome.DEFEAT,
+                    engine.getTurnCount(), last.getResult());
+        } else if (last != null && last.isOver()) {
+            report.finish(hero.esteViu() ? BattleReport.Outcome.FLED : BattleReport.Outcome.DEFEAT,
+                    engine.getTurnCount(), null);
+        } else {
+            // Lupta a fost salvată înainte de final (de ex. jocul s-a închis)
+            report.finish(BattleReport.Outcome.TIMEOUT, engine.getTurnCount(), null);
+        }
+        return report;
+    }
+
+    private Inamic resolveTarget(int index) {
+        if (multiBattleState == null) {
+            return enemy;
+        }
+        MultiBattleState.BattleSlot[] slots = multiBattleState.getSlots();
+        if (index >= 0 && index < slots.length && slots[index].getEnemy() != null) {
+            return slots[index].getEnemy();
+        }
+        List<Inamic> active = multiBattleState.getActiveEnemies();
+        return active.isEmpty() ? null : active.get(0);
+    }
+
+    private boolean isFinished() {
+        return !turns.isEmpty() && turns.get(turns.size() - 1).isFinished();
+    }
+
+    public BattleRecording getRecording() { return recording; }
+
+    public Erou getHero() { return hero; }
+
+    /**
+     * Inamicul luptei single-enemy, null în luptele multi-enemy
+     */
+    public Inamic getEnemy() { return enemy; }
+
+    public MultiBattleState getMultiBattleState() { return multiBattleState; }
+
+    public BattleEngine getEngine() { return engine; }
+
+    public BattleTurn getStartTurn() { return startTurn; }
+
+    /**
+     * Ținta ultimei acțiuni rejucate, pentru efectele vizuale
+     */
+    public Inamic getLastTarget() { return lastTarget; }
+
+    public List<BattleTurn> getTurns() { return turns; }
+
+    public int getPosition() { return next; }
+}
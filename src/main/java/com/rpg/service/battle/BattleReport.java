@@ -0,0 +1,118 @@
+package com.rpg.service.battle;
+
+import com.rpg.service.dto.AbilityDTO;
+
+import java.util.List;
+
+/**
+ * Sumarul unei lupte rulate complet de BattleEngine.runBattle, adunat din
+ * evenimentele fiecărei ture.
+ */
+public final class BattleReport {
+
+    public enum Outcome {
+        VICTORY,
+        DEFEAT,
+        FLED,
+        // Lupta a depășit numărul maxim de ture
+        TIMEOUT
+    }
+
+    private Outcome outcome;
+    private int turns;
+    private int actions;
+    private int damageDealt;
+    private int damageTaken;
+    private int healing;
+    private int heroCrits;
+    private int heroMisses;
+    private int enemiesDefeated;
+    private AbilityDTO.BattleResultDTO result;
+
+    BattleReport() {
+    }
+
+    void record(List<BattleEvent> events) {
+        actions++;
+        for (BattleEvent event : events) {
+            switch (event.getType()) {
+                case DAMAGE:
+                    if (event.getSide() == BattleEvent.Side.ENEMY) {
+                        damageDealt += event.getAmount();
+                        if (event.isCritical()) {
+                            heroCrits++;
+                        }
+                    } else {
+                        damageTaken += event.getAmount();
+                    }
+                    break;
+                case HEAL:
+                    if (event.getSide() == BattleEvent.Side.HERO) {
+                        healing += event.getAmount();
+                    }
+                    break;
+                case MISS:
+                    if (event.getSide() == BattleEvent.Side.HERO) {
+                        heroMisses++;
+                    }
+                    break;
+                case ENEMY_DEFEATED:
+                    enemiesDefeated++;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    void finish(Outcome outcome, int turns, AbilityDTO.BattleResultDTO result) {
+        this.outcome = outcome;
+        this.turns = turns;
+        this.result = result;
+    }
+
+    public Outcome getOutcome() { return outcome; }
+
+    public boolean isVictory() { return outcome == Outcome.VICTORY; }
+
+    /**
+     * Turele numărate de motor (atacuri și abilități)
+     */
+    public int getTurns() { return turns; }
+
+    /**
+     * Toate acțiunile eroului, inclusiv poțiuni și încercări de fugă
+     */
+    public int getActions() { return actions; }
+
+    public int getDamageDealt() { return damageDealt; }
+
+    public int getDamageTaken() { return damageTaken; }
+
+    public int getHealing() { return healing; }
+
+    public int getHeroCrits() { return heroCrits; }
+
+    public int getHeroMisses() { return heroMisses; }
+
+    public int getEnemiesDefeated() { return enemiesDefeated; }
+
+    public int getGoldEarned() {
+        return result != null && result.isVictory() ? result.getGoldEarned() : 0;
+    }
+
+    public int getExperienceEarned() {
+        return result != null && result.isVictory() ? result.getExperienceEarned() : 0;
+    }
+
+    /**
+     * Rezultatul final al luptei, sau null la fugă / timeout
+     */
+    public AbilityDTO.BattleResultDTO getResult() { return result; }
+
+    @Override
+    public String toString() {
+        return outcome + " în " + turns + " ture: " + damageDealt + " damage dat, "
+                + damageTaken + " primit, " + getGoldEarned() + " gold, " + getExperienceEarned() + " exp";
+    }
+}
@@ -0,0 +1,78 @@
+package com.rpg.service.battle;
+
+import com.rpg.model.characters.Inamic;
+import com.rpg.service.dto.AbilityDTO;
+
+import java.util.List;
+
+/**
+ * Rezultatul unei acțiuni în BattleEngine: evenimentele produse și cum
+ * s-a terminat tura. BattleServiceFX îl transformă în BattleTurnResultDTO.
+ */
+public final class BattleTurn {
+
+    private final boolean accepted;
+    private final boolean over;
+    private final List<BattleEvent> events;
+    private final Inamic displayEnemy;
+    private final AbilityDTO.BattleResultDTO result;
+
+    BattleTurn(boolean accepted, boolean over, List<BattleEvent> events,
+               Inamic displayEnemy, AbilityDTO.BattleResultDTO result) {
+        this.accepted = accepted;
+        this.over = over;
+        this.events = events;
+        this.displayEnemy = displayEnemy;
+        this.result = result;
+    }
+
+    /**
+     * Acțiune refuzată înainte să înceapă tura (cooldown, resurse, fără poțiuni)
+     */
+    static BattleTurn rejected(String message, Inamic displayEnemy) {
+        BattleLog log = new BattleLog();
+        log.add(message);
+        return new BattleTurn(false, false, log.events(), displayEnemy, null);
+    }
+
+    /**
+     * False dacă acțiunea a fost refuzată sau fuga a eșuat (ca success din DTO)
+     */
+    public boolean isAccepted() { return accepted; }
+
+    /**
+     * Lupta s-a oprit fără rezultat final: fugă reușită sau erou căzut
+     * după o poțiune (al treilea câmp din BattleTurnResultDTO)
+     */
+    public boolean isOver() { return over; }
+
+    public List<BattleEvent> getEvents() { return events; }
+
+    /**
+     * Inamicul afișat după tură; null când UI-ul nu primește stare nouă
+     */
+    public Inamic getDisplayEnemy() { return displayEnemy; }
+
+    /**
+     * Recompensele sau înfrângerea, doar pe tura care încheie lupta
+     */
+    public AbilityDTO.BattleResultDTO getResult() { return result; }
+
+    public boolean isFinished() {
+        return result != null || over;
+    }
+
+    /**
+     * Liniile de log ale turei, unite ca în vechiul BattleServiceFX
+     */
+    public String toLogText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(events.get(i).getText());
+        }
+        return text.toString();
+    }
+}
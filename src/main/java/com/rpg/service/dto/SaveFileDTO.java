@@ -9,6 +9,7 @@ public class SaveFileDTO {
     private final String fileName;
     private final String displayName;
     private final String heroName;
+    private final String heroClass;
     private final int heroLevel;
     private final int heroGold;
     private final Date saveDate;
@@ -18,9 +19,16 @@ public class SaveFileDTO {
     public SaveFileDTO(String fileName, String displayName, String heroName,
                        int heroLevel, int heroGold, Date saveDate,
                        long fileSize, boolean isAutoSave) {
+        this(fileName, displayName, heroName, null, heroLevel, heroGold, saveDate, fileSize, isAutoSave);
+    }
+
+    public SaveFileDTO(String fileName, String displayName, String heroName, String heroClass,
+                       int heroLevel, int heroGold, Date saveDate,
+                       long fileSize, boolean isAutoSave) {
         this.fileName = fileName;
         this.displayName = displayName;
         this.heroName = heroName;
+        this.heroClass = heroClass;
         this.heroLevel = heroLevel;
         this.heroGold = heroGold;
         this.saveDate = saveDate;
@@ -32,6 +40,7 @@ public class SaveFileDTO {
     public String getFileName() { return fileName; }
     public String getDisplayName() { return displayName; }
     public String getHeroName() { return heroName; }
+    public String getHeroClass() { return heroClass; }
     public int getHeroLevel() { return heroLevel; }
     public int getHeroGold() { return heroGold; }
     public Date getSaveDate() { return saveDate; }
@@ -0,0 +1,529 @@
+package com.rpg.test;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.Inamic;
+import com.rpg.model.characters.classes.Ardelean;
+import com.rpg.model.characters.classes.Moldovean;
+import com.rpg.model.characters.classes.Oltean;
+import com.rpg.model.enemies.EnemyTier;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.model.items.ObiectEchipament.Raritate;
+import com.rpg.model.items.ObiectEchipament.TipEchipament;
+import com.rpg.service.EnemyGeneratorRomanesc;
+import com.rpg.service.LootGenerator;
+import com.rpg.service.battle.BattleEngine;
+import com.rpg.service.battle.BattlePolicy;
+import com.rpg.service.battle.BattleReport;
+import com.rpg.utils.GameRandom;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Simulator Monte-Carlo de balans: rulează lupte erou vs inamic pe fiecare
+ * adâncime de dungeon, pe toate nucleele, și scrie un raport CSV sau JSON cu
+ * win rate, ture până la kill, damage primit și gold/exp per luptă.
+ *
+ * Fiecare luptă are un erou nou, la nivelul ales, cu echipament pe nivel și
+ * stat points puse pe atributul principal al clasei, și un inamic generat ca
+ * în dungeon (nivel din intervalul etajului, tier și afixe din
+ * EnemyAffixService). Luptele sunt împărțite în bucăți pe un ForkJoinPool;
+ * fiecare bucată își leagă propriul GameRandom, derivat din seed, deci
+ * thread-urile nu împart niciun generator, iar același seed dă același raport
+ * indiferent de numărul de thread-uri.
+ *
+ * Exemplu:
+ * <pre>
+ *   java com.rpg.test.BalanceSimulator --depths 1-30 --fights 100000 --out balans.csv
+ *   java com.rpg.test.BalanceSimulator --depths 5,10,20 --class oltean --boss --out bossi.json
+ * </pre>
+ */
+public class BalanceSimulator {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    enum HeroClass {
+        MOLDOVEAN(Moldovean::new, Erou::increaseStrength, TipEchipament.SHIELD),
+        ARDELEAN(Ardelean::new, Erou::increaseIntelligence, TipEchipament.OFF_HAND_MAGIC),
+        OLTEAN(Oltean::new, Erou::increaseDexterity, TipEchipament.OFF_HAND_WEAPON);
+
+        private final Function<String, Erou> factory;
+        private final ObjIntConsumer<Erou> primaryStat;
+        private final TipEchipament offHand;
+
+        HeroClass(Function<String, Erou> factory, ObjIntConsumer<Erou> primaryStat, TipEchipament offHand) {
+            this.factory = factory;
+            this.primaryStat = primaryStat;
+            this.offHand = offHand;
+        }
+    }
+
+    /**
+     * Opțiunile din linia de comandă
+     */
+    static final class Options {
+        List<Integer> depths = List.of(1, 5, 10, 15, 20, 25, 30);
+        int fights = 10_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        HeroClass heroClass = HeroClass.MOLDOVEAN;
+        // 0 = nivelul minim al inamicilor de pe etaj
+        int heroLevel;
+        boolean boss;
+        boolean attackOnly;
+        int maxTurns = BattleEngine.DEFAULT_MAX_TURNS;
+        Path out;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = parseArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        PrintStream console = System.out;
+        console.printf("⚖️ Simulare: %,d lupte × %d adâncimi, %s, %d thread-uri, seed %d%n",
+                options.fights, options.depths.size(), options.heroClass, options.threads, options.seed);
+
+        long start = System.nanoTime();
+        List<DepthStats> results;
+        // Modelul scrie mult pe consolă; în simulare mesajele doar ar încetini
+        System.setOut(new SilentPrintStream());
+        try {
+            results = simulate(options);
+        } finally {
+            System.setOut(console);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long totalFights = (long) options.fights * options.depths.size();
+        console.printf("✅ %,d lupte în %.1f s (%,.0f lupte / secundă)%n%n",
+                totalFights, seconds, totalFights / seconds);
+        for (DepthStats stats : results) {
+            console.println(stats.summary());
+        }
+
+        if (options.out != null) {
+            String report = options.out.toString().endsWith(".json")
+                    ? toJson(options, results)
+                    : toCsv(results);
+            Files.writeString(options.out, report, StandardCharsets.UTF_8);
+            console.println("\n📄 Raport scris în " + options.out.toAbsolutePath());
+        }
+    }
+
+    static List<DepthStats> simulate(Options options) throws InterruptedException, ExecutionException {
+        GameRandom root = GameRandom.seeded(options.seed);
+        List<DepthStats> results = new ArrayList<>();
+        List<Callable<DepthStats>> chunks = new ArrayList<>();
+
+        // Bucățile se creează în ordine, deci fiecare primește mereu același stream
+        for (int depth : options.depths) {
+            DepthStats stats = new DepthStats(depth, heroLevelFor(options, depth), options.boss);
+            results.add(stats);
+            for (int done = 0; done < options.fights; done += CHUNK_SIZE) {
+                int fights = Math.min(CHUNK_SIZE, options.fights - done);
+                GameRandom random = root.split();
+                chunks.add(() -> GameRandom.callWith(random, () -> runChunk(options, stats, fights)));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(options.threads);
+        try {
+            List<Future<DepthStats>> partials = pool.invokeAll(chunks);
+            int next = 0;
+            for (DepthStats stats : results) {
+                int count = (options.fights + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                for (int i = 0; i < count; i++) {
+                    stats.merge(partials.get(next++).get());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+
+    private static DepthStats runChunk(Options options, DepthStats target, int fights) {
+        DepthStats partial = new DepthStats(target.depth, target.heroLevel, target.boss);
+        EnemyGeneratorRomanesc generator = new EnemyGeneratorRomanesc();
+        BattlePolicy policy = options.attackOnly ? BattlePolicy.attackOnly() : BattlePolicy.abilitiesFirst();
+
+        for (int i = 0; i < fights; i++) {
+            Erou hero = createHero(options.heroClass, target.heroLevel);
+            Inamic enemy = createEnemy(generator, target.depth, options.boss);
+            EnemyTier tier = enemy.getTier();
+            BattleReport report = new BattleEngine().runBattle(hero, enemy, policy, options.maxTurns);
+            partial.record(report, tier);
+        }
+        return partial;
+    }
+
+    /**
+     * Eroul "tipic" pentru un nivel: stat points pe atributul principal și un
+     * set complet de echipament de nivelul lui, cu raritatea așteptată la acel
+     * nivel (vezi FINAL_REBALANCING_SUMMARY.md)
+     */
+    static Erou createHero(HeroClass heroClass, int level) {
+        Erou hero = heroClass.factory.apply("Simulare");
+        while (hero.getNivel() < level) {
+            hero.adaugaXp(Math.max(1, hero.getXpNecesarPentruUrmatoarelNivel() - hero.getXp()));
+        }
+
+        int points = hero.getStatPointsToAllocate();
+        if (points > 0) {
+            heroClass.primaryStat.accept(hero, points);
+            hero.decreaseStatPoints(points);
+        }
+
+        Raritate raritate = rarityFor(level);
+        for (TipEchipament tip : new TipEchipament[]{TipEchipament.WEAPON_ONE_HANDED, heroClass.offHand,
+                TipEchipament.ARMOR, TipEchipament.HELMET, TipEchipament.BOOTS, TipEchipament.GLOVES,
+                TipEchipament.RING, TipEchipament.NECKLACE}) {
+            ObiectEchipament item = LootGenerator.generateItemByType(tip, level, raritate);
+            item.setNivelNecesar(1);
+            hero.equipItem(item);
+        }
+
+        hero.setViataCurenta(hero.getViataMaxima());
+        return hero;
+    }
+
+    /**
+     * Același interval de nivel ca RoomContentService: etajul d are inamici
+     * de nivel 2d-1 .. 2d+1, iar boss-ul e cu 2 nivele peste
+     */
+    private static Inamic createEnemy(EnemyGeneratorRomanesc generator, int depth, boolean boss) {
+        int floorMinLevel = (depth - 1) * 2 + 1;
+        int floorMaxLevel = depth * 2 + 1;
+        if (boss) {
+            return generator.genereazaBoss(floorMaxLevel + 2);
+        }
+        return generator.genereazaInamicNormal(GameRandom.map().nextInt(floorMinLevel, floorMaxLevel + 1));
+    }
+
+    private static int heroLevelFor(Options options, int depth) {
+        return options.heroLevel > 0 ? options.heroLevel : (depth - 1) * 2 + 1;
+    }
+
+    private static Raritate rarityFor(int level) {
+        if (level < 5) return Raritate.COMMON;
+        if (level < 10) return Raritate.UNCOMMON;
+        if (level < 20) return Raritate.RARE;
+        if (level < 31) return Raritate.EPIC;
+        return Raritate.LEGENDARY;
+    }
+
+    // ==================== RAPORT ====================
+
+    /**
+     * Rezultatele adunate pentru o adâncime; fiecare bucată de lupte are
+     * propria instanță, combinate la final
+     */
+    static final class DepthStats {
+        final int depth;
+        final int heroLevel;
+        final boolean boss;
+
+        long fights;
+        final long[] outcomes = new long[BattleReport.Outcome.values().length];
+        final long[] fightsByTier = new long[EnemyTier.values().length];
+        final long[] winsByTier = new long[EnemyTier.values().length];
+        // Ture doar pentru victorii, deci "ture până la kill"
+        final Histogram turnsToKill = new Histogram();
+        final Histogram damageTaken = new Histogram();
+        final Histogram gold = new Histogram();
+        final Histogram experience = new Histogram();
+
+        DepthStats(int depth, int heroLevel, boolean boss) {
+            this.depth = depth;
+            this.heroLevel = heroLevel;
+            this.boss = boss;
+        }
+
+        void record(BattleReport report, EnemyTier tier) {
+            fights++;
+            outcomes[report.getOutcome().ordinal()]++;
+            if (tier != null) {
+                fightsByTier[tier.ordinal()]++;
+                if (report.isVictory()) {
+                    winsByTier[tier.ordinal()]++;
+                }
+            }
+            if (report.isVictory()) {
+                turnsToKill.record(report.getTurns());
+            }
+            damageTaken.record(report.getDamageTaken());
+            gold.record(report.getGoldEarned());
+            experience.record(report.getExperienceEarned());
+        }
+
+        void merge(DepthStats other) {
+            fights += other.fights;
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] += other.outcomes[i];
+            }
+            for (int i = 0; i < fightsByTier.length; i++) {
+                fightsByTier[i] += other.fightsByTier[i];
+                winsByTier[i] += other.winsByTier[i];
+            }
+            turnsToKill.merge(other.turnsToKill);
+            damageTaken.merge(other.damageTaken);
+            gold.merge(other.gold);
+            experience.merge(other.experience);
+        }
+
+        double rate(BattleReport.Outcome outcome) {
+            return fights == 0 ? 0 : (double) outcomes[outcome.ordinal()] / fights;
+        }
+
+        double winRate(EnemyTier tier) {
+            long count = fightsByTier[tier.ordinal()];
+            return count == 0 ? 0 : (double) winsByTier[tier.ordinal()] / count;
+        }
+
+        int enemyMinLevel() {
+            return boss ? depth * 2 + 3 : (depth - 1) * 2 + 1;
+        }
+
+        int enemyMaxLevel() {
+            return boss ? depth * 2 + 3 : depth * 2 + 1;
+        }
+
+        String summary() {
+            return String.format(Locale.ROOT,
+                    "Adâncime %2d (erou %2d vs %s %d-%d): win %5.1f%%, ture p50 %3d / p90 %3d, damage primit p50 %,d, gold %.0f, exp %.0f",
+                    depth, heroLevel, boss ? "boss" : "inamici", enemyMinLevel(), enemyMaxLevel(),
+                    100 * rate(BattleReport.Outcome.VICTORY), turnsToKill.getPercentile(50), turnsToKill.getPercentile(90),
+                    damageTaken.getPercentile(50), gold.getMean(), experience.getMean());
+        }
+    }
+
+    private static final double[] PERCENTILES = {10, 25, 50, 75, 90, 99};
+
+    static String toCsv(List<DepthStats> results) {
+        StringBuilder csv = new StringBuilder("depth,hero_level,enemy_min_level,enemy_max_level,boss,fights");
+        for (BattleReport.Outcome outcome : BattleReport.Outcome.values()) {
+            csv.append(',').append(outcome.name().toLowerCase(Locale.ROOT)).append("_rate");
+        }
+        for (EnemyTier tier : EnemyTier.values()) {
+            csv.append(",win_rate_").append(tier.name().toLowerCase(Locale.ROOT));
+        }
+        for (String metric : new String[]{"turns_to_kill", "damage_taken", "gold", "exp"}) {
+            csv.append(',').append(metric).append("_mean");
+            for (double p : PERCENTILES) {
+                csv.append(',').append(metric).append("_p").append((int) p);
+            }
+            csv.append(',').append(metric).append("_max");
+        }
+        csv.append('\n');
+
+        for (DepthStats stats : results) {
+            csv.append(stats.depth).append(',').append(stats.heroLevel).append(',')
+                    .append(stats.enemyMinLevel()).append(',').append(stats.enemyMaxLevel()).append(',')
+                    .append(stats.boss).append(',').append(stats.fights);
+            for (BattleReport.Outcome outcome : BattleReport.Outcome.values()) {
+                csv.append(',').append(format(stats.rate(outcome)));
+            }
+            for (EnemyTier tier : EnemyTier.values()) {
+                // Gol, nu 0, pentru tier-urile care n-au apărut deloc
+                csv.append(',');
+                if (stats.fightsByTier[tier.ordinal()] > 0) {
+                    csv.append(format(stats.winRate(tier)));
+                }
+            }
+            for (Histogram histogram : new Histogram[]{stats.turnsToKill, stats.damageTaken, stats.gold, stats.experience}) {
+                csv.append(',').append(format(histogram.getMean()));
+                for (double p : PERCENTILES) {
+                    csv.append(',').append(histogram.getPercentile(p));
+                }
+                csv.append(',').append(histogram.getMax());
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    static String toJson(Options options, List<DepthStats> results) {
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"seed\": ").append(options.seed).append(",\n");
+        json.append("  \"heroClass\": \"").append(options.heroClass).append("\",\n");
+        json.append("  \"policy\": \"").append(options.attackOnly ? "attackOnly" : "abilitiesFirst").append("\",\n");
+        json.append("  \"fightsPerDepth\": ").append(options.fights).append(",\n");
+        json.append("  \"depths\": [");
+        for (int d = 0; d < results.size(); d++) {
+            DepthStats stats = results.get(d);
+            json.append(d == 0 ? "\n" : ",\n").append("    {\n");
+            json.append("      \"depth\": ").append(stats.depth).append(",\n");
+            json.append("      \"heroLevel\": ").append(stats.heroLevel).append(",\n");
+            json.append("      \"enemyLevels\": [").append(stats.enemyMinLevel()).append(", ")
+                    .append(stats.enemyMaxLevel()).append("],\n");
+            json.append("      \"boss\": ").append(stats.boss).append(",\n");
+            json.append("      \"fights\": ").append(stats.fights).append(",\n");
+            json.append("      \"outcomes\": {");
+            BattleReport.Outcome[] outcomes = BattleReport.Outcome.values();
+            for (int i = 0; i < outcomes.length; i++) {
+                json.append(i == 0 ? "" : ", ").append('"').append(outcomes[i].name().toLowerCase(Locale.ROOT))
+                        .append("\": ").append(format(stats.rate(outcomes[i])));
+            }
+            json.append("},\n");
+            json.append("      \"winRateByTier\": {");
+            boolean first = true;
+            for (EnemyTier tier : EnemyTier.values()) {
+                if (stats.fightsByTier[tier.ordinal()] == 0) {
+                    continue;
+                }
+                json.append(first ? "" : ", ").append('"').append(tier.name().toLowerCase(Locale.ROOT))
+                        .append("\": ").append(format(stats.winRate(tier)));
+                first = false;
+            }
+            json.append("},\n");
+            appendJson(json, "turnsToKill", stats.turnsToKill, ",");
+            appendJson(json, "damageTaken", stats.damageTaken, ",");
+            appendJson(json, "gold", stats.gold, ",");
+            appendJson(json, "exp", stats.experience, "");
+            json.append("    }");
+        }
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static void appendJson(StringBuilder json, String name, Histogram histogram, String separator) {
+        json.append("      \"").append(name).append("\": {\"count\": ").append(histogram.getCount())
+                .append(", \"mean\": ").append(format(histogram.getMean()));
+        for (double p : PERCENTILES) {
+            json.append(", \"p").append((int) p).append("\": ").append(histogram.getPercentile(p));
+        }
+        json.append(", \"max\": ").append(histogram.getMax()).append('}').append(separator).append('\n');
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    // ==================== LINIA DE COMANDĂ ====================
+
+    static Options parseArgs(String[] args) {
+        Options options = new Options();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--depths" -> options.depths = parseDepths(value(args, ++i, arg));
+                case "--fights" -> options.fights = positive(value(args, ++i, arg), arg);
+                case "--threads" -> options.threads = positive(value(args, ++i, arg), arg);
+                case "--seed" -> options.seed = Long.parseLong(value(args, ++i, arg));
+                case "--hero-level" -> options.heroLevel = positive(value(args, ++i, arg), arg);
+                case "--max-turns" -> options.maxTurns = positive(value(args, ++i, arg), arg);
+                case "--class" -> options.heroClass = parseHeroClass(value(args, ++i, arg));
+                case "--out" -> options.out = Path.of(value(args, ++i, arg));
+                case "--boss" -> options.boss = true;
+                case "--attack-only" -> options.attackOnly = true;
+                default -> throw new IllegalArgumentException("Argument necunoscut: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static String value(String[] args, int index, String name) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(name + " are nevoie de o valoare");
+        }
+        return args[index];
+    }
+
+    private static int positive(String text, String name) {
+        try {
+            int value = Integer.parseInt(text);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+            // mesajul de mai jos e suficient
+        }
+        throw new IllegalArgumentException(name + " trebuie să fie un număr pozitiv: " + text);
+    }
+
+    /**
+     * "1-30", "5,10,20" sau combinat: "1-5,10,20-22"
+     */
+    private static List<Integer> parseDepths(String text) {
+        List<Integer> depths = new ArrayList<>();
+        for (String part : text.split(",")) {
+            String[] range = part.trim().split("-");
+            int from = positive(range[0].trim(), "--depths");
+            int to = range.length > 1 ? positive(range[1].trim(), "--depths") : from;
+            if (range.length > 2 || to < from) {
+                throw new IllegalArgumentException("Interval de adâncimi invalid: " + part);
+            }
+            for (int depth = from; depth <= to; depth++) {
+                depths.add(depth);
+            }
+        }
+        return depths;
+    }
+
+    private static HeroClass parseHeroClass(String text) {
+        try {
+            return HeroClass.valueOf(text.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Clasă necunoscută: " + text + " (moldovean, ardelean, oltean)");
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("""
+                Utilizare: BalanceSimulator [opțiuni]
+                  --depths 1-30        adâncimile simulate (interval sau listă, ex. 1-5,10,20)
+                  --fights N           lupte per adâncime (implicit 10000)
+                  --threads N          thread-uri (implicit toate nucleele)
+                  --seed N             seed-ul simulării (același seed, același raport)
+                  --class NUME         moldovean, ardelean sau oltean
+                  --hero-level N       nivel fix al eroului (implicit nivelul minim al etajului)
+                  --boss               lupte cu boss-ul etajului în loc de inamici normali
+                  --attack-only        eroul doar atacă (implicit folosește abilități și poțiuni)
+                  --max-turns N        limită de ture per luptă
+                  --out FIȘIER         raport .csv sau .json""");
+    }
+
+    /**
+     * PrintStream care nu face nimic, nici măcar formatarea sau lock-ul pe
+     * care PrintStream-ul normal îl ia la fiecare print; altfel thread-urile
+     * s-ar aștepta între ele la mesajele de debug din model
+     */
+    private static final class SilentPrintStream extends PrintStream {
+
+        SilentPrintStream() {
+            super(OutputStream.nullOutputStream());
+        }
+
+        @Override public void write(int b) { }
+        @Override public void write(byte[] buf, int off, int len) { }
+        @Override public void print(String s) { }
+        @Override public void print(Object obj) { }
+        @Override public void println() { }
+        @Override public void println(String x) { }
+        @Override public void println(Object x) { }
+        @Override public PrintStream printf(String format, Object... args) { return this; }
+        @Override public PrintStream printf(Locale l, String format, Object... args) { return this; }
+        @Override public PrintStream format(String format, Object... args) { return this; }
+        @Override public PrintStream format(Locale l, String format, Object... args) { return this; }
+    }
+}
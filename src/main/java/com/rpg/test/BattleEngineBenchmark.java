@@ -0,0 +1,142 @@
+package com.rpg.test;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.Inamic;
+import com.rpg.service.EnemyGeneratorRomanesc;
+import com.rpg.service.ErouBinaryCodec;
+import com.rpg.service.battle.BattleEngine;
+import com.rpg.service.battle.BattlePolicy;
+import com.rpg.service.battle.BattleReport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rulează lupte complete prin BattleEngine, fără UI, și măsoară câte lupte
+ * pe secundă merg pe un singur thread. Verifică și că aceeași luptă cu
+ * același seed dă același rezultat.
+ *
+ * Fiecare luptă primește eroul late-game proaspăt, decodat din același snapshot
+ * binar (HP și resursă pline, buff-uri, debuff-uri și cooldown-uri ca la început), și o
+ * copie a inamicului cu tier și affix-uri. Se cronometrează doar runBattle, ca
+ * timpul măsurat să fie al luptei, nu al refacerii eroului.
+ */
+public class BattleEngineBenchmark {
+
+    private static final int ENEMY_LEVEL = 12;
+    private static final int WARMUP = 2_000;
+    private static final int FIGHTS = 20_000;
+
+    public static void main(String[] args) {
+        Erou hero = BenchmarkFixtures.createLateGameHero();
+        byte[] heroSnapshot = encode(hero);
+        EnemyGeneratorRomanesc generator = new EnemyGeneratorRomanesc();
+        List<Inamic> templates = BenchmarkFixtures.runQuietly(() -> {
+            List<Inamic> enemies = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                enemies.add(generator.genereazaInamicNormal(ENEMY_LEVEL + i % 6));
+            }
+            return enemies;
+        });
+
+        checkDeterminism(heroSnapshot, templates.get(0));
+
+        BenchmarkFixtures.runQuietly(() -> runFights(heroSnapshot, templates, WARMUP));
+        Stats stats = BenchmarkFixtures.runQuietly(() -> runFights(heroSnapshot, templates, FIGHTS));
+
+        System.out.println("═══ BATTLE ENGINE BENCHMARK (erou nivel " + hero.getNivel()
+                + " vs inamici nivel " + ENEMY_LEVEL + "+, policy abilitiesFirst) ═══");
+        System.out.printf("Lupte:            %,d%n", FIGHTS);
+        System.out.printf("Lupte / secundă:  %,.0f%n", FIGHTS / (stats.nanos / 1e9));
+        System.out.printf("Win rate:         %.1f%%%n", 100.0 * stats.victories / FIGHTS);
+        System.out.printf("Ture / luptă:     %.2f%n", (double) stats.turns / FIGHTS);
+        System.out.printf("Damage primit:    %.1f / luptă%n", (double) stats.damageTaken / FIGHTS);
+    }
+
+    private static Stats runFights(byte[] heroSnapshot, List<Inamic> templates, int fights) {
+        Stats stats = new Stats();
+        BattlePolicy policy = BattlePolicy.abilitiesFirst();
+        for (int i = 0; i < fights; i++) {
+            Erou hero = freshHero(heroSnapshot);
+            Inamic enemy = copyOf(templates.get(i % templates.size()));
+            long start = System.nanoTime();
+            BattleReport report = new BattleEngine(i).runBattle(hero, enemy, policy);
+            stats.nanos += System.nanoTime() - start;
+            if (report.isVictory()) {
+                stats.victories++;
+            }
+            stats.turns += report.getTurns();
+            stats.damageTaken += report.getDamageTaken();
+        }
+        return stats;
+    }
+
+    private static BattleReport fight(byte[] heroSnapshot, Inamic template, long seed, BattlePolicy policy) {
+        return new BattleEngine(seed).runBattle(freshHero(heroSnapshot), copyOf(template), policy);
+    }
+
+    private static void checkDeterminism(byte[] heroSnapshot, Inamic template) {
+        String first = BenchmarkFixtures.runQuietly(() -> fight(heroSnapshot, template, 42, BattlePolicy.abilitiesFirst()).toString());
+        String second = BenchmarkFixtures.runQuietly(() -> fight(heroSnapshot, template, 42, BattlePolicy.abilitiesFirst()).toString());
+        if (!first.equals(second)) {
+            throw new IllegalStateException("Același seed a dat lupte diferite:\n" + first + "\n" + second);
+        }
+    }
+
+    private static byte[] encode(Erou hero) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ErouBinaryCodec.encode(hero, bytes);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Eroul din snapshot, cu HP și resursa pline
+     */
+    private static Erou freshHero(byte[] heroSnapshot) {
+        Erou hero;
+        try {
+            hero = ErouBinaryCodec.decode(new ByteArrayInputStream(heroSnapshot));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        hero.setViataCurenta(hero.getViataMaxima());
+        hero.setResursaCurenta(hero.getResursaMaxima());
+        return hero;
+    }
+
+    /**
+     * Inamicii se modifică în luptă, deci fiecare luptă primește o copie proaspătă,
+     * cu tot ce a pus generatorul peste constructor (tier, affix-uri, abilități)
+     */
+    private static Inamic copyOf(Inamic template) {
+        Inamic enemy = new Inamic(template.getNume(), template.getNivel(), template.getViataMaxima(),
+                template.getDefense(), template.getGoldReward(), template.getExpReward(), template.isBoss());
+        enemy.setDamage(template.getDamage());
+        enemy.setTipDamageRezistent(template.getTipDamageRezistent());
+        enemy.setTipDamageVulnerabil(template.getTipDamageVulnerabil());
+        enemy.setCritChanceBonus(template.getCritChance() - enemy.getCritChance());
+        enemy.setRegenerareViata(template.getRegenerareViata());
+        enemy.setTier(template.getTier());
+        enemy.setAffixes(template.getAffixes());
+        enemy.setHasShield(template.hasShield());
+        enemy.setShieldHealth(template.getShieldHealth());
+        enemy.setArchetype(template.getArchetype());
+        enemy.setAbilities(template.getAbilities());
+        return enemy;
+    }
+
+    private static final class Stats {
+        int victories;
+        long turns;
+        long damageTaken;
+        long nanos;
+    }
+}
@@ -0,0 +1,68 @@
+package com.rpg.test;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.service.ErouBinaryCodec;
+import com.rpg.service.SaveJournal;
+import com.rpg.service.battle.BattleEvent;
+import com.rpg.service.battle.BattleRecording;
+import com.rpg.service.battle.BattleReplay;
+import com.rpg.service.battle.BattleReport;
+import com.rpg.service.battle.BattleTurn;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Rejoacă ultima luptă dintr-o salvare, fără UI, și afișează log-ul complet
+ * al fiecărei acțiuni. Pentru bug-urile de luptă raportate: salvarea
+ * jucătorului conține deja înregistrarea.
+ *
+ * Utilizare: BattleReplayTool <fișier salvare> [--quiet]
+ */
+public class BattleReplayTool {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Utilizare: BattleReplayTool <fișier salvare> [--quiet]");
+            return;
+        }
+        boolean quiet = args.length > 1 && "--quiet".equals(args[1]);
+
+        File saveFile = new File(args[0]);
+        Erou saved = ErouBinaryCodec.readSaveFile(saveFile);
+        // Auto-save-urile țin replay-ul în fișierul ".rpl" de alături
+        SaveJournal.loadBattleReplay(saveFile, saved);
+        byte[] data = saved.getLastBattleReplay();
+        if (data == null) {
+            System.out.println("Salvarea nu conține nicio luptă înregistrată.");
+            return;
+        }
+
+        BattleRecording recording = BattleRecording.fromBytes(data);
+        System.out.printf("Înregistrare: %,d bytes, seed %d, %d acțiuni%s%n", data.length,
+                recording.getSeed(), recording.getEntries().size(),
+                recording.isMultiBattle() ? ", multi-enemy" : "");
+
+        long start = System.nanoTime();
+        BattleReplay replay = new BattleReplay(recording);
+        BattleReport report = BenchmarkFixtures.runQuietly(replay::runToEnd);
+        long nanos = System.nanoTime() - start;
+
+        if (!quiet) {
+            print(replay.getStartTurn());
+            for (int i = 0; i < replay.getTurns().size(); i++) {
+                System.out.println("── " + recording.getEntries().get(i));
+                print(replay.getTurns().get(i));
+            }
+        }
+
+        System.out.println("═══ " + report);
+        System.out.printf("Rejucat în %.2f ms%n", nanos / 1e6);
+    }
+
+    private static void print(BattleTurn turn) {
+        for (BattleEvent event : turn.getEvents()) {
+            System.out.println(event.getText());
+        }
+    }
+}
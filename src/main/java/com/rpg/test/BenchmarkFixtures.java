@@ -0,0 +1,79 @@
+package com.rpg.test;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.classes.Moldovean;
+import com.rpg.model.items.BuffPotion;
+import com.rpg.model.items.EnchantScroll;
+import com.rpg.model.items.FlaskPiece;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.service.JewelGeneratorService;
+import com.rpg.service.LootGenerator;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+
+/**
+ * Date comune pentru benchmark-urile din acest pachet.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Construiește un erou "late-game": nivel 50, inventar plin, echipament
+     * complet, jewels, consumabile și buff-uri active.
+     */
+    public static Erou createLateGameHero() {
+        return runQuietly(() -> {
+            Erou hero = new Moldovean("Benchmark");
+            hero.adaugaXp(50_000_000);
+            hero.setGold(250_000);
+
+            for (ObiectEchipament.TipEchipament tip : ObiectEchipament.TipEchipament.values()) {
+                ObiectEchipament item = LootGenerator.generateItemByType(tip, 45, ObiectEchipament.Raritate.LEGENDARY);
+                item.setNivelNecesar(1);
+                item.enhanceEquipment(7);
+                hero.equipItem(item);
+            }
+
+            for (int i = 0; i < 80; i++) {
+                ObiectEchipament item = LootGenerator.generateRandomItem(40);
+                item.enhanceEquipment(i % 6);
+                hero.adaugaInInventar(item);
+            }
+
+            for (int i = 0; i < 25; i++) {
+                hero.addJewel(JewelGeneratorService.generateRandomJewel(45));
+            }
+
+            for (FlaskPiece.FlaskType type : FlaskPiece.FlaskType.values()) {
+                hero.addFlaskPieces(type, 12);
+            }
+            for (BuffPotion.BuffType type : BuffPotion.BuffType.values()) {
+                hero.addBuffPotion(type, 5);
+            }
+            for (EnchantScroll.EnchantType type : EnchantScroll.EnchantType.values()) {
+                hero.addEnchantScroll(type, 3, 4);
+            }
+
+            hero.aplicaBuff("Berserk", Map.of("damage", 1.25, "defense", 0.9), 5);
+            hero.aplicaBuff("Iron Skin", Map.of("defense", 1.4), 3);
+            return hero;
+        });
+    }
+
+    /**
+     * Rulează setup-ul fără mesajele de joc pe consolă
+     */
+    public static <T> T runQuietly(java.util.function.Supplier<T> action) {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return action.get();
+        } finally {
+            System.setOut(original);
+        }
+    }
+}
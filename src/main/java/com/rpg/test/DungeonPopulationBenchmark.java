@@ -0,0 +1,172 @@
+package com.rpg.test;
+
+import com.rpg.dungeon.generator.ProceduralMapGenerator;
+import com.rpg.dungeon.model.DungeonMap;
+import com.rpg.dungeon.model.EnemySprite;
+import com.rpg.dungeon.model.Room;
+import com.rpg.dungeon.service.RoomContentService;
+import com.rpg.model.characters.Erou;
+import com.rpg.model.characters.Inamic;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.utils.GameRandom;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Măsoară popularea dungeon-ului (ProceduralMapGenerator + RoomContentService)
+ * cu loot leneș - inamicii țin doar un LootDescriptor - față de tabelele de loot
+ * generate dinainte, ca înainte.
+ *
+ * Varianta "eager" reface comportamentul vechi: după populare, cere tabela
+ * completă de la fiecare inamic și o ține în memorie lângă hartă (și o
+ * serializează odată cu ea). Ambele variante construiesc aceleași hărți (același seed).
+ */
+public class DungeonPopulationBenchmark {
+
+    private static final int DEPTH = 6;
+    private static final int WARMUP = 50;
+    private static final int MAPS = 300;
+    private static final int SERIALIZED_SAMPLE = 20;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        Erou hero = BenchmarkFixtures.createLateGameHero();
+
+        BenchmarkFixtures.runQuietly(() -> {
+            populate(hero, WARMUP, false);
+            populate(hero, WARMUP, true);
+            return null;
+        });
+
+        Result lazy = BenchmarkFixtures.runQuietly(() -> populate(hero, MAPS, false));
+        Result eager = BenchmarkFixtures.runQuietly(() -> populate(hero, MAPS, true));
+
+        System.out.println("═══ DUNGEON POPULATION BENCHMARK (" + MAPS + " hărți, depth " + DEPTH + ") ═══");
+        System.out.printf("%-26s %10s %14s %14s %14s %12s%n",
+                "Varianta", "ms/hartă", "KB alocați", "KB reținuți", "KB serializați", "Iteme");
+        print("Tabele de loot (vechi)", eager);
+        print("LootDescriptor (leneș)", lazy);
+        System.out.printf("Inamici/hartă: %.1f | timp: %.0f%% | memorie reținută: %.0f%% din varianta veche%n",
+                lazy.enemiesPerMap, 100.0 * lazy.nanos / eager.nanos,
+                100.0 * lazy.retainedBytes / Math.max(1, eager.retainedBytes));
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("%-26s %10.3f %14.1f %14.1f %14.1f %12.1f%n", name,
+                result.nanos / 1e6 / MAPS,
+                result.allocatedBytes / 1024.0 / MAPS,
+                result.retainedBytes / 1024.0 / MAPS,
+                result.serializedBytes / 1024.0,
+                result.itemsPerMap);
+    }
+
+    private static Result populate(Erou hero, int maps, boolean eagerLoot) {
+        return GameRandom.callWith(GameRandom.seeded(SEED), () -> {
+            List<Object> kept = new ArrayList<>(maps);
+            long enemies = 0;
+            long items = 0;
+
+            long heapBefore = usedHeapAfterGc();
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+
+            for (int i = 0; i < maps; i++) {
+                DungeonMap map = new ProceduralMapGenerator().generate(DEPTH);
+                new RoomContentService().populateMap(map, hero);
+
+                Set<Inamic> mapEnemies = enemiesOf(map);
+                enemies += mapEnemies.size();
+                if (eagerLoot) {
+                    List<List<ObiectEchipament>> tables = new ArrayList<>(mapEnemies.size());
+                    for (Inamic enemy : mapEnemies) {
+                        List<ObiectEchipament> table = enemy.getLootTable();
+                        items += table.size();
+                        tables.add(table);
+                    }
+                    kept.add(new Object[]{map, tables});
+                } else {
+                    kept.add(map);
+                }
+            }
+
+            long nanos = System.nanoTime() - start;
+            long allocated = allocatedBytes() - allocatedBefore;
+            long retained = usedHeapAfterGc() - heapBefore;
+
+            long serialized = 0;
+            int sample = Math.min(SERIALIZED_SAMPLE, kept.size());
+            for (int i = 0; i < sample; i++) {
+                serialized += serializedSize(kept.get(i));
+            }
+
+            Result result = new Result();
+            result.nanos = nanos;
+            result.allocatedBytes = allocated;
+            result.retainedBytes = Math.max(0, retained);
+            result.serializedBytes = sample > 0 ? (double) serialized / sample : 0;
+            result.enemiesPerMap = (double) enemies / maps;
+            result.itemsPerMap = (double) items / maps;
+            kept.clear();
+            return result;
+        });
+    }
+
+    private static Set<Inamic> enemiesOf(DungeonMap map) {
+        Set<Inamic> enemies = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Room room : map.getAllRooms()) {
+            if (room.getEnemy() != null) {
+                enemies.add(room.getEnemy());
+            }
+            for (EnemySprite sprite : room.getEnemies()) {
+                enemies.add(sprite.getEnemy());
+            }
+        }
+        return enemies;
+    }
+
+    private static long serializedSize(Object value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(value);
+            }
+            return bytes.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static final class Result {
+        long nanos;
+        long allocatedBytes;
+        long retainedBytes;
+        double serializedBytes;
+        double enemiesPerMap;
+        double itemsPerMap;
+    }
+}
@@ -0,0 +1,90 @@
+package com.rpg.test;
+
+/**
+ * Histogramă de valori întregi ne-negative, cu percentile aproximative.
+ *
+ * Valorile sub 128 sunt numărate exact; peste, fiecare putere a lui 2 e
+ * împărțită în 64 de bucket-uri (eroare sub 1.6%). Memoria e fixă indiferent
+ * de câte valori se adaugă, iar două histograme se pot combina, deci fiecare
+ * thread al simulatorului își ține propriile histograme.
+ */
+final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = EXACT_LIMIT + (31 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long sum;
+    private int max;
+
+    void record(int value) {
+        int v = Math.max(0, value);
+        counts[indexOf(v)]++;
+        total++;
+        sum += v;
+        if (v > max) {
+            max = v;
+        }
+    }
+
+    void merge(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    long getCount() { return total; }
+
+    int getMax() { return max; }
+
+    double getMean() {
+        return total == 0 ? 0 : (double) sum / total;
+    }
+
+    /**
+     * @param percentile între 0 și 100
+     */
+    int getPercentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, valueOf(i));
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(int value) {
+        if (value < EXACT_LIMIT) {
+            return value;
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return EXACT_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS
+                + ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Mijlocul bucket-ului, ca valoare reprezentativă
+     */
+    private static int valueOf(int index) {
+        if (index < EXACT_LIMIT) {
+            return index;
+        }
+        int offset = index - EXACT_LIMIT;
+        int shift = offset / SUB_BUCKETS + 1;
+        long lower = (long) (SUB_BUCKETS + offset % SUB_BUCKETS) << shift;
+        return (int) Math.min(Integer.MAX_VALUE, lower + (1L << shift) / 2);
+    }
+}
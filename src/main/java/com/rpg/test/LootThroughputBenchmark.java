@@ -0,0 +1,103 @@
+package com.rpg.test;
+
+import com.rpg.model.items.Jewel;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.service.LootBatch;
+import com.rpg.service.LootGenerator;
+import com.rpg.utils.GameRandom;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Throughput-ul generării de loot (iteme/secundă): apeluri unul câte unul,
+ * ca înainte, față de LootBatch secvențial și paralel.
+ *
+ * Verifică și că lotul paralel dă exact aceleași iteme ca cel secvențial
+ * pentru același seed.
+ */
+public class LootThroughputBenchmark {
+
+    private static final int LEVEL = 30;
+    private static final int ITEMS = 50_000;
+    private static final int JEWELS = 20_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        System.out.println("═══ LOOT THROUGHPUT BENCHMARK (nivel " + LEVEL + ", "
+                + Runtime.getRuntime().availableProcessors() + " CPU) ═══");
+        System.out.printf("%-34s %12s %14s%n", "Varianta", "ms/lot", "iteme/sec");
+
+        measure("Iteme unul câte unul", ITEMS, () -> {
+            List<ObiectEchipament> items = new java.util.ArrayList<>(ITEMS);
+            for (int i = 0; i < ITEMS; i++) {
+                items.add(LootGenerator.generateRandomItem(LEVEL));
+            }
+            return items;
+        });
+        measure("Iteme - LootBatch secvențial", ITEMS, () -> LootBatch.items(LEVEL, ITEMS, false));
+        measure("Iteme - LootBatch paralel", ITEMS, () -> LootBatch.items(LEVEL, ITEMS, true));
+
+        measure("Jewels - LootBatch secvențial", JEWELS, () -> LootBatch.jewels(LEVEL, JEWELS, false));
+        measure("Jewels - LootBatch paralel", JEWELS, () -> LootBatch.jewels(LEVEL, JEWELS, true));
+
+        List<ObiectEchipament> sequential = seeded(() -> LootBatch.items(LEVEL, ITEMS, false));
+        List<ObiectEchipament> parallel = seeded(() -> LootBatch.items(LEVEL, ITEMS, true));
+        List<Jewel> sequentialJewels = seeded(() -> LootBatch.jewels(LEVEL, JEWELS, false));
+        List<Jewel> parallelJewels = seeded(() -> LootBatch.jewels(LEVEL, JEWELS, true));
+        System.out.println("Același seed → aceleași iteme secvențial/paralel: "
+                + (sameItems(sequential, parallel) && sameJewels(sequentialJewels, parallelJewels) ? "DA" : "NU"));
+    }
+
+    private static void measure(String name, int count, Supplier<List<?>> batch) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            seeded(batch);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            List<?> result = seeded(batch);
+            long nanos = System.nanoTime() - start;
+            if (result.size() != count) {
+                throw new IllegalStateException(name + ": " + result.size() + " în loc de " + count);
+            }
+            best = Math.min(best, nanos);
+        }
+        System.out.printf("%-34s %12.1f %14.0f%n", name, best / 1e6, count / (best / 1e9));
+    }
+
+    private static <T> T seeded(Supplier<T> action) {
+        return BenchmarkFixtures.runQuietly(() -> GameRandom.callWith(GameRandom.seeded(SEED), action));
+    }
+
+    private static boolean sameItems(List<ObiectEchipament> a, List<ObiectEchipament> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            ObiectEchipament x = a.get(i);
+            ObiectEchipament y = b.get(i);
+            if (!x.getNume().equals(y.getNume()) || x.getRaritate() != y.getRaritate()
+                    || x.getNivelNecesar() != y.getNivelNecesar()
+                    || !x.getTotalBonuses().equals(y.getTotalBonuses())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameJewels(List<Jewel> a, List<Jewel> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).getName().equals(b.get(i).getName())
+                    || !a.get(i).getModifiersDescription().equals(b.get(i).getModifiersDescription())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package com.rpg.test;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.service.ErouBinaryCodec;
+
+import java.io.*;
+
+/**
+ * Compară formatul binar de salvare cu vechiul ObjectOutputStream pentru un
+ * erou late-game: mărimea payload-ului și timpul mediu de save/load.
+ */
+public class SaveFormatBenchmark {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        Erou hero = BenchmarkFixtures.createLateGameHero();
+
+        byte[] javaBytes = javaSerialize(hero);
+        byte[] binaryBytes = binaryEncode(hero);
+
+        // Warmup pentru JIT
+        BenchmarkFixtures.runQuietly(() -> {
+            for (int i = 0; i < WARMUP; i++) {
+                javaSerialize(hero);
+                javaDeserialize(javaBytes);
+                binaryEncode(hero);
+                binaryDecode(binaryBytes);
+            }
+            return null;
+        });
+
+        long javaSave = time(() -> javaSerialize(hero));
+        long javaLoad = time(() -> javaDeserialize(javaBytes));
+        long binarySave = time(() -> binaryEncode(hero));
+        long binaryLoad = BenchmarkFixtures.runQuietly(() -> time(() -> binaryDecode(binaryBytes)));
+
+        System.out.println("═══ SAVE FORMAT BENCHMARK (erou nivel " + hero.getNivel() + ", "
+                + hero.getInventar().size() + " obiecte, " + hero.getJewelCount() + " jewels) ═══");
+        System.out.printf("%-22s %10s %12s %12s%n", "Format", "Bytes", "Save (µs)", "Load (µs)");
+        System.out.printf("%-22s %10d %12.1f %12.1f%n", "ObjectOutputStream",
+                javaBytes.length, javaSave / 1000.0, javaLoad / 1000.0);
+        System.out.printf("%-22s %10d %12.1f %12.1f%n", "ErouBinaryCodec",
+                binaryBytes.length, binarySave / 1000.0, binaryLoad / 1000.0);
+        System.out.printf("Mărime: %.1f%% din formatul vechi%n", 100.0 * binaryBytes.length / javaBytes.length);
+    }
+
+    /**
+     * Timpul mediu per apel, în nanosecunde
+     */
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static byte[] javaSerialize(Erou hero) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+                oos.writeObject(hero);
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Erou javaDeserialize(byte[] bytes) {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Erou) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] binaryEncode(Erou hero) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ErouBinaryCodec.encode(hero, buffer);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Erou binaryDecode(byte[] bytes) {
+        try {
+            return ErouBinaryCodec.decode(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.rpg.test;
+
+import com.rpg.model.characters.Erou;
+import com.rpg.model.items.ObiectEchipament;
+import com.rpg.utils.GameConstants;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+
+/**
+ * Măsoară alocările și timpul pe tură de luptă pentru statisticile eroului:
+ * formulele vechi (bonusurile de echipament recalculate la fiecare getter)
+ * față de StatSheet-ul cache-uit din Erou.
+ *
+ * O "tură" apelează getter-ele pe care BattleEngine le folosește la un
+ * atac al eroului și la un atac al inamicului.
+ */
+public class StatSheetBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int TURNS = 200_000;
+
+    private static double sink;
+
+    public static void main(String[] args) {
+        Erou hero = BenchmarkFixtures.createLateGameHero();
+        Collection<ObiectEchipament> equipped = hero.getEchipat().values();
+
+        checkSameResults(hero, equipped);
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacyTurn(hero, equipped);
+            cachedTurn(hero);
+        }
+
+        Result legacy = measure(() -> legacyTurn(hero, equipped));
+        Result cached = measure(() -> cachedTurn(hero));
+
+        System.out.println("═══ STAT SHEET BENCHMARK (erou nivel " + hero.getNivel() + ", "
+                + equipped.size() + " sloturi echipate) ═══");
+        System.out.printf("%-22s %14s %12s%n", "Varianta", "Bytes/tură", "ns/tură");
+        System.out.printf("%-22s %14.1f %12.1f%n", "Recalculare (vechi)", legacy.bytesPerTurn, legacy.nanosPerTurn);
+        System.out.printf("%-22s %14.1f %12.1f%n", "StatSheet (cache)", cached.bytesPerTurn, cached.nanosPerTurn);
+        if (sink == 42) System.out.println();
+    }
+
+    /**
+     * Getter-ele dintr-o tură, ca în BattleEngine
+     */
+    private static void cachedTurn(Erou hero) {
+        sink += hero.getHitChance();
+        sink += hero.getCritChanceTotal();
+        sink += hero.calculeazaDamage();
+        sink += hero.getDodgeChanceTotal();
+        sink += hero.getDefenseTotal();
+        sink += hero.getStrengthTotal() + hero.getDexterityTotal();
+    }
+
+    /**
+     * Aceeași tură cu formulele dinainte de StatSheet
+     */
+    private static void legacyTurn(Erou hero, Collection<ObiectEchipament> equipped) {
+        sink += legacyHitChance(hero, equipped);
+        sink += legacyCritChance(hero, equipped);
+        sink += hero.calculeazaDamage();
+        sink += legacyDodgeChance(hero, equipped);
+        sink += legacyDefense(hero, equipped);
+        sink += legacyStat(hero.getStrength(), "strength", equipped) + legacyStat(hero.getDexterity(), "dexterity", equipped);
+    }
+
+    private static int legacyEquipmentBonus(String stat, Collection<ObiectEchipament> equipped) {
+        int bonus = 0;
+        for (ObiectEchipament item : equipped) {
+            if (item != null) {
+                bonus += item.getTotalBonuses().getOrDefault(stat, 0);
+            }
+        }
+        return bonus;
+    }
+
+    private static int legacyStat(int base, String stat, Collection<ObiectEchipament> equipped) {
+        return base + legacyEquipmentBonus(stat, equipped);
+    }
+
+    private static double legacyHitChance(Erou hero, Collection<ObiectEchipament> equipped) {
+        double dexBonus = legacyStat(hero.getDexterity(), "dexterity", equipped) * GameConstants.HIT_CHANCE_PER_DEX;
+        double levelBonus = hero.getNivel() * GameConstants.HIT_CHANCE_PER_LEVEL;
+        return Math.min(95.0, GameConstants.BASE_HIT_CHANCE + dexBonus + levelBonus
+                + legacyEquipmentBonus("hit_chance", equipped));
+    }
+
+    private static double legacyCritChance(Erou hero, Collection<ObiectEchipament> equipped) {
+        double dexBonus = legacyStat(hero.getDexterity(), "dexterity", equipped) * GameConstants.CRIT_CHANCE_PER_DEX;
+        return Math.min(95.0, GameConstants.BASE_CRIT_CHANCE + dexBonus
+                + legacyEquipmentBonus("crit_chance", equipped)
+                + hero.getRunItemCritBonus() * 100 + hero.getTalentCritChance() + hero.getConditionalCritBonus());
+    }
+
+    private static double legacyDodgeChance(Erou hero, Collection<ObiectEchipament> equipped) {
+        double dexBonus = legacyStat(hero.getDexterity(), "dexterity", equipped) * GameConstants.DODGE_CHANCE_PER_DEX;
+        double total = GameConstants.BASE_DODGE_CHANCE + dexBonus
+                + legacyEquipmentBonus("dodge_chance", equipped)
+                + hero.getRunItemDodgeBonus() * 100 + hero.getTalentDodge()
+                + hero.getDebuffDodgeReduction() * 100;
+        return Math.max(0.0, Math.min(75.0, total));
+    }
+
+    private static int legacyDefense(Erou hero, Collection<ObiectEchipament> equipped) {
+        int base = hero.getDefense() + legacyEquipmentBonus("defense", equipped);
+        return Math.max(0, (int) (base * (1.0 + hero.getDebuffDefenseReduction())));
+    }
+
+    private static void checkSameResults(Erou hero, Collection<ObiectEchipament> equipped) {
+        if (legacyHitChance(hero, equipped) != hero.getHitChance()
+                || legacyCritChance(hero, equipped) != hero.getCritChanceTotal()
+                || legacyDodgeChance(hero, equipped) != hero.getDodgeChanceTotal()
+                || legacyDefense(hero, equipped) != hero.getDefenseTotal()) {
+            throw new IllegalStateException("StatSheet dă alte valori decât formulele vechi!");
+        }
+    }
+
+    private static Result measure(Runnable turn) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < TURNS; i++) {
+            turn.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Result((double) bytes / TURNS, (double) elapsed / TURNS);
+    }
+
+    private static final class Result {
+        final double bytesPerTurn;
+        final double nanosPerTurn;
+
+        Result(double bytesPerTurn, double nanosPerTurn) {
+            this.bytesPerTurn = bytesPerTurn;
+            this.nanosPerTurn = nanosPerTurn;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.rpg.ui;
 
+import com.rpg.utils.GameRandom;
 import javafx.animation.*;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Pane;
@@ -150,7 +151,7 @@ public class FloatingText {
 
         // Slide to the side
         TranslateTransition slide = new TranslateTransition(Duration.millis(400), label);
-        slide.setByX(Math.random() > 0.5 ? 40 : -40);
+        slide.setByX(GameRandom.cosmetic().nextBoolean() ? 40 : -40);
         slide.setByY(-20);
 
         parallel.getChildren().add(slide);
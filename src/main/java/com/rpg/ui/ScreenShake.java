@@ -1,19 +1,17 @@
 package com.rpg.ui;
 
+import com.rpg.utils.GameRandom;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.scene.Node;
 import javafx.util.Duration;
 
-import java.util.Random;
-
 /**
  * Screen shake utility for impactful visual feedback
  */
 public class ScreenShake {
 
-    private static final Random random = new Random();
 
     public enum ShakeIntensity {
         LIGHT(2, 100),      // Small shake, 100ms
@@ -47,8 +45,8 @@ public class ScreenShake {
             double progress = (double) i / frames;
             double magnitude = intensity.magnitude * (1 - progress); // Decay over time
 
-            double offsetX = (random.nextDouble() - 0.5) * 2 * magnitude;
-            double offsetY = (random.nextDouble() - 0.5) * 2 * magnitude;
+            double offsetX = (GameRandom.cosmetic().nextDouble() - 0.5) * 2 * magnitude;
+            double offsetY = (GameRandom.cosmetic().nextDouble() - 0.5) * 2 * magnitude;
 
             KeyFrame keyFrame = new KeyFrame(
                 Duration.millis(i * 20),
@@ -106,7 +104,7 @@ public class ScreenShake {
             double progress = (double) i / frames;
             double magnitude = intensity.magnitude * (1 - progress);
 
-            double offsetX = (random.nextDouble() - 0.5) * 2 * magnitude;
+            double offsetX = (GameRandom.cosmetic().nextDouble() - 0.5) * 2 * magnitude;
 
             KeyFrame keyFrame = new KeyFrame(
                 Duration.millis(i * 20),
@@ -139,7 +137,7 @@ public class ScreenShake {
             double progress = (double) i / frames;
             double magnitude = intensity.magnitude * (1 - progress);
 
-            double offsetY = (random.nextDouble() - 0.5) * 2 * magnitude;
+            double offsetY = (GameRandom.cosmetic().nextDouble() - 0.5) * 2 * magnitude;
 
             KeyFrame keyFrame = new KeyFrame(
                 Duration.millis(i * 20),
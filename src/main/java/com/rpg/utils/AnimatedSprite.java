@@ -1,8 +1,6 @@
 package com.rpg.utils;
 
 import javafx.scene.image.Image;
-import javafx.scene.image.PixelReader;
-import javafx.scene.image.WritableImage;
 
 /**
  * 🎬 Animated Sprite - Handles frame-based sprite animations
@@ -23,7 +21,15 @@ import javafx.scene.image.WritableImage;
  *     "player", "walk_down_sheet", 8, 0.15, 64, 64, 8, 1
  * );
  *
- * This loads from a spritesheet with 8 frames of 64x64 pixels arranged in a single row
+ * playerAnim.getCurrentRegion().draw(gc, x, y, 64, 64);
+ *
+ * This uses a spritesheet with 8 frames of 64x64 pixels arranged in a single row
+ *
+ * USAGE - Atlas:
+ * AnimatedSprite playerAnim = AnimatedSprite.fromAtlas(atlas, "player/walk_down", 8, 0.1);
+ * playerAnim.getCurrentRegion().draw(gc, x, y, 64, 64);
+ *
+ * Frames stay inside the atlas page instead of being copied into their own images
  */
 public class AnimatedSprite {
 
@@ -36,6 +42,8 @@ public class AnimatedSprite {
     private boolean loop;
     private Image[] frames;
     private Image fallbackImage;
+    private SpriteAtlas.Region[] regions; // Atlas frames (null when loaded as separate images)
+    private SpriteAtlas.Region fallbackRegion;
 
     /**
      * Create an animated sprite
@@ -95,7 +103,7 @@ public class AnimatedSprite {
      * @param frameHeight Height of each frame in pixels
      * @param columns Number of frames per row in the spritesheet
      * @param rows Number of rows in the spritesheet
-     * @return AnimatedSprite instance with frames extracted from spritesheet
+     * @return AnimatedSprite whose frames are regions of the spritesheet (draw with getCurrentRegion)
      */
     public static AnimatedSprite fromSpritesheet(String category, String sheetName,
                                                   int frameCount, double frameDuration,
@@ -111,41 +119,50 @@ public class AnimatedSprite {
             return new AnimatedSprite(category, sheetName, frameCount, frameDuration, emptyFrames);
         }
 
-        // Extract frames from spritesheet
-        Image[] frames = extractFramesFromSheet(spritesheet, frameCount, frameWidth, frameHeight, columns, rows);
-
-        return new AnimatedSprite(category, sheetName, frameCount, frameDuration, frames);
+        AnimatedSprite sprite = new AnimatedSprite(category, sheetName, frameCount, frameDuration, new Image[frameCount]);
+        sprite.regions = regionsFromSheet(spritesheet, frameCount, frameWidth, frameHeight, columns, rows);
+        sprite.fallbackRegion = frameCount > 0 ? sprite.regions[0] : null;
+        return sprite;
     }
 
     /**
-     * Extract individual frames from a spritesheet
+     * Create an animated sprite whose frames live in a sprite atlas
+     *
+     * @param atlas Atlas the frames were added to with SpriteAtlas.Builder.addFrames
+     * @param key Key used when adding the frames (e.g., "player/walk_down")
+     * @param frameCount Number of animation frames
+     * @param frameDuration Seconds per frame (0.1 = 10 FPS)
      */
-    private static Image[] extractFramesFromSheet(Image spritesheet, int frameCount,
-                                                   int frameWidth, int frameHeight,
-                                                   int columns, int rows) {
-        Image[] frames = new Image[frameCount];
-        PixelReader reader = spritesheet.getPixelReader();
-
-        if (reader == null) {
-            System.err.println("⚠️ Cannot read spritesheet pixels");
-            return frames;
+    public static AnimatedSprite fromAtlas(SpriteAtlas atlas, String key, int frameCount, double frameDuration) {
+        AnimatedSprite sprite = new AnimatedSprite(key, key, frameCount, frameDuration, new Image[frameCount]);
+        sprite.regions = atlas.getFrames(key, frameCount);
+        for (SpriteAtlas.Region region : sprite.regions) {
+            if (region != null) {
+                sprite.fallbackRegion = region;
+                break;
+            }
         }
+        if (sprite.fallbackRegion == null) {
+            System.err.println("⚠️ Frames not in atlas: " + key);
+        }
+        return sprite;
+    }
 
-        int frameIndex = 0;
-        for (int row = 0; row < rows && frameIndex < frameCount; row++) {
-            for (int col = 0; col < columns && frameIndex < frameCount; col++) {
-                int x = col * frameWidth;
-                int y = row * frameHeight;
+    /**
+     * Map each frame to its rectangle on the spritesheet (the sheet itself is the page)
+     */
+    private static SpriteAtlas.Region[] regionsFromSheet(Image spritesheet, int frameCount,
+                                                         int frameWidth, int frameHeight,
+                                                         int columns, int rows) {
+        SpriteAtlas.Region[] regions = new SpriteAtlas.Region[frameCount];
+        int available = Math.min(frameCount, columns * rows);
 
-                // Extract frame
-                WritableImage frame = new WritableImage(reader, x, y, frameWidth, frameHeight);
-                frames[frameIndex] = frame;
-                frameIndex++;
-            }
+        for (int frameIndex = 0; frameIndex < available; frameIndex++) {
+            int x = (frameIndex % columns) * frameWidth;
+            int y = (frameIndex / columns) * frameHeight;
+            regions[frameIndex] = new SpriteAtlas.Region(spritesheet, x, y, frameWidth, frameHeight);
         }
-
-        System.out.println("✅ Extracted " + frameIndex + " frames from spritesheet");
-        return frames;
+        return regions;
     }
 
     /**
@@ -202,11 +219,24 @@ public class AnimatedSprite {
         return fallbackImage; // Use fallback if current frame missing
     }
 
+    /**
+     * Get current animation frame as an atlas region (null if not built from an atlas)
+     */
+    public SpriteAtlas.Region getCurrentRegion() {
+        if (regions == null) {
+            return null;
+        }
+        if (regions[currentFrame] != null) {
+            return regions[currentFrame];
+        }
+        return fallbackRegion;
+    }
+
     /**
      * Check if sprite has valid frames loaded
      */
     public boolean hasSprite() {
-        return fallbackImage != null;
+        return fallbackImage != null || fallbackRegion != null;
     }
 
     /**
@@ -0,0 +1,160 @@
+package com.rpg.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ⏳ Asset Preloader - decodes sprites and sounds on background threads
+ *
+ * SpriteManager and SoundManager load lazily, so the first time something is
+ * drawn or played it is decoded on the FX thread (a visible hitch on the first
+ * battle or the first room). The preloader walks a manifest of what each screen
+ * needs and decodes it in parallel ahead of time, straight into the shared caches.
+ *
+ * USAGE:
+ * AssetPreloader.preload((loaded, total, asset) -> updateProgressBar(loaded, total),
+ *         AssetPreloader.Screen.TOWN, AssetPreloader.Screen.BATTLE);
+ * AssetPreloader.prefetch(AssetPreloader.Screen.BATTLE);   // fire and forget
+ *
+ * Screens whose assets aren't plain sprites/sounds (e.g. the dungeon atlas) add
+ * their own tasks with register(). Every asset is loaded at most once, no matter
+ * how many screens list it or how often preload() is called.
+ */
+public final class AssetPreloader {
+
+    /**
+     * Screens with a preload manifest
+     */
+    public enum Screen {
+        MAIN_MENU,
+        TOWN,
+        SHOP,
+        DUNGEON_ROOM,
+        BATTLE
+    }
+
+    /**
+     * Progress callback - called from the loader threads (or right away for assets
+     * that were already loaded), hop to the FX thread with Platform.runLater before
+     * touching the UI
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int loaded, int total, String asset);
+    }
+
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final Map<Screen, Map<String, Runnable>> manifest = new EnumMap<>(Screen.class);
+    private static final Map<String, CompletableFuture<Void>> started = new ConcurrentHashMap<>();
+    private static final ExecutorService executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "asset-preloader");
+        thread.setDaemon(true); // Never keeps the game from exiting
+        return thread;
+    });
+
+    static {
+        sprites(Screen.MAIN_MENU, "ui/main_menu",
+                "background", "button_normal", "button_hover", "title_banner", "frame");
+
+        sprites(Screen.TOWN, "ui/town_menu", "background", "header_bg", "menu_bg", "panel_frame");
+        for (String type : new String[]{"dungeon", "shop", "smith", "alchemy", "tavern",
+                "character", "save", "options", "exit"}) {
+            sprites(Screen.TOWN, "ui/town_menu", "button_" + type, "button_" + type + "_hover");
+        }
+
+        sprites(Screen.SHOP, "ui/shop", "background", "header_bg", "panel_bg",
+                "button_buy", "button_buy_hover", "button_back", "button_back_hover");
+
+        for (SoundManager.SoundEffect effect : SoundManager.SoundEffect.values()) {
+            register(Screen.BATTLE, "sounds/" + effect.getFilename(), () -> SoundManager.preload(effect));
+        }
+    }
+
+    private AssetPreloader() {
+    }
+
+    private static void sprites(Screen screen, String category, String... names) {
+        for (String name : names) {
+            register(screen, category + "/" + name, () -> SpriteManager.getSprite(category, name));
+        }
+    }
+
+    /**
+     * Add a task to a screen's manifest. {@code key} identifies the asset: tasks
+     * with the same key (even on different screens) run only once.
+     */
+    public static synchronized void register(Screen screen, String key, Runnable load) {
+        manifest.computeIfAbsent(screen, s -> new LinkedHashMap<>()).putIfAbsent(key, load);
+    }
+
+    /**
+     * Load every asset of the given screens on the background threads
+     *
+     * @param listener progress callback, may be null
+     * @return completes when all of them are loaded (already-loaded ones count immediately)
+     */
+    public static CompletableFuture<Void> preload(ProgressListener listener, Screen... screens) {
+        Map<String, Runnable> assets = manifestOf(screens);
+        int total = assets.size();
+        AtomicInteger loaded = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(total);
+        for (Map.Entry<String, Runnable> asset : assets.entrySet()) {
+            CompletableFuture<Void> future = started.computeIfAbsent(asset.getKey(),
+                    key -> CompletableFuture.runAsync(() -> load(key, asset.getValue()), executor));
+            if (listener != null) {
+                future = future.whenComplete((ignored, error) ->
+                        listener.onProgress(loaded.incrementAndGet(), total, asset.getKey()));
+            }
+            futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Start loading a screen's assets in the background without waiting
+     */
+    public static void prefetch(Screen... screens) {
+        preload(null, screens);
+    }
+
+    /**
+     * True once every asset of the screen has finished loading
+     */
+    public static boolean isPreloaded(Screen screen) {
+        for (String key : manifestOf(screen).keySet()) {
+            CompletableFuture<Void> future = started.get(key);
+            if (future == null || !future.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static synchronized Map<String, Runnable> manifestOf(Screen... screens) {
+        Map<String, Runnable> assets = new LinkedHashMap<>();
+        for (Screen screen : screens) {
+            assets.putAll(manifest.getOrDefault(screen, Collections.emptyMap()));
+        }
+        return assets;
+    }
+
+    private static void load(String key, Runnable load) {
+        try {
+            load.run();
+        } catch (RuntimeException e) {
+            // A broken asset only loses its preload; it falls back to lazy loading
+            System.err.println("⚠️ Preload failed for " + key + " - " + e.getMessage());
+        }
+    }
+}
@@ -19,7 +19,7 @@ public class BattleOneLiners {
     public static void displayNormalAttackOneLiner(Erou erou) {
         String[] lines = getNormalAttackLines(erou);
         if (lines != null && lines.length > 0) {
-            String randomLine = lines[(int)(Math.random() * lines.length)];
+            String randomLine = lines[GameRandom.cosmetic().nextInt(lines.length)];
             System.out.println("\n" + randomLine);
             pauseShort();
         }
@@ -62,7 +62,7 @@ public class BattleOneLiners {
     public static void displayDodgeOneLiner(Erou erou) {
         String[] lines = getDodgeLines(erou);
         if (lines != null && lines.length > 0) {
-            String randomLine = lines[(int)(Math.random() * lines.length)];
+            String randomLine = lines[GameRandom.cosmetic().nextInt(lines.length)];
             System.out.println("\n💨 " + randomLine);
             pauseShort();
         }
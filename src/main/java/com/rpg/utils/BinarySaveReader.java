@@ -0,0 +1,126 @@
+package com.rpg.utils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Reader pentru formatul scris de {@link BinarySaveWriter}.
+ */
+public class BinarySaveReader {
+
+    private final DataInputStream in;
+    private final List<String> stringTable = new ArrayList<>();
+
+    public BinarySaveReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    public int readVarInt() throws IOException {
+        int result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 28) {
+                throw new IOException("Varint corupt în salvare");
+            }
+            b = in.readUnsignedByte();
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return (result >>> 1) ^ -(result & 1);
+    }
+
+    public long readLong() throws IOException {
+        return in.readLong();
+    }
+
+    public double readDouble() throws IOException {
+        return in.readDouble();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return in.readBoolean();
+    }
+
+    public int readRawInt() throws IOException {
+        return in.readInt();
+    }
+
+    public String readString() throws IOException {
+        int tag = readVarInt();
+        if (tag == BinarySaveWriter.STRING_NULL) {
+            return null;
+        }
+        if (tag == BinarySaveWriter.STRING_LITERAL) {
+            String value = in.readUTF();
+            stringTable.add(value);
+            return value;
+        }
+
+        int index = tag - BinarySaveWriter.STRING_REF_BASE;
+        if (index < 0 || index >= stringTable.size()) {
+            throw new IOException("Referință string invalidă în salvare: " + index);
+        }
+        return stringTable.get(index);
+    }
+
+    /**
+     * Citește un enum după nume; constantele dispărute devin null
+     */
+    public <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+        String name = readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public Map<String, Integer> readIntMap() throws IOException {
+        int size = readVarInt();
+        Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readVarInt());
+        }
+        return map;
+    }
+
+    public Map<String, Double> readDoubleMap() throws IOException {
+        int size = readVarInt();
+        Map<String, Double> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readDouble());
+        }
+        return map;
+    }
+
+    public byte[] readBytes() throws IOException {
+        int length = readVarInt();
+        if (length < 0) {
+            throw new IOException("Lungime invalidă în salvare: " + length);
+        }
+        byte[] value = new byte[length];
+        in.readFully(value);
+        return value;
+    }
+
+    public <C extends Collection<String>> C readStrings(Supplier<C> factory) throws IOException {
+        int size = readVarInt();
+        C values = factory.get();
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+}
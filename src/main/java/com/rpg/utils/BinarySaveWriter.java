@@ -0,0 +1,133 @@
+package com.rpg.utils;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writer pentru formatul binar de salvare.
+ *
+ * Întregii sunt scriși ca varint, iar string-urile trec printr-un tabel de
+ * interning: prima apariție se scrie complet, următoarele doar ca index.
+ * Cheile repetate de statistici ("crit_chance", "damage_bonus"...) și numele
+ * de enum-uri ajung astfel la 1-2 bytes.
+ */
+public class BinarySaveWriter {
+
+    // 0 = null, 1 = string nou urmează, n >= 2 = index (n - 2) în tabel
+    static final int STRING_NULL = 0;
+    static final int STRING_LITERAL = 1;
+    static final int STRING_REF_BASE = 2;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> stringTable = new HashMap<>();
+    private final boolean journalMasked;
+
+    public BinarySaveWriter(OutputStream out) {
+        this(out, false);
+    }
+
+    /**
+     * @param journalMasked dacă e true, câmpurile urmărite de jurnalul de
+     *                      auto-save sunt omise - rezultatul descrie doar
+     *                      restul stării (vezi SaveJournal)
+     */
+    public BinarySaveWriter(OutputStream out, boolean journalMasked) {
+        this.out = new DataOutputStream(out);
+        this.journalMasked = journalMasked;
+    }
+
+    public boolean isJournalMasked() {
+        return journalMasked;
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        // ZigZag ca valorile negative mici să rămână scurte
+        int zigzag = (value << 1) ^ (value >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            out.writeByte((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.writeByte(zigzag);
+    }
+
+    /**
+     * Câmp urmărit de jurnal: în modul mascat se scrie mereu 0
+     */
+    public void writeJournaledVarInt(int value) throws IOException {
+        writeVarInt(journalMasked ? 0 : value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        out.writeLong(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        out.writeDouble(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        out.writeBoolean(value);
+    }
+
+    public void writeRawInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(STRING_NULL);
+            return;
+        }
+
+        Integer index = stringTable.get(value);
+        if (index != null) {
+            writeVarInt(STRING_REF_BASE + index);
+            return;
+        }
+
+        stringTable.put(value, stringTable.size());
+        writeVarInt(STRING_LITERAL);
+        out.writeUTF(value);
+    }
+
+    public void writeEnum(Enum<?> value) throws IOException {
+        // Numele (nu ordinalul) - reordonarea constantelor nu strică salvările
+        writeString(value != null ? value.name() : null);
+    }
+
+    public void writeIntMap(Map<String, Integer> map) throws IOException {
+        writeVarInt(map.size());
+        for (Map.Entry<String, Integer> entry : map.entrySet()) {
+            writeString(entry.getKey());
+            writeVarInt(entry.getValue());
+        }
+    }
+
+    public void writeDoubleMap(Map<String, Double> map) throws IOException {
+        writeVarInt(map.size());
+        for (Map.Entry<String, Double> entry : map.entrySet()) {
+            writeString(entry.getKey());
+            writeDouble(entry.getValue());
+        }
+    }
+
+    public void writeBytes(byte[] value) throws IOException {
+        writeVarInt(value.length);
+        out.write(value);
+    }
+
+    public void writeStrings(Collection<String> values) throws IOException {
+        writeVarInt(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
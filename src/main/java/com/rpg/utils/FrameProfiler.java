@@ -0,0 +1,306 @@
+package com.rpg.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ⏱️ Frame Profiler - per-subsystem timings for a game loop
+ *
+ * Each frame, the loop times its subsystems with System.nanoTime() and closes the
+ * frame with endFrame(). The profiler keeps the last WINDOW frames in ring buffers
+ * (frame time percentiles, average per section) and samples GC pauses and the
+ * loop thread's allocations through JMX. While recording, every frame is also kept
+ * in memory and written out as a CSV when recording stops.
+ *
+ * USAGE:
+ * FrameProfiler profiler = new FrameProfiler("ai", "render");
+ * long t = System.nanoTime();
+ * updateAI();
+ * t = profiler.lap(0, t);         // time since t goes to section 0, returns now
+ * render();
+ * profiler.lap(1, t);
+ * profiler.endFrame(frameNanos, workNanos);
+ *
+ * Nothing is allocated per frame (recording grows its buffer by doubling), so the
+ * allocation rate it reports is the loop's own.
+ */
+public final class FrameProfiler {
+
+    public static final int WINDOW = 600; // 10 seconds at 60 FPS
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final String[] sections;
+    private final long[] sectionNanos;          // Current frame
+    private final long[][] sectionWindow;       // [section][frame in window]
+    private final long[] frameWindow = new long[WINDOW];
+    private final long[] workWindow = new long[WINDOW];
+    private final long[] sortScratch = new long[WINDOW];
+    private int windowCount;
+    private int windowNext;
+    private long frames;
+
+    // JMX
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long[] gcCountWindow = new long[WINDOW];
+    private final long[] gcNanosWindow = new long[WINDOW];
+    private final long[] allocWindow = new long[WINDOW];
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastAllocatedBytes;
+
+    // Recording (one row of `columns` values per frame)
+    private final int columns;
+    private double[] recorded;
+    private int recordedRows;
+    private long recordingStart;
+
+    public FrameProfiler(String... sections) {
+        this.sections = sections.clone();
+        this.sectionNanos = new long[sections.length];
+        this.sectionWindow = new long[sections.length][WINDOW];
+        this.columns = 6 + sections.length;
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean candidate
+                && candidate.isThreadAllocatedMemorySupported()) {
+            candidate.setThreadAllocatedMemoryEnabled(true);
+            allocationBean = candidate;
+        }
+        this.threadBean = allocationBean;
+
+        lastGcCount = gcCount();
+        lastGcMillis = gcMillis();
+        lastAllocatedBytes = allocatedBytes();
+    }
+
+    /**
+     * Add the time since {@code startNanos} to a section of the current frame
+     *
+     * @return now, to chain into the next section
+     */
+    public long lap(int section, long startNanos) {
+        long now = System.nanoTime();
+        sectionNanos[section] += now - startNanos;
+        return now;
+    }
+
+    /**
+     * Close the frame
+     *
+     * @param frameNanos time since the previous frame (what the player sees)
+     * @param workNanos time the loop itself spent (update + render)
+     */
+    public void endFrame(long frameNanos, long workNanos) {
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long allocated = allocatedBytes();
+
+        int slot = windowNext;
+        frameWindow[slot] = frameNanos;
+        workWindow[slot] = workNanos;
+        gcCountWindow[slot] = gcCount - lastGcCount;
+        gcNanosWindow[slot] = (gcMillis - lastGcMillis) * 1_000_000L;
+        allocWindow[slot] = Math.max(0, allocated - lastAllocatedBytes);
+        for (int s = 0; s < sections.length; s++) {
+            sectionWindow[s][slot] = sectionNanos[s];
+        }
+
+        if (recorded != null) {
+            record(slot);
+        }
+
+        Arrays.fill(sectionNanos, 0);
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        lastAllocatedBytes = allocated;
+        windowNext = (windowNext + 1) % WINDOW;
+        windowCount = Math.min(windowCount + 1, WINDOW);
+        frames++;
+    }
+
+    // Window statistics
+
+    /**
+     * Frame time percentile over the window, in milliseconds
+     *
+     * @param percentile between 0 and 100
+     */
+    public double getFramePercentile(double percentile) {
+        return percentile(frameWindow, percentile);
+    }
+
+    /**
+     * Loop work (update + render) percentile over the window, in milliseconds
+     */
+    public double getWorkPercentile(double percentile) {
+        return percentile(workWindow, percentile);
+    }
+
+    /**
+     * Average time per frame spent in a section, in milliseconds
+     */
+    public double getSectionAverage(int section) {
+        return windowCount == 0 ? 0 : sum(sectionWindow[section]) / 1e6 / windowCount;
+    }
+
+    public long getGcCount() { return sum(gcCountWindow); }
+
+    public double getGcMillis() { return sum(gcNanosWindow) / 1e6; }
+
+    /**
+     * Allocation rate of the loop thread over the window, in MB per second
+     * (-1 if the JVM can't measure it)
+     */
+    public double getAllocationRate() {
+        long windowNanos = sum(frameWindow);
+        if (threadBean == null || windowNanos == 0) {
+            return -1;
+        }
+        return sum(allocWindow) / (1024.0 * 1024.0) / (windowNanos / 1e9);
+    }
+
+    public long getFrameCount() { return frames; }
+
+    public String[] getSections() { return sections.clone(); }
+
+    /**
+     * Overlay text: percentiles, per-section averages, GC and allocations
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "frame p50/p95/p99: %.1f / %.1f / %.1f ms | work %.2f / %.2f / %.2f ms",
+                getFramePercentile(50), getFramePercentile(95), getFramePercentile(99),
+                getWorkPercentile(50), getWorkPercentile(95), getWorkPercentile(99)));
+        for (int s = 0; s < sections.length; s++) {
+            summary.append(s % 4 == 0 ? "\n" : " | ");
+            summary.append(String.format(Locale.ROOT, "%s %.2f ms", sections[s], getSectionAverage(s)));
+        }
+        double allocationRate = getAllocationRate();
+        summary.append(String.format(Locale.ROOT, "%nGC: %d pauses, %.0f ms (last %d frames) | alloc %s",
+                getGcCount(), getGcMillis(), windowCount,
+                allocationRate < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f MB/s", allocationRate)));
+        if (recorded != null) {
+            summary.append(String.format(Locale.ROOT, "%n● recording: %d frames", recordedRows));
+        }
+        return summary.toString();
+    }
+
+    // Recording
+
+    public boolean isRecording() {
+        return recorded != null;
+    }
+
+    public void startRecording() {
+        recorded = new double[columns * WINDOW];
+        recordedRows = 0;
+        recordingStart = System.nanoTime();
+    }
+
+    /**
+     * Stop recording and write every recorded frame to a CSV in {@code directory}
+     *
+     * @return the file written
+     */
+    public Path stopRecording(Path directory, String name) throws IOException {
+        double[] rows = recorded;
+        int rowCount = recordedRows;
+        recorded = null;
+        recordedRows = 0;
+        if (rows == null) {
+            throw new IllegalStateException("Not recording");
+        }
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve(name + "_" + LocalDateTime.now().format(FILE_STAMP) + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("frame,time_ms,frame_ms,work_ms");
+            for (String section : sections) {
+                writer.write("," + section + "_ms");
+            }
+            writer.write(",gc_count,gc_ms,alloc_kb");
+            writer.newLine();
+
+            for (int row = 0; row < rowCount; row++) {
+                int base = row * columns;
+                writer.write(String.format(Locale.ROOT, "%d,%.3f,%.3f,%.3f",
+                        row, rows[base], rows[base + 1], rows[base + 2]));
+                for (int s = 0; s < sections.length; s++) {
+                    writer.write(String.format(Locale.ROOT, ",%.3f", rows[base + 3 + s]));
+                }
+                int tail = base + 3 + sections.length;
+                writer.write(String.format(Locale.ROOT, ",%d,%.3f,%.1f",
+                        (long) rows[tail], rows[tail + 1], rows[tail + 2] / 1024.0));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    private void record(int slot) {
+        if ((recordedRows + 1) * columns > recorded.length) {
+            recorded = Arrays.copyOf(recorded, recorded.length * 2);
+        }
+        int base = recordedRows * columns;
+        recorded[base] = (System.nanoTime() - recordingStart) / 1e6;
+        recorded[base + 1] = frameWindow[slot] / 1e6;
+        recorded[base + 2] = workWindow[slot] / 1e6;
+        for (int s = 0; s < sections.length; s++) {
+            recorded[base + 3 + s] = sectionWindow[s][slot] / 1e6;
+        }
+        int tail = base + 3 + sections.length;
+        recorded[tail] = gcCountWindow[slot];
+        recorded[tail + 1] = gcNanosWindow[slot] / 1e6;
+        recorded[tail + 2] = allocWindow[slot];
+        recordedRows++;
+    }
+
+    private double percentile(long[] window, double percentile) {
+        if (windowCount == 0) {
+            return 0;
+        }
+        System.arraycopy(window, 0, sortScratch, 0, windowCount);
+        Arrays.sort(sortScratch, 0, windowCount);
+        int rank = (int) Math.ceil(windowCount * percentile / 100.0);
+        return sortScratch[Math.max(0, Math.min(windowCount - 1, rank - 1))] / 1e6;
+    }
+
+    private long sum(long[] window) {
+        long total = 0;
+        for (int i = 0; i < windowCount; i++) {
+            total += window[i];
+        }
+        return total;
+    }
+
+    private long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            millis += Math.max(0, bean.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private long allocatedBytes() {
+        return threadBean != null ? threadBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+}
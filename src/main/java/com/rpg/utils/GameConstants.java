@@ -121,11 +121,10 @@ public class GameConstants {
 
         // Adaugă variație ±15% (reduced from 20% for more consistency)
         int variation = (int)(baseDamage * 0.15);
-        java.util.Random random = new java.util.Random();
         int minDamage = baseDamage - variation;
         int maxDamage = baseDamage + variation;
 
-        return random.nextInt(maxDamage - minDamage + 1) + minDamage;
+        return GameRandom.map().nextInt(maxDamage - minDamage + 1) + minDamage;
     }
 
     /**
@@ -0,0 +1,135 @@
+package com.rpg.utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sursa de random a jocului, împărțită pe subsisteme.
+ *
+ * Fiecare subsistem (loot, luptă, hartă, cosmetic) are propriul stream, derivat
+ * din seed-ul run-ului. Așa, o animație sau un drop în plus nu mută rezultatele
+ * din celelalte subsisteme, iar un run cu același seed se poate reface.
+ *
+ * O instanță cu seed nu e thread-safe: aparține thread-ului pe care a fost
+ * legată cu {@link #bind(GameRandom)}. Thread-urile fără instanță legată
+ * folosesc ThreadLocalRandom, fără seed și fără lock-uri, ca înainte.
+ * Simulările paralele leagă câte o instanță pe fiecare worker, obținută cu
+ * {@link #split()}.
+ */
+public final class GameRandom {
+
+    public enum Stream {
+        // Iteme, jewels, drop-uri, magazine
+        LOOT,
+        // Aruncările din luptă: damage, crit, dodge, abilități inamice
+        COMBAT,
+        // Layout-ul dungeon-ului, conținutul camerelor și inamicii generați
+        MAP,
+        // Efecte vizuale și texte; nu influențează starea jocului
+        COSMETIC
+    }
+
+    private static final GameRandom UNSEEDED = new GameRandom();
+    private static final ThreadLocal<GameRandom> CURRENT = new ThreadLocal<>();
+
+    private final long seed;
+    private final boolean seeded;
+    private final Map<Stream, RandomGenerator> streams = new EnumMap<>(Stream.class);
+    private final SplittableRandom splitter;
+
+    private GameRandom() {
+        this.seed = 0;
+        this.seeded = false;
+        this.splitter = null;
+    }
+
+    private GameRandom(long seed) {
+        this.seed = seed;
+        this.seeded = true;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams.put(stream, root.split());
+        }
+        this.splitter = root.split();
+    }
+
+    /**
+     * Instanță nouă, cu toate stream-urile derivate din seed
+     */
+    public static GameRandom seeded(long seed) {
+        return new GameRandom(seed);
+    }
+
+    /**
+     * Seed pentru un run nou. Cu -Drpg.seed=N se poate reface un run anume.
+     */
+    public static long newRunSeed() {
+        Long fixed = Long.getLong("rpg.seed");
+        return fixed != null ? fixed : ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Instanță independentă pentru alt thread (worker de simulare). Copiii
+     * unei instanțe cu seed sunt deterministi, în ordinea în care sunt creați.
+     */
+    public GameRandom split() {
+        return seeded ? new GameRandom(splitter.nextLong()) : UNSEEDED;
+    }
+
+    public RandomGenerator stream(Stream stream) {
+        return seeded ? streams.get(stream) : ThreadLocalRandom.current();
+    }
+
+    public boolean isSeeded() { return seeded; }
+
+    public long getSeed() { return seed; }
+
+    // ==================== LEGAREA DE THREAD ====================
+
+    /**
+     * Instanța thread-ului curent, sau cea fără seed
+     */
+    public static GameRandom current() {
+        GameRandom bound = CURRENT.get();
+        return bound != null ? bound : UNSEEDED;
+    }
+
+    /**
+     * Leagă instanța de thread-ul curent; null revine la random fără seed
+     */
+    public static void bind(GameRandom random) {
+        if (random == null || !random.seeded) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(random);
+        }
+    }
+
+    /**
+     * Rulează acțiunea cu instanța dată legată de thread, apoi o reface pe cea veche
+     */
+    public static <T> T callWith(GameRandom random, Supplier<T> action) {
+        GameRandom previous = CURRENT.get();
+        bind(random);
+        try {
+            return action.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    // Stream-urile instanței curente. Se cer la fiecare folosire, nu se țin în câmpuri
+    // statice, ca fiecare thread să-și primească propriul stream.
+
+    public static RandomGenerator loot() { return current().stream(Stream.LOOT); }
+
+    public static RandomGenerator combat() { return current().stream(Stream.COMBAT); }
+
+    public static RandomGenerator map() { return current().stream(Stream.MAP); }
+
+    public static RandomGenerator cosmetic() { return current().stream(Stream.COSMETIC); }
+}
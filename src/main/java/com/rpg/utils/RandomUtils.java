@@ -1,36 +1,36 @@
 package com.rpg.utils;
 
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
- * Utilități pentru generare de valori random
+ * Utilități pentru generare de valori random.
+ *
+ * Nu țin niciun generator: fiecare apel primește stream-ul subsistemului
+ * (vezi {@link GameRandom}), de exemplu {@code RandomUtils.randomInt(GameRandom.loot(), 1, 5)}.
  */
 public class RandomUtils {
 
-    private static final Random random = new Random();
-
     /**
      * Returnează true cu o anumită probabilitate (0-100%)
      */
-    public static boolean chancePercent(double percent) {
+    public static boolean chancePercent(RandomGenerator random, double percent) {
         return random.nextDouble() * 100 < percent;
     }
 
     /**
      * Verifică că randomInt funcționează corect
      */
-    public static int randomInt(int min, int max) {
+    public static int randomInt(RandomGenerator random, int min, int max) {
         if (min > max) {
             throw new IllegalArgumentException("Min nu poate fi mai mare decât max!");
         }
-        java.util.Random random = new java.util.Random();
         return random.nextInt((max - min) + 1) + min;
     }
     /**
      * Returnează un element random dintr-o listă
      */
-    public static <T> T randomElement(List<T> list) {
+    public static <T> T randomElement(RandomGenerator random, List<T> list) {
         if (list == null || list.isEmpty()) {
             return null;
         }
@@ -40,46 +40,56 @@ public class RandomUtils {
     /**
      * Returnează un element aleatoriu dintr-un array
      */
-    public static <T> T randomElement(T[] array) {
+    public static <T> T randomElement(RandomGenerator random, T[] array) {
         if (array == null || array.length == 0) {
             return null;
         }
-        int index = randomInt(0, array.length - 1);
+        int index = randomInt(random, 0, array.length - 1);
         return array[index];
     }
 
     /**
      * Overload special pentru String[][]
      */
-    public static String[] randomElement(String[][] array) {
+    public static String[] randomElement(RandomGenerator random, String[][] array) {
         if (array == null || array.length == 0) {
             return new String[]{"Default Enemy", "👹", "physical", "magical"};
         }
-        int index = randomInt(0, array.length - 1);
+        int index = randomInt(random, 0, array.length - 1);
         return array[index];
     }
     /**
      * Returnează true/false random
      */
-    public static boolean randomBoolean() {
+    public static boolean randomBoolean(RandomGenerator random) {
         return random.nextBoolean();
     }
 
     /**
      * Returnează un double random între 0.0 și 1.0
      */
-    public static double randomDouble() {
+    public static double randomDouble(RandomGenerator random) {
         return random.nextDouble();
     }
 
-    public static int applyRandomVariation(int baseValue, int variationPercent) {
+    /**
+     * Amestecă lista pe loc (Fisher-Yates). Collections.shuffle ar folosi
+     * un Random global, în afara stream-ului dat
+     */
+    public static void shuffle(RandomGenerator random, List<?> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            java.util.Collections.swap(list, i, random.nextInt(i + 1));
+        }
+    }
+
+    public static int applyRandomVariation(RandomGenerator random, int baseValue, int variationPercent) {
         if (baseValue <= 0) return baseValue;  // Nu modifica dacă e deja 0
 
         double variation = baseValue * (variationPercent / 100.0);
         int minValue = (int)(baseValue - variation);
         int maxValue = (int)(baseValue + variation);
 
-        int result = randomInt(Math.max(1, minValue), maxValue);  // MINIMUM 1!
+        int result = randomInt(random, Math.max(1, minValue), maxValue);  // MINIMUM 1!
         return result;
     }
 
@@ -0,0 +1,264 @@
+package com.rpg.utils;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 🗄️ Resource Cache - bounded, thread-safe cache for sprites, sounds and other assets
+ *
+ * HOW IT WORKS:
+ * - Every entry has a size in bytes (given by the weigher, e.g. width*height*4 for images)
+ * - Entries are kept strongly up to maxBytes; past that the least recently used are evicted
+ * - Evicted entries drop to a soft reference, so they come back for free unless the
+ *   GC needed the memory (counted as a "soft hit")
+ * - Resources that don't exist are remembered by key only, not as null values
+ * - Loads happen outside the lock; threads asking for a key that is already loading
+ *   wait for that load instead of starting another (background preloading is safe)
+ *
+ * EXAMPLE:
+ * ResourceCache<String, Image> cache = new ResourceCache<>("Sprites", 64 * 1024 * 1024,
+ *         img -> (long) img.getWidth() * (long) img.getHeight() * 4);
+ * Image image = cache.getOrLoad("tiles/floor", key -> loadFromDisk(key));
+ */
+public class ResourceCache<K, V> {
+
+    private final String name;
+    private final ToLongFunction<? super V> weigher;
+    private long maxBytes;
+
+    private final LinkedHashMap<K, Entry<V>> strong = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, SoftEntry<K, V>> soft = new HashMap<>();
+    private final ReferenceQueue<V> collected = new ReferenceQueue<>();
+    private final Set<K> missing = new HashSet<>();
+    private final Map<K, FutureTask<V>> loading = new HashMap<>();
+    private long currentBytes;
+
+    // Metrics
+    private long hits;
+    private long softHits;
+    private long misses;
+    private long missingHits;
+    private long evictions;
+
+    public ResourceCache(String name, long maxBytes, ToLongFunction<? super V> weigher) {
+        this.name = name;
+        this.maxBytes = maxBytes;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Get a cached value, or load it with {@code loader} (which may return null
+     * for "doesn't exist"; that is remembered until {@link #clear()})
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        FutureTask<V> task;
+        boolean owner = false;
+        synchronized (this) {
+            V cached = lookup(key);
+            if (cached != null) {
+                return cached;
+            }
+            if (missing.contains(key)) {
+                missingHits++;
+                return null;
+            }
+            task = loading.get(key);
+            if (task == null) {
+                task = new FutureTask<>(() -> loader.apply(key));
+                loading.put(key, task);
+                owner = true;
+                misses++;
+            }
+        }
+
+        if (owner) {
+            task.run();
+        }
+
+        V value;
+        try {
+            value = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            System.err.println("⚠️ " + name + ": failed to load " + key + " - " + e.getCause());
+            value = null;
+        }
+
+        if (owner) {
+            synchronized (this) {
+                loading.remove(key);
+                if (value != null) {
+                    store(key, value);
+                } else {
+                    missing.add(key);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Cached value or null, without loading
+     */
+    public synchronized V getIfPresent(K key) {
+        return lookup(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        if (value == null) {
+            remove(key);
+            missing.add(key);
+            return;
+        }
+        missing.remove(key);
+        store(key, value);
+    }
+
+    public synchronized boolean contains(K key) {
+        drainCollected();
+        return strong.containsKey(key) || soft.containsKey(key);
+    }
+
+    public synchronized void remove(K key) {
+        Entry<V> entry = strong.remove(key);
+        if (entry != null) {
+            currentBytes -= entry.bytes;
+        }
+        soft.remove(key);
+        missing.remove(key);
+    }
+
+    /**
+     * Drop everything, including remembered missing resources (hot-reloading)
+     */
+    public synchronized void clear() {
+        strong.clear();
+        soft.clear();
+        missing.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Change the budget; shrinking evicts right away
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        evictOverBudget();
+    }
+
+    private V lookup(K key) {
+        Entry<V> entry = strong.get(key); // Moves it to most recently used
+        if (entry != null) {
+            hits++;
+            return entry.value;
+        }
+
+        drainCollected();
+        SoftEntry<K, V> softEntry = soft.remove(key);
+        if (softEntry != null) {
+            V value = softEntry.get();
+            if (value != null) {
+                softHits++;
+                store(key, value);
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private void store(K key, V value) {
+        long bytes = Math.max(0, weigher.applyAsLong(value));
+        Entry<V> previous = strong.remove(key);
+        if (previous != null) {
+            currentBytes -= previous.bytes;
+        }
+        soft.remove(key);
+
+        if (bytes > maxBytes) {
+            // Bigger than the whole budget - only keep it softly
+            soft.put(key, new SoftEntry<>(key, value, collected));
+            return;
+        }
+        strong.put(key, new Entry<>(value, bytes));
+        currentBytes += bytes;
+        evictOverBudget();
+    }
+
+    private void evictOverBudget() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = strong.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<K, Entry<V>> next = eldest.next();
+            eldest.remove();
+            currentBytes -= next.getValue().bytes;
+            soft.put(next.getKey(), new SoftEntry<>(next.getKey(), next.getValue().value, collected));
+            evictions++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainCollected() {
+        SoftEntry<K, V> cleared;
+        while ((cleared = (SoftEntry<K, V>) collected.poll()) != null) {
+            // Only drop the mapping if it still points at the collected reference
+            soft.remove(cleared.key, cleared);
+        }
+    }
+
+    // Metrics
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getSoftHits() { return softHits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+    public synchronized long getCurrentBytes() { return currentBytes; }
+    public synchronized long getMaxBytes() { return maxBytes; }
+    public synchronized int getStrongCount() { return strong.size(); }
+
+    public synchronized int getSoftCount() {
+        drainCollected();
+        return soft.size();
+    }
+
+    public synchronized int getMissingCount() { return missing.size(); }
+
+    public synchronized String getStats() {
+        drainCollected();
+        long lookups = hits + softHits + misses + missingHits;
+        return String.format("%s: %d loaded (%.1f / %.1f MB) + %d soft | Missing: %d | "
+                        + "hits %d, soft hits %d, misses %d, evictions %d (hit rate %.0f%%)",
+                name, strong.size(), currentBytes / (1024.0 * 1024.0), maxBytes / (1024.0 * 1024.0),
+                soft.size(), missing.size(), hits + missingHits, softHits, misses, evictions,
+                lookups > 0 ? (hits + softHits + missingHits) * 100.0 / lookups : 0.0);
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long bytes;
+
+        Entry(V value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class SoftEntry<K, V> extends SoftReference<V> {
+        final K key;
+
+        SoftEntry(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
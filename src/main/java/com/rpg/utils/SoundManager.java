@@ -1,9 +1,15 @@
 package com.rpg.utils;
 
 import javafx.scene.media.AudioClip;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.HashMap;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Sound manager for playing battle sound effects
@@ -11,7 +17,12 @@ import java.util.Map;
  */
 public class SoundManager {
 
-    private static final Map<SoundEffect, AudioClip> soundCache = new HashMap<>();
+    // AudioClip doesn't report its size; the .wav file size is close to the decoded PCM
+    private static final long CACHE_BUDGET_BYTES = 16L * 1024 * 1024;
+    private static final ResourceCache<SoundEffect, AudioClip> soundCache = new ResourceCache<>(
+            "Sounds", CACHE_BUDGET_BYTES, SoundManager::clipBytes);
+    // File size per clip source, measured by the loader (the weigher runs under the cache lock)
+    private static final Map<String, Long> clipSizes = new ConcurrentHashMap<>();
     private static boolean muted = false;
     private static double volume = 0.5; // Default 50% volume
 
@@ -105,30 +116,50 @@ public class SoundManager {
      * Get or load sound from cache
      */
     private static AudioClip getOrLoadSound(SoundEffect effect) {
-        if (soundCache.containsKey(effect)) {
-            return soundCache.get(effect);
-        }
+        // Missing files are remembered by the cache to avoid repeated lookups
+        return soundCache.getOrLoad(effect, SoundManager::loadSound);
+    }
 
+    private static AudioClip loadSound(SoundEffect effect) {
         try {
             // Try to load from resources
             URL soundURL = SoundManager.class.getResource("/sounds/" + effect.getFilename());
 
             if (soundURL == null) {
-                // Sound file not found, cache null to avoid repeated lookups
-                soundCache.put(effect, null);
-                return null;
+                return null; // Sound file not found
             }
 
             AudioClip clip = new AudioClip(soundURL.toExternalForm());
-            soundCache.put(effect, clip);
+            clipSizes.put(clip.getSource(), fileSize(soundURL));
             return clip;
         } catch (Exception e) {
             System.err.println("Failed to load sound: " + effect.getFilename() + " - " + e.getMessage());
-            soundCache.put(effect, null);
             return null;
         }
     }
 
+    private static long clipBytes(AudioClip clip) {
+        return clipSizes.getOrDefault(clip.getSource(), 0L);
+    }
+
+    private static long fileSize(URL url) {
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return Files.size(Path.of(url.toURI()));
+            }
+            // Inside the jar: the entry's length, closing the stream the connection opens
+            URLConnection connection = url.openConnection();
+            InputStream stream = connection.getInputStream();
+            try {
+                return Math.max(0, connection.getContentLengthLong());
+            } finally {
+                stream.close();
+            }
+        } catch (IOException | URISyntaxException e) {
+            return 0;
+        }
+    }
+
     /**
      * Set master volume (0.0 to 1.0)
      */
@@ -178,6 +209,20 @@ public class SoundManager {
         soundCache.clear();
     }
 
+    /**
+     * Get cache statistics (size, hits, misses, evictions)
+     */
+    public static String getCacheStats() {
+        return soundCache.getStats();
+    }
+
+    /**
+     * Load a sound into the cache without playing it (safe from background threads)
+     */
+    public static void preload(SoundEffect effect) {
+        getOrLoadSound(effect);
+    }
+
     /**
      * Preload common sounds for faster playback
      */
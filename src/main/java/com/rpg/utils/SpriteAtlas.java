@@ -0,0 +1,279 @@
+package com.rpg.utils;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🧩 Sprite Atlas - packs many small sprites into a few large textures
+ *
+ * Instead of one Image per sprite (and one WritableImage per spritesheet frame),
+ * every sprite is copied once into a shared page and drawn with a source
+ * rectangle. Consecutive draws from the same page don't switch textures, and a
+ * frame is no longer a second copy of its spritesheet.
+ *
+ * USAGE:
+ * SpriteAtlas atlas = new SpriteAtlas.Builder()
+ *     .add("tiles/floor", floorImage)
+ *     .addFrames("player/walk_down", sheet, 64, 64, 8)
+ *     .build();
+ * atlas.get("tiles/floor").draw(gc, x, y, 64, 64);
+ * atlas.get("player/walk_down#3")    // frame 3
+ *
+ * Regions are packed in shelves (tallest first) with a 1 px border that repeats
+ * the sprite's edge pixels, so scaled or tiled sprites don't pick up their
+ * neighbours' colors when smoothed.
+ */
+public class SpriteAtlas {
+
+    public static final int PAGE_SIZE = 1024;
+    private static final int PADDING = 1;
+
+    private final Map<String, Region> regions;
+    private final List<WritableImage> pages;
+    private final long sourcePixels;
+
+    private SpriteAtlas(Map<String, Region> regions, List<WritableImage> pages, long sourcePixels) {
+        this.regions = regions;
+        this.pages = pages;
+        this.sourcePixels = sourcePixels;
+    }
+
+    /**
+     * Region for a sprite, or null if it wasn't packed (use fallback rendering)
+     */
+    public Region get(String key) {
+        return regions.get(key);
+    }
+
+    /**
+     * The frames added with {@link Builder#addFrames}, missing ones as null
+     */
+    public Region[] getFrames(String key, int frameCount) {
+        Region[] frames = new Region[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = regions.get(frameKey(key, i));
+        }
+        return frames;
+    }
+
+    public boolean has(String key) {
+        return regions.containsKey(key);
+    }
+
+    public int getRegionCount() { return regions.size(); }
+
+    public int getPageCount() { return pages.size(); }
+
+    /**
+     * Texture memory of the pages, in bytes (4 bytes per pixel)
+     */
+    public long getPageBytes() {
+        long bytes = 0;
+        for (WritableImage page : pages) {
+            bytes += (long) page.getWidth() * (long) page.getHeight() * 4;
+        }
+        return bytes;
+    }
+
+    /**
+     * Memory the same sprites took as separate images (sheets plus extracted frames)
+     */
+    public long getSourceBytes() { return sourcePixels * 4; }
+
+    public String getStats() {
+        return String.format("Atlas: %d sprites in %d page(s), %d KB (separate images: %d KB)",
+                getRegionCount(), getPageCount(), getPageBytes() / 1024, getSourceBytes() / 1024);
+    }
+
+    static String frameKey(String key, int frame) {
+        return key + "#" + frame;
+    }
+
+    /**
+     * A sprite's rectangle inside an atlas page
+     */
+    public static final class Region {
+        private final Image page;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        Region(Image page, int x, int y, int width, int height) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Draw the sprite scaled into the destination rectangle
+         */
+        public void draw(GraphicsContext gc, double dx, double dy, double dw, double dh) {
+            gc.drawImage(page, x, y, width, height, dx, dy, dw, dh);
+        }
+
+        public Image getPage() { return page; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    /**
+     * Collects sprites, then packs them all at once
+     */
+    public static class Builder {
+        private final List<Entry> entries = new ArrayList<>();
+        private long sourcePixels;
+
+        /**
+         * Add a whole image (ignored if null, so missing sprites just fall back)
+         */
+        public Builder add(String key, Image image) {
+            if (image != null && image.getPixelReader() != null) {
+                entries.add(new Entry(key, image.getPixelReader(), 0, 0,
+                        (int) image.getWidth(), (int) image.getHeight()));
+                sourcePixels += (long) image.getWidth() * (long) image.getHeight();
+            }
+            return this;
+        }
+
+        /**
+         * Add the frames of a single-row spritesheet as key#0, key#1, ...
+         */
+        public Builder addFrames(String key, Image sheet, int frameWidth, int frameHeight, int frameCount) {
+            if (sheet == null || sheet.getPixelReader() == null) {
+                return this;
+            }
+            int columns = (int) sheet.getWidth() / frameWidth;
+            int rows = (int) sheet.getHeight() / frameHeight;
+            int frames = Math.min(frameCount, columns * rows);
+            for (int i = 0; i < frames; i++) {
+                entries.add(new Entry(frameKey(key, i), sheet.getPixelReader(),
+                        (i % columns) * frameWidth, (i / columns) * frameHeight, frameWidth, frameHeight));
+            }
+            // Before, both the sheet and a WritableImage per frame stayed in memory
+            sourcePixels += (long) sheet.getWidth() * (long) sheet.getHeight()
+                    + (long) frames * frameWidth * frameHeight;
+            return this;
+        }
+
+        public SpriteAtlas build() {
+            List<Entry> sorted = new ArrayList<>(entries);
+            Collections.sort(sorted, (a, b) -> Integer.compare(b.height, a.height));
+
+            // Shelf packing: fill rows left to right, start a new row (or page) when full
+            List<int[]> pageSizes = new ArrayList<>();
+            int page = -1;
+            int shelfX = 0;
+            int shelfY = 0;
+            int shelfHeight = 0;
+            for (Entry entry : sorted) {
+                int width = entry.width + PADDING * 2;
+                int height = entry.height + PADDING * 2;
+
+                if (width > PAGE_SIZE || height > PAGE_SIZE) {
+                    // Too big to share a page - it gets its own
+                    pageSizes.add(new int[]{width, height});
+                    entry.page = pageSizes.size() - 1;
+                    entry.atlasX = PADDING;
+                    entry.atlasY = PADDING;
+                    continue;
+                }
+                if (page >= 0 && shelfX + width > PAGE_SIZE) {
+                    shelfY += shelfHeight;
+                    shelfX = 0;
+                    shelfHeight = 0;
+                }
+                if (page < 0 || shelfY + height > PAGE_SIZE) {
+                    pageSizes.add(new int[]{0, 0});
+                    page = pageSizes.size() - 1;
+                    shelfX = 0;
+                    shelfY = 0;
+                    shelfHeight = 0;
+                }
+
+                entry.page = page;
+                entry.atlasX = shelfX + PADDING;
+                entry.atlasY = shelfY + PADDING;
+                shelfX += width;
+                shelfHeight = Math.max(shelfHeight, height);
+
+                int[] size = pageSizes.get(page);
+                size[0] = Math.max(size[0], shelfX);
+                size[1] = Math.max(size[1], shelfY + shelfHeight);
+            }
+
+            List<WritableImage> pages = new ArrayList<>();
+            for (int[] size : pageSizes) {
+                pages.add(new WritableImage(Math.max(1, size[0]), Math.max(1, size[1])));
+            }
+
+            Map<String, Region> regions = new HashMap<>();
+            for (Entry entry : sorted) {
+                WritableImage target = pages.get(entry.page);
+                copyExtruded(entry, target.getPixelWriter());
+                regions.put(entry.key, new Region(target, entry.atlasX, entry.atlasY, entry.width, entry.height));
+            }
+
+            return new SpriteAtlas(regions, pages, sourcePixels);
+        }
+
+        /**
+         * Copy the sprite and repeat its outermost pixels into the padding
+         */
+        private static void copyExtruded(Entry entry, PixelWriter writer) {
+            PixelReader reader = entry.reader;
+            int x = entry.atlasX;
+            int y = entry.atlasY;
+            int w = entry.width;
+            int h = entry.height;
+            int sx = entry.sourceX;
+            int sy = entry.sourceY;
+
+            writer.setPixels(x, y, w, h, reader, sx, sy);
+
+            writer.setPixels(x, y - 1, w, 1, reader, sx, sy);              // Top edge
+            writer.setPixels(x, y + h, w, 1, reader, sx, sy + h - 1);      // Bottom edge
+            writer.setPixels(x - 1, y, 1, h, reader, sx, sy);              // Left edge
+            writer.setPixels(x + w, y, 1, h, reader, sx + w - 1, sy);      // Right edge
+
+            writer.setArgb(x - 1, y - 1, reader.getArgb(sx, sy));
+            writer.setArgb(x + w, y - 1, reader.getArgb(sx + w - 1, sy));
+            writer.setArgb(x - 1, y + h, reader.getArgb(sx, sy + h - 1));
+            writer.setArgb(x + w, y + h, reader.getArgb(sx + w - 1, sy + h - 1));
+        }
+    }
+
+    private static final class Entry {
+        final String key;
+        final PixelReader reader;
+        final int sourceX;
+        final int sourceY;
+        final int width;
+        final int height;
+        int page;
+        int atlasX;
+        int atlasY;
+
+        Entry(String key, PixelReader reader, int sourceX, int sourceY, int width, int height) {
+            this.key = key;
+            this.reader = reader;
+            this.sourceX = sourceX;
+            this.sourceY = sourceY;
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
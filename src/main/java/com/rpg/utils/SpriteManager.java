@@ -1,10 +1,7 @@
 package com.rpg.utils;
 
 import javafx.scene.image.Image;
-import java.io.File;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * 🎨 Sprite Manager - Loads and caches sprites for the game
@@ -15,9 +12,10 @@ import java.util.Map;
  * 3. Use getSprite(category, name) to load sprites
  *
  * AUTOMATIC FEATURES:
- * - Caches loaded sprites (loads once, reuses)
+ * - Caches loaded sprites in a bounded ResourceCache (64 MB, least recently used evicted)
  * - Returns null if sprite not found (use fallback rendering)
  * - Supports PNG, JPG, GIF
+ * - Safe to call from background threads (preloading)
  *
  * EXAMPLE STRUCTURE:
  * resources/
@@ -44,7 +42,9 @@ import java.util.Map;
 public class SpriteManager {
 
     private static final String SPRITE_BASE_PATH = "/sprites/";
-    private static final Map<String, Image> spriteCache = new HashMap<>();
+    private static final long CACHE_BUDGET_BYTES = 64L * 1024 * 1024;
+    private static final ResourceCache<String, Image> spriteCache = new ResourceCache<>(
+            "Sprites", CACHE_BUDGET_BYTES, SpriteManager::imageBytes);
 
     /**
      * Load a sprite by category and name
@@ -54,20 +54,25 @@ public class SpriteManager {
      * @return Image or null if not found
      */
     public static Image getSprite(String category, String name) {
-        String key = category + "/" + name;
-
-        // Check cache first
-        if (spriteCache.containsKey(key)) {
-            return spriteCache.get(key);
-        }
-
-        // Try loading sprite
-        Image sprite = loadSprite(category, name);
+        // Missing sprites are remembered too, so we don't keep trying to load them
+        return spriteCache.getOrLoad(category + "/" + name, key -> loadSprite(category, name));
+    }
 
-        // Cache result (even if null, so we don't keep trying to load missing sprites)
-        spriteCache.put(key, sprite);
+    /**
+     * Decoded size of an image (4 bytes per pixel)
+     */
+    static long imageBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
 
-        return sprite;
+    /**
+     * Load a sprite without caching it - for images that are copied somewhere
+     * else (e.g. into a SpriteAtlas) and shouldn't stay in memory twice
+     *
+     * @return Image or null if not found
+     */
+    public static Image loadUncached(String category, String name) {
+        return loadSprite(category, name);
     }
 
     /**
@@ -121,11 +126,16 @@ public class SpriteManager {
     }
 
     /**
-     * Get cache statistics
+     * Change the cache budget (bytes of decoded pixels)
+     */
+    public static void setCacheBudget(long maxBytes) {
+        spriteCache.setMaxBytes(maxBytes);
+    }
+
+    /**
+     * Get cache statistics (size, hits, misses, evictions)
      */
     public static String getCacheStats() {
-        long loadedCount = spriteCache.values().stream().filter(img -> img != null).count();
-        long missingCount = spriteCache.size() - loadedCount;
-        return String.format("Sprites loaded: %d | Missing: %d", loadedCount, missingCount);
+        return spriteCache.getStats();
     }
 }
@@ -0,0 +1,139 @@
+package com.rpg.utils;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Alegere ponderată în timp constant (metoda alias a lui Walker).
+ *
+ * Tabela se construiește o singură dată din ponderi; o aruncare costă apoi un
+ * nextInt, un nextDouble și două citiri din array, oricâte valori ar fi, fără
+ * alocări. Instanțele sunt imutabile, deci pot fi folosite din mai multe
+ * thread-uri, fiecare cu stream-ul lui de random.
+ *
+ * Exemplu:
+ * WeightedSampler<Raritate> rarity = new WeightedSampler<>(
+ *         new Raritate[]{Raritate.COMMON, Raritate.RARE}, new double[]{80, 20});
+ * Raritate r = rarity.sample(GameRandom.loot());
+ */
+public final class WeightedSampler<T> {
+
+    private final T[] values;
+    private final double[] weights;
+    private final double[] probability; // Șansa de a rămâne pe coloana i
+    private final int[] alias;          // Altfel, valoarea cu care e completată coloana
+
+    public WeightedSampler(T[] values, double[] weights) {
+        if (values.length == 0 || values.length != weights.length) {
+            throw new IllegalArgumentException("Valorile și ponderile trebuie să aibă aceeași lungime, nenulă");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Pondere invalidă: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Cel puțin o pondere trebuie să fie pozitivă");
+        }
+
+        int n = values.length;
+        this.values = values.clone();
+        this.weights = weights.clone();
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Ponderile scalate la media 1: coloanele sub 1 se completează din cele peste 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Ce rămâne e plin (restul sunt erori de rotunjire)
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * Indexul unei valori, ales proporțional cu ponderea ei
+     */
+    public int sampleIndex(RandomGenerator random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * O valoare, aleasă proporțional cu ponderea ei
+     */
+    public T sample(RandomGenerator random) {
+        return values[sampleIndex(random)];
+    }
+
+    public int size() { return values.length; }
+
+    public T getValue(int index) { return values[index]; }
+
+    public double getWeight(int index) { return weights[index]; }
+
+    /**
+     * Probabilitatea (0-1) a valorii de pe poziția dată
+     */
+    public double getChance(int index) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        return weights[index] / total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("WeightedSampler{");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(values[i]).append('=').append(weights[i]);
+        }
+        return text.append('}').toString();
+    }
+
+    /**
+     * Toate valorile cu aceeași pondere
+     */
+    public static <T> WeightedSampler<T> uniform(T[] values) {
+        double[] weights = new double[values.length];
+        Arrays.fill(weights, 1.0);
+        return new WeightedSampler<>(values, weights);
+    }
+}
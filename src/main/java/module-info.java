@@ -3,6 +3,7 @@ module com.rpg {
     requires javafx.fxml;
     requires javafx.media;
     requires java.desktop;
+    requires jdk.management; // alocări per thread în benchmark-urile din com.rpg.test
 
     // Exportă package-urile principale
     exports com.rpg;